@@ -256,47 +256,47 @@ INSERT INTO tasks (
 -- Status: PRESENT, ABSENT
 
 INSERT INTO attendances (
-    activity_id, attendance_date, check_in_time, check_out_time,
+    activity_id, attendance_date, attendance_day, check_in_time, check_out_time,
     create_at, student_id, status
 ) VALUES
 (
-    6, '2026-01-15 08:00:00', '2026-01-15 07:55:00', '2026-01-15 17:05:00',
+    6, '2026-01-15 08:00:00', '2026-01-15', '2026-01-15 07:55:00', '2026-01-15 17:05:00',
     '2026-01-15 08:00:00', 2, 'PRESENT'
 ),
 (
-    6, '2026-01-16 08:00:00', '2026-01-16 08:05:00', '2026-01-16 17:00:00',
+    6, '2026-01-16 08:00:00', '2026-01-16', '2026-01-16 08:05:00', '2026-01-16 17:00:00',
     '2026-01-16 08:00:00', 2, 'PRESENT'
 ),
 (
-    1, '2026-02-15 08:00:00', '2026-02-15 07:50:00', '2026-02-15 17:10:00',
+    1, '2026-02-15 08:00:00', '2026-02-15', '2026-02-15 07:50:00', '2026-02-15 17:10:00',
     '2026-02-15 08:00:00', 2, 'PRESENT'
 ),
 (
-    2, '2026-02-20 09:00:00', '2026-02-20 09:00:00', '2026-02-20 16:05:00',
+    2, '2026-02-20 09:00:00', '2026-02-20', '2026-02-20 09:00:00', '2026-02-20 16:05:00',
     '2026-02-20 09:00:00', 2, 'PRESENT'
 ),
 (
-    3, '2026-02-25 10:00:00', '2026-02-25 09:55:00', '2026-02-25 15:00:00',
+    3, '2026-02-25 10:00:00', '2026-02-25', '2026-02-25 09:55:00', '2026-02-25 15:00:00',
     '2026-02-25 10:00:00', 2, 'PRESENT'
 ),
 (
-    4, '2026-03-01 08:00:00', NULL, NULL,
+    4, '2026-03-01 08:00:00', '2026-03-01', NULL, NULL,
     '2026-03-01 08:00:00', 2, 'ABSENT'
 ),
 (
-    7, '2026-03-20 09:00:00', '2026-03-20 09:10:00', '2026-03-20 16:00:00',
+    7, '2026-03-20 09:00:00', '2026-03-20', '2026-03-20 09:10:00', '2026-03-20 16:00:00',
     '2026-03-20 09:00:00', 2, 'PRESENT'
 ),
 (
-    8, '2026-03-25 08:00:00', '2026-03-25 08:00:00', '2026-03-25 17:00:00',
+    8, '2026-03-25 08:00:00', '2026-03-25', '2026-03-25 08:00:00', '2026-03-25 17:00:00',
     '2026-03-25 08:00:00', 2, 'PRESENT'
 ),
 (
-    9, '2026-04-01 09:00:00', NULL, NULL,
+    9, '2026-04-01 09:00:00', '2026-04-01', NULL, NULL,
     '2026-04-01 09:00:00', 2, 'ABSENT'
 ),
 (
-    1, '2026-02-16 08:00:00', '2026-02-16 08:05:00', '2026-02-16 17:00:00',
+    1, '2026-02-16 08:00:00', '2026-02-16', '2026-02-16 08:05:00', '2026-02-16 17:00:00',
     '2026-02-16 08:00:00', 2, 'PRESENT'
 );
 
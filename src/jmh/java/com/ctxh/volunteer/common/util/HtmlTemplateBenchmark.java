@@ -0,0 +1,59 @@
+package com.ctxh.volunteer.common.util;
+
+import com.ctxh.volunteer.module.auth.enums.EmailTemplates;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of rendering a bulk send of 100k emails: the precompiled template against
+ * {@code String.format} on the raw template text
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HtmlTemplateBenchmark {
+    private static final int MESSAGES = 100_000;
+
+    private EmailTemplates template;
+    private String[] codes;
+
+    @Setup
+    public void setUp() {
+        template = EmailTemplates.VERIFY_RESET_PASSWORD_TEMPLATE;
+        codes = new String[MESSAGES];
+        for (int i = 0; i < MESSAGES; i++) {
+            codes[i] = String.format("%06d", i);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MESSAGES)
+    public void compiledTemplate(Blackhole blackhole) {
+        for (String code : codes) {
+            blackhole.consume(template.formatContent(code));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MESSAGES)
+    public void stringFormat(Blackhole blackhole) {
+        for (String code : codes) {
+            blackhole.consume(String.format(template.getContent(), code));
+        }
+    }
+}
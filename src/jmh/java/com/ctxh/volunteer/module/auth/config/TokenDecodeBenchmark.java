@@ -0,0 +1,85 @@
+package com.ctxh.volunteer.module.auth.config;
+
+import com.ctxh.volunteer.common.util.AppConstants;
+import com.ctxh.volunteer.module.auth.enums.PurposeToken;
+import com.ctxh.volunteer.module.auth.service.impl.IntrospectTokenImpl;
+import com.nimbusds.jose.JOSEObjectType;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of authenticating one bearer token: the single decode pass of CustomJwtDecoder
+ * against the former IntrospectToken check followed by a second Nimbus decode.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TokenDecodeBenchmark {
+    private CustomJwtDecoder decoder;
+    private NimbusJwtDecoder nimbusJwtDecoder;
+    private IntrospectTokenImpl introspectToken;
+    private RSAPublicKey publicKey;
+    private String token;
+
+    @Setup
+    public void setUp() throws Exception {
+        KeyPairGenerator keyGen = KeyPairGenerator.getInstance("RSA");
+        keyGen.initialize(2048);
+        KeyPair keyPair = keyGen.generateKeyPair();
+        publicKey = (RSAPublicKey) keyPair.getPublic();
+        RSAKeyRecord keyRecord = new RSAKeyRecord(publicKey, (RSAPrivateKey) keyPair.getPrivate(), "bench-key");
+        nimbusJwtDecoder = new NimbusDecoderConfig().nimbusJwtDecoder(keyRecord);
+        decoder = new CustomJwtDecoder(nimbusJwtDecoder);
+        introspectToken = new IntrospectTokenImpl();
+
+        JWTClaimsSet claims = new JWTClaimsSet.Builder()
+                .subject("1")
+                .issueTime(new Date())
+                .expirationTime(new Date(System.currentTimeMillis() + TimeUnit.DAYS.toMillis(1)))
+                .claim(AppConstants.PURPOSE, PurposeToken.ACCESS.name())
+                .build();
+        SignedJWT jwt = new SignedJWT(
+                new JWSHeader.Builder(JWSAlgorithm.RS256).keyID("bench-key").type(JOSEObjectType.JWT).build(),
+                claims);
+        jwt.sign(new RSASSASigner(keyPair.getPrivate()));
+        token = jwt.serialize();
+    }
+
+    @Benchmark
+    public Jwt singlePass() {
+        return decoder.decode(token);
+    }
+
+    @Benchmark
+    public Jwt verifyThenDecode() {
+        if (!introspectToken.verifyToken(token, publicKey, PurposeToken.ACCESS)) {
+            throw new IllegalStateException("Token rejected");
+        }
+        return nimbusJwtDecoder.decode(token);
+    }
+}
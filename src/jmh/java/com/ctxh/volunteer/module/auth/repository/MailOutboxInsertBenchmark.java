@@ -0,0 +1,95 @@
+package com.ctxh.volunteer.module.auth.repository;
+
+import com.ctxh.volunteer.module.auth.entity.MailOutbox;
+import com.ctxh.volunteer.module.auth.enums.EmailTemplates;
+import com.ctxh.volunteer.module.auth.enums.MailOutboxStatus;
+import org.h2.jdbcx.JdbcDataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.core.ResolvableType;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Cost of queueing one bulk send into mail_outbox on an in-memory H2: the JDBC batch insert
+ * of MailOutboxBatchRepositoryImpl against one insert statement per recipient
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+public class MailOutboxInsertBenchmark {
+    private static final String CREATE_TABLE = "CREATE TABLE mail_outbox (" +
+            "outbox_id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, " +
+            "recipient VARCHAR(500) NOT NULL, template VARCHAR(50) NOT NULL, " +
+            "template_value VARCHAR(2048) NOT NULL, bulk BOOLEAN NOT NULL, status VARCHAR(20) NOT NULL, " +
+            "attempts INTEGER NOT NULL, next_attempt_at TIMESTAMP(6) NOT NULL, last_error VARCHAR(500), " +
+            "create_by BIGINT, create_at TIMESTAMP(6), update_by BIGINT, update_at TIMESTAMP(6))";
+
+    @Param({"10000", "100000"})
+    private int recipients;
+
+    private JdbcTemplate jdbcTemplate;
+    private MailOutboxBatchRepositoryImpl repository;
+    private List<String> emails;
+    private String templateValue;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:outbox-benchmark;DB_CLOSE_DELAY=-1");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("DROP TABLE IF EXISTS mail_outbox");
+        jdbcTemplate.execute(CREATE_TABLE);
+
+        ObjectProvider<AuditorAware<Long>> noAuditor = new DefaultListableBeanFactory()
+                .getBeanProvider(ResolvableType.forClassWithGenerics(AuditorAware.class, Long.class));
+        repository = new MailOutboxBatchRepositoryImpl(jdbcTemplate, noAuditor);
+        emails = IntStream.range(0, recipients).mapToObj(i -> "student" + i + "@hcmut.edu.vn").toList();
+        templateValue = MailOutbox.packArgs("123456");
+    }
+
+    @Setup(Level.Invocation)
+    public void clear() {
+        jdbcTemplate.execute("TRUNCATE TABLE mail_outbox");
+    }
+
+    @Benchmark
+    public int[] batchInsert() {
+        return repository.insertEmails(emails, EmailTemplates.ACTIVITY_UPDATE_TEMPLATE, templateValue,
+                LocalDateTime.now());
+    }
+
+    @Benchmark
+    public int rowByRowInsert() {
+        LocalDateTime now = LocalDateTime.now();
+        int inserted = 0;
+        for (String email : emails) {
+            inserted += jdbcTemplate.update("INSERT INTO mail_outbox " +
+                            "(recipient, template, template_value, bulk, status, attempts, next_attempt_at, create_at) " +
+                            "VALUES (?, ?, ?, true, ?, 0, ?, ?)",
+                    email, EmailTemplates.ACTIVITY_UPDATE_TEMPLATE.name(), templateValue,
+                    MailOutboxStatus.PENDING.name(), now, now);
+        }
+        return inserted;
+    }
+}
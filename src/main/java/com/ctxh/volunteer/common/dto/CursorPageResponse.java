@@ -0,0 +1,43 @@
+package com.ctxh.volunteer.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One page of a keyset-paginated feed. Pass {@code nextCursor} back as the
+ * {@code cursor} parameter to fetch the following page.
+ */
+@Setter
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class CursorPageResponse<T> {
+    private int size;
+    private int numberOfElements;
+    private boolean hasNext;
+    private String nextCursor;
+    private List<T> contents;
+
+    /**
+     * Build a page from a slice fetched with {@code size + 1} rows; the extra row
+     * only signals that another page exists and is dropped from the contents.
+     */
+    public static <T> CursorPageResponse<T> of(List<T> rows, int size, Function<T, String> cursorOf) {
+        boolean hasNext = rows.size() > size;
+        List<T> contents = hasNext ? rows.subList(0, size) : rows;
+        return CursorPageResponse.<T>builder()
+                .contents(contents)
+                .size(size)
+                .numberOfElements(contents.size())
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? cursorOf.apply(contents.get(contents.size() - 1)) : null)
+                .build();
+    }
+}
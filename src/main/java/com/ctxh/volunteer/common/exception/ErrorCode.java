@@ -18,6 +18,7 @@ public enum ErrorCode {
     BAD_REQUEST(1007, "Bad request", HttpStatus.BAD_REQUEST),
     VALIDATION_ERROR(1008, "Validation error", HttpStatus.BAD_REQUEST),
     UNAUTHENTICATED(1009, "User is not authenticated", HttpStatus.UNAUTHORIZED),
+    INVALID_CURSOR(1010, "Invalid pagination cursor", HttpStatus.BAD_REQUEST),
 
     // ============ AUTHENTICATION & AUTHORIZATION (1100-1199) ============
     INVALID_CREDENTIALS(1100, "Invalid email or password", HttpStatus.UNAUTHORIZED),
@@ -151,6 +152,7 @@ public enum ErrorCode {
     EMAIL_ORGANIZATION_NOT_ALLOWED(2403, "Invalid email format for Organization", HttpStatus.BAD_REQUEST),
 
     FAILED_TO_UPLOAD_IMAGE(2500, "Failed to upload image", HttpStatus.BAD_REQUEST),
+    IMAGE_UPLOAD_BUSY(2501, "Too many images are being processed, please try again shortly", HttpStatus.SERVICE_UNAVAILABLE),
     ;
 
     private final int code;
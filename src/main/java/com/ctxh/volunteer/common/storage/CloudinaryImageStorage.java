@@ -0,0 +1,28 @@
+package com.ctxh.volunteer.common.storage;
+
+import com.cloudinary.Cloudinary;
+import com.cloudinary.utils.ObjectUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "image.storage", havingValue = "cloudinary", matchIfMissing = true)
+public class CloudinaryImageStorage implements ImageStorage {
+    private final Cloudinary cloudinary;
+
+    @Override
+    public String store(Path image) throws IOException {
+        // A File is streamed from disk by the Cloudinary HTTP client
+        Map<?, ?> uploadResult = cloudinary.uploader().upload(image.toFile(), ObjectUtils.emptyMap());
+        log.info("Uploaded image to Cloudinary: {}", uploadResult);
+        return uploadResult.get("secure_url").toString();
+    }
+}
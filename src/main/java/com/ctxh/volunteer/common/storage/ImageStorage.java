@@ -0,0 +1,16 @@
+package com.ctxh.volunteer.common.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Where uploaded images end up. Cloudinary in production; a local directory when
+ * {@code image.storage=local}, for development and tests without Cloudinary.
+ */
+public interface ImageStorage {
+
+    /**
+     * Store a JPEG image and return the public URL it is served from
+     */
+    String store(Path image) throws IOException;
+}
@@ -0,0 +1,45 @@
+package com.ctxh.volunteer.common.storage;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.UUID;
+
+/**
+ * Keeps images in a local directory and serves them under {@code image.storage.local.base-url}
+ */
+@Component
+@ConditionalOnProperty(name = "image.storage", havingValue = "local")
+public class LocalImageStorage implements ImageStorage, WebMvcConfigurer {
+    private final Path directory;
+    private final String baseUrl;
+
+    public LocalImageStorage(
+            @Value("${image.storage.local.directory:uploads/images}") String directory,
+            @Value("${image.storage.local.base-url:/images/}") String baseUrl) throws IOException {
+        this.directory = Files.createDirectories(Path.of(directory).toAbsolutePath());
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl : baseUrl + "/";
+    }
+
+    @Override
+    public String store(Path image) throws IOException {
+        String name = UUID.randomUUID() + ".jpg";
+        Files.copy(image, directory.resolve(name), StandardCopyOption.REPLACE_EXISTING);
+        return baseUrl + name;
+    }
+
+    @Override
+    public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        if (baseUrl.startsWith("/")) {
+            registry.addResourceHandler(baseUrl + "**")
+                    .addResourceLocations(directory.toUri().toString());
+        }
+    }
+}
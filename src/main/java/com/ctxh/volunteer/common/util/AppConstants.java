@@ -9,4 +9,10 @@ public final class AppConstants {
     public static final String CLIENT_ID = "client_id";
     public static final String CLIENT_SECRET = "client_secret";
     public static final String REDIRECT_URI = "redirect_uri";
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+    public static final int MAX_OFFLINE_SYNC_RECORDS = 5000;
+    public static final int MAX_FULL_TEXT_MATCHES = 1000;
+    public static final int DEFAULT_SUGGESTIONS = 8;
+    public static final int MAX_SUGGESTIONS = 20;
 }
@@ -0,0 +1,42 @@
+package com.ctxh.volunteer.common.util;
+
+import com.ctxh.volunteer.common.exception.BusinessException;
+import com.ctxh.volunteer.common.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Encodes and decodes opaque keyset cursors over a (timestamp, id) sort key.
+ */
+public final class CursorUtil {
+    private CursorUtil() {}
+
+    private static final String SEPARATOR = "|";
+
+    public record Cursor(LocalDateTime createdAt, Long id) {}
+
+    public static String encode(LocalDateTime createdAt, Long id) {
+        String raw = createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static Cursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int idx = raw.lastIndexOf(SEPARATOR);
+            if (idx <= 0) {
+                throw new BusinessException(ErrorCode.INVALID_CURSOR);
+            }
+            return new Cursor(
+                    LocalDateTime.parse(raw.substring(0, idx)),
+                    Long.valueOf(raw.substring(idx + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BusinessException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.ctxh.volunteer.common.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An HTML template with {@code %s} placeholders ({@code %%} for a literal percent sign),
+ * split into its literal segments once, so rendering is a run of appends instead of
+ * re-parsing the format string for every message the way {@code String.format} does.
+ * Arguments are HTML-escaped as they are copied in. Each thread renders into its own
+ * reused buffer, so bulk rendering allocates little beyond the resulting strings.
+ */
+public final class HtmlTemplate {
+    private static final int INITIAL_BUFFER = 8 * 1024;
+    // A buffer grown past this by an unusually large message is not kept for the thread
+    private static final int MAX_RETAINED_BUFFER = 256 * 1024;
+    private static final ThreadLocal<StringBuilder> BUFFER =
+            ThreadLocal.withInitial(() -> new StringBuilder(INITIAL_BUFFER));
+
+    // Literal text around the placeholders: n placeholders leave n + 1 segments
+    private final String[] segments;
+    private final int literalLength;
+
+    private HtmlTemplate(String[] segments) {
+        this.segments = segments;
+        int length = 0;
+        for (String segment : segments) {
+            length += segment.length();
+        }
+        this.literalLength = length;
+    }
+
+    public static HtmlTemplate compile(String source) {
+        List<String> segments = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        for (int i = 0; i < source.length(); i++) {
+            char c = source.charAt(i);
+            char next = i + 1 < source.length() ? source.charAt(i + 1) : 0;
+            if (c == '%' && next == 's') {
+                segments.add(literal.toString());
+                literal.setLength(0);
+                i++;
+            } else if (c == '%' && next == '%') {
+                literal.append('%');
+                i++;
+            } else {
+                literal.append(c);
+            }
+        }
+        segments.add(literal.toString());
+        return new HtmlTemplate(segments.toArray(String[]::new));
+    }
+
+    public int placeholderCount() {
+        return segments.length - 1;
+    }
+
+    /**
+     * Render with one argument per placeholder, in order
+     */
+    public String render(Object... args) {
+        StringBuilder buffer = BUFFER.get();
+        buffer.setLength(0);
+        renderTo(buffer, args);
+        String result = buffer.toString();
+        if (buffer.capacity() > MAX_RETAINED_BUFFER) {
+            BUFFER.remove();
+        }
+        return result;
+    }
+
+    /**
+     * Append the rendered template to a caller-owned buffer
+     */
+    public void renderTo(StringBuilder out, Object... args) {
+        if (args.length != placeholderCount()) {
+            throw new IllegalArgumentException("Template expects " + placeholderCount()
+                    + " arguments but got " + args.length);
+        }
+        out.ensureCapacity(out.length() + literalLength + 64 * args.length);
+        out.append(segments[0]);
+        for (int i = 0; i < args.length; i++) {
+            appendEscaped(out, args[i] == null ? "" : args[i].toString());
+            out.append(segments[i + 1]);
+        }
+    }
+
+    private static void appendEscaped(StringBuilder out, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '&' -> out.append("&amp;");
+                case '<' -> out.append("&lt;");
+                case '>' -> out.append("&gt;");
+                case '"' -> out.append("&quot;");
+                case '\'' -> out.append("&#39;");
+                default -> out.append(c);
+            }
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package com.ctxh.volunteer.common.util;
+
+import com.ctxh.volunteer.common.exception.BusinessException;
+import com.ctxh.volunteer.common.exception.ErrorCode;
+import com.ctxh.volunteer.common.storage.ImageStorage;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Processes and stores uploaded images off the request thread. The multipart file is moved to
+ * a staging file while the request is still open (the container deletes its own copy when the
+ * request ends). Once the caller's transaction commits, a bounded pool decodes the staging
+ * file once, derives a detail-size and a list-size JPEG from it and stores both through
+ * ImageStorage. The resulting URLs are then applied in a short transaction of their own, so no
+ * database connection is held across the upload and the original is never held on the heap at
+ * full size. Each upload reserves a queue slot when it is requested and frees it once processed
+ * or rolled back, so an upload that commits always finds room in the queue and never runs on
+ * the request thread; while every slot is taken new uploads are refused.
+ */
+@Slf4j
+@Component
+public class ImageUploader {
+    private static final float JPEG_QUALITY = 0.85f;
+
+    /**
+     * Public URLs of the stored variants of one image
+     */
+    public record Variants(String detailUrl, String listUrl) {}
+
+    private final ImageStorage imageStorage;
+    private final TransactionTemplate transactionTemplate;
+    private final int detailSize;
+    private final int listSize;
+    private final ThreadPoolExecutor uploads;
+    // Held from upload() until the image is processed or discarded
+    private final Semaphore slots;
+
+    public ImageUploader(
+            ImageStorage imageStorage,
+            PlatformTransactionManager transactionManager,
+            @Value("${image.upload.threads:2}") int threads,
+            @Value("${image.upload.queue-capacity:100}") int queueCapacity,
+            @Value("${image.variant.detail-size:1200}") int detailSize,
+            @Value("${image.variant.list-size:400}") int listSize) {
+        this.imageStorage = imageStorage;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // The URLs are applied from a pool thread; never join whatever transaction it might see
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.detailSize = detailSize;
+        this.listSize = listSize;
+        // Bounded so a burst of uploads queues staging files on disk, not decoded images in memory
+        this.uploads = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofPlatform().name("image-upload-", 0).daemon().factory());
+        // Not threads + queueCapacity: a worker frees its slot just before it takes the next task
+        this.slots = new Semaphore(queueCapacity);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        uploads.shutdownNow();
+    }
+
+    /**
+     * Process and store the image once the surrounding transaction commits and hand its URLs to
+     * {@code onUploaded}, which runs in a new transaction. Nothing is stored if the transaction
+     * rolls back. Throws IMAGE_UPLOAD_BUSY while every queue slot is reserved, so the caller's
+     * transaction rolls back instead of committing without its image.
+     */
+    public void upload(MultipartFile file, Consumer<Variants> onUploaded) {
+        if (!slots.tryAcquire()) {
+            throw new BusinessException(ErrorCode.IMAGE_UPLOAD_BUSY);
+        }
+        Path staged;
+        try {
+            staged = stage(file);
+        } catch (RuntimeException e) {
+            slots.release();
+            throw e;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_COMMITTED) {
+                        submit(staged, onUploaded);
+                    } else {
+                        delete(staged);
+                        slots.release();
+                    }
+                }
+            });
+        } else {
+            submit(staged, onUploaded);
+        }
+    }
+
+    /**
+     * Decode the image once and store its detail-size and list-size variants
+     */
+    Variants process(Path source) throws IOException {
+        BufferedImage detail = ImageResizer.scaleToFit(ImageResizer.decode(source, detailSize), detailSize);
+        BufferedImage list = ImageResizer.scaleToFit(detail, listSize);
+        return new Variants(store(detail), store(list));
+    }
+
+    // ============ INTERNALS ============
+
+    private Path stage(MultipartFile file) {
+        Path staged = null;
+        try {
+            staged = Files.createTempFile("image-upload-", null);
+            // Moves the container's temp file where it can, otherwise copies it in buffered chunks
+            file.transferTo(staged.toFile());
+            return staged;
+        } catch (IOException e) {
+            if (staged != null) {
+                delete(staged);
+            }
+            throw new BusinessException(ErrorCode.FAILED_TO_UPLOAD_IMAGE);
+        }
+    }
+
+    private void submit(Path staged, Consumer<Variants> onUploaded) {
+        try {
+            // The reserved slot guarantees room in the queue
+            uploads.execute(() -> {
+                try {
+                    Variants variants = process(staged);
+                    log.info("Stored image variants {}", variants);
+                    transactionTemplate.executeWithoutResult(status -> onUploaded.accept(variants));
+                } catch (IOException | RuntimeException e) {
+                    log.error("Failed to upload image {}", staged, e);
+                } finally {
+                    delete(staged);
+                    slots.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // Only once the pool is shut down
+            log.warn("Image upload pool is shut down, discarding {}", staged);
+            delete(staged);
+            slots.release();
+        }
+    }
+
+    private String store(BufferedImage image) throws IOException {
+        Path encoded = Files.createTempFile("image-variant-", ".jpg");
+        try {
+            ImageResizer.writeJpeg(image, encoded, JPEG_QUALITY);
+            return imageStorage.store(encoded);
+        } finally {
+            delete(encoded);
+        }
+    }
+
+    private static void delete(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Could not delete temporary file {}", path, e);
+        }
+    }
+}
@@ -3,12 +3,19 @@ package com.ctxh.volunteer.common.util;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.io.IOException;
+import java.util.Iterator;
+
 @Component
 public class ImageValidator {
 
     private static final long MAX_FILE_SIZE = 2 * 1024L * 1024; // 1MB
-    private static final int MAX_WIDTH = 2048;
-    private static final int MAX_HEIGHT = 2048;
+    // Large photos are downsized by ImageUploader; this only guards against decompression bombs
+    private static final int MAX_WIDTH = 8192;
+    private static final int MAX_HEIGHT = 8192;
 
     private static final String[] ALLOWED_TYPES = {"image/jpeg", "image/png"};
 
@@ -35,21 +42,24 @@ public class ImageValidator {
             throw new IllegalArgumentException("File size must be less than 2MB");
         }
 
-//        // 3. Validate kích thước ảnh
-//        try {
-//            BufferedImage image = ImageIO.read(file.getInputStream());
-//            if (image == null) {
-//                throw new IllegalArgumentException("Invalid image file");
-//            }
-//
-//            int width = image.getWidth();
-//            int height = image.getHeight();
-//
-//            if (width > MAX_WIDTH || height > MAX_HEIGHT) {
-//                throw new IllegalArgumentException("Image dimensions must not exceed 1024x1024 pixels");
-//            }
-//        } catch (IOException e) {
-//            throw new RuntimeException("Error reading image file", e);
-//        }
+        // 3. Validate kích thước ảnh, chỉ đọc header chứ không giải mã ảnh
+        try (ImageInputStream in = ImageIO.createImageInputStream(file.getInputStream())) {
+            Iterator<ImageReader> readers = in == null ? null : ImageIO.getImageReaders(in);
+            if (readers == null || !readers.hasNext()) {
+                throw new IllegalArgumentException("Invalid image file");
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                if (reader.getWidth(0) > MAX_WIDTH || reader.getHeight(0) > MAX_HEIGHT) {
+                    throw new IllegalArgumentException("Image dimensions must not exceed "
+                            + MAX_WIDTH + "x" + MAX_HEIGHT + " pixels");
+                }
+            } finally {
+                reader.dispose();
+            }
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Invalid image file");
+        }
     }
 }
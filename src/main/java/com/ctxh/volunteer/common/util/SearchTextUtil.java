@@ -0,0 +1,43 @@
+package com.ctxh.volunteer.common.util;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Normalizes free text for in-memory search: lowercases, strips Vietnamese diacritics
+ * ("Mùa hè xanh" and "mua he xanh" become the same) and splits into words.
+ */
+public final class SearchTextUtil {
+    private SearchTextUtil() {}
+
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    /**
+     * Lowercase, accent-free form of a text
+     */
+    public static String fold(String text) {
+        if (text == null || text.isEmpty()) {
+            return "";
+        }
+        // đ has no combining mark to strip, so NFD leaves it alone
+        String decomposed = Normalizer.normalize(text.replace('đ', 'd').replace('Đ', 'D'), Normalizer.Form.NFD);
+        return MARKS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Folded words of a text, in order, duplicates kept
+     */
+    public static List<String> tokenize(String text) {
+        String folded = fold(text);
+        if (folded.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(SEPARATORS.split(folded))
+                .filter(token -> !token.isEmpty())
+                .toList();
+    }
+}
@@ -1,14 +1,19 @@
 package com.ctxh.volunteer.module.activity.controller;
 
 import com.ctxh.volunteer.common.dto.ApiResponse;
+import com.ctxh.volunteer.common.dto.CursorPageResponse;
+import com.ctxh.volunteer.common.dto.PaginatedResponse;
+import com.ctxh.volunteer.common.util.AppConstants;
 import com.ctxh.volunteer.common.util.AuthUtil;
 import com.ctxh.volunteer.module.activity.dto.request.CreateActivityRequestDto;
 import com.ctxh.volunteer.module.activity.dto.request.UpdateActivityRequestDto;
 import com.ctxh.volunteer.module.activity.dto.response.ActivityListResponseDto;
 import com.ctxh.volunteer.module.activity.dto.response.ActivityResponseDto;
+import com.ctxh.volunteer.module.activity.dto.response.ActivitySuggestionDto;
 import com.ctxh.volunteer.module.activity.enums.ActivityCategory;
 import com.ctxh.volunteer.module.activity.enums.RegistrationState;
 import com.ctxh.volunteer.module.activity.service.ActivityService;
+import com.ctxh.volunteer.module.certificate.dto.BulkCertificateIssueResultDto;
 import com.ctxh.volunteer.module.enrollment.dto.EnrollmentResponseDto;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -140,6 +145,21 @@ public class ActivityController {
         return ApiResponse.ok("Activity registration closed successfully");
     }
 
+    /**
+     * Complete activity and issue certificates
+     * PUT /api/v1/activities/{activityId}/complete
+     */
+    @Operation(summary = "complete activity and issue certificates")
+    @PutMapping("/{activityId}/complete")
+    @ResponseStatus(HttpStatus.OK)
+    @PreAuthorize("@activitySecurity.isOwner(#activityId)")
+    public ApiResponse<BulkCertificateIssueResultDto> completeActivity(
+            @PathVariable("activityId") Long activityId) {
+        Long organizationId = AuthUtil.getIdFromAuthentication();
+        BulkCertificateIssueResultDto result = activityService.completeActivity(organizationId, activityId);
+        return ApiResponse.ok("Activity completed successfully", result);
+    }
+
     // ============ ENROLLMENT MANAGEMENT ============
 
     /**
@@ -239,17 +259,20 @@ public class ActivityController {
     // ============ STUDENT DISCOVERY APIs ============
 
     /**
-     * Browse activities
-     * GET /api/v1/activities
+     * Browse activities, newest first
+     * GET /api/v1/activities?cursor=...&size=20
      */
-    @Operation(summary = "get all activities for students")
+    @Operation(summary = "get all activities for students",
+            description = "Keyset paginated; pass nextCursor from the previous page as cursor")
     @GetMapping()
     @SecurityRequirement(name = "bearerAuth")
     @PreAuthorize("hasAnyRole('STUDENT','ORGANIZATION')")
-    public ApiResponse<List<ActivityListResponseDto>> getAllActivities() {
+    public ApiResponse<CursorPageResponse<ActivityListResponseDto>> getAllActivities(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "" + AppConstants.DEFAULT_PAGE_SIZE) int size) {
         return ApiResponse.ok(
                 "activities retrieved successfully",
-                activityService.getAllActivity()
+                activityService.getAllActivity(cursor, size)
         );
     }
 
@@ -257,7 +280,9 @@ public class ActivityController {
      * Simple search activities
      * GET /api/v1/activities/search?keyword=...
      */
-    @Operation(summary = "search activities by keyword")
+    @Operation(summary = "search activities by keyword",
+            description = "Matches titles, short descriptions, categories and addresses; "
+                    + "the full description is searched only when none of those match")
     @GetMapping("/search")
     public ApiResponse<List<ActivityListResponseDto>> searchActivities(
             @RequestParam(value = "keyword", required = false) String keyword) {
@@ -267,6 +292,22 @@ public class ActivityController {
         );
     }
 
+    /**
+     * Typeahead suggestions for the search box
+     * GET /api/v1/activities/suggest?prefix=...&limit=8
+     */
+    @Operation(summary = "suggest activity titles and organization names",
+            description = "Matches the start of any word, ignoring case and diacritics; newest first")
+    @GetMapping("/suggest")
+    public ApiResponse<List<ActivitySuggestionDto>> suggestActivities(
+            @RequestParam(value = "prefix", required = false) String prefix,
+            @RequestParam(value = "limit", defaultValue = "" + AppConstants.DEFAULT_SUGGESTIONS) int limit) {
+        return ApiResponse.ok(
+                "Suggestions retrieved successfully",
+                activityService.suggestActivities(prefix, limit)
+        );
+    }
+
     /**
      * Get activity detail
      * GET /api/v1/activities/{activityId}/detail
@@ -284,21 +325,24 @@ public class ActivityController {
 
     /**
      * Advanced search activities
-     * GET /api/v1/activities/searchAdvanced?keyword=...&category=...&status=...&startDate=...&endDate=...
+     * GET /api/v1/activities/searchAdvanced?keyword=...&category=...&status=...&startDate=...&endDate=...&page=0&size=20
      */
-    @Operation(summary = "advanced search activities with filters")
+    @Operation(summary = "advanced search activities with filters",
+            description = "Paginated, ordered by start date; page is zero-based. The keyword matches titles, "
+                    + "short descriptions, categories and addresses; the full description is searched only "
+                    + "when none of those match")
     @GetMapping("/searchAdvanced")
-    public ApiResponse<List<ActivityListResponseDto>> searchActivitiesAdvanced(
+    public ApiResponse<PaginatedResponse<ActivityListResponseDto>> searchActivitiesAdvanced(
             @RequestParam(value = "keyword", required = false) String keyword,
             @RequestParam(value = "category", required = false) ActivityCategory category,
             @RequestParam(value = "status", required = false) RegistrationState status,
             @RequestParam(value = "startDate", required = false) LocalDate startDate,
-            @RequestParam(value = "endDate", required = false) LocalDate endDate) {
-
-
+            @RequestParam(value = "endDate", required = false) LocalDate endDate,
+            @RequestParam(value = "page", defaultValue = "0") int page,
+            @RequestParam(value = "size", defaultValue = "" + AppConstants.DEFAULT_PAGE_SIZE) int size) {
         return ApiResponse.ok(
                 "Advanced search completed successfully",
-                activityService.searchActivitiesAdvanced(keyword, category, status, startDate, endDate)
+                activityService.searchActivitiesAdvanced(keyword, category, status, startDate, endDate, page, size)
         );
     }
 }
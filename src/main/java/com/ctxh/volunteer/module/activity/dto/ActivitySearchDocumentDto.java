@@ -0,0 +1,37 @@
+package com.ctxh.volunteer.module.activity.dto;
+
+import com.ctxh.volunteer.module.activity.entity.Activity;
+import com.ctxh.volunteer.module.activity.enums.ActivityCategory;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * The searchable fields of an activity and its organization, read in one projection to build
+ * the in-memory search and suggestion indexes
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ActivitySearchDocumentDto {
+
+    private Long activityId;
+    private String title;
+    private String shortDescription;
+    private ActivityCategory category;
+    private String address;
+    private Long organizationId;
+    private String organizationName;
+
+    public static ActivitySearchDocumentDto from(Activity activity) {
+        return new ActivitySearchDocumentDto(
+                activity.getActivityId(),
+                activity.getTitle(),
+                activity.getShortDescription(),
+                activity.getCategory(),
+                activity.getAddress(),
+                activity.getOrganization().getOrganizationId(),
+                activity.getOrganization().getOrganizationName()
+        );
+    }
+}
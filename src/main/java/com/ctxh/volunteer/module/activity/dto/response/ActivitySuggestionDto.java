@@ -0,0 +1,22 @@
+package com.ctxh.volunteer.module.activity.dto.response;
+
+import com.ctxh.volunteer.module.activity.enums.SuggestionType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * One typeahead suggestion: an activity title or an organization name
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ActivitySuggestionDto {
+    private SuggestionType type;
+    private Long id;
+    private String text;
+}
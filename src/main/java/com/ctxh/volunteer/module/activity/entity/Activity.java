@@ -17,6 +17,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -25,12 +26,16 @@ import java.util.List;
 import static com.ctxh.volunteer.common.util.AppConstants.REGISTRATION_MULTIPLIER;
 
 @Entity
+// Slot counters are changed by atomic UPDATEs in ActivityRepository; writing only the dirty
+// columns keeps an edit of other fields from overwriting them with stale values
+@DynamicUpdate
+// Created by db/migration scripts; declared here so test schemas built by Hibernate match
 @Table(name = "activities", indexes = {
-        @Index(name = "idx_activity_org", columnList = "organization_id"),
-//        @Index(name = "idx_activity_start_date", columnList = "start_date"),
-//        @Index(name = "idx_activity_status", columnList = "status"),
+        @Index(name = "idx_activity_org_created", columnList = "organization_id, create_at"),
+        @Index(name = "idx_activity_feed", columnList = "create_at, activity_id"),
+        @Index(name = "idx_activity_state_start", columnList = "registration_state, start_date_time, activity_id"),
+        @Index(name = "idx_activity_state_category_start", columnList = "registration_state, category, start_date_time"),
         @Index(name = "idx_activity_category", columnList = "category"),
-//        @Index(name = "idx_activity_registration_deadline", columnList = "registration_deadline"),
 })
 @Getter
 @Setter
@@ -60,6 +65,10 @@ public class Activity extends BaseEntity {
     @Column(name = "image_url")
     private String imageUrl;
 
+    // Small variant of the image for list views; null until the upload pipeline has produced it
+    @Column(name = "thumbnail_url")
+    private String thumbnailUrl;
+
     @Column(name = "short_description", length = 500)
     private String shortDescription;
 
@@ -201,52 +210,10 @@ public class Activity extends BaseEntity {
     }
 
     /**
-     * Increment participants
-     */
-    public void incrementParticipants() {
-        this.approvedParticipants++;
-        this.currentParticipants++;
-
-        if (maxParticipants != null && approvedParticipants >= maxParticipants) {
-            this.registrationState = RegistrationState.FULL;
-        }
-    }
-
-    /**
-     * Increment pending count
-     */
-    public void incrementPending() {
-        if (!canRegister()) {
-            throw new BusinessException(ErrorCode.ACTIVITY_CANNOT_REGISTER);
-        }
-        this.pendingParticipants++;
-        this.currentParticipants++;
-    }
-
-    /**
-     * Decrement pending count
-     */
-    public void decrementPending() {
-        if (this.pendingParticipants > 0) {
-            this.pendingParticipants--;
-            this.currentParticipants--;
-        }
-    }
-
-    /**
-     * Move from pending to approve
+     * Image to show in list views: the small variant, or the full image until one exists
      */
-    public void approvePending() {
-        if (this.pendingParticipants <= 0) {
-            return;
-        }
-
-        if (maxParticipants != null && approvedParticipants >= maxParticipants) {
-            throw new BusinessException(ErrorCode.ACTIVITY_FULL);
-        }
-
-        this.pendingParticipants--;
-        incrementParticipants();
+    public String getListImageUrl() {
+        return thumbnailUrl != null ? thumbnailUrl : imageUrl;
     }
 
     /**
@@ -0,0 +1,106 @@
+package com.ctxh.volunteer.module.activity.entity;
+
+import com.ctxh.volunteer.common.entity.BaseEntity;
+import com.ctxh.volunteer.module.activity.enums.ActivityNotificationStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * A pending fan-out of one email to every approved participant of an activity, written in the
+ * same transaction as the change it announces and drained by ActivityNotificationWorker. The
+ * cursor records the last enrollment already queued, so a fan-out interrupted by a restart
+ * resumes where it stopped instead of starting over or being lost.
+ */
+@Entity
+@Table(name = "activity_notification_outbox",
+        indexes = {
+                @Index(name = "idx_activity_notification_due", columnList = "status, next_attempt_at"),
+        }
+)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ActivityNotification extends BaseEntity {
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long notificationId;
+
+    @Column(name = "activity_id", nullable = false)
+    private Long activityId;
+
+    @Column(name = "heading", nullable = false, length = 200)
+    private String heading;
+
+    @Column(name = "message", nullable = false, length = 1000)
+    private String message;
+
+    // Enrollment ID of the last participant the email was queued for
+    @Column(name = "last_enrollment_id", nullable = false)
+    @Builder.Default
+    private Long lastEnrollmentId = 0L;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    @Builder.Default
+    private ActivityNotificationStatus status = ActivityNotificationStatus.PENDING;
+
+    @Column(name = "attempts", nullable = false)
+    @Builder.Default
+    private Integer attempts = 0;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    // ============ HELPER METHODS ============
+
+    /**
+     * Claim for processing; if the worker dies, the fan-out becomes due again when the lease ends
+     */
+    public void claim(LocalDateTime leaseUntil) {
+        this.attempts++;
+        this.nextAttemptAt = leaseUntil;
+    }
+
+    /**
+     * Move the cursor past a chunk that has been queued and extend the lease for the next one
+     */
+    public void advance(Long enrollmentId, LocalDateTime leaseUntil) {
+        this.lastEnrollmentId = enrollmentId;
+        this.nextAttemptAt = leaseUntil;
+    }
+
+    /**
+     * Record a failed attempt; the fan-out is parked as FAILED once attempts run out
+     */
+    public void fail(String error, LocalDateTime retryAt, int maxAttempts) {
+        this.lastError = error != null && error.length() > MAX_ERROR_LENGTH
+                ? error.substring(0, MAX_ERROR_LENGTH)
+                : error;
+        if (this.attempts >= maxAttempts) {
+            this.status = ActivityNotificationStatus.FAILED;
+        } else {
+            this.nextAttemptAt = retryAt;
+        }
+    }
+}
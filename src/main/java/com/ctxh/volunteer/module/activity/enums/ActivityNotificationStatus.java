@@ -0,0 +1,6 @@
+package com.ctxh.volunteer.module.activity.enums;
+
+public enum ActivityNotificationStatus {
+    PENDING,
+    FAILED
+}
@@ -0,0 +1,32 @@
+package com.ctxh.volunteer.module.activity.repository;
+
+import com.ctxh.volunteer.module.activity.dto.response.ActivityListResponseDto;
+import com.ctxh.volunteer.module.activity.entity.Activity;
+import com.ctxh.volunteer.module.activity.enums.ActivityCategory;
+import com.ctxh.volunteer.module.activity.enums.RegistrationState;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+
+/**
+ * Specification queries for list views that select only the list columns, so neither the
+ * description TEXT column nor any association is loaded.
+ */
+public interface ActivityListRepository {
+
+    /**
+     * One page of the activities matching {@code spec}, in the order the specification sets
+     */
+    Page<ActivityListResponseDto> findListItems(Specification<Activity> spec, Pageable pageable);
+
+    /**
+     * One page of the IDs of activities matching {@code keyword} in full text and every given
+     * filter, in the order of ActivitySpecification (start date, then ID). Filters and paging
+     * run in the same statement as the match, so no match is dropped before filtering
+     * (PostgreSQL only).
+     */
+    Page<Long> findFullTextMatchIds(String keyword, ActivityCategory category, RegistrationState status,
+                                    LocalDate startDate, LocalDate endDate, Pageable pageable);
+}
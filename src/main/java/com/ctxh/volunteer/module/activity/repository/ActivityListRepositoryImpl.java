@@ -0,0 +1,155 @@
+package com.ctxh.volunteer.module.activity.repository;
+
+import com.ctxh.volunteer.module.activity.dto.response.ActivityListResponseDto;
+import com.ctxh.volunteer.module.activity.entity.Activity;
+import com.ctxh.volunteer.module.activity.enums.ActivityCategory;
+import com.ctxh.volunteer.module.activity.enums.ActivityStatus;
+import com.ctxh.volunteer.module.activity.enums.RegistrationState;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.ctxh.volunteer.module.activity.repository.ActivityRepository.FULL_TEXT_CONFIG;
+
+@RequiredArgsConstructor
+class ActivityListRepositoryImpl implements ActivityListRepository {
+    private static final List<String> LIST_COLUMNS = List.of(
+            "activityId", "title", "shortDescription", "imageUrl", "thumbnailUrl", "category", "registrationDeadline",
+            "theNumberOfCtxhDay", "startDateTime", "endDateTime", "address", "maxParticipants",
+            "approvedParticipants", "registrationState", "activityStatus", "createAt");
+
+    private final EntityManager entityManager;
+
+    @Override
+    public Page<ActivityListResponseDto> findListItems(Specification<Activity> spec, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Activity> root = query.from(Activity.class);
+        query.multiselect(LIST_COLUMNS.stream()
+                .<Selection<?>>map(column -> root.get(column).alias(column))
+                .toList());
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        if (pageable.getSort().isSorted()) {
+            query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+        }
+
+        List<ActivityListResponseDto> contents = entityManager.createQuery(query)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList()
+                .stream()
+                .map(ActivityListRepositoryImpl::toListItem)
+                .toList();
+        // The count only runs when the page alone cannot tell the total
+        return PageableExecutionUtils.getPage(contents, pageable, () -> count(spec));
+    }
+
+    @Override
+    public Page<Long> findFullTextMatchIds(String keyword, ActivityCategory category, RegistrationState status,
+                                           LocalDate startDate, LocalDate endDate, Pageable pageable) {
+        // Same filters as ActivitySpecification, only the ones that are set
+        StringBuilder from = new StringBuilder("FROM activities a, websearch_to_tsquery('")
+                .append(FULL_TEXT_CONFIG).append("', :keyword) q ")
+                .append("WHERE a.search_vector @@ q AND a.registration_state = :status");
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        parameters.put("keyword", keyword);
+        parameters.put("status", status.name());
+        if (category != null) {
+            from.append(" AND a.category = :category");
+            parameters.put("category", category.name());
+        }
+        if (startDate != null) {
+            from.append(" AND a.start_date_time >= :startFrom");
+            parameters.put("startFrom", LocalDateTime.of(startDate, LocalTime.MIN));
+        }
+        if (endDate != null) {
+            from.append(" AND a.start_date_time <= :startTo");
+            parameters.put("startTo", LocalDateTime.of(endDate, LocalTime.MAX));
+        }
+
+        Query select = entityManager.createNativeQuery(
+                "SELECT a.activity_id " + from + " ORDER BY a.start_date_time, a.activity_id");
+        parameters.forEach(select::setParameter);
+        List<Long> ids = ((List<?>) select
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList())
+                .stream()
+                .map(id -> ((Number) id).longValue())
+                .toList();
+        return PageableExecutionUtils.getPage(ids, pageable, () -> {
+            Query count = entityManager.createNativeQuery("SELECT COUNT(*) " + from);
+            parameters.forEach(count::setParameter);
+            return ((Number) count.getSingleResult()).longValue();
+        });
+    }
+
+    private long count(Specification<Activity> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Activity> root = query.from(Activity.class);
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        query.select(cb.count(root));
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        // The specification orders its results; an ORDER BY next to COUNT is rejected by PostgreSQL
+        query.orderBy(List.of());
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private static ActivityListResponseDto toListItem(Tuple row) {
+        Integer maxParticipants = row.get("maxParticipants", Integer.class);
+        Integer approvedParticipants = row.get("approvedParticipants", Integer.class);
+        String thumbnailUrl = row.get("thumbnailUrl", String.class);
+        return ActivityListResponseDto.builder()
+                .activityId(row.get("activityId", Long.class))
+                .title(row.get("title", String.class))
+                .shortDescription(row.get("shortDescription", String.class))
+                // List views get the small variant when there is one
+                .imageUrl(thumbnailUrl != null ? thumbnailUrl : row.get("imageUrl", String.class))
+                .category(row.get("category", ActivityCategory.class))
+                .registrationDeadline(row.get("registrationDeadline", LocalDateTime.class))
+                .theNumberOfCtxhDay(row.get("theNumberOfCtxhDay", Double.class))
+                .startDateTime(row.get("startDateTime", LocalDateTime.class))
+                .endDateTime(row.get("endDateTime", LocalDateTime.class))
+                .address(row.get("address", String.class))
+                .maxParticipants(maxParticipants)
+                .approvedParticipants(approvedParticipants)
+                .remainingSlots(remainingSlots(maxParticipants, approvedParticipants))
+                .registrationState(row.get("registrationState", RegistrationState.class))
+                .activityStatus(row.get("activityStatus", ActivityStatus.class))
+                .createdAt(row.get("createAt", LocalDateTime.class))
+                .build();
+    }
+
+    // Same rule as the CASE in ActivityRepository.LIST_PROJECTION
+    private static Integer remainingSlots(Integer maxParticipants, Integer approvedParticipants) {
+        if (maxParticipants == null) {
+            return null;
+        }
+        int approved = approvedParticipants == null ? 0 : approvedParticipants;
+        return Math.max(maxParticipants - approved, 0);
+    }
+}
@@ -0,0 +1,30 @@
+package com.ctxh.volunteer.module.activity.repository;
+
+import com.ctxh.volunteer.module.activity.entity.ActivityNotification;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ActivityNotificationRepository extends JpaRepository<ActivityNotification, Long> {
+
+    /**
+     * Find and lock pending fan-outs that are due, skipping rows another worker holds
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT n FROM ActivityNotification n " +
+            "WHERE n.status = 'PENDING' " +
+            "AND n.nextAttemptAt <= :now " +
+            "ORDER BY n.notificationId")
+    List<ActivityNotification> findDueForUpdate(@Param("now") LocalDateTime now, Pageable pageable);
+}
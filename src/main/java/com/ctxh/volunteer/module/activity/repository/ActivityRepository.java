@@ -1,18 +1,42 @@
 package com.ctxh.volunteer.module.activity.repository;
 
+import com.ctxh.volunteer.module.activity.dto.ActivitySearchDocumentDto;
+import com.ctxh.volunteer.module.activity.dto.response.ActivityListResponseDto;
 import com.ctxh.volunteer.module.activity.entity.Activity;
 import com.ctxh.volunteer.module.organization.entity.Organization;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface ActivityRepository extends JpaRepository<Activity, Long>, JpaSpecificationExecutor<Activity> {
+public interface ActivityRepository extends JpaRepository<Activity, Long>, JpaSpecificationExecutor<Activity>,
+        ActivityListRepository {
+
+    /**
+     * Constructor expression for list views; skips the description TEXT column and all associations
+     */
+    String LIST_PROJECTION = "new com.ctxh.volunteer.module.activity.dto.response.ActivityListResponseDto(" +
+            "a.activityId, a.title, a.shortDescription, COALESCE(a.thumbnailUrl, a.imageUrl), a.category, a.registrationDeadline, " +
+            "a.theNumberOfCtxhDay, a.startDateTime, a.endDateTime, a.address, a.maxParticipants, " +
+            "a.approvedParticipants, " +
+            "CASE WHEN a.maxParticipants IS NULL THEN NULL " +
+            "WHEN a.approvedParticipants >= a.maxParticipants THEN 0 " +
+            "ELSE a.maxParticipants - a.approvedParticipants END, " +
+            "a.registrationState, a.activityStatus, a.createAt)";
+
+    /**
+     * Accent-insensitive text search configuration behind {@code activities.search_vector}, created by V7
+     */
+    String FULL_TEXT_CONFIG = "ctxh_unaccent";
 
     /**
      * Find all activities by organization ID
@@ -30,11 +54,24 @@ public interface ActivityRepository extends JpaRepository<Activity, Long>, JpaSp
     );
 
     /**
-     * Find all available activities (OPEN status and registration deadline not passed)
+     * First page of the activity feed, newest first (keyset on createAt, activityId)
      */
-    @Query("SELECT a FROM Activity a " +
-            "ORDER BY a.createAt DESC")
-    List<Activity> findAllActivityOrderByDESC();
+    @Query("SELECT " + LIST_PROJECTION + " FROM Activity a " +
+            "ORDER BY a.createAt DESC, a.activityId DESC")
+    List<ActivityListResponseDto> findFeedFirstPage(Pageable pageable);
+
+    /**
+     * Next page of the activity feed, seeking past the last (createAt, activityId) seen
+     */
+    @Query("SELECT " + LIST_PROJECTION + " FROM Activity a " +
+            "WHERE a.createAt < :createAt " +
+            "OR (a.createAt = :createAt AND a.activityId < :activityId) " +
+            "ORDER BY a.createAt DESC, a.activityId DESC")
+    List<ActivityListResponseDto> findFeedAfter(
+            @Param("createAt") LocalDateTime createAt,
+            @Param("activityId") Long activityId,
+            Pageable pageable
+    );
 
     /**
      * Simple search by keyword in title or description
@@ -47,5 +84,120 @@ public interface ActivityRepository extends JpaRepository<Activity, Long>, JpaSp
             "ORDER BY a.createAt DESC ")
     List<Activity> searchByKeyword(@Param("keyword") String keyword);
 
-    boolean existsByActivityIdAndOrganization_OrganizationId(Long activityId, Long organizationOrganizationId);
+    /**
+     * Full-text search over title, short description and description, best matches first (PostgreSQL only)
+     */
+    @Query(value = "SELECT a.* FROM activities a, " +
+            "websearch_to_tsquery('" + FULL_TEXT_CONFIG + "', :keyword) q " +
+            "WHERE a.search_vector @@ q " +
+            "AND a.activity_status = 'UPCOMING' " +
+            "ORDER BY ts_rank(a.search_vector, q) DESC, a.create_at DESC",
+            nativeQuery = true)
+    List<Activity> searchByFullText(@Param("keyword") String keyword);
+
+    /**
+     * Searchable fields of every activity that is not completed, to build the in-memory search indexes
+     */
+    @Query("SELECT new com.ctxh.volunteer.module.activity.dto.ActivitySearchDocumentDto(" +
+            "a.activityId, a.title, a.shortDescription, a.category, a.address, " +
+            "o.organizationId, o.organizationName) " +
+            "FROM Activity a JOIN a.organization o WHERE a.registrationState <> 'COMPLETED'")
+    List<ActivitySearchDocumentDto> findSearchDocuments();
+
+    /**
+     * Searchable fields of the activities that are not completed and whose activity or organization
+     * was created or edited after {@code since}
+     */
+    @Query("SELECT new com.ctxh.volunteer.module.activity.dto.ActivitySearchDocumentDto(" +
+            "a.activityId, a.title, a.shortDescription, a.category, a.address, " +
+            "o.organizationId, o.organizationName) " +
+            "FROM Activity a JOIN a.organization o WHERE a.registrationState <> 'COMPLETED' " +
+            "AND (COALESCE(a.updateAt, a.createAt) > :since OR o.updateAt > :since)")
+    List<ActivitySearchDocumentDto> findSearchDocumentsChangedSince(@Param("since") LocalDateTime since);
+
+    /**
+     * IDs of every activity that is not completed
+     */
+    @Query("SELECT a.activityId FROM Activity a WHERE a.registrationState <> 'COMPLETED'")
+    List<Long> findSearchableIds();
+
+    /**
+     * List view of the upcoming activities among {@code activityIds}, newest first
+     */
+    @Query("SELECT " + LIST_PROJECTION + " FROM Activity a " +
+            "WHERE a.activityId IN :activityIds AND a.activityStatus = 'UPCOMING' " +
+            "ORDER BY a.createAt DESC, a.activityId DESC")
+    List<ActivityListResponseDto> findUpcomingListItemsByIdIn(@Param("activityIds") Collection<Long> activityIds);
+
+    /**
+     * Atomically reserve {@code count} pending registration slots, all or nothing.
+     * Returns 0 when the activity is not OPEN or the approved/registration limits would be exceeded.
+     */
+    @Modifying
+    @Query("UPDATE Activity a SET " +
+            "a.pendingParticipants = a.pendingParticipants + :count, " +
+            "a.currentParticipants = a.currentParticipants + :count " +
+            "WHERE a.activityId = :activityId " +
+            "AND a.registrationState = com.ctxh.volunteer.module.activity.enums.RegistrationState.OPEN " +
+            "AND a.approvedParticipants < a.maxParticipants " +
+            "AND a.currentParticipants + :count <= a.maxParticipants * :multiplier")
+    int reservePendingSlots(@Param("activityId") Long activityId,
+                            @Param("count") int count,
+                            @Param("multiplier") int multiplier);
+
+    /**
+     * Find how many more registrations (PENDING + APPROVED) an activity accepts, 0 when closed
+     */
+    @Query("SELECT CASE WHEN a.registrationState = com.ctxh.volunteer.module.activity.enums.RegistrationState.OPEN " +
+            "AND a.approvedParticipants < a.maxParticipants " +
+            "AND (a.registrationDeadline IS NULL OR a.registrationDeadline > :now) " +
+            "THEN a.maxParticipants * :multiplier - a.currentParticipants ELSE 0 END " +
+            "FROM Activity a WHERE a.activityId = :activityId")
+    Optional<Integer> findRemainingRegistrations(@Param("activityId") Long activityId,
+                                                 @Param("multiplier") int multiplier,
+                                                 @Param("now") LocalDateTime now);
+
+    /**
+     * Atomically move a pending registration to approved, marking the activity FULL when it takes
+     * the last slot. Returns 0 when the activity is already full.
+     */
+    @Modifying
+    @Query("UPDATE Activity a SET " +
+            "a.pendingParticipants = CASE WHEN a.pendingParticipants > 0 " +
+            "THEN a.pendingParticipants - 1 ELSE 0 END, " +
+            "a.approvedParticipants = a.approvedParticipants + 1, " +
+            "a.registrationState = CASE WHEN a.maxParticipants IS NOT NULL " +
+            "AND a.approvedParticipants + 1 >= a.maxParticipants " +
+            "THEN com.ctxh.volunteer.module.activity.enums.RegistrationState.FULL " +
+            "ELSE a.registrationState END " +
+            "WHERE a.activityId = :activityId " +
+            "AND (a.maxParticipants IS NULL OR a.approvedParticipants < a.maxParticipants)")
+    int approvePendingSlot(@Param("activityId") Long activityId);
+
+    /**
+     * Atomically release a pending registration slot
+     */
+    @Modifying
+    @Query("UPDATE Activity a SET " +
+            "a.pendingParticipants = a.pendingParticipants - 1, " +
+            "a.currentParticipants = a.currentParticipants - 1 " +
+            "WHERE a.activityId = :activityId " +
+            "AND a.pendingParticipants > 0")
+    int releasePendingSlot(@Param("activityId") Long activityId);
+
+    /**
+     * Set the detail and list-size images of an activity once its upload has finished
+     */
+    @Modifying
+    @Query("UPDATE Activity a SET a.imageUrl = :imageUrl, a.thumbnailUrl = :thumbnailUrl " +
+            "WHERE a.activityId = :activityId")
+    int updateImages(@Param("activityId") Long activityId,
+                     @Param("imageUrl") String imageUrl,
+                     @Param("thumbnailUrl") String thumbnailUrl);
+
+    /**
+     * Find the owning organization ID of an activity (for authorization)
+     */
+    @Query("SELECT a.organization.organizationId FROM Activity a WHERE a.activityId = :activityId")
+    Optional<Long> findOrganizationIdByActivityId(@Param("activityId") Long activityId);
 }
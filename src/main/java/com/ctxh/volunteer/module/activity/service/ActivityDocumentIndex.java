@@ -0,0 +1,39 @@
+package com.ctxh.volunteer.module.activity.service;
+
+import com.ctxh.volunteer.module.activity.dto.ActivitySearchDocumentDto;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * An in-memory index over the searchable fields of the activities that are not completed.
+ * {@link ActivityIndexer} loads every index from one read at startup and feeds them the same
+ * committed changes afterwards.
+ */
+interface ActivityDocumentIndex {
+
+    /**
+     * Whether the index is switched on; a disabled index is never loaded and never ready
+     */
+    boolean isEnabled();
+
+    /**
+     * Add every document and start answering queries
+     */
+    void load(Collection<ActivitySearchDocumentDto> documents);
+
+    /**
+     * Add or replace an activity
+     */
+    void apply(ActivitySearchDocumentDto document);
+
+    /**
+     * Drop an activity
+     */
+    void unapply(Long activityId);
+
+    /**
+     * Snapshot of the IDs of the activities currently indexed
+     */
+    Set<Long> indexedIds();
+}
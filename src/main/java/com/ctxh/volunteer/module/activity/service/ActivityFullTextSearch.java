@@ -0,0 +1,73 @@
+package com.ctxh.volunteer.module.activity.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Tells callers whether activity full-text search can be used. The {@code activities.search_vector}
+ * column, its GIN index and the accent-insensitive {@code ctxh_unaccent} configuration are
+ * created by the V7 migration on PostgreSQL. On any other database (H2 in tests), or when the
+ * column is missing, {@link #isAvailable()} is false and callers keep the LIKE search. The
+ * check runs once, on first use.
+ */
+@Slf4j
+@Component
+public class ActivityFullTextSearch {
+    private static final String SEARCH_VECTOR_EXISTS = "SELECT EXISTS (SELECT 1 FROM information_schema.columns " +
+            "WHERE table_schema = current_schema() " +
+            "AND table_name = 'activities' " +
+            "AND column_name = 'search_vector')";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private volatile Boolean available;
+
+    public ActivityFullTextSearch(
+            JdbcTemplate jdbcTemplate,
+            @Value("${activity.search.full-text:true}") boolean enabled) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+    }
+
+    /**
+     * Whether the full-text column and index are in place
+     */
+    public boolean isAvailable() {
+        Boolean result = available;
+        if (result == null) {
+            result = detect();
+            available = result;
+        }
+        return result;
+    }
+
+    // ============ INTERNALS ============
+
+    private boolean detect() {
+        if (!enabled) {
+            log.info("Activity full-text search disabled by configuration");
+            return false;
+        }
+        try {
+            String database = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                    connection.getMetaData().getDatabaseProductName());
+            if (!"PostgreSQL".equalsIgnoreCase(database)) {
+                log.info("Activity full-text search needs PostgreSQL, using LIKE search on {}", database);
+                return false;
+            }
+            if (!Boolean.TRUE.equals(jdbcTemplate.queryForObject(SEARCH_VECTOR_EXISTS, Boolean.class))) {
+                log.warn("activities.search_vector is missing, using LIKE search until the V7 migration has run");
+                return false;
+            }
+            log.info("Activity full-text search enabled");
+            return true;
+        } catch (DataAccessException e) {
+            log.warn("Could not check activity full-text search, using LIKE search: {}", e.getMessage());
+            return false;
+        }
+    }
+}
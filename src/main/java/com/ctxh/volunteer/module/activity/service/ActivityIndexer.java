@@ -0,0 +1,120 @@
+package com.ctxh.volunteer.module.activity.service;
+
+import com.ctxh.volunteer.module.activity.dto.ActivitySearchDocumentDto;
+import com.ctxh.volunteer.module.activity.repository.ActivityRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Keeps the in-memory activity indexes current. At startup the searchable fields of every
+ * activity that is not completed are read once and loaded into each enabled index. The
+ * activity service then reports its changes here and they reach the indexes only after their
+ * transaction commits. Those hooks only cover this instance, so a periodic resync also picks up
+ * activities edited, completed or deleted through other instances.
+ */
+@Slf4j
+@Component
+public class ActivityIndexer implements CommandLineRunner {
+    private final ActivityRepository activityRepository;
+    private final List<ActivityDocumentIndex> indexes;
+    private final Duration resyncInterval;
+    // start of the last load or resync; edits after it are picked up by the next resync
+    private volatile LocalDateTime syncedAt;
+
+    public ActivityIndexer(
+            ActivityRepository activityRepository,
+            List<ActivityDocumentIndex> indexes,
+            @Value("${activity.search.resync-interval:PT1M}") Duration resyncInterval) {
+        this.activityRepository = activityRepository;
+        this.indexes = indexes.stream().filter(ActivityDocumentIndex::isEnabled).toList();
+        this.resyncInterval = resyncInterval;
+    }
+
+    @Override
+    public void run(String... args) {
+        if (indexes.isEmpty()) {
+            log.info("In-memory activity indexes disabled by configuration");
+            return;
+        }
+        long start = System.nanoTime();
+        LocalDateTime started = LocalDateTime.now();
+        List<ActivitySearchDocumentDto> documents = activityRepository.findSearchDocuments();
+        indexes.forEach(index -> index.load(documents));
+        syncedAt = started;
+        log.info("Indexed {} activities into {} indexes in {} ms",
+                documents.size(), indexes.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Add or replace an activity in every index, once the surrounding transaction commits
+     */
+    public void index(ActivitySearchDocumentDto document) {
+        afterCommit(() -> indexes.forEach(index -> index.apply(document)));
+    }
+
+    /**
+     * Drop an activity from every index, once the surrounding transaction commits
+     */
+    public void remove(Long activityId) {
+        afterCommit(() -> indexes.forEach(index -> index.unapply(activityId)));
+    }
+
+    /**
+     * Re-apply the activities edited since the last pass and drop the ones that were completed
+     * or deleted. The window reaches one interval further back, so an edit committed late or
+     * stamped by a server with a slightly different clock is still seen; re-applying is a no-op.
+     */
+    @Scheduled(fixedDelayString = "${activity.search.resync-interval:PT1M}",
+            initialDelayString = "${activity.search.resync-interval:PT1M}")
+    public void resync() {
+        if (syncedAt == null) {
+            return;
+        }
+        LocalDateTime started = LocalDateTime.now();
+        // Only IDs indexed before the query may be dropped; one committed meanwhile is not in its result
+        List<Set<Long>> indexed = indexes.stream().map(ActivityDocumentIndex::indexedIds).toList();
+        List<ActivitySearchDocumentDto> changed =
+                activityRepository.findSearchDocumentsChangedSince(syncedAt.minus(resyncInterval));
+        Set<Long> searchable = new HashSet<>(activityRepository.findSearchableIds());
+
+        Set<Long> dropped = new HashSet<>();
+        for (int i = 0; i < indexes.size(); i++) {
+            ActivityDocumentIndex index = indexes.get(i);
+            changed.forEach(index::apply);
+            for (Long id : indexed.get(i)) {
+                if (!searchable.contains(id)) {
+                    index.unapply(id);
+                    dropped.add(id);
+                }
+            }
+        }
+        syncedAt = started;
+        log.debug("Resynced activity indexes: {} changed, {} dropped", changed.size(), dropped.size());
+    }
+
+    // ============ INTERNALS ============
+
+    private static void afterCommit(Runnable change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    change.run();
+                }
+            });
+        } else {
+            change.run();
+        }
+    }
+}
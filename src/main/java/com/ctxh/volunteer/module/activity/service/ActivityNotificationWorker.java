@@ -0,0 +1,137 @@
+package com.ctxh.volunteer.module.activity.service;
+
+import com.ctxh.volunteer.module.activity.entity.ActivityNotification;
+import com.ctxh.volunteer.module.activity.repository.ActivityNotificationRepository;
+import com.ctxh.volunteer.module.auth.enums.EmailTemplates;
+import com.ctxh.volunteer.module.auth.service.MailService;
+import com.ctxh.volunteer.module.enrollment.dto.EnrollmentRecipientDto;
+import com.ctxh.volunteer.module.enrollment.repository.EnrollmentRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Drains the notification outbox. Each poll claims one due fan-out at a time in a short
+ * transaction (row locks with SKIP LOCKED, so several instances can share the outbox) and
+ * works through its approved participants in chunks along a keyset cursor on the enrollment
+ * ID. Every chunk is queued in the mail outbox in the same transaction that moves the cursor,
+ * so a fan-out cut short by a restart resumes after the last queued chunk without emailing
+ * anyone twice. A failed chunk backs off exponentially and the fan-out is parked as FAILED
+ * once its attempts run out.
+ */
+@Slf4j
+@Component
+public class ActivityNotificationWorker {
+    private static final Duration LEASE = Duration.ofMinutes(5);
+    private static final Duration BASE_BACKOFF = Duration.ofSeconds(30);
+    private static final Duration MAX_BACKOFF = Duration.ofHours(1);
+
+    private final ActivityNotificationRepository activityNotificationRepository;
+    private final EnrollmentRepository enrollmentRepository;
+    private final MailService mailService;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int maxAttempts;
+
+    public ActivityNotificationWorker(
+            ActivityNotificationRepository activityNotificationRepository,
+            EnrollmentRepository enrollmentRepository,
+            MailService mailService,
+            PlatformTransactionManager transactionManager,
+            @Value("${activity.notify.chunk-size:500}") int chunkSize,
+            @Value("${activity.notify.max-attempts:8}") int maxAttempts) {
+        this.activityNotificationRepository = activityNotificationRepository;
+        this.enrollmentRepository = enrollmentRepository;
+        this.mailService = mailService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.maxAttempts = maxAttempts;
+    }
+
+    /**
+     * Fan out everything that is due, one notification at a time
+     */
+    @Scheduled(fixedDelayString = "${activity.notify.poll-interval:PT5S}")
+    public void poll() {
+        ActivityNotification notification;
+        while ((notification = claim()) != null) {
+            process(notification);
+        }
+    }
+
+    /**
+     * Queue the email for the participants of a claimed notification, resuming from its cursor,
+     * and return how many participants it was queued for in this run
+     */
+    int process(ActivityNotification notification) {
+        Long notificationId = notification.getNotificationId();
+        int total = 0;
+        try {
+            Integer queued;
+            do {
+                queued = transactionTemplate.execute(status -> queueChunk(notificationId));
+                total += queued == null ? 0 : queued;
+            } while (queued != null && queued == chunkSize);
+            log.info("Queued notification for {} participants of activity {}", total, notification.getActivityId());
+        } catch (RuntimeException e) {
+            log.warn("Notification {} for activity {} failed after {} participants (attempt {}): {}",
+                    notificationId, notification.getActivityId(), total, notification.getAttempts(), e.getMessage());
+            transactionTemplate.executeWithoutResult(status ->
+                    activityNotificationRepository.findById(notificationId).ifPresent(stored -> {
+                        stored.fail(e.getMessage(), LocalDateTime.now().plus(backoff(stored.getAttempts())), maxAttempts);
+                        activityNotificationRepository.save(stored);
+                    }));
+        }
+        return total;
+    }
+
+    // ============ INTERNALS ============
+
+    private ActivityNotification claim() {
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<ActivityNotification> due = activityNotificationRepository.findDueForUpdate(now, PageRequest.of(0, 1));
+            if (due.isEmpty()) {
+                return null;
+            }
+            ActivityNotification notification = due.get(0);
+            notification.claim(now.plus(LEASE));
+            return notification;
+        });
+    }
+
+    /**
+     * Queue the next chunk after the cursor and move the cursor past it, deleting the
+     * notification once a short chunk shows the participants are exhausted
+     */
+    private int queueChunk(Long notificationId) {
+        ActivityNotification notification = activityNotificationRepository.findById(notificationId).orElse(null);
+        if (notification == null) {
+            return 0;
+        }
+        List<EnrollmentRecipientDto> recipients = enrollmentRepository.findApprovedRecipientsAfter(
+                notification.getActivityId(), notification.getLastEnrollmentId(), PageRequest.of(0, chunkSize));
+        mailService.sendEmails(recipients.stream().map(EnrollmentRecipientDto::getEmail).toList(),
+                EmailTemplates.ACTIVITY_UPDATE_TEMPLATE, notification.getHeading(), notification.getMessage());
+        if (recipients.size() < chunkSize) {
+            activityNotificationRepository.delete(notification);
+        } else {
+            notification.advance(recipients.get(recipients.size() - 1).getEnrollmentId(), LocalDateTime.now().plus(LEASE));
+            activityNotificationRepository.save(notification);
+        }
+        return recipients.size();
+    }
+
+    static Duration backoff(int attempts) {
+        Duration delay = BASE_BACKOFF.multipliedBy(1L << Math.min(Math.max(attempts - 1, 0), 16));
+        return delay.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : delay;
+    }
+}
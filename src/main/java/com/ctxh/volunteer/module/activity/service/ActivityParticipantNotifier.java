@@ -0,0 +1,68 @@
+package com.ctxh.volunteer.module.activity.service;
+
+import com.ctxh.volunteer.module.activity.entity.Activity;
+import com.ctxh.volunteer.module.activity.entity.ActivityNotification;
+import com.ctxh.volunteer.module.activity.repository.ActivityNotificationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Emails every approved participant of an activity when it changes. The fan-out is recorded in
+ * the notification outbox within the caller's transaction, so it is committed or rolled back
+ * together with the change; ActivityNotificationWorker then queues the email for participants
+ * chunk by chunk and the mail outbox delivers it as bulk email.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ActivityParticipantNotifier {
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("HH:mm dd/MM/yyyy");
+
+    private final ActivityNotificationRepository activityNotificationRepository;
+
+    /**
+     * Tell participants that the time or place of an activity changed
+     */
+    public void notifyScheduleChanged(Activity activity) {
+        notifyParticipants(activity.getActivityId(), activity.getTitle(),
+                "Thời gian hoặc địa điểm của hoạt động đã thay đổi. Thời gian mới: "
+                        + format(activity.getStartDateTime()) + " - " + format(activity.getEndDateTime())
+                        + ". Địa điểm: " + orUnknown(activity.getAddress()) + ".");
+    }
+
+    /**
+     * Tell participants that registration has closed and when the activity takes place
+     */
+    public void notifyRegistrationClosed(Activity activity) {
+        notifyParticipants(activity.getActivityId(), activity.getTitle(),
+                "Hoạt động đã đóng đăng ký và sẽ diễn ra lúc " + format(activity.getStartDateTime())
+                        + " tại " + orUnknown(activity.getAddress()) + ". Hẹn gặp bạn!");
+    }
+
+    /**
+     * Record the email for every approved participant in the surrounding transaction
+     */
+    public void notifyParticipants(Long activityId, String heading, String message) {
+        activityNotificationRepository.save(ActivityNotification.builder()
+                .activityId(activityId)
+                .heading(heading)
+                .message(message)
+                .nextAttemptAt(LocalDateTime.now())
+                .build());
+        log.info("Queued participant notification for activity {}", activityId);
+    }
+
+    // ============ INTERNALS ============
+
+    private static String format(LocalDateTime dateTime) {
+        return dateTime == null ? "chưa cập nhật" : dateTime.format(DATE_TIME);
+    }
+
+    private static String orUnknown(String value) {
+        return value == null || value.isBlank() ? "chưa cập nhật" : value;
+    }
+}
@@ -0,0 +1,218 @@
+package com.ctxh.volunteer.module.activity.service;
+
+import com.ctxh.volunteer.common.util.SearchTextUtil;
+import com.ctxh.volunteer.module.activity.dto.ActivitySearchDocumentDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * In-memory inverted index over the title, short description, category and address of
+ * every activity that is not completed. Terms are folded to lowercase without diacritics
+ * and each one maps to a sorted {@code int[]} of activity IDs. Posting arrays are
+ * copy-on-write, so searches read them without locking while the single writer swaps in
+ * new ones. Loaded and kept current by {@link ActivityIndexer}.
+ */
+@Component
+public class ActivitySearchIndex implements ActivityDocumentIndex {
+    private final boolean enabled;
+    // term -> sorted activity IDs, ordered by term so prefixes are a range scan
+    private final ConcurrentNavigableMap<String, int[]> postings = new ConcurrentSkipListMap<>();
+    // activity ID -> its distinct terms, to know which postings to touch on update and removal
+    private final Map<Integer, String[]> documents = new ConcurrentHashMap<>();
+    private volatile boolean ready;
+
+    public ActivitySearchIndex(@Value("${activity.search.index:true}") boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public void load(Collection<ActivitySearchDocumentDto> documents) {
+        documents.forEach(this::apply);
+        ready = true;
+    }
+
+    /**
+     * Whether the index has been built and can answer searches
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    @Override
+    public synchronized void apply(ActivitySearchDocumentDto document) {
+        int id = Math.toIntExact(document.getActivityId());
+        String[] terms = terms(document);
+        String[] previous = documents.put(id, terms);
+
+        Set<String> added = new LinkedHashSet<>(Arrays.asList(terms));
+        if (previous != null) {
+            Set<String> current = Set.of(terms);
+            for (String term : previous) {
+                if (!current.contains(term)) {
+                    removePosting(term, id);
+                }
+            }
+            added.removeAll(Arrays.asList(previous));
+        }
+        added.forEach(term -> addPosting(term, id));
+    }
+
+    @Override
+    public synchronized void unapply(Long activityId) {
+        int id = Math.toIntExact(activityId);
+        String[] previous = documents.remove(id);
+        if (previous != null) {
+            for (String term : previous) {
+                removePosting(term, id);
+            }
+        }
+    }
+
+    @Override
+    public Set<Long> indexedIds() {
+        Set<Long> ids = new HashSet<>(documents.size());
+        documents.keySet().forEach(id -> ids.add(id.longValue()));
+        return ids;
+    }
+
+    /**
+     * IDs of the activities matching every word of the query, each word as a prefix of an
+     * indexed word, newest (highest ID) first and at most {@code limit} of them
+     */
+    public List<Long> search(String query, int limit) {
+        int[] matches = null;
+        for (String token : new LinkedHashSet<>(SearchTextUtil.tokenize(query))) {
+            int[] tokenMatches = prefixMatches(token);
+            matches = matches == null ? tokenMatches : intersect(matches, tokenMatches);
+            if (matches.length == 0) {
+                return List.of();
+            }
+        }
+        if (matches == null) {
+            return List.of();
+        }
+
+        List<Long> ids = new ArrayList<>(Math.min(limit, matches.length));
+        for (int i = matches.length - 1; i >= 0 && ids.size() < limit; i--) {
+            ids.add((long) matches[i]);
+        }
+        return ids;
+    }
+
+    int size() {
+        return documents.size();
+    }
+
+    // ============ INTERNALS ============
+
+    private static String[] terms(ActivitySearchDocumentDto document) {
+        Set<String> terms = new LinkedHashSet<>();
+        terms.addAll(SearchTextUtil.tokenize(document.getTitle()));
+        terms.addAll(SearchTextUtil.tokenize(document.getShortDescription()));
+        if (document.getCategory() != null) {
+            terms.addAll(SearchTextUtil.tokenize(document.getCategory().name().replace('_', ' ')));
+        }
+        terms.addAll(SearchTextUtil.tokenize(document.getAddress()));
+        return terms.toArray(String[]::new);
+    }
+
+    private void addPosting(String term, int id) {
+        postings.compute(term, (key, ids) -> {
+            if (ids == null) {
+                return new int[]{id};
+            }
+            int at = Arrays.binarySearch(ids, id);
+            if (at >= 0) {
+                return ids;
+            }
+            int insertion = -at - 1;
+            int[] grown = new int[ids.length + 1];
+            System.arraycopy(ids, 0, grown, 0, insertion);
+            grown[insertion] = id;
+            System.arraycopy(ids, insertion, grown, insertion + 1, ids.length - insertion);
+            return grown;
+        });
+    }
+
+    private void removePosting(String term, int id) {
+        postings.computeIfPresent(term, (key, ids) -> {
+            int at = Arrays.binarySearch(ids, id);
+            if (at < 0) {
+                return ids;
+            }
+            if (ids.length == 1) {
+                return null;
+            }
+            int[] shrunk = new int[ids.length - 1];
+            System.arraycopy(ids, 0, shrunk, 0, at);
+            System.arraycopy(ids, at + 1, shrunk, at, ids.length - at - 1);
+            return shrunk;
+        });
+    }
+
+    private int[] prefixMatches(String prefix) {
+        List<int[]> lists = new ArrayList<>(postings.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values());
+        if (lists.isEmpty()) {
+            return new int[0];
+        }
+        if (lists.size() == 1) {
+            return lists.get(0);
+        }
+
+        int total = 0;
+        for (int[] ids : lists) {
+            total += ids.length;
+        }
+        int[] all = new int[total];
+        int offset = 0;
+        for (int[] ids : lists) {
+            System.arraycopy(ids, 0, all, offset, ids.length);
+            offset += ids.length;
+        }
+        Arrays.sort(all);
+
+        int distinct = 0;
+        for (int i = 0; i < all.length; i++) {
+            if (i == 0 || all[i] != all[i - 1]) {
+                all[distinct++] = all[i];
+            }
+        }
+        return Arrays.copyOf(all, distinct);
+    }
+
+    private static int[] intersect(int[] left, int[] right) {
+        int[] common = new int[Math.min(left.length, right.length)];
+        int count = 0;
+        int i = 0;
+        int j = 0;
+        while (i < left.length && j < right.length) {
+            if (left[i] < right[j]) {
+                i++;
+            } else if (left[i] > right[j]) {
+                j++;
+            } else {
+                common[count++] = left[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(common, count);
+    }
+}
@@ -2,17 +2,44 @@ package com.ctxh.volunteer.module.activity.service;
 
 import com.ctxh.volunteer.common.util.AuthUtil;
 import com.ctxh.volunteer.module.activity.repository.ActivityRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 @Component("activitySecurity")
 public class ActivitySecurity {
+    private static final long MAX_CACHED_ACTIVITIES = 100_000;
+
     @Autowired
     private ActivityRepository repository;
 
+    // activityId -> organizationId; an activity never changes owner, so entries only leave on delete
+    private final Cache<Long, Long> ownerByActivity = Caffeine.newBuilder()
+            .maximumSize(MAX_CACHED_ACTIVITIES)
+            .build();
+
     public boolean isOwner(Long activityId) {
+        if (activityId == null) {
+            return false;
+        }
         Long currentOrgId = AuthUtil.getIdFromAuthentication();
-        // Kiểm tra xem Activity có tồn tại và thuộc về Organization này không
-        return repository.existsByActivityIdAndOrganization_OrganizationId(activityId, currentOrgId);
+        Long ownerId = ownerByActivity.getIfPresent(activityId);
+        if (ownerId == null) {
+            // Unknown activities are not cached so a later insert is never shadowed
+            ownerId = repository.findOrganizationIdByActivityId(activityId).orElse(null);
+            if (ownerId == null) {
+                return false;
+            }
+            ownerByActivity.put(activityId, ownerId);
+        }
+        return ownerId.equals(currentOrgId);
+    }
+
+    /**
+     * Forget the owner of a deleted activity
+     */
+    public void evict(Long activityId) {
+        ownerByActivity.invalidate(activityId);
     }
-}
\ No newline at end of file
+}
@@ -1,9 +1,13 @@
 package com.ctxh.volunteer.module.activity.service;
 
+import com.ctxh.volunteer.common.dto.CursorPageResponse;
+import com.ctxh.volunteer.common.dto.PaginatedResponse;
 import com.ctxh.volunteer.module.activity.dto.request.CreateActivityRequestDto;
 import com.ctxh.volunteer.module.activity.dto.request.UpdateActivityRequestDto;
 import com.ctxh.volunteer.module.activity.dto.response.ActivityListResponseDto;
 import com.ctxh.volunteer.module.activity.dto.response.ActivityResponseDto;
+import com.ctxh.volunteer.module.activity.dto.response.ActivitySuggestionDto;
+import com.ctxh.volunteer.module.certificate.dto.BulkCertificateIssueResultDto;
 import com.ctxh.volunteer.module.activity.enums.ActivityCategory;
 import com.ctxh.volunteer.module.activity.enums.RegistrationState;
 import com.ctxh.volunteer.module.enrollment.dto.EnrollmentResponseDto;
@@ -44,6 +48,11 @@ public interface ActivityService {
      */
     ActivityResponseDto closeActivityRegistration(Long organizationId, Long activityId);
 
+    /**
+     * Complete activity and issue certificates for all completed enrollments
+     */
+    BulkCertificateIssueResultDto completeActivity(Long organizationId, Long activityId);
+
     // ============ ENROLLMENT MANAGEMENT ============
 
     /**
@@ -79,28 +88,34 @@ public interface ActivityService {
     // ============ STUDENT DISCOVERY APIs ============
 
     /**
-     * Get all available activities (OPEN status, not past registration deadline)
+     * Browse the activity feed, newest first, one keyset page at a time
      */
-    List<ActivityListResponseDto> getAllActivity();
+    CursorPageResponse<ActivityListResponseDto> getAllActivity(String cursor, int size);
 
     /**
      * Simple search activities by keyword
      */
     List<ActivityListResponseDto> searchActivities(String keyword);
 
+    /**
+     * Typeahead suggestions of activity titles and organization names starting with a prefix
+     */
+    List<ActivitySuggestionDto> suggestActivities(String prefix, int limit);
+
     /**
      * Get activity detail (similar to getActivityById but for students)
      */
     ActivityResponseDto getActivityDetail(Long activityId);
 
-    List<ActivityListResponseDto> searchActivitiesAdvanced(
+    /**
+     * Advanced search with filters, one page at a time ordered by start date
+     */
+    PaginatedResponse<ActivityListResponseDto> searchActivitiesAdvanced(
             String keyword,
             ActivityCategory category,
             RegistrationState status,
             LocalDate startDate,
-            LocalDate endDate);
-
-    /**
-     * Advanced search with filters
-     */
+            LocalDate endDate,
+            int page,
+            int size);
 }
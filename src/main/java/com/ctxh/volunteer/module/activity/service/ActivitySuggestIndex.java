@@ -0,0 +1,273 @@
+package com.ctxh.volunteer.module.activity.service;
+
+import com.ctxh.volunteer.common.util.AppConstants;
+import com.ctxh.volunteer.common.util.SearchTextUtil;
+import com.ctxh.volunteer.module.activity.dto.ActivitySearchDocumentDto;
+import com.ctxh.volunteer.module.activity.dto.response.ActivitySuggestionDto;
+import com.ctxh.volunteer.module.activity.enums.SuggestionType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Typeahead over the titles of activities that are not completed and the names of their
+ * organizations. Every word suffix of a title or name is stored folded (lowercase, no
+ * diacritics) in a sorted map, so a prefix is a range scan and "xanh" finds "Mùa hè xanh".
+ * Suggestions rank by recency: an activity by its ID, which grows with creation time, and
+ * an organization by its newest indexed activity. The best suggestions for every prefix up
+ * to {@value #RANKED_PREFIX_LENGTH} characters are kept ranked as they change, so a keystroke
+ * reads one short list instead of scanning every entry under a short, common prefix. Loaded
+ * and kept current by {@link ActivityIndexer}.
+ */
+@Component
+public class ActivitySuggestIndex implements ActivityDocumentIndex {
+    private static final char KEY_SEPARATOR = '\u0000';
+    private static final int RANKED_PREFIX_LENGTH = 12;
+    private static final int RANKED = AppConstants.MAX_SUGGESTIONS;
+    private static final Comparator<Entry> BY_RECENCY =
+            Comparator.comparingLong(Entry::recency).thenComparing(Entry::type);
+
+    private final boolean enabled;
+    // folded word suffix + separator + suggestion key -> suggestion
+    private final ConcurrentNavigableMap<String, Entry> entries = new ConcurrentSkipListMap<>();
+    // folded prefix -> its best suggestions, newest first; lists are immutable and swapped whole
+    private final Map<String, List<Entry>> ranked = new ConcurrentHashMap<>();
+    // writer-only state, guarded by this
+    private final Map<Long, ActivitySearchDocumentDto> activities = new HashMap<>();
+    private final Map<Long, NavigableSet<Long>> organizationActivities = new HashMap<>();
+    private volatile boolean ready;
+
+    public ActivitySuggestIndex(@Value("${activity.suggest.enabled:true}") boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public void load(Collection<ActivitySearchDocumentDto> documents) {
+        documents.forEach(this::apply);
+        ready = true;
+    }
+
+    /**
+     * Whether the suggestions have been built; until then {@link #suggest} may miss entries
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Up to {@code limit} activities and organizations with a word starting with the given
+     * text, newest first
+     */
+    public List<ActivitySuggestionDto> suggest(String prefix, int limit) {
+        String folded = String.join(" ", SearchTextUtil.tokenize(prefix));
+        if (folded.isEmpty()) {
+            return List.of();
+        }
+
+        List<Entry> best;
+        if (folded.length() <= RANKED_PREFIX_LENGTH && limit <= RANKED) {
+            List<Entry> top = ranked.getOrDefault(folded, List.of());
+            best = top.subList(0, Math.min(limit, top.size()));
+        } else {
+            // Past the ranked lengths the range is narrow
+            best = scan(folded, limit);
+        }
+        return best.stream()
+                .map(entry -> ActivitySuggestionDto.builder()
+                        .type(entry.type())
+                        .id(entry.id())
+                        .text(entry.text())
+                        .build())
+                .toList();
+    }
+
+    @Override
+    public synchronized void apply(ActivitySearchDocumentDto document) {
+        Long activityId = document.getActivityId();
+        ActivitySearchDocumentDto previous = activities.put(activityId, document);
+        if (previous != null && !Objects.equals(previous.getTitle(), document.getTitle())) {
+            removeEntries(SuggestionType.ACTIVITY, activityId, previous.getTitle());
+        }
+        putEntries(new Entry(SuggestionType.ACTIVITY, activityId, document.getTitle(), activityId));
+
+        if (previous != null && !Objects.equals(previous.getOrganizationId(), document.getOrganizationId())) {
+            detach(previous);
+        }
+        if (previous != null && Objects.equals(previous.getOrganizationId(), document.getOrganizationId())
+                && !Objects.equals(previous.getOrganizationName(), document.getOrganizationName())) {
+            removeEntries(SuggestionType.ORGANIZATION, document.getOrganizationId(), previous.getOrganizationName());
+        }
+        NavigableSet<Long> owned = organizationActivities.computeIfAbsent(document.getOrganizationId(), id -> new TreeSet<>());
+        owned.add(activityId);
+        putEntries(new Entry(SuggestionType.ORGANIZATION, document.getOrganizationId(),
+                document.getOrganizationName(), owned.last()));
+    }
+
+    @Override
+    public synchronized void unapply(Long activityId) {
+        ActivitySearchDocumentDto previous = activities.remove(activityId);
+        if (previous != null) {
+            removeEntries(SuggestionType.ACTIVITY, activityId, previous.getTitle());
+            detach(previous);
+        }
+    }
+
+    @Override
+    public synchronized Set<Long> indexedIds() {
+        return new HashSet<>(activities.keySet());
+    }
+
+    // ============ INTERNALS ============
+
+    private record Entry(SuggestionType type, Long id, String text, long recency) {
+    }
+
+    private void detach(ActivitySearchDocumentDto document) {
+        Long organizationId = document.getOrganizationId();
+        NavigableSet<Long> owned = organizationActivities.get(organizationId);
+        if (owned == null) {
+            return;
+        }
+        owned.remove(document.getActivityId());
+        if (owned.isEmpty()) {
+            organizationActivities.remove(organizationId);
+            removeEntries(SuggestionType.ORGANIZATION, organizationId, document.getOrganizationName());
+        } else {
+            putEntries(new Entry(SuggestionType.ORGANIZATION, organizationId, document.getOrganizationName(), owned.last()));
+        }
+    }
+
+    private void putEntries(Entry entry) {
+        List<String> keys = keys(entry.type(), entry.id(), entry.text());
+        keys.forEach(key -> entries.put(key, entry));
+        prefixes(keys).forEach(prefix -> rank(prefix, entry));
+    }
+
+    private void removeEntries(SuggestionType type, Long id, String text) {
+        List<String> keys = keys(type, id, text);
+        keys.forEach(entries::remove);
+        for (String prefix : prefixes(keys)) {
+            if (indexOf(ranked.getOrDefault(prefix, List.of()), type, id) >= 0) {
+                rerank(prefix);
+            }
+        }
+    }
+
+    /**
+     * Offer a new or changed suggestion to the ranked list of one prefix
+     */
+    private void rank(String prefix, Entry entry) {
+        List<Entry> current = ranked.getOrDefault(prefix, List.of());
+        int at = indexOf(current, entry.type(), entry.id());
+        if (at >= 0 && current.get(at).equals(entry)) {
+            return;
+        }
+        if (at >= 0 && BY_RECENCY.compare(entry, current.get(at)) < 0) {
+            // Moved down: a suggestion cut from the list may now outrank it
+            rerank(prefix);
+            return;
+        }
+        if (at < 0 && current.size() >= RANKED && BY_RECENCY.compare(entry, current.getLast()) < 0) {
+            return;
+        }
+
+        List<Entry> updated = new ArrayList<>(current);
+        if (at >= 0) {
+            updated.set(at, entry);
+        } else {
+            updated.add(entry);
+        }
+        updated.sort(BY_RECENCY.reversed());
+        ranked.put(prefix, List.copyOf(updated.subList(0, Math.min(RANKED, updated.size()))));
+    }
+
+    private void rerank(String prefix) {
+        List<Entry> best = scan(prefix, RANKED);
+        if (best.isEmpty()) {
+            ranked.remove(prefix);
+        } else {
+            ranked.put(prefix, best);
+        }
+    }
+
+    /**
+     * Best suggestions under a prefix by walking its whole range, newest first
+     */
+    private List<Entry> scan(String prefix, int limit) {
+        // Min-heap of the best so far; a suggestion can be reached through several of its words
+        PriorityQueue<Entry> best = new PriorityQueue<>(limit + 1, BY_RECENCY);
+        Set<Long> seenActivities = new HashSet<>();
+        Set<Long> seenOrganizations = new HashSet<>();
+        for (Entry entry : entries.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values()) {
+            Set<Long> seen = entry.type() == SuggestionType.ACTIVITY ? seenActivities : seenOrganizations;
+            if (!seen.add(entry.id())) {
+                continue;
+            }
+            best.offer(entry);
+            if (best.size() > limit) {
+                best.poll();
+            }
+        }
+
+        List<Entry> sorted = new ArrayList<>(best);
+        sorted.sort(BY_RECENCY.reversed());
+        return List.copyOf(sorted);
+    }
+
+    private static int indexOf(List<Entry> list, SuggestionType type, Long id) {
+        for (int i = 0; i < list.size(); i++) {
+            if (list.get(i).type() == type && list.get(i).id().equals(id)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Every folded prefix of the given keys up to the ranked length, without the key suffix
+     */
+    private static Set<String> prefixes(List<String> keys) {
+        Set<String> prefixes = new LinkedHashSet<>();
+        for (String key : keys) {
+            int end = Math.min(key.indexOf(KEY_SEPARATOR), RANKED_PREFIX_LENGTH);
+            for (int length = 1; length <= end; length++) {
+                // A folded query never ends with a space
+                if (key.charAt(length - 1) != ' ') {
+                    prefixes.add(key.substring(0, length));
+                }
+            }
+        }
+        return prefixes;
+    }
+
+    private static List<String> keys(SuggestionType type, Long id, String text) {
+        List<String> words = SearchTextUtil.tokenize(text);
+        String suffix = KEY_SEPARATOR + type.name() + KEY_SEPARATOR + id;
+        List<String> keys = new ArrayList<>(words.size());
+        for (int i = 0; i < words.size(); i++) {
+            keys.add(String.join(" ", words.subList(i, words.size())) + suffix);
+        }
+        return keys;
+    }
+}
@@ -1,40 +1,59 @@
 package com.ctxh.volunteer.module.activity.service.impl;
 
-import com.cloudinary.Cloudinary;
-import com.cloudinary.utils.ObjectUtils;
+import com.ctxh.volunteer.common.dto.CursorPageResponse;
+import com.ctxh.volunteer.common.dto.PaginatedResponse;
 import com.ctxh.volunteer.common.exception.BusinessException;
 import com.ctxh.volunteer.common.exception.ErrorCode;
+import com.ctxh.volunteer.common.util.AppConstants;
 import com.ctxh.volunteer.common.util.AuthUtil;
+import com.ctxh.volunteer.common.util.CursorUtil;
+import com.ctxh.volunteer.common.util.ImageUploader;
 import com.ctxh.volunteer.common.util.ImageValidator;
+import com.ctxh.volunteer.module.activity.dto.ActivitySearchDocumentDto;
 import com.ctxh.volunteer.module.activity.dto.request.CreateActivityRequestDto;
 import com.ctxh.volunteer.module.activity.dto.request.UpdateActivityRequestDto;
 import com.ctxh.volunteer.module.activity.dto.response.ActivityListResponseDto;
 import com.ctxh.volunteer.module.activity.dto.response.ActivityResponseDto;
+import com.ctxh.volunteer.module.activity.dto.response.ActivitySuggestionDto;
 import com.ctxh.volunteer.module.activity.entity.Activity;
 import com.ctxh.volunteer.module.activity.enums.ActivityCategory;
 import com.ctxh.volunteer.module.activity.enums.ActivityStatus;
 import com.ctxh.volunteer.module.activity.enums.RegistrationState;
 import com.ctxh.volunteer.module.activity.repository.ActivityRepository;
+import com.ctxh.volunteer.module.activity.service.ActivityFullTextSearch;
+import com.ctxh.volunteer.module.activity.service.ActivityIndexer;
+import com.ctxh.volunteer.module.activity.service.ActivityParticipantNotifier;
+import com.ctxh.volunteer.module.activity.service.ActivitySearchIndex;
+import com.ctxh.volunteer.module.activity.service.ActivitySecurity;
+import com.ctxh.volunteer.module.activity.service.ActivitySuggestIndex;
 import com.ctxh.volunteer.module.activity.service.ActivityService;
 import com.ctxh.volunteer.module.activity.specification.ActivitySpecification;
+import com.ctxh.volunteer.module.attendance.service.LiveAttendanceTracker;
+import com.ctxh.volunteer.module.certificate.dto.BulkCertificateIssueResultDto;
+import com.ctxh.volunteer.module.certificate.service.CertificateBulkIssuer;
 import com.ctxh.volunteer.module.enrollment.EnrollmentStatus;
 import com.ctxh.volunteer.module.enrollment.dto.EnrollmentResponseDto;
 import com.ctxh.volunteer.module.enrollment.entity.Enrollment;
 import com.ctxh.volunteer.module.enrollment.repository.EnrollmentRepository;
+import com.ctxh.volunteer.module.enrollment.service.EnrollmentAdmission;
 import com.ctxh.volunteer.module.organization.entity.Organization;
 import com.ctxh.volunteer.module.organization.repository.OrganizationRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.IOException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 
 @Slf4j
 @Service
@@ -45,7 +64,16 @@ public class ActivityServiceImpl implements ActivityService {
     private final OrganizationRepository organizationRepository;
     private final EnrollmentRepository enrollmentRepository;
     private final ImageValidator imageValidator;
-    private final Cloudinary cloudinary;
+    private final ImageUploader imageUploader;
+    private final ActivitySecurity activitySecurity;
+    private final EnrollmentAdmission enrollmentAdmission;
+    private final CertificateBulkIssuer certificateBulkIssuer;
+    private final ActivityFullTextSearch activityFullTextSearch;
+    private final ActivityIndexer activityIndexer;
+    private final ActivitySearchIndex activitySearchIndex;
+    private final ActivitySuggestIndex activitySuggestIndex;
+    private final ActivityParticipantNotifier activityParticipantNotifier;
+    private final LiveAttendanceTracker liveAttendanceTracker;
 
     @Override
     @Transactional
@@ -69,13 +97,12 @@ public class ActivityServiceImpl implements ActivityService {
             throw new BusinessException(ErrorCode.INVALID_REGISTRATION_DEADLINE);
         }
 
-        String imageUrl = uploadImage(imageFile);
+        imageValidator.validate(imageFile);
 
         // Create activity
         Activity activity = Activity.builder()
                 .organization(organization)
                 .title(requestDto.getTitle())
-                .imageUrl(imageUrl)
                 .description(requestDto.getDescription())
                 .shortDescription(requestDto.getShortDescription())
                 .category(requestDto.getCategory() != null ? ActivityCategory.valueOf(requestDto.getCategory()) : null)
@@ -94,23 +121,22 @@ public class ActivityServiceImpl implements ActivityService {
         // Set organization
         organization.addActivity(activity);
         Activity savedActivity = activityRepository.save(activity);
+        uploadImage(savedActivity.getActivityId(), imageFile);
+        activityIndexer.index(ActivitySearchDocumentDto.from(savedActivity));
         log.info("Created activity with ID: {} for organization: {}", savedActivity.getActivityId(), organizationId);
 
         return mapToActivityResponseDto(savedActivity);
     }
 
-    private String uploadImage(MultipartFile avatar) {
-        if (avatar == null || avatar.isEmpty()) {
-            return null;
-        }
-        imageValidator.validate(avatar);
-        try {
-            Map<?,?> uploadResult = cloudinary.uploader().upload(avatar.getBytes(), ObjectUtils.emptyMap());
-            log.info("Uploaded image to Cloudinary: {}", uploadResult);
-            return uploadResult.get("secure_url").toString();
-        } catch (IOException e) {
-            throw new BusinessException(ErrorCode.FAILED_TO_UPLOAD_IMAGE);
+    /**
+     * Upload the image after the activity is committed; its image URLs are set once the upload finishes
+     */
+    private void uploadImage(Long activityId, MultipartFile image) {
+        if (image == null || image.isEmpty()) {
+            return;
         }
+        imageUploader.upload(image, variants ->
+                activityRepository.updateImages(activityId, variants.detailUrl(), variants.listUrl()));
     }
 
     @Override
@@ -147,6 +173,9 @@ public class ActivityServiceImpl implements ActivityService {
         if (activity.getRegistrationState() == RegistrationState.COMPLETED) {
             throw new BusinessException(ErrorCode.ACTIVITY_ALREADY_COMPLETED);
         }
+        LocalDateTime previousStart = activity.getStartDateTime();
+        LocalDateTime previousEnd = activity.getEndDateTime();
+        String previousAddress = activity.getAddress();
 
         // Update fields if provided
         if (requestDto.getName() != null) {
@@ -187,12 +216,18 @@ public class ActivityServiceImpl implements ActivityService {
         if (activity.getEndDateTime().isBefore(activity.getStartDateTime())) {
             throw new BusinessException(ErrorCode.INVALID_ACTIVITY_DATE);
         }
-        if (imageFile != null && !imageFile.isEmpty()) {
-            String imageUrl = uploadImage(imageFile);
-            activity.setImageUrl(imageUrl);
-        }
+        imageValidator.validate(imageFile);
 
         Activity updatedActivity = activityRepository.save(activity);
+        uploadImage(activityId, imageFile);
+        enrollmentAdmission.invalidate(activityId);
+        activityIndexer.index(ActivitySearchDocumentDto.from(updatedActivity));
+        // Participants only hear about changes to when and where the activity takes place
+        if (!Objects.equals(previousStart, updatedActivity.getStartDateTime())
+                || !Objects.equals(previousEnd, updatedActivity.getEndDateTime())
+                || !Objects.equals(previousAddress, updatedActivity.getAddress())) {
+            activityParticipantNotifier.notifyScheduleChanged(updatedActivity);
+        }
         log.info("Updated activity with ID: {}", activityId);
 
 
@@ -216,6 +251,9 @@ public class ActivityServiceImpl implements ActivityService {
         }
 
         activityRepository.delete(activity);
+        activitySecurity.evict(activityId);
+        enrollmentAdmission.invalidate(activityId);
+        activityIndexer.remove(activityId);
         log.info("Deleted activity with ID: {}", activityId);
     }
 
@@ -234,11 +272,35 @@ public class ActivityServiceImpl implements ActivityService {
         // Close registration
         activity.closeRegistration();
         Activity closedActivity = activityRepository.save(activity);
+        enrollmentAdmission.invalidate(activityId);
+        activityParticipantNotifier.notifyRegistrationClosed(closedActivity);
         log.info("Closed registration for activity with ID: {}", activityId);
 
         return mapToActivityResponseDto(closedActivity);
     }
 
+    @Override
+    @Transactional
+    public BulkCertificateIssueResultDto completeActivity(Long organizationId, Long activityId) {
+        // Find activity and verify ownership
+        Activity activity = activityRepository.findByIdAndOrganizationId(activityId, organizationId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.ACTIVITY_NOT_FOUND));
+
+        if (activity.getRegistrationState() == RegistrationState.COMPLETED) {
+            throw new BusinessException(ErrorCode.ACTIVITY_ALREADY_COMPLETED);
+        }
+
+        // Complete activity - USE HELPER METHOD
+        activity.complete();
+        activityRepository.save(activity);
+        enrollmentAdmission.invalidate(activityId);
+        activityIndexer.remove(activityId);
+        log.info("Completed activity with ID: {}", activityId);
+
+        // Issue all missing certificates in the same transaction
+        return certificateBulkIssuer.issueForActivity(activityId);
+    }
+
     // ============ ENROLLMENT MANAGEMENT ============
 
     @Override
@@ -310,7 +372,7 @@ public class ActivityServiceImpl implements ActivityService {
     @Transactional
     public EnrollmentResponseDto approveEnrollment(Long activityId, Long enrollmentId, Long approvedByUserId) {
         // Find enrollment and verify it belongs to the activity
-        Enrollment enrollment = enrollmentRepository.findByIdAndActivityId(enrollmentId, activityId)
+        Enrollment enrollment = enrollmentRepository.findByIdAndActivityIdForUpdate(enrollmentId, activityId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.ENROLLMENT_NOT_FOUND));
 
         // Check if enrollment is pending
@@ -318,7 +380,14 @@ public class ActivityServiceImpl implements ActivityService {
             throw new BusinessException(ErrorCode.ENROLLMENT_NOT_PENDING);
         }
 
-        // Approve enrollment
+        // Take an approved slot first; the update refuses once the activity is full
+        if (activityRepository.approvePendingSlot(activityId) == 0) {
+            throw new BusinessException(ErrorCode.ACTIVITY_FULL);
+        }
+        // The pending slot it held is free again, so reseed the admission counter after commit
+        enrollmentAdmission.invalidate(activityId);
+        // The live attendance total counts approved enrollments
+        liveAttendanceTracker.invalidate(activityId);
         enrollment.approve(approvedByUserId);
         Enrollment approvedEnrollment = enrollmentRepository.save(enrollment);
         log.info("Approved enrollment ID: {} for activity ID: {} by user ID: {}",
@@ -331,7 +400,7 @@ public class ActivityServiceImpl implements ActivityService {
     @Transactional
     public EnrollmentResponseDto rejectEnrollment(Long activityId, Long enrollmentId, Long rejectedByUserId) {
         // Find enrollment and verify it belongs to the activity
-        Enrollment enrollment = enrollmentRepository.findByIdAndActivityId(enrollmentId, activityId)
+        Enrollment enrollment = enrollmentRepository.findByIdAndActivityIdForUpdate(enrollmentId, activityId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.ENROLLMENT_NOT_FOUND));
 
         // Check if enrollment is pending
@@ -341,6 +410,9 @@ public class ActivityServiceImpl implements ActivityService {
 
         // Reject enrollment
         enrollment.reject(rejectedByUserId);
+        activityRepository.releasePendingSlot(activityId);
+        enrollmentAdmission.invalidate(activityId);
+        liveAttendanceTracker.invalidate(activityId);
         Enrollment rejectedEnrollment = enrollmentRepository.save(enrollment);
         log.info("Rejected enrollment ID: {} for activity ID: {} by user ID: {}",
                 enrollmentId, activityId, rejectedByUserId);
@@ -352,26 +424,49 @@ public class ActivityServiceImpl implements ActivityService {
 
     @Override
     @Transactional(readOnly = true)
-    public List<ActivityListResponseDto> getAllActivity() {
-        List<Activity> activities = activityRepository.findAllActivityOrderByDESC();
-        return activities.stream()
-                .map(this::mapToActivityListResponseDto)
-                .toList();
+    public CursorPageResponse<ActivityListResponseDto> getAllActivity(String cursor, int size) {
+        int pageSize = Math.clamp(size, 1, AppConstants.MAX_PAGE_SIZE);
+        // Fetch one extra row to learn whether another page exists without a COUNT query
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        List<ActivityListResponseDto> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = activityRepository.findFeedFirstPage(limit);
+        } else {
+            CursorUtil.Cursor after = CursorUtil.decode(cursor);
+            rows = activityRepository.findFeedAfter(after.createdAt(), after.id(), limit);
+        }
+        return CursorPageResponse.of(rows, pageSize,
+                dto -> CursorUtil.encode(dto.getCreatedAt(), dto.getActivityId()));
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<ActivityListResponseDto> searchActivities(String keyword) {
         if (keyword == null || keyword.trim().isEmpty()) {
-            return getAllActivity();
+            return getAllActivity(null, AppConstants.DEFAULT_PAGE_SIZE).getContents();
         }
 
-        List<Activity> activities = activityRepository.searchByKeyword(keyword.trim());
+        // Match in memory and only go to the database to load the matching rows
+        List<Long> matches = indexMatches(keyword);
+        if (matches != null) {
+            return activityRepository.findUpcomingListItemsByIdIn(matches);
+        }
+
+        List<Activity> activities = activityFullTextSearch.isAvailable()
+                ? activityRepository.searchByFullText(keyword.trim())
+                : activityRepository.searchByKeyword(keyword.trim());
         return activities.stream()
                 .map(this::mapToActivityListResponseDto)
                 .toList();
     }
 
+    @Override
+    public List<ActivitySuggestionDto> suggestActivities(String prefix, int limit) {
+        // Served from memory only; no database round trip per keystroke
+        return activitySuggestIndex.suggest(prefix, Math.clamp(limit, 1, AppConstants.MAX_SUGGESTIONS));
+    }
+
     @Override
     @Transactional(readOnly = true)
     public ActivityResponseDto getActivityDetail(Long activityId) {
@@ -381,26 +476,72 @@ public class ActivityServiceImpl implements ActivityService {
 
     @Override
     @Transactional(readOnly = true)
-    public List<ActivityListResponseDto> searchActivitiesAdvanced(
+    public PaginatedResponse<ActivityListResponseDto> searchActivitiesAdvanced(
             String keyword,
             ActivityCategory category,
             RegistrationState status,
             LocalDate startDate,
-            LocalDate endDate
+            LocalDate endDate,
+            int page,
+            int size
     ) {
-        // Build specification and execute query
+        Pageable pageable = PageRequest.of(Math.max(page, 0), Math.clamp(size, 1, AppConstants.MAX_PAGE_SIZE));
+        boolean hasKeyword = keyword != null && !keyword.trim().isEmpty();
+        // Completed activities are not in the in-memory index
+        List<Long> matches = hasKeyword && status != RegistrationState.COMPLETED ? indexMatches(keyword) : null;
+        if (hasKeyword && matches == null && activityFullTextSearch.isAvailable()) {
+            return searchByFullText(keyword.trim(), category, status, startDate, endDate, pageable);
+        }
+
+        // Build specification and execute query; without the index the keyword is a LIKE scan
         Specification<Activity> spec = ActivitySpecification.searchActivities(
                 keyword,
+                matches,
                 category,
                 status,
                 startDate,
                 endDate
         );
 
-        List<Activity> activities = activityRepository.findAll(spec);
-        return activities.stream()
-                .map(this::mapToActivityListResponseDto)
-                .toList();
+        // Only the list columns are selected; ordering comes from the specification
+        return PaginatedResponse.of(activityRepository.findListItems(spec, pageable), Function.identity());
+    }
+
+    /**
+     * Every activity the in-memory index matches, or null when the database has to answer: the
+     * index is not built, it matches nothing, or it matches more than
+     * {@link AppConstants#MAX_FULL_TEXT_MATCHES}. The index leaves out the full description, so a
+     * keyword found only there still reaches full-text or LIKE search. A cut-down match set would
+     * let the filters run on the newest matches only, so broad keywords go to the database too.
+     */
+    private List<Long> indexMatches(String keyword) {
+        if (!activitySearchIndex.isReady()) {
+            return null;
+        }
+        List<Long> matches = activitySearchIndex.search(keyword, AppConstants.MAX_FULL_TEXT_MATCHES + 1);
+        return matches.isEmpty() || matches.size() > AppConstants.MAX_FULL_TEXT_MATCHES ? null : matches;
+    }
+
+    /**
+     * Match, filter and page in one full-text query, then load the list columns of that page only
+     */
+    private PaginatedResponse<ActivityListResponseDto> searchByFullText(
+            String keyword,
+            ActivityCategory category,
+            RegistrationState status,
+            LocalDate startDate,
+            LocalDate endDate,
+            Pageable pageable
+    ) {
+        // Same default as ActivitySpecification: only OPEN activities unless a status is given
+        RegistrationState state = status != null ? status : RegistrationState.OPEN;
+        Page<Long> ids = activityRepository.findFullTextMatchIds(keyword, category, state, startDate, endDate, pageable);
+        List<ActivityListResponseDto> rows = ids.isEmpty()
+                ? List.of()
+                : activityRepository.findListItems(
+                        ActivitySpecification.searchActivities(keyword, ids.getContent(), category, state, startDate, endDate),
+                        PageRequest.of(0, ids.getNumberOfElements())).getContent();
+        return PaginatedResponse.of(new PageImpl<>(rows, pageable, ids.getTotalElements()), Function.identity());
     }
 
     // ============ MAPPING METHODS ============
@@ -439,7 +580,7 @@ public class ActivityServiceImpl implements ActivityService {
                 .activityId(activity.getActivityId())
                 .title(activity.getTitle())
                 .shortDescription(activity.getShortDescription())
-                .imageUrl(activity.getImageUrl())
+                .imageUrl(activity.getListImageUrl())
                 .category(activity.getCategory())
                 .registrationDeadline(activity.getRegistrationDeadline())
                 .theNumberOfCtxhDay(activity.getTheNumberOfCtxhDay())
@@ -10,6 +10,7 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 public class ActivitySpecification {
@@ -23,12 +24,31 @@ public class ActivitySpecification {
             RegistrationState status,
             LocalDate startDate,
             LocalDate endDate
+    ) {
+        return searchActivities(keyword, null, category, status, startDate, endDate);
+    }
+
+    /**
+     * Advanced search specification; {@code keywordMatches}, when given, are the activities a
+     * full-text search already matched and replace the LIKE scan
+     */
+    public static Specification<Activity> searchActivities(
+            String keyword,
+            Collection<Long> keywordMatches,
+            ActivityCategory category,
+            RegistrationState status,
+            LocalDate startDate,
+            LocalDate endDate
     ) {
         return (root, query, criteriaBuilder) -> {
             List<Predicate> predicates = new ArrayList<>();
 
             // Keyword search in title, description, shortDescription
-            if (keyword != null && !keyword.trim().isEmpty()) {
+            if (keywordMatches != null) {
+                predicates.add(keywordMatches.isEmpty()
+                        ? criteriaBuilder.disjunction()
+                        : root.get("activityId").in(keywordMatches));
+            } else if (keyword != null && !keyword.trim().isEmpty()) {
                 String likePattern = "%" + keyword.toLowerCase() + "%";
                 Predicate titlePredicate = criteriaBuilder.like(
                         criteriaBuilder.lower(root.get("title")),
@@ -52,10 +72,10 @@ public class ActivitySpecification {
 
             // Status filter
             if (status != null) {
-                predicates.add(criteriaBuilder.equal(root.get("status"), status));
+                predicates.add(criteriaBuilder.equal(root.get("registrationState"), status));
             } else {
                 // Default: only show OPEN activities
-                predicates.add(criteriaBuilder.equal(root.get("status"), RegistrationState.OPEN));
+                predicates.add(criteriaBuilder.equal(root.get("registrationState"), RegistrationState.OPEN));
             }
 
             // Start date range filter
@@ -70,8 +90,8 @@ public class ActivitySpecification {
                 predicates.add(criteriaBuilder.lessThanOrEqualTo(root.get("startDateTime"), endDateTime));
             }
 
-            // Order by start date ascending
-            query.orderBy(criteriaBuilder.asc(root.get("startDateTime")));
+            // Order by start date ascending; the id keeps pages stable when start dates tie
+            query.orderBy(criteriaBuilder.asc(root.get("startDateTime")), criteriaBuilder.asc(root.get("activityId")));
 
             return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
         };
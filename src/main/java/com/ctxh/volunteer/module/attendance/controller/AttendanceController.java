@@ -3,6 +3,8 @@ package com.ctxh.volunteer.module.attendance.controller;
 import com.ctxh.volunteer.common.dto.ApiResponse;
 import com.ctxh.volunteer.module.attendance.dto.AttendanceResponseDto;
 import com.ctxh.volunteer.module.attendance.dto.AttendanceSummaryDto;
+import com.ctxh.volunteer.module.attendance.dto.OfflineCheckInSyncRequestDto;
+import com.ctxh.volunteer.module.attendance.dto.OfflineCheckInSyncResponseDto;
 import com.ctxh.volunteer.module.attendance.dto.QrCheckInRequestDto;
 import com.ctxh.volunteer.module.attendance.dto.QrCheckOutRequestDto;
 import com.ctxh.volunteer.module.attendance.service.AttendanceService;
@@ -10,7 +12,9 @@ import io.swagger.v3.oas.annotations.Operation;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.security.access.prepost.PostAuthorize;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -19,6 +23,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -47,6 +52,22 @@ public class AttendanceController {
         );
     }
 
+    /**
+     * Replay QR check-ins captured while the scanner was offline
+     * POST /api/v1/attendance/check-in/sync
+     */
+    @Operation(summary = "sync check-ins scanned offline")
+    @PostMapping("/attendance/check-in/sync")
+    @ResponseStatus(HttpStatus.OK)
+    @PreAuthorize("hasRole('ORGANIZATION')")
+    public ApiResponse<OfflineCheckInSyncResponseDto> syncOfflineCheckIns(
+            @Valid @RequestBody OfflineCheckInSyncRequestDto requestDto) {
+        return ApiResponse.ok(
+                "Offline check-ins synced successfully",
+                attendanceService.syncOfflineCheckIns(requestDto)
+        );
+    }
+
     /**
      * Check-out student using QR code
      * POST /api/v1/attendance/check-out
@@ -90,6 +111,17 @@ public class AttendanceController {
         );
     }
 
+    /**
+     * Stream live attendance figures for an activity (Server-Sent Events)
+     * GET /api/v1/activities/{activityId}/attendance/stream
+     */
+    @Operation(summary = "stream live attendance figures for an activity")
+    @GetMapping(value = "/activities/{activityId}/attendance/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("@activitySecurity.isOwner(#activityId)")
+    public SseEmitter streamAttendance(@PathVariable("activityId") Long activityId) {
+        return attendanceService.streamAttendance(activityId);
+    }
+
     // ============ STUDENT - VIEW ATTENDANCE ============
 
     /**
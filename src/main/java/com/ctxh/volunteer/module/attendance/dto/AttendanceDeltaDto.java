@@ -0,0 +1,31 @@
+package com.ctxh.volunteer.module.attendance.dto;
+
+import com.ctxh.volunteer.module.attendance.enums.AttendanceEventType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Change to an activity's attendance figures, pushed to live dashboards.
+ * Clients add the deltas to the last AttendanceSummaryDto snapshot they received.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AttendanceDeltaDto {
+
+    private Long activityId;
+    private AttendanceEventType type;
+    private Long studentId;
+    private LocalDateTime occurredAt;
+
+    // Deltas
+    private long present;
+    private long absent;
+    private long checkedIn;
+    private long checkedOut;
+}
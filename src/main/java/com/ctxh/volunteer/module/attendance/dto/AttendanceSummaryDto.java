@@ -25,4 +25,20 @@ public class AttendanceSummaryDto {
 
     // Percentage
     private Double attendanceRate;   // (totalPresent / totalEnrolled) * 100
+
+    /**
+     * Projection constructor for AttendanceRepository#findSummaryByActivityId
+     */
+    public AttendanceSummaryDto(Long activityId, String activityTitle, Long totalEnrolled, Long totalPresent,
+                                Long totalAbsent, Long totalCheckedIn, Long totalCheckedOut) {
+        this.activityId = activityId;
+        this.activityTitle = activityTitle;
+        this.totalEnrolled = totalEnrolled;
+        this.totalPresent = totalPresent;
+        this.totalAbsent = totalAbsent;
+        this.totalCheckedIn = totalCheckedIn;
+        this.totalCheckedOut = totalCheckedOut;
+        double rate = totalEnrolled > 0 ? (totalPresent.doubleValue() / totalEnrolled.doubleValue()) * 100.0 : 0.0;
+        this.attendanceRate = Math.round(rate * 100.0) / 100.0; // Round to 2 decimal places
+    }
 }
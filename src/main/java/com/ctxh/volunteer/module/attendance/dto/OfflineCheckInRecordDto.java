@@ -0,0 +1,29 @@
+package com.ctxh.volunteer.module.attendance.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * One QR scan captured while the organizer's scanner was offline
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OfflineCheckInRecordDto {
+
+    @NotNull(message = "Activity ID is required")
+    private Long activityId;
+
+    @NotBlank(message = "QR code data is required")
+    private String qrCodeData;
+
+    @NotNull(message = "Scan time is required")
+    private LocalDateTime scannedAt;
+}
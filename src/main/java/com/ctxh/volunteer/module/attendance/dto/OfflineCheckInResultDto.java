@@ -0,0 +1,28 @@
+package com.ctxh.volunteer.module.attendance.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Outcome of one synced scan; {@code index} points back into the submitted records
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OfflineCheckInResultDto {
+
+    private int index;
+    private Long activityId;
+    private Long studentId;
+    private boolean success;
+    private LocalDateTime checkInTime;
+
+    // Set when the scan was rejected
+    private Integer errorCode;
+    private String message;
+}
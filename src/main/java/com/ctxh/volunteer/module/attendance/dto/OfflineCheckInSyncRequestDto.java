@@ -0,0 +1,24 @@
+package com.ctxh.volunteer.module.attendance.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+import static com.ctxh.volunteer.common.util.AppConstants.MAX_OFFLINE_SYNC_RECORDS;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OfflineCheckInSyncRequestDto {
+
+    @NotEmpty(message = "At least one record is required")
+    @Size(max = MAX_OFFLINE_SYNC_RECORDS, message = "Too many records in one sync")
+    private List<@Valid OfflineCheckInRecordDto> records;
+}
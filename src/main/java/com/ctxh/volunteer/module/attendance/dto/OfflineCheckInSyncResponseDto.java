@@ -0,0 +1,20 @@
+package com.ctxh.volunteer.module.attendance.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OfflineCheckInSyncResponseDto {
+
+    private int total;
+    private int accepted;
+    private int rejected;
+    private List<OfflineCheckInResultDto> results;
+}
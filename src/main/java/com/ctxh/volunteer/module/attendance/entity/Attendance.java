@@ -17,6 +17,8 @@ import jakarta.persistence.Id;
 import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
 import lombok.AllArgsConstructor;
@@ -26,13 +28,14 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 import java.time.Duration;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "attendances",
         uniqueConstraints = {
-                @UniqueConstraint(name = "uk_attendance_student_activity_date",
-                        columnNames = {"student_id", "activity_id", "attendance_date"})
+                @UniqueConstraint(name = "uk_attendance_student_activity_day",
+                        columnNames = {"student_id", "activity_id", "attendance_day"})
         },
         indexes = {
                 @Index(name = "idx_attendance_student", columnList = "student_id"),
@@ -66,6 +69,10 @@ public class Attendance extends BaseEntity {
     @Column(name = "attendance_date", nullable = false)
     private LocalDateTime attendanceDate;
 
+    // Day of attendanceDate; keys the record so a student has at most one per activity and day
+    @Column(name = "attendance_day", nullable = false)
+    private LocalDate attendanceDay;
+
     @Column(name = "check_in_time")
     private LocalDateTime checkInTime;
 
@@ -171,4 +178,10 @@ public class Attendance extends BaseEntity {
     public int hashCode() {
         return getClass().hashCode();
     }
-}
\ No newline at end of file
+
+    @PrePersist
+    @PreUpdate
+    protected void syncAttendanceDay() {
+        this.attendanceDay = attendanceDate == null ? null : attendanceDate.toLocalDate();
+    }
+}
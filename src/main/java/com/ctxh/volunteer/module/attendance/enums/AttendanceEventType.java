@@ -0,0 +1,6 @@
+package com.ctxh.volunteer.module.attendance.enums;
+
+public enum AttendanceEventType {
+    CHECK_IN,       // Điểm danh vào
+    CHECK_OUT       // Điểm danh ra
+}
@@ -0,0 +1,29 @@
+package com.ctxh.volunteer.module.attendance.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * JDBC-batched attendance writes for bulk check-in. Attendance ids are IDENTITY-generated,
+ * which stops Hibernate from batching inserts, so these statements go through JDBC directly.
+ */
+public interface AttendanceBatchRepository {
+
+    /**
+     * Insert checked-in attendance records; returns one update count per row. On PostgreSQL a
+     * count of 0 means the student already had a record for that activity and day.
+     */
+    int[] insertCheckIns(List<CheckInRow> rows);
+
+    /**
+     * Check in existing attendance records that have no check-in yet; a count of 0 means
+     * the record was checked in concurrently
+     */
+    int[] updateCheckIns(List<CheckInRow> rows);
+
+    /**
+     * A check-in to write; {@code attendanceId} is null for a new record
+     */
+    record CheckInRow(Long attendanceId, Long studentId, Long activityId, LocalDateTime checkInTime) {
+    }
+}
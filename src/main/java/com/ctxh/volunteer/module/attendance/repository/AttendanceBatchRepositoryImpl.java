@@ -0,0 +1,90 @@
+package com.ctxh.volunteer.module.attendance.repository;
+
+import com.ctxh.volunteer.module.attendance.enums.AttendanceStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+@RequiredArgsConstructor
+class AttendanceBatchRepositoryImpl implements AttendanceBatchRepository {
+    private static final int BATCH_SIZE = 500;
+
+    private static final String INSERT_CHECK_IN = "INSERT INTO attendances " +
+            "(student_id, activity_id, attendance_date, attendance_day, check_in_time, status, create_by, create_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    // A record created online for the same day since the sync read is skipped, not a unique violation
+    private static final String SKIP_EXISTING_DAY = " ON CONFLICT (student_id, activity_id, attendance_day) DO NOTHING";
+
+    private static final String UPDATE_CHECK_IN = "UPDATE attendances " +
+            "SET check_in_time = ?, status = ?, update_by = ?, update_at = ? " +
+            "WHERE attendance_id = ? AND check_in_time IS NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+    // Absent in JPA slice tests, where auditing is not configured
+    private final ObjectProvider<AuditorAware<Long>> auditorAware;
+    private volatile String insertCheckIn;
+
+    @Override
+    public int[] insertCheckIns(List<CheckInRow> rows) {
+        Long auditor = currentAuditor();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        return flatten(jdbcTemplate.batchUpdate(insertCheckIn(), rows, BATCH_SIZE, (ps, row) -> {
+            Timestamp checkInTime = Timestamp.valueOf(row.checkInTime());
+            ps.setLong(1, row.studentId());
+            ps.setLong(2, row.activityId());
+            ps.setTimestamp(3, checkInTime);
+            ps.setDate(4, Date.valueOf(row.checkInTime().toLocalDate()));
+            ps.setTimestamp(5, checkInTime);
+            ps.setString(6, AttendanceStatus.PRESENT.name());
+            ps.setObject(7, auditor, Types.BIGINT);
+            ps.setTimestamp(8, now);
+        }));
+    }
+
+    @Override
+    public int[] updateCheckIns(List<CheckInRow> rows) {
+        Long auditor = currentAuditor();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        return flatten(jdbcTemplate.batchUpdate(UPDATE_CHECK_IN, rows, BATCH_SIZE, (ps, row) -> {
+            ps.setTimestamp(1, Timestamp.valueOf(row.checkInTime()));
+            ps.setString(2, AttendanceStatus.PRESENT.name());
+            ps.setObject(3, auditor, Types.BIGINT);
+            ps.setTimestamp(4, now);
+            ps.setLong(5, row.attendanceId());
+        }));
+    }
+
+    /**
+     * The insert statement, skipping days that already have a record on PostgreSQL. H2 in tests
+     * has no ON CONFLICT outside its PostgreSQL mode and gets the plain insert.
+     */
+    private String insertCheckIn() {
+        String sql = insertCheckIn;
+        if (sql == null) {
+            String database = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                    connection.getMetaData().getDatabaseProductName());
+            sql = "PostgreSQL".equalsIgnoreCase(database) ? INSERT_CHECK_IN + SKIP_EXISTING_DAY : INSERT_CHECK_IN;
+            insertCheckIn = sql;
+        }
+        return sql;
+    }
+
+    private Long currentAuditor() {
+        AuditorAware<Long> auditor = auditorAware.getIfAvailable();
+        return auditor == null ? null : auditor.getCurrentAuditor().orElse(null);
+    }
+
+    private static int[] flatten(int[][] counts) {
+        return Arrays.stream(counts).flatMapToInt(Arrays::stream).toArray();
+    }
+}
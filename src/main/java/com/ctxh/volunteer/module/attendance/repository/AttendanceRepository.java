@@ -1,5 +1,6 @@
 package com.ctxh.volunteer.module.attendance.repository;
 
+import com.ctxh.volunteer.module.attendance.dto.AttendanceSummaryDto;
 import com.ctxh.volunteer.module.attendance.entity.Attendance;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -7,11 +8,12 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface AttendanceRepository extends JpaRepository<Attendance, Long> {
+public interface AttendanceRepository extends JpaRepository<Attendance, Long>, AttendanceBatchRepository {
 
     /**
      * Find all attendance records by activity ID
@@ -44,6 +46,22 @@ public interface AttendanceRepository extends JpaRepository<Attendance, Long> {
             "ORDER BY a.attendanceDate DESC")
     List<Attendance> findByStudentId(@Param("studentId") Long studentId);
 
+    /**
+     * Find every attendance dashboard figure for an activity in one round trip
+     */
+    @Query("SELECT new com.ctxh.volunteer.module.attendance.dto.AttendanceSummaryDto(" +
+            "act.activityId, act.title, " +
+            "(SELECT COUNT(e) FROM Enrollment e WHERE e.activity.activityId = act.activityId AND e.status = 'APPROVED'), " +
+            "COALESCE(SUM(CASE WHEN a.status = 'PRESENT' THEN 1 ELSE 0 END), 0), " +
+            "COALESCE(SUM(CASE WHEN a.status = 'ABSENT' THEN 1 ELSE 0 END), 0), " +
+            "COUNT(a.checkInTime), " +
+            "COUNT(a.checkOutTime)) " +
+            "FROM Activity act " +
+            "LEFT JOIN Attendance a ON a.activity.activityId = act.activityId " +
+            "WHERE act.activityId = :activityId " +
+            "GROUP BY act.activityId, act.title")
+    Optional<AttendanceSummaryDto> findSummaryByActivityId(@Param("activityId") Long activityId);
+
     /**
      * Count present students for an activity
      */
@@ -89,4 +107,18 @@ public interface AttendanceRepository extends JpaRepository<Attendance, Long> {
             @Param("startDate") LocalDateTime startDate,
             @Param("endDate") LocalDateTime endDate
     );
+
+    /**
+     * Find the attendance records of several students for an activity within a date range
+     */
+    @Query("SELECT a FROM Attendance a " +
+            "WHERE a.activity.activityId = :activityId " +
+            "AND a.student.studentId IN :studentIds " +
+            "AND a.attendanceDate BETWEEN :startDate AND :endDate")
+    List<Attendance> findByActivityIdAndStudentIdsAndDateBetween(
+            @Param("activityId") Long activityId,
+            @Param("studentIds") Collection<Long> studentIds,
+            @Param("startDate") LocalDateTime startDate,
+            @Param("endDate") LocalDateTime endDate
+    );
 }
@@ -2,9 +2,12 @@ package com.ctxh.volunteer.module.attendance.service;
 
 import com.ctxh.volunteer.module.attendance.dto.AttendanceResponseDto;
 import com.ctxh.volunteer.module.attendance.dto.AttendanceSummaryDto;
+import com.ctxh.volunteer.module.attendance.dto.OfflineCheckInSyncRequestDto;
+import com.ctxh.volunteer.module.attendance.dto.OfflineCheckInSyncResponseDto;
 import com.ctxh.volunteer.module.attendance.dto.QrCheckInRequestDto;
 import com.ctxh.volunteer.module.attendance.dto.QrCheckOutRequestDto;
 import jakarta.validation.Valid;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -17,6 +20,11 @@ public interface AttendanceService {
      */
     AttendanceResponseDto checkIn(QrCheckInRequestDto requestDto);
 
+    /**
+     * Replay QR scans captured offline, honoring each scan time; returns one result per record
+     */
+    OfflineCheckInSyncResponseDto syncOfflineCheckIns(OfflineCheckInSyncRequestDto requestDto);
+
     /**
      * Check out student using QR code
      */
@@ -32,6 +40,11 @@ public interface AttendanceService {
      */
     AttendanceSummaryDto getAttendanceSummary(Long activityId);
 
+    /**
+     * Stream live attendance figures for an activity: a snapshot, then deltas on every check-in/check-out
+     */
+    SseEmitter streamAttendance(Long activityId);
+
     // ============ STUDENT - VIEW ATTENDANCE ============
 
     /**
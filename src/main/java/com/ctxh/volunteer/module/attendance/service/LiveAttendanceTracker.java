@@ -0,0 +1,197 @@
+package com.ctxh.volunteer.module.attendance.service;
+
+import com.ctxh.volunteer.common.exception.BusinessException;
+import com.ctxh.volunteer.common.exception.ErrorCode;
+import com.ctxh.volunteer.module.attendance.dto.AttendanceDeltaDto;
+import com.ctxh.volunteer.module.attendance.dto.AttendanceSummaryDto;
+import com.ctxh.volunteer.module.attendance.repository.AttendanceRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory attendance figures per activity, kept current by check-in/check-out and pushed
+ * to organizer dashboards over Server-Sent Events. Counters are seeded once from
+ * {@link AttendanceRepository#findSummaryByActivityId} and then only receive deltas, so a
+ * connected dashboard costs no queries per update. Enrollment decisions drop the counters so
+ * the next snapshot reseeds them, and every counter is reseeded at a fixed age whether or not
+ * it is in use, so check-ins recorded through other instances are picked up too.
+ */
+@Slf4j
+@Component
+public class LiveAttendanceTracker {
+    static final String SNAPSHOT_EVENT = "snapshot";
+    static final String DELTA_EVENT = "delta";
+
+    private final AttendanceRepository attendanceRepository;
+    private final Cache<Long, LiveCounters> countersByActivity;
+    private final Map<Long, Set<SseEmitter>> subscribers = new ConcurrentHashMap<>();
+    private final Duration emitterTimeout;
+    // Slow dashboards must never hold up the check-in request that produced the delta
+    private final ExecutorService dispatcher = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("attendance-live").daemon().factory());
+
+    public LiveAttendanceTracker(
+            AttendanceRepository attendanceRepository,
+            @Value("${attendance.live.reseed-interval:PT5M}") Duration reseedInterval,
+            @Value("${attendance.live.emitter-timeout:PT30M}") Duration emitterTimeout) {
+        this.attendanceRepository = attendanceRepository;
+        this.emitterTimeout = emitterTimeout;
+        this.countersByActivity = Caffeine.newBuilder()
+                // After write, not access: a watched activity is read constantly and must still reseed
+                .expireAfterWrite(reseedInterval)
+                .maximumSize(10_000)
+                .build();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        dispatcher.shutdownNow();
+    }
+
+    /**
+     * Current figures for an activity, seeding the counters on first use
+     */
+    public AttendanceSummaryDto snapshot(Long activityId) {
+        return countersByActivity.get(activityId, this::load).toSummary(activityId);
+    }
+
+    /**
+     * Open a live stream for an activity; the first event is a full snapshot, then deltas follow
+     */
+    public SseEmitter subscribe(Long activityId) {
+        AttendanceSummaryDto snapshot = snapshot(activityId);
+
+        SseEmitter emitter = new SseEmitter(emitterTimeout.toMillis());
+        emitter.onCompletion(() -> unsubscribe(activityId, emitter));
+        emitter.onTimeout(() -> unsubscribe(activityId, emitter));
+        emitter.onError(e -> unsubscribe(activityId, emitter));
+        subscribers.compute(activityId, (id, emitters) -> {
+            Set<SseEmitter> set = emitters != null ? emitters : ConcurrentHashMap.newKeySet();
+            set.add(emitter);
+            return set;
+        });
+
+        send(activityId, emitter, SseEmitter.event().name(SNAPSHOT_EVENT).data(snapshot));
+        return emitter;
+    }
+
+    /**
+     * Apply a delta and push it to subscribers, after commit when called inside a transaction
+     */
+    public void publish(AttendanceDeltaDto delta) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(delta);
+                }
+            });
+        } else {
+            apply(delta);
+        }
+    }
+
+    /**
+     * Drop an activity's counters now and, when called inside a transaction, again after commit
+     * so the next snapshot reseeds them from the committed enrollments
+     */
+    public void invalidate(Long activityId) {
+        countersByActivity.invalidate(activityId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    countersByActivity.invalidate(activityId);
+                }
+            });
+        }
+    }
+
+    int subscriberCount(Long activityId) {
+        Set<SseEmitter> emitters = subscribers.get(activityId);
+        return emitters == null ? 0 : emitters.size();
+    }
+
+    // ============ INTERNALS ============
+
+    private void apply(AttendanceDeltaDto delta) {
+        // Unseeded or reseeding activities have nothing to update; the next snapshot reads the committed rows
+        LiveCounters counters = countersByActivity.getIfPresent(delta.getActivityId());
+        if (counters != null) {
+            counters.present.addAndGet(delta.getPresent());
+            counters.absent.addAndGet(delta.getAbsent());
+            counters.checkedIn.addAndGet(delta.getCheckedIn());
+            counters.checkedOut.addAndGet(delta.getCheckedOut());
+        }
+
+        Set<SseEmitter> emitters = subscribers.get(delta.getActivityId());
+        if (emitters == null || emitters.isEmpty()) {
+            return;
+        }
+        dispatcher.execute(() -> emitters.forEach(emitter ->
+                send(delta.getActivityId(), emitter, SseEmitter.event().name(DELTA_EVENT).data(delta))));
+    }
+
+    private void send(Long activityId, SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+        } catch (IOException | IllegalStateException e) {
+            // The dashboard went away; drop it instead of failing the others
+            log.debug("Dropping live attendance subscriber for activity {}: {}", activityId, e.getMessage());
+            unsubscribe(activityId, emitter);
+            emitter.completeWithError(e);
+        }
+    }
+
+    private void unsubscribe(Long activityId, SseEmitter emitter) {
+        subscribers.computeIfPresent(activityId, (id, emitters) -> {
+            emitters.remove(emitter);
+            return emitters.isEmpty() ? null : emitters;
+        });
+    }
+
+    private LiveCounters load(Long activityId) {
+        AttendanceSummaryDto summary = attendanceRepository.findSummaryByActivityId(activityId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.ACTIVITY_NOT_FOUND));
+        return new LiveCounters(summary);
+    }
+
+    private static final class LiveCounters {
+        private final String activityTitle;
+        private final long totalEnrolled;
+        private final AtomicLong present;
+        private final AtomicLong absent;
+        private final AtomicLong checkedIn;
+        private final AtomicLong checkedOut;
+
+        private LiveCounters(AttendanceSummaryDto seed) {
+            this.activityTitle = seed.getActivityTitle();
+            this.totalEnrolled = seed.getTotalEnrolled();
+            this.present = new AtomicLong(seed.getTotalPresent());
+            this.absent = new AtomicLong(seed.getTotalAbsent());
+            this.checkedIn = new AtomicLong(seed.getTotalCheckedIn());
+            this.checkedOut = new AtomicLong(seed.getTotalCheckedOut());
+        }
+
+        private AttendanceSummaryDto toSummary(Long activityId) {
+            return new AttendanceSummaryDto(activityId, activityTitle, totalEnrolled,
+                    present.get(), absent.get(), checkedIn.get(), checkedOut.get());
+        }
+    }
+}
@@ -4,50 +4,77 @@ import com.ctxh.volunteer.common.exception.BusinessException;
 import com.ctxh.volunteer.common.exception.ErrorCode;
 import com.ctxh.volunteer.module.activity.entity.Activity;
 import com.ctxh.volunteer.module.activity.repository.ActivityRepository;
+import com.ctxh.volunteer.module.activity.service.ActivitySecurity;
+import com.ctxh.volunteer.module.attendance.dto.AttendanceDeltaDto;
 import com.ctxh.volunteer.module.attendance.dto.AttendanceResponseDto;
 import com.ctxh.volunteer.module.attendance.dto.AttendanceSummaryDto;
+import com.ctxh.volunteer.module.attendance.dto.OfflineCheckInRecordDto;
+import com.ctxh.volunteer.module.attendance.dto.OfflineCheckInResultDto;
+import com.ctxh.volunteer.module.attendance.dto.OfflineCheckInSyncRequestDto;
+import com.ctxh.volunteer.module.attendance.dto.OfflineCheckInSyncResponseDto;
 import com.ctxh.volunteer.module.attendance.dto.QrCheckInRequestDto;
 import com.ctxh.volunteer.module.attendance.dto.QrCheckOutRequestDto;
 import com.ctxh.volunteer.module.attendance.entity.Attendance;
+import com.ctxh.volunteer.module.attendance.enums.AttendanceEventType;
+import com.ctxh.volunteer.module.attendance.enums.AttendanceStatus;
+import com.ctxh.volunteer.module.attendance.repository.AttendanceBatchRepository.CheckInRow;
 import com.ctxh.volunteer.module.attendance.repository.AttendanceRepository;
 import com.ctxh.volunteer.module.attendance.service.AttendanceService;
+import com.ctxh.volunteer.module.attendance.service.LiveAttendanceTracker;
 import com.ctxh.volunteer.module.certificate.service.CertificateService;
 import com.ctxh.volunteer.module.enrollment.EnrollmentStatus;
 import com.ctxh.volunteer.module.enrollment.entity.Enrollment;
 import com.ctxh.volunteer.module.enrollment.repository.EnrollmentRepository;
 import com.ctxh.volunteer.module.student.entity.Student;
 import com.ctxh.volunteer.module.student.repository.StudentRepository;
+import com.ctxh.volunteer.module.student.service.StudentQrCodec;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class AttendanceServiceImpl implements AttendanceService {
+    // Scanner clocks drift; scans dated further ahead than this are rejected
+    private static final Duration OFFLINE_CLOCK_SKEW = Duration.ofMinutes(5);
 
     private final AttendanceRepository attendanceRepository;
     private final StudentRepository studentRepository;
     private final ActivityRepository activityRepository;
     private final EnrollmentRepository enrollmentRepository;
     private final CertificateService certificateService;
+    private final LiveAttendanceTracker liveAttendanceTracker;
+    private final ActivitySecurity activitySecurity;
+    private final StudentQrCodec studentQrCodec;
 
     @Override
     @Transactional
     public AttendanceResponseDto checkIn(QrCheckInRequestDto requestDto) {
         LocalDateTime now = LocalDateTime.now();
 
-        // Find student by QR code
-        Student student = studentRepository.findByQrCodeData(requestDto.getQrCodeData())
-                .orElseThrow(() -> new BusinessException(ErrorCode.INVALID_QR_CODE));
+        // The signed QR code carries the student ID; no lookup by QR string is needed
+        Long studentId = studentQrCodec.verify(requestDto.getQrCodeData(), now);
 
         // Find activity
         Activity activity = activityRepository.findById(requestDto.getActivityId())
@@ -59,9 +86,10 @@ public class AttendanceServiceImpl implements AttendanceService {
         if (now.isAfter(middleOfActivity))
             throw new BusinessException(ErrorCode.EXPIRED_CHECK_IN);
 
-        // Verify student is enrolled and approved
-        enrollmentRepository.findByStudentIdAndActivityId(student.getStudentId(), activity.getActivityId())
+        // Verify student is enrolled and approved; the student is loaded with the enrollment
+        Student student = enrollmentRepository.findWithStudentByStudentIdAndActivityId(studentId, activity.getActivityId())
                 .filter(enrollment -> enrollment.getStatus() == EnrollmentStatus.APPROVED)
+                .map(Enrollment::getStudent)
                 .orElseThrow(() -> new BusinessException(ErrorCode.STUDENT_NOT_ENROLLED));
 
         // Find or create an attendance record for today
@@ -87,6 +115,9 @@ public class AttendanceServiceImpl implements AttendanceService {
                     return newAttendance;
                 });
 
+        // Status before check-in decides the delta; a record created just now was never counted
+        AttendanceStatus previousStatus = attendance.getAttendanceId() != null ? attendance.getStatus() : null;
+
         // Check-in using a helper method
         try {
             attendance.checkIn(); // USE HELPER METHOD - sets checkInTime and status to PRESENT
@@ -94,24 +125,101 @@ public class AttendanceServiceImpl implements AttendanceService {
             throw new BusinessException(ErrorCode.ALREADY_CHECKED_IN);
         }
 
-        Attendance savedAttendance = attendanceRepository.save(attendance);
+        Attendance savedAttendance;
+        try {
+            savedAttendance = attendanceRepository.save(attendance);
+        } catch (DataIntegrityViolationException e) {
+            // Another check-in or an offline sync created today's record since we looked
+            throw new BusinessException(ErrorCode.ALREADY_CHECKED_IN);
+        }
+        liveAttendanceTracker.publish(AttendanceDeltaDto.builder()
+                .activityId(activity.getActivityId())
+                .type(AttendanceEventType.CHECK_IN)
+                .studentId(student.getStudentId())
+                .occurredAt(savedAttendance.getCheckInTime())
+                .present(previousStatus == AttendanceStatus.PRESENT ? 0 : 1)
+                .absent(previousStatus == AttendanceStatus.ABSENT ? -1 : 0)
+                .checkedIn(1)
+                .build());
         log.info("Student {} checked in to activity {}", student.getStudentId(), activity.getActivityId());
 
         return mapToAttendanceResponseDto(savedAttendance);
     }
 
+    @Override
+    @Transactional
+    public OfflineCheckInSyncResponseDto syncOfflineCheckIns(OfflineCheckInSyncRequestDto requestDto) {
+        List<OfflineCheckInRecordDto> records = requestDto.getRecords();
+        OfflineCheckInResultDto[] results = new OfflineCheckInResultDto[records.size()];
+        LocalDateTime latestAcceptedScan = LocalDateTime.now().plus(OFFLINE_CLOCK_SKEW);
+
+        // Resolve every activity in the batch up front; QR codes are verified in memory
+        Long[] studentIds = new Long[records.size()];
+        Map<Long, Activity> activities = activityRepository.findAllById(records.stream()
+                        .map(OfflineCheckInRecordDto::getActivityId)
+                        .collect(Collectors.toSet())).stream()
+                .collect(Collectors.toMap(Activity::getActivityId, Function.identity()));
+
+        Map<Long, Boolean> ownership = new HashMap<>();
+        Map<Long, List<Integer>> indexesByActivity = new LinkedHashMap<>();
+        for (int i = 0; i < records.size(); i++) {
+            OfflineCheckInRecordDto record = records.get(i);
+            Activity activity = activities.get(record.getActivityId());
+
+            if (activity == null) {
+                results[i] = rejectedScan(i, record, null, ErrorCode.ACTIVITY_NOT_FOUND);
+                continue;
+            }
+            if (!ownership.computeIfAbsent(activity.getActivityId(), activitySecurity::isOwner)) {
+                results[i] = rejectedScan(i, record, null, ErrorCode.NOT_ACTIVITY_OWNER);
+                continue;
+            }
+            if (record.getScannedAt().isAfter(latestAcceptedScan)) {
+                results[i] = rejectedScan(i, record, null, ErrorCode.ATTENDANCE_NOT_ALLOWED);
+                continue;
+            }
+            try {
+                // Expiry is judged at the scan time, not at sync time
+                studentIds[i] = studentQrCodec.verify(record.getQrCodeData(), record.getScannedAt());
+            } catch (BusinessException e) {
+                results[i] = rejectedScan(i, record, null, e.getErrorCode());
+                continue;
+            }
+
+            if (record.getScannedAt().isAfter(middleOf(activity))) {
+                results[i] = rejectedScan(i, record, studentIds[i], ErrorCode.EXPIRED_CHECK_IN);
+            } else {
+                indexesByActivity.computeIfAbsent(activity.getActivityId(), id -> new ArrayList<>()).add(i);
+            }
+        }
+
+        indexesByActivity.forEach((activityId, indexes) ->
+                syncActivityCheckIns(activityId, indexes, records, studentIds, results));
+
+        int accepted = (int) Arrays.stream(results).filter(OfflineCheckInResultDto::isSuccess).count();
+        log.info("Synced {} offline check-ins: {} accepted, {} rejected",
+                records.size(), accepted, records.size() - accepted);
+
+        return OfflineCheckInSyncResponseDto.builder()
+                .total(records.size())
+                .accepted(accepted)
+                .rejected(records.size() - accepted)
+                .results(Arrays.asList(results))
+                .build();
+    }
+
     @Override
     @Transactional
     public AttendanceResponseDto checkOut(QrCheckOutRequestDto requestDto) {
-        // Find student by QR code
-        Student student = studentRepository.findByQrCodeData(requestDto.getQrCodeData())
-                .orElseThrow(() -> new BusinessException(ErrorCode.INVALID_QR_CODE));
+        LocalDateTime now = LocalDateTime.now();
+
+        // The signed QR code carries the student ID; no lookup by QR string is needed
+        Long studentId = studentQrCodec.verify(requestDto.getQrCodeData(), now);
 
         // Find activity
         Activity activity = activityRepository.findById(requestDto.getActivityId())
                 .orElseThrow(() -> new BusinessException(ErrorCode.ACTIVITY_NOT_FOUND));
 
-        LocalDateTime now = LocalDateTime.now();
         if (now.isAfter(activity.getEndDateTime().plusDays(2)))
             throw new BusinessException(ErrorCode.EXPIRED_CHECK_OUT);
 
@@ -121,7 +229,7 @@ public class AttendanceServiceImpl implements AttendanceService {
 
         Attendance attendance = attendanceRepository
                 .findByStudentIdAndActivityIdAndDate(
-                        student.getStudentId(),
+                        studentId,
                         activity.getActivityId(),
                         today,
                         endOfDay
@@ -133,8 +241,8 @@ public class AttendanceServiceImpl implements AttendanceService {
             attendance.checkOut(); // USE HELPER METHOD - sets checkOutTime
 
             // Get enrollment
-            Enrollment enrollment = enrollmentRepository.findByStudentIdAndActivityId(
-                    student.getStudentId(),
+            Enrollment enrollment = enrollmentRepository.findWithStudentByStudentIdAndActivityId(
+                    studentId,
                     activity.getActivityId()
             ).orElseThrow(() -> new BusinessException(ErrorCode.STUDENT_NOT_ENROLLED));
 
@@ -142,18 +250,8 @@ public class AttendanceServiceImpl implements AttendanceService {
             enrollment.complete();
             enrollmentRepository.save(enrollment);
 
-            // AUTO-GENERATE CERTIFICATE after successful checkout
-            try {
-                if (!certificateService.certificateExists(enrollment.getEnrollmentId())) {
-                    certificateService.generateCertificate(enrollment);
-                    log.info("Auto-generated certificate for student {} after checkout",
-                            student.getStudentId());
-                }
-            } catch (Exception e) {
-                log.warn("Failed to auto-generate certificate for enrollment {}: {}",
-                        enrollment.getEnrollmentId(), e.getMessage());
-                // Don't fail checkout if certificate generation fails
-            }
+            // QUEUE CERTIFICATE - issued by the outbox worker once this checkout commits
+            certificateService.requestCertificate(enrollment.getEnrollmentId());
 
         } catch (IllegalStateException e) {
             if (e.getMessage().contains("already checked out")) {
@@ -164,7 +262,14 @@ public class AttendanceServiceImpl implements AttendanceService {
         }
 
         Attendance savedAttendance = attendanceRepository.save(attendance);
-        log.info("Student {} checked out from activity {}", student.getStudentId(), activity.getActivityId());
+        liveAttendanceTracker.publish(AttendanceDeltaDto.builder()
+                .activityId(activity.getActivityId())
+                .type(AttendanceEventType.CHECK_OUT)
+                .studentId(studentId)
+                .occurredAt(savedAttendance.getCheckOutTime())
+                .checkedOut(1)
+                .build());
+        log.info("Student {} checked out from activity {}", studentId, activity.getActivityId());
 
         return mapToAttendanceResponseDto(savedAttendance);
     }
@@ -186,38 +291,14 @@ public class AttendanceServiceImpl implements AttendanceService {
     @Override
     @Transactional(readOnly = true)
     public AttendanceSummaryDto getAttendanceSummary(Long activityId) {
-        // Find activity
-        Activity activity = activityRepository.findById(activityId)
+        // Enrollment and attendance counts come back from one aggregation query
+        return attendanceRepository.findSummaryByActivityId(activityId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.ACTIVITY_NOT_FOUND));
+    }
 
-        // Get enrollment count (total approved students)
-        Long totalEnrolled = enrollmentRepository.countByActivityAndStatus(
-                activity,
-                EnrollmentStatus.APPROVED
-        );
-
-        // Get attendance statistics
-        Long totalPresent = attendanceRepository.countPresentByActivityId(activityId);
-        Long totalAbsent = attendanceRepository.countAbsentByActivityId(activityId);
-        Long totalCheckedIn = attendanceRepository.countCheckedInByActivityId(activityId);
-        Long totalCheckedOut = attendanceRepository.countCheckedOutByActivityId(activityId);
-
-        // Calculate attendance rate
-        double attendanceRate = 0.0;
-        if (totalEnrolled > 0) {
-            attendanceRate = (totalPresent.doubleValue() / totalEnrolled.doubleValue()) * 100.0;
-        }
-
-        return AttendanceSummaryDto.builder()
-                .activityId(activity.getActivityId())
-                .activityTitle(activity.getTitle())
-                .totalEnrolled(totalEnrolled)
-                .totalPresent(totalPresent)
-                .totalAbsent(totalAbsent)
-                .totalCheckedIn(totalCheckedIn)
-                .totalCheckedOut(totalCheckedOut)
-                .attendanceRate(Math.round(attendanceRate * 100.0) / 100.0) // Round to 2 decimal places
-                .build();
+    @Override
+    public SseEmitter streamAttendance(Long activityId) {
+        return liveAttendanceTracker.subscribe(activityId);
     }
 
     @Override
@@ -254,6 +335,152 @@ public class AttendanceServiceImpl implements AttendanceService {
         return mapToAttendanceResponseDtoWithActivity(attendance);
     }
 
+    // ============ OFFLINE SYNC ============
+
+    private void syncActivityCheckIns(Long activityId, List<Integer> indexes, List<OfflineCheckInRecordDto> records,
+                                      Long[] studentIdByIndex, OfflineCheckInResultDto[] results) {
+        // The earliest scan of a student on a given day is the real check-in
+        indexes.sort(Comparator.comparing(i -> records.get(i).getScannedAt()));
+        Set<Long> studentIds = indexes.stream()
+                .map(i -> studentIdByIndex[i])
+                .collect(Collectors.toSet());
+        LocalDateTime firstDay = records.get(indexes.getFirst()).getScannedAt().toLocalDate().atStartOfDay();
+        LocalDateTime lastDay = records.get(indexes.getLast()).getScannedAt().toLocalDate().atTime(LocalTime.MAX);
+
+        Set<Long> approved = new HashSet<>(enrollmentRepository.findApprovedStudentIds(activityId, studentIds));
+        Map<String, Attendance> existing = attendancesByDay(activityId, studentIds, firstDay, lastDay);
+
+        Set<String> claimed = new HashSet<>();
+        List<Integer> insertIndexes = new ArrayList<>();
+        List<CheckInRow> inserts = new ArrayList<>();
+        List<Integer> updateIndexes = new ArrayList<>();
+        List<CheckInRow> updates = new ArrayList<>();
+        List<AttendanceStatus> previousStatuses = new ArrayList<>();
+        for (int i : indexes) {
+            OfflineCheckInRecordDto record = records.get(i);
+            Long studentId = studentIdByIndex[i];
+            String key = attendanceKey(studentId, record.getScannedAt());
+            Attendance attendance = existing.get(key);
+
+            if (!approved.contains(studentId)) {
+                results[i] = rejectedScan(i, record, studentId, ErrorCode.STUDENT_NOT_ENROLLED);
+            } else if (!claimed.add(key) || (attendance != null && attendance.hasCheckedIn())) {
+                results[i] = rejectedScan(i, record, studentId, ErrorCode.ALREADY_CHECKED_IN);
+            } else if (attendance == null) {
+                insertIndexes.add(i);
+                inserts.add(new CheckInRow(null, studentId, activityId, record.getScannedAt()));
+            } else {
+                updateIndexes.add(i);
+                updates.add(new CheckInRow(attendance.getAttendanceId(), studentId, activityId, record.getScannedAt()));
+                previousStatuses.add(attendance.getStatus());
+            }
+        }
+
+        int[] inserted = attendanceRepository.insertCheckIns(inserts);
+
+        long present = 0;
+        long absent = 0;
+        long checkedIn = 0;
+        List<Integer> conflicts = new ArrayList<>();
+        for (int n = 0; n < inserts.size(); n++) {
+            if (inserted[n] == 0) {
+                // A record for that day was created online between our read and this write
+                conflicts.add(n);
+                continue;
+            }
+            results[insertIndexes.get(n)] = acceptedScan(insertIndexes.get(n), inserts.get(n));
+            present++;
+            checkedIn++;
+        }
+        if (!conflicts.isEmpty()) {
+            // Check in the concurrently created records instead, unless they already are
+            Set<Long> conflictStudentIds = conflicts.stream()
+                    .map(n -> inserts.get(n).studentId())
+                    .collect(Collectors.toSet());
+            Map<String, Attendance> created = attendancesByDay(activityId, conflictStudentIds, firstDay, lastDay);
+            for (int n : conflicts) {
+                int i = insertIndexes.get(n);
+                CheckInRow row = inserts.get(n);
+                Attendance attendance = created.get(attendanceKey(row.studentId(), row.checkInTime()));
+                if (attendance == null || attendance.hasCheckedIn()) {
+                    results[i] = rejectedScan(i, records.get(i), row.studentId(), ErrorCode.ALREADY_CHECKED_IN);
+                } else {
+                    updateIndexes.add(i);
+                    updates.add(new CheckInRow(attendance.getAttendanceId(), row.studentId(), activityId, row.checkInTime()));
+                    previousStatuses.add(attendance.getStatus());
+                }
+            }
+        }
+
+        int[] updated = attendanceRepository.updateCheckIns(updates);
+        for (int n = 0; n < updates.size(); n++) {
+            int i = updateIndexes.get(n);
+            if (updated[n] == 0) {
+                // Checked in online between our read and this write
+                results[i] = rejectedScan(i, records.get(i), updates.get(n).studentId(), ErrorCode.ALREADY_CHECKED_IN);
+                continue;
+            }
+            results[i] = acceptedScan(i, updates.get(n));
+            present += previousStatuses.get(n) == AttendanceStatus.PRESENT ? 0 : 1;
+            absent -= previousStatuses.get(n) == AttendanceStatus.ABSENT ? 1 : 0;
+            checkedIn++;
+        }
+        if (checkedIn == 0) {
+            return;
+        }
+
+        // One aggregated delta per activity instead of one event per scan
+        liveAttendanceTracker.publish(AttendanceDeltaDto.builder()
+                .activityId(activityId)
+                .type(AttendanceEventType.CHECK_IN)
+                .occurredAt(records.get(indexes.getLast()).getScannedAt())
+                .present(present)
+                .absent(absent)
+                .checkedIn(checkedIn)
+                .build());
+    }
+
+    private Map<String, Attendance> attendancesByDay(Long activityId, Set<Long> studentIds,
+                                                     LocalDateTime firstDay, LocalDateTime lastDay) {
+        return attendanceRepository
+                .findByActivityIdAndStudentIdsAndDateBetween(activityId, studentIds, firstDay, lastDay).stream()
+                .collect(Collectors.toMap(
+                        a -> attendanceKey(a.getStudent().getStudentId(), a.getAttendanceDate()),
+                        Function.identity(),
+                        (first, second) -> first));
+    }
+
+    private static LocalDateTime middleOf(Activity activity) {
+        return activity.getStartDateTime()
+                .plusSeconds(Duration.between(activity.getStartDateTime(), activity.getEndDateTime()).getSeconds() / 2);
+    }
+
+    private static String attendanceKey(Long studentId, LocalDateTime attendanceDate) {
+        return studentId + ":" + attendanceDate.toLocalDate();
+    }
+
+    private static OfflineCheckInResultDto acceptedScan(int index, CheckInRow row) {
+        return OfflineCheckInResultDto.builder()
+                .index(index)
+                .activityId(row.activityId())
+                .studentId(row.studentId())
+                .success(true)
+                .checkInTime(row.checkInTime())
+                .build();
+    }
+
+    private static OfflineCheckInResultDto rejectedScan(int index, OfflineCheckInRecordDto record,
+                                                        Long studentId, ErrorCode errorCode) {
+        return OfflineCheckInResultDto.builder()
+                .index(index)
+                .activityId(record.getActivityId())
+                .studentId(studentId)
+                .success(false)
+                .errorCode(errorCode.getCode())
+                .message(errorCode.getMessage())
+                .build();
+    }
+
     // ============ MAPPING METHODS ============
 
     private AttendanceResponseDto mapToAttendanceResponseDto(Attendance attendance) {
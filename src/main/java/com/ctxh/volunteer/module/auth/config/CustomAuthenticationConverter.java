@@ -10,6 +10,7 @@ import org.springframework.security.authentication.AbstractAuthenticationToken;
 import org.springframework.security.authentication.DisabledException;
 import org.springframework.security.authentication.LockedException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.userdetails.UserCache;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.oauth2.jwt.Jwt;
@@ -19,21 +20,27 @@ import org.springframework.stereotype.Component;
 @Component
 public class CustomAuthenticationConverter implements Converter<Jwt, AbstractAuthenticationToken> {
     private final UserDetailsService userDetailsService;
+    private final UserCache principalCache;
 
     @Autowired
-    public CustomAuthenticationConverter(UserDetailsService userDetailsService) {
+    public CustomAuthenticationConverter(UserDetailsService userDetailsService, UserCache principalCache) {
         this.userDetailsService = userDetailsService;
+        this.principalCache = principalCache;
     }
 
     @Override
     public AbstractAuthenticationToken convert(@NonNull Jwt jwt) {
         String userId = jwt.getSubject();
-        UserDetails userDetails = userDetailsService.loadUserByUsername(userId);
+        UserDetails userDetails = principalCache.getUserFromCache(userId);
+        if (userDetails == null) {
+            userDetails = userDetailsService.loadUserByUsername(userId);
+            principalCache.putUserInCache(userDetails);
+        }
         if (!userDetails.isAccountNonLocked()) throw new LockedException("User locked", new BusinessException(ErrorCode.ACCOUNT_LOCKED));
         if (!userDetails.isEnabled()) throw new DisabledException("User disabled", new BusinessException(ErrorCode.ACCOUNT_DISABLED));
         if (!userDetails.isCredentialsNonExpired()) throw new DisabledException("", new BusinessException(ErrorCode.ACCOUNT_BANNED));
 
-        log.info("authorities: {}", userDetails.getAuthorities());
+        log.debug("authorities: {}", userDetails.getAuthorities());
         return new UsernamePasswordAuthenticationToken(userDetails, jwt, userDetails.getAuthorities());
     }
 }
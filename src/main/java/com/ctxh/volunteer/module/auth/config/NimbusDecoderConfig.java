@@ -1,18 +1,35 @@
 package com.ctxh.volunteer.module.auth.config;
 
+import com.ctxh.volunteer.module.auth.enums.PurposeToken;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.security.oauth2.core.DelegatingOAuth2TokenValidator;
 import org.springframework.security.oauth2.jose.jws.SignatureAlgorithm;
+import org.springframework.security.oauth2.jwt.JwtClaimNames;
+import org.springframework.security.oauth2.jwt.JwtClaimValidator;
+import org.springframework.security.oauth2.jwt.JwtTimestampValidator;
 import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+
 @Configuration
 public class NimbusDecoderConfig {
 
     @Bean
     public NimbusJwtDecoder nimbusJwtDecoder(RSAKeyRecord rsaKeyRecord) {
-        return NimbusJwtDecoder
+        NimbusJwtDecoder decoder = NimbusJwtDecoder
                 .withPublicKey(rsaKeyRecord.rsaPublicKey())
                 .signatureAlgorithm(SignatureAlgorithm.RS256)
                 .build();
+        // Signature is verified once by the decoder; claims are checked on the parsed Jwt
+        decoder.setJwtValidator(new DelegatingOAuth2TokenValidator<>(
+                // JwtTimestampValidator passes tokens without exp; access tokens must always expire
+                new JwtClaimValidator<Instant>(JwtClaimNames.EXP, Objects::nonNull),
+                new JwtTimestampValidator(Duration.ZERO),
+                new PurposeTokenValidator(PurposeToken.ACCESS)
+        ));
+        return decoder;
     }
 }
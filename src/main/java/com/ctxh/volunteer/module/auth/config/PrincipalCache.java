@@ -0,0 +1,66 @@
+package com.ctxh.volunteer.module.auth.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserCache;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+/**
+ * Bounded, TTL-based cache of authenticated principals keyed by user id (the JWT subject).
+ * Anything that changes what {@link CustomAuthenticationConverter} checks — ban, lock,
+ * verification, password or roles — must call {@link #evict(Long)}.
+ */
+@Slf4j
+@Component
+public class PrincipalCache implements UserCache {
+    private final Cache<String, UserDetails> cache;
+
+    public PrincipalCache(
+            @Value("${security.principal-cache.ttl:PT5M}") Duration ttl,
+            @Value("${security.principal-cache.max-size:10000}") long maxSize) {
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .build();
+    }
+
+    @Override
+    public UserDetails getUserFromCache(String username) {
+        return cache.getIfPresent(username);
+    }
+
+    @Override
+    public void putUserInCache(UserDetails user) {
+        cache.put(user.getUsername(), user);
+    }
+
+    @Override
+    public void removeUserFromCache(String username) {
+        cache.invalidate(username);
+    }
+
+    /**
+     * Drop the cached principal now and, when called inside a transaction, again after
+     * commit so a concurrent request cannot re-cache the pre-commit row.
+     */
+    public void evict(Long userId) {
+        String key = userId.toString();
+        cache.invalidate(key);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(key);
+                }
+            });
+        }
+        log.debug("Evicted cached principal for user {}", userId);
+    }
+}
@@ -0,0 +1,32 @@
+package com.ctxh.volunteer.module.auth.config;
+
+import com.ctxh.volunteer.common.util.AppConstants;
+import com.ctxh.volunteer.module.auth.enums.PurposeToken;
+import org.springframework.security.oauth2.core.OAuth2Error;
+import org.springframework.security.oauth2.core.OAuth2ErrorCodes;
+import org.springframework.security.oauth2.core.OAuth2TokenValidator;
+import org.springframework.security.oauth2.core.OAuth2TokenValidatorResult;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+/**
+ * Rejects tokens whose {@code purpose} claim differs from the expected one,
+ * e.g. a refresh or reset-password token presented as a bearer token.
+ */
+public class PurposeTokenValidator implements OAuth2TokenValidator<Jwt> {
+    private final String expectedPurpose;
+    private final OAuth2Error error;
+
+    public PurposeTokenValidator(PurposeToken expectedPurpose) {
+        this.expectedPurpose = expectedPurpose.name();
+        this.error = new OAuth2Error(OAuth2ErrorCodes.INVALID_TOKEN,
+                "The token purpose is not " + this.expectedPurpose, null);
+    }
+
+    @Override
+    public OAuth2TokenValidatorResult validate(Jwt jwt) {
+        if (expectedPurpose.equals(jwt.getClaimAsString(AppConstants.PURPOSE))) {
+            return OAuth2TokenValidatorResult.success();
+        }
+        return OAuth2TokenValidatorResult.failure(error);
+    }
+}
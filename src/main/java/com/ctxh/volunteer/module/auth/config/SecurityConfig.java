@@ -1,5 +1,6 @@
 package com.ctxh.volunteer.module.auth.config;
 
+import jakarta.servlet.DispatcherType;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
@@ -46,6 +47,8 @@ public class SecurityConfig {
             "/api/v1/auth/**",
             "/api/v1/organization/register",
             "/api/v1/students/register",
+            "/api/v1/certificates/verify/**",
+            "/images/**",
     };
 
     private final String[] blackList = {
@@ -60,6 +63,8 @@ public class SecurityConfig {
         http.sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS));
         http.cors(cors -> cors.configurationSource(corsConfigurationSource()));
         http.authorizeHttpRequests(auth -> auth
+                // Async dispatches (e.g. SSE completion) belong to a request that was already authorized
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                 .requestMatchers(blackList).authenticated()
                 .requestMatchers(whiteList).permitAll()
                 .anyRequest().authenticated());
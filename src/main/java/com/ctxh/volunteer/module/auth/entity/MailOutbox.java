@@ -0,0 +1,116 @@
+package com.ctxh.volunteer.module.auth.entity;
+
+import com.ctxh.volunteer.common.entity.BaseEntity;
+import com.ctxh.volunteer.module.auth.enums.EmailTemplates;
+import com.ctxh.volunteer.module.auth.enums.MailOutboxStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * An email waiting to be sent, written in the same transaction as the change that needs it
+ * and delivered by MailOutboxWorker
+ */
+@Entity
+@Table(name = "mail_outbox",
+        indexes = {
+                @Index(name = "idx_mail_outbox_due", columnList = "status, bulk, next_attempt_at"),
+        }
+)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MailOutbox extends BaseEntity {
+    private static final int MAX_ERROR_LENGTH = 500;
+    // ASCII unit separator: cannot appear in a link, an OTP or ordinary text
+    private static final String ARG_SEPARATOR = "\u001F";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long outboxId;
+
+    // One address, or several separated by commas
+    @Column(name = "recipient", nullable = false, length = 500)
+    private String recipient;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "template", nullable = false, length = 50)
+    private EmailTemplates template;
+
+    // Values substituted into the template placeholders, such as a verification link or an OTP code
+    @Column(name = "template_value", nullable = false, length = 2048)
+    private String templateValue;
+
+    // Bulk notifications are delivered after transactional email such as OTPs and verification links
+    @Column(name = "bulk", nullable = false)
+    @Builder.Default
+    private Boolean bulk = false;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    @Builder.Default
+    private MailOutboxStatus status = MailOutboxStatus.PENDING;
+
+    @Column(name = "attempts", nullable = false)
+    @Builder.Default
+    private Integer attempts = 0;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    // ============ HELPER METHODS ============
+
+    /**
+     * Pack template arguments into the single template_value column
+     */
+    public static String packArgs(String... args) {
+        return String.join(ARG_SEPARATOR, args);
+    }
+
+    /**
+     * The template arguments packed by {@link #packArgs}
+     */
+    public String[] templateArgs() {
+        return templateValue.split(ARG_SEPARATOR, -1);
+    }
+
+    /**
+     * Claim for delivery; if the worker dies, the entry becomes due again when the lease ends
+     */
+    public void claim(LocalDateTime leaseUntil) {
+        this.attempts++;
+        this.nextAttemptAt = leaseUntil;
+    }
+
+    /**
+     * Record a failed attempt; the entry is parked as FAILED once attempts run out
+     */
+    public void fail(String error, LocalDateTime retryAt, int maxAttempts) {
+        this.lastError = error != null && error.length() > MAX_ERROR_LENGTH
+                ? error.substring(0, MAX_ERROR_LENGTH)
+                : error;
+        if (this.attempts >= maxAttempts) {
+            this.status = MailOutboxStatus.FAILED;
+        } else {
+            this.nextAttemptAt = retryAt;
+        }
+    }
+}
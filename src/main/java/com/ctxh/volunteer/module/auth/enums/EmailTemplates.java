@@ -1,5 +1,7 @@
 package com.ctxh.volunteer.module.auth.enums;
 
+import com.ctxh.volunteer.common.util.HtmlTemplate;
+import lombok.AccessLevel;
 import lombok.Getter;
 
 @Getter
@@ -135,19 +137,80 @@ public enum EmailTemplates {
                     </body>
                     </html>
             """
+    ),
+    ACTIVITY_UPDATE_TEMPLATE(
+            "Thông báo về hoạt động bạn đã đăng ký",
+            """
+                    <html>
+                    <head>
+                        <meta charset="UTF-8">
+                        <style>
+                            body {
+                                font-family: Arial, sans-serif;
+                                background-color: #f4f4f4;
+                                padding: 20px;
+                                margin: 0;
+                            }
+                            .container {
+                                max-width: 600px;
+                                margin: 0 auto;
+                                background-color: #ffffff;
+                                padding: 30px;
+                                border-radius: 10px;
+                                box-shadow: 0 2px 8px rgba(0, 0, 0, 0.1);
+                                text-align: center;
+                            }
+                            h1 {
+                                color: #333333;
+                                font-size: 24px;
+                                margin-bottom: 20px;
+                            }
+                            p {
+                                font-size: 16px;
+                                color: #555555;
+                                line-height: 1.5;
+                                margin-bottom: 10px;
+                            }
+                            .footer-note {
+                                font-size: 12px;
+                                color: #666;
+                                margin-top: 30px;
+                            }
+                        </style>
+                    </head>
+                    <body>
+                        <div class="container">
+                            <h1>%s</h1>
+                            <p>%s</p>
+                            <p style="color: #555; font-size: 12px; margin-top: 10px;">Bạn nhận được email này vì đã được duyệt tham gia hoạt động.</p>
+                            <div class="footer-note">
+                                Được gửi bởi <b>Uni Volunteer</b>
+                            </div>
+                        </div>
+                    </body>
+                    </html>
+                    """
     );
 
     private final String subject;
     private final String content;
+    // Parsed once when the enum loads; every message renders from the same segments
+    @Getter(AccessLevel.NONE)
+    private final HtmlTemplate compiled;
 
 
     EmailTemplates(String subject, String content) {
         this.subject = subject;
         this.content = content;
+        this.compiled = HtmlTemplate.compile(content);
+    }
+
+    public int getArgumentCount() {
+        return compiled.placeholderCount();
     }
 
     public String formatContent(Object... args) {
-        return String.format(this.content, args);
+        return compiled.render(args);
     }
 }
 
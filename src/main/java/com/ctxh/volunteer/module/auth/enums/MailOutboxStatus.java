@@ -0,0 +1,6 @@
+package com.ctxh.volunteer.module.auth.enums;
+
+public enum MailOutboxStatus {
+    PENDING,
+    FAILED
+}
@@ -0,0 +1,19 @@
+package com.ctxh.volunteer.module.auth.repository;
+
+import com.ctxh.volunteer.module.auth.enums.EmailTemplates;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * JDBC-batched outbox inserts for bulk email. Outbox ids are IDENTITY-generated, which stops
+ * Hibernate from batching inserts, so these statements go through JDBC directly.
+ */
+public interface MailOutboxBatchRepository {
+
+    /**
+     * Queue one pending bulk email per recipient, all with the same template and arguments;
+     * returns one update count per row
+     */
+    int[] insertEmails(Collection<String> recipients, EmailTemplates template, String templateValue, LocalDateTime dueAt);
+}
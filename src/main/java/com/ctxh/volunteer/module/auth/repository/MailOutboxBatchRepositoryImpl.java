@@ -0,0 +1,52 @@
+package com.ctxh.volunteer.module.auth.repository;
+
+import com.ctxh.volunteer.module.auth.enums.EmailTemplates;
+import com.ctxh.volunteer.module.auth.enums.MailOutboxStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+
+@RequiredArgsConstructor
+class MailOutboxBatchRepositoryImpl implements MailOutboxBatchRepository {
+    private static final int BATCH_SIZE = 500;
+
+    private static final String INSERT_EMAIL = "INSERT INTO mail_outbox " +
+            "(recipient, template, template_value, bulk, status, attempts, next_attempt_at, create_by, create_at) " +
+            "VALUES (?, ?, ?, true, ?, 0, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    // Absent in JPA slice tests, where auditing is not configured
+    private final ObjectProvider<AuditorAware<Long>> auditorAware;
+
+    @Override
+    public int[] insertEmails(Collection<String> recipients, EmailTemplates template, String templateValue, LocalDateTime dueAt) {
+        Long auditor = currentAuditor();
+        Timestamp due = Timestamp.valueOf(dueAt);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        return flatten(jdbcTemplate.batchUpdate(INSERT_EMAIL, recipients, BATCH_SIZE, (ps, recipient) -> {
+            ps.setString(1, recipient);
+            ps.setString(2, template.name());
+            ps.setString(3, templateValue);
+            ps.setString(4, MailOutboxStatus.PENDING.name());
+            ps.setTimestamp(5, due);
+            ps.setObject(6, auditor, Types.BIGINT);
+            ps.setTimestamp(7, now);
+        }));
+    }
+
+    private Long currentAuditor() {
+        AuditorAware<Long> auditor = auditorAware.getIfAvailable();
+        return auditor == null ? null : auditor.getCurrentAuditor().orElse(null);
+    }
+
+    private static int[] flatten(int[][] counts) {
+        return Arrays.stream(counts).flatMapToInt(Arrays::stream).toArray();
+    }
+}
@@ -0,0 +1,32 @@
+package com.ctxh.volunteer.module.auth.repository;
+
+import com.ctxh.volunteer.module.auth.entity.MailOutbox;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface MailOutboxRepository extends JpaRepository<MailOutbox, Long>, MailOutboxBatchRepository {
+
+    /**
+     * Find and lock pending transactional or bulk emails that are due, skipping rows another
+     * worker holds
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT m FROM MailOutbox m " +
+            "WHERE m.status = 'PENDING' " +
+            "AND m.bulk = :bulk " +
+            "AND m.nextAttemptAt <= :now " +
+            "ORDER BY m.outboxId")
+    List<MailOutbox> findDueForUpdate(@Param("now") LocalDateTime now, @Param("bulk") boolean bulk, Pageable pageable);
+}
@@ -2,6 +2,7 @@ package com.ctxh.volunteer.module.auth.repository;
 
 import com.ctxh.volunteer.module.auth.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -20,4 +21,8 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     @Query("SELECT u FROM User u LEFT JOIN FETCH u.roles WHERE u.userId = :id")
     Optional<User> findByIdWithRoles(@Param("id") Long id);
+
+    @Modifying
+    @Query("UPDATE User u SET u.avatarUrl = :avatarUrl WHERE u.userId = :id")
+    int updateAvatarUrl(@Param("id") Long id, @Param("avatarUrl") String avatarUrl);
 }
@@ -0,0 +1,208 @@
+package com.ctxh.volunteer.module.auth.service;
+
+import com.ctxh.volunteer.module.auth.entity.MailOutbox;
+import com.ctxh.volunteer.module.auth.repository.MailOutboxRepository;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.UnsupportedEncodingException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Delivers the mail outbox. Each poll claims a batch of due emails in a short transaction
+ * (row locks with SKIP LOCKED, so several instances can share the outbox), splits it across
+ * the SMTP connections of MailTransportPool and sends every email of a slice over one
+ * reused connection. The outcome is written back in one transaction: sent emails are
+ * deleted, failed ones back off exponentially and are parked as FAILED once their attempts
+ * run out. Transactional email such as OTPs and verification links is claimed first and is
+ * never throttled; bulk email fills the rest of the batch, capped by a per-minute send rate
+ * so fan-outs stay under the SMTP provider's quota.
+ */
+@Slf4j
+@Component
+public class MailOutboxWorker {
+    private static final Duration LEASE = Duration.ofMinutes(5);
+    private static final Duration BASE_BACKOFF = Duration.ofSeconds(30);
+    private static final Duration MAX_BACKOFF = Duration.ofHours(1);
+
+    private final MailOutboxRepository mailOutboxRepository;
+    private final MailService mailService;
+    private final MailTransportPool transportPool;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final MailRateLimiter rateLimiter;
+    private final ExecutorService dispatcher;
+
+    public MailOutboxWorker(
+            MailOutboxRepository mailOutboxRepository,
+            MailService mailService,
+            MailTransportPool transportPool,
+            PlatformTransactionManager transactionManager,
+            @Value("${mail.outbox.batch-size:50}") int batchSize,
+            @Value("${mail.outbox.max-attempts:8}") int maxAttempts,
+            @Value("${mail.outbox.bulk-per-minute:60}") int bulkPerMinute) {
+        this.mailOutboxRepository = mailOutboxRepository;
+        this.mailService = mailService;
+        this.transportPool = transportPool;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.rateLimiter = new MailRateLimiter(bulkPerMinute, System::nanoTime);
+        // One sender thread per pooled connection; a batch never has more slices than that
+        this.dispatcher = Executors.newFixedThreadPool(transportPool.capacity(),
+                Thread.ofPlatform().name("mail-dispatch-", 0).daemon().factory());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        dispatcher.shutdownNow();
+    }
+
+    /**
+     * Send everything that is due, one batch at a time, until a short batch comes back
+     */
+    @Scheduled(fixedDelayString = "${mail.outbox.poll-interval:PT2S}")
+    public void poll() {
+        int drained;
+        do {
+            drained = drainBatch();
+        } while (drained == batchSize);
+        transportPool.evictIdle();
+    }
+
+    /**
+     * Claim and send one batch of due emails, transactional first and then as much bulk email
+     * as the send rate allows, returning how many were claimed
+     */
+    int drainBatch() {
+        List<MailOutbox> batch = transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<MailOutbox> due = new ArrayList<>(
+                    mailOutboxRepository.findDueForUpdate(now, false, PageRequest.of(0, batchSize)));
+            int allowed = due.size() < batchSize ? rateLimiter.acquireUpTo(batchSize - due.size()) : 0;
+            if (allowed > 0) {
+                List<MailOutbox> bulk = mailOutboxRepository.findDueForUpdate(now, true, PageRequest.of(0, allowed));
+                rateLimiter.refund(allowed - bulk.size());
+                due.addAll(bulk);
+            }
+            due.forEach(entry -> entry.claim(now.plus(LEASE)));
+            return due;
+        });
+        if (batch == null || batch.isEmpty()) {
+            return 0;
+        }
+
+        int slices = Math.min(transportPool.capacity(), batch.size());
+        List<List<MailOutbox>> partitions = new ArrayList<>();
+        for (int i = 0; i < slices; i++) {
+            partitions.add(new ArrayList<>());
+        }
+        for (int i = 0; i < batch.size(); i++) {
+            partitions.get(i % slices).add(batch.get(i));
+        }
+        Map<Long, String> failures = new HashMap<>();
+        partitions.stream()
+                .map(partition -> CompletableFuture.supplyAsync(() -> deliver(partition), dispatcher))
+                .toList()
+                .forEach(future -> failures.putAll(future.join()));
+
+        List<Long> sentIds = batch.stream()
+                .map(MailOutbox::getOutboxId)
+                .filter(id -> !failures.containsKey(id))
+                .toList();
+        transactionTemplate.executeWithoutResult(status -> record(sentIds, failures));
+        if (!sentIds.isEmpty()) {
+            log.info("Sent {} emails from the outbox", sentIds.size());
+        }
+        return batch.size();
+    }
+
+    // ============ INTERNALS ============
+
+    /**
+     * Send a slice of the batch over one pooled connection, returning the error of every
+     * email that was not sent, by outbox ID
+     */
+    private Map<Long, String> deliver(List<MailOutbox> entries) {
+        Map<Long, String> failures = new HashMap<>();
+        Transport transport = null;
+        try {
+            for (MailOutbox entry : entries) {
+                MimeMessage message;
+                try {
+                    message = mailService.compose(entry.getRecipient(), entry.getTemplate(), entry.templateArgs());
+                } catch (MessagingException | UnsupportedEncodingException | RuntimeException e) {
+                    failures.put(entry.getOutboxId(), e.getMessage());
+                    continue;
+                }
+                try {
+                    if (transport == null) {
+                        transport = transportPool.borrow();
+                    }
+                    transport.sendMessage(message, message.getAllRecipients());
+                } catch (SendFailedException e) {
+                    // The server refused some recipients but the connection is still usable;
+                    // if anyone got the email, retrying would send it to them twice
+                    if (e.getValidSentAddresses() == null || e.getValidSentAddresses().length == 0) {
+                        failures.put(entry.getOutboxId(), e.getMessage());
+                    } else {
+                        log.warn("Email {} was not delivered to every recipient: {}", entry.getOutboxId(), e.getMessage());
+                    }
+                } catch (MessagingException | RuntimeException e) {
+                    failures.put(entry.getOutboxId(), e.getMessage());
+                    if (transport != null) {
+                        transportPool.invalidate(transport);
+                        transport = null;
+                    }
+                }
+            }
+        } finally {
+            if (transport != null) {
+                transportPool.release(transport);
+            }
+        }
+        return failures;
+    }
+
+    private void record(List<Long> sentIds, Map<Long, String> failures) {
+        if (!sentIds.isEmpty()) {
+            mailOutboxRepository.deleteAllByIdInBatch(sentIds);
+        }
+        if (failures.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<MailOutbox> failed = mailOutboxRepository.findAllById(failures.keySet());
+        failed.forEach(entry -> {
+            String error = failures.get(entry.getOutboxId());
+            log.warn("Email {} to {} failed (attempt {}): {}",
+                    entry.getOutboxId(), entry.getRecipient(), entry.getAttempts(), error);
+            entry.fail(error, now.plus(backoff(entry.getAttempts())), maxAttempts);
+        });
+        mailOutboxRepository.saveAll(failed);
+    }
+
+    static Duration backoff(int attempts) {
+        Duration delay = BASE_BACKOFF.multipliedBy(1L << Math.min(Math.max(attempts - 1, 0), 16));
+        return delay.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : delay;
+    }
+}
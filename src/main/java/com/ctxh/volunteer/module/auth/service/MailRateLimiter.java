@@ -0,0 +1,52 @@
+package com.ctxh.volunteer.module.auth.service;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Token bucket capping how many bulk emails the worker hands to SMTP per minute, to stay
+ * under the provider's sending quota. It refills continuously and holds at most one minute
+ * of quota, so an idle period allows a burst of that size and no more. A rate of zero or
+ * less disables the limit. The bucket lives in this instance only: with several instances
+ * the provider sees their combined rate, so the configured rate is the quota divided by the
+ * number of instances.
+ */
+class MailRateLimiter {
+    private static final double NANOS_PER_MINUTE = TimeUnit.MINUTES.toNanos(1);
+
+    private final int perMinute;
+    private final LongSupplier nanoClock;
+    private double tokens;
+    private long refilledAt;
+
+    MailRateLimiter(int perMinute, LongSupplier nanoClock) {
+        this.perMinute = perMinute;
+        this.nanoClock = nanoClock;
+        this.tokens = Math.max(perMinute, 0);
+        this.refilledAt = nanoClock.getAsLong();
+    }
+
+    /**
+     * Take as many sends as are available, up to {@code wanted}
+     */
+    synchronized int acquireUpTo(int wanted) {
+        if (perMinute <= 0) {
+            return wanted;
+        }
+        long now = nanoClock.getAsLong();
+        tokens = Math.min(perMinute, tokens + (now - refilledAt) * perMinute / NANOS_PER_MINUTE);
+        refilledAt = now;
+        int granted = (int) Math.min(wanted, Math.floor(tokens));
+        tokens -= granted;
+        return granted;
+    }
+
+    /**
+     * Give back sends that were acquired but not used
+     */
+    synchronized void refund(int unused) {
+        if (perMinute > 0 && unused > 0) {
+            tokens = Math.min(perMinute, tokens + unused);
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.ctxh.volunteer.module.auth.service;
 
+import com.ctxh.volunteer.module.auth.entity.MailOutbox;
 import com.ctxh.volunteer.module.auth.enums.EmailTemplates;
+import com.ctxh.volunteer.module.auth.repository.MailOutboxRepository;
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.InternetAddress;
 import jakarta.mail.internet.MimeMessage;
@@ -12,33 +14,92 @@ import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
 
 import java.io.UnsupportedEncodingException;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Date;
 
 @Slf4j
 @Service
 public class MailService {
     private final JavaMailSender mailSender;
+    private final MailOutboxRepository mailOutboxRepository;
 
     @Autowired
-    public MailService(JavaMailSender mailSender) {
+    public MailService(JavaMailSender mailSender, MailOutboxRepository mailOutboxRepository) {
         this.mailSender = mailSender;
+        this.mailOutboxRepository = mailOutboxRepository;
     }
 
     @Value("${spring.mail.username}")
     private String from;
 
-    public void sendEmail(String to, String link, EmailTemplates emailTemplates) throws MessagingException, UnsupportedEncodingException {
-        log.info("Sending email verification to {}", to);
+    // Sender address, parsed on first use rather than for every message
+    private volatile InternetAddress fromAddress;
+
+    /**
+     * Queue an email in the outbox; it is written with the caller's transaction and sent
+     * by MailOutboxWorker once that transaction commits, so no SMTP round trip happens here
+     */
+    public void sendEmail(String to, String link, EmailTemplates emailTemplates) {
+        checkArguments(emailTemplates, 1);
+        mailOutboxRepository.save(MailOutbox.builder()
+                .recipient(to)
+                .template(emailTemplates)
+                .templateValue(MailOutbox.packArgs(link))
+                .nextAttemptAt(LocalDateTime.now())
+                .build());
+        log.info("Queued email to {} with subject: {}", to, emailTemplates.getSubject());
+    }
+
+    /**
+     * Queue the same bulk email for many recipients, one outbox entry each so a bad address only
+     * fails its own delivery; the rows are inserted in JDBC batches within the caller's
+     * transaction and delivered after any pending transactional email
+     */
+    public void sendEmails(Collection<String> recipients, EmailTemplates emailTemplates, String... args) {
+        checkArguments(emailTemplates, args.length);
+        if (recipients.isEmpty()) {
+            return;
+        }
+        mailOutboxRepository.insertEmails(recipients, emailTemplates, MailOutbox.packArgs(args), LocalDateTime.now());
+        log.info("Queued {} emails with subject: {}", recipients.size(), emailTemplates.getSubject());
+    }
+
+    /**
+     * Build the message for a template, ready to hand to an SMTP transport
+     */
+    public MimeMessage compose(String to, EmailTemplates emailTemplates, String... args) throws MessagingException, UnsupportedEncodingException {
         MimeMessage mimeMessage = mailSender.createMimeMessage();
-        MimeMessageHelper messageHelper = new MimeMessageHelper(mimeMessage, true, "UTF-8");
+        // A single HTML part: the templates carry no attachments or inline images
+        MimeMessageHelper messageHelper = new MimeMessageHelper(mimeMessage, "UTF-8");
         if (to.contains(","))
             messageHelper.setTo(InternetAddress.parse(to));
         else
             messageHelper.setTo(to);
-        messageHelper.setFrom(from, "Uni Volunteer");
+        messageHelper.setFrom(fromAddress());
         messageHelper.setSubject(emailTemplates.getSubject());
-        String content = emailTemplates.formatContent(link);
+        String content = emailTemplates.formatContent((Object[]) args);
         messageHelper.setText(content, true);
-        mailSender.send(mimeMessage);
-        log.info("Sending email to {} with subject: {}", to, emailTemplates.getSubject());
+        messageHelper.setSentDate(new Date());
+        mimeMessage.saveChanges();
+        return mimeMessage;
+    }
+
+    // ============ INTERNALS ============
+
+    private static void checkArguments(EmailTemplates emailTemplates, int count) {
+        if (emailTemplates.getArgumentCount() != count) {
+            throw new IllegalArgumentException(emailTemplates + " expects " + emailTemplates.getArgumentCount()
+                    + " arguments but got " + count);
+        }
+    }
+
+    private InternetAddress fromAddress() throws UnsupportedEncodingException {
+        InternetAddress address = fromAddress;
+        if (address == null) {
+            address = new InternetAddress(from, "Uni Volunteer", "UTF-8");
+            fromAddress = address;
+        }
+        return address;
     }
 }
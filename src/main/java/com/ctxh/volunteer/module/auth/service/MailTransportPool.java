@@ -0,0 +1,152 @@
+package com.ctxh.volunteer.module.auth.service;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Session;
+import jakarta.mail.Transport;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
+
+/**
+ * A bounded pool of connected SMTP transports, so the mail worker pays the connect, TLS and
+ * login handshake once per connection instead of once per email. At most {@code capacity}
+ * transports exist at a time; borrowing blocks until one is free. Idle transports are
+ * reused most recently released first and closed once they sit unused longer than
+ * {@code maxIdle}, before the server drops them on its own.
+ */
+@Slf4j
+@Component
+public class MailTransportPool {
+    private final JavaMailSenderImpl mailSender;
+    private final int capacity;
+    private final long maxIdleNanos;
+    private final Semaphore permits;
+    private final Deque<IdleTransport> idle = new ConcurrentLinkedDeque<>();
+
+    public MailTransportPool(
+            JavaMailSenderImpl mailSender,
+            @Value("${mail.outbox.connections:2}") int capacity,
+            @Value("${mail.outbox.max-idle:PT1M}") Duration maxIdle) {
+        this.mailSender = mailSender;
+        this.capacity = capacity;
+        this.maxIdleNanos = maxIdle.toNanos();
+        this.permits = new Semaphore(capacity);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        IdleTransport entry;
+        while ((entry = idle.pollFirst()) != null) {
+            closeQuietly(entry.transport());
+        }
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * A connected transport, reusing an idle one when possible; hand it back with
+     * {@link #release} or, after a connection error, {@link #invalidate}
+     */
+    public Transport borrow() throws MessagingException {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MessagingException("Interrupted while waiting for an SMTP connection", e);
+        }
+        try {
+            IdleTransport entry;
+            while ((entry = idle.pollFirst()) != null) {
+                if (!isStale(entry) && entry.transport().isConnected()) {
+                    return entry.transport();
+                }
+                closeQuietly(entry.transport());
+            }
+            return connect();
+        } catch (MessagingException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Return a healthy transport for reuse
+     */
+    public void release(Transport transport) {
+        idle.offerFirst(new IdleTransport(transport, System.nanoTime()));
+        permits.release();
+    }
+
+    /**
+     * Close a transport that failed mid-conversation and free its slot
+     */
+    public void invalidate(Transport transport) {
+        closeQuietly(transport);
+        permits.release();
+    }
+
+    /**
+     * Close transports that have been idle longer than the limit
+     */
+    public void evictIdle() {
+        Iterator<IdleTransport> iterator = idle.iterator();
+        while (iterator.hasNext()) {
+            IdleTransport entry = iterator.next();
+            if (isStale(entry) && idle.removeFirstOccurrence(entry)) {
+                closeQuietly(entry.transport());
+            }
+        }
+    }
+
+    /**
+     * Number of transports kept open for reuse
+     */
+    int idleCount() {
+        return idle.size();
+    }
+
+    // ============ INTERNALS ============
+
+    private record IdleTransport(Transport transport, long releasedAt) {
+    }
+
+    private boolean isStale(IdleTransport entry) {
+        return System.nanoTime() - entry.releasedAt() > maxIdleNanos;
+    }
+
+    private Transport connect() throws MessagingException {
+        // Same connection settings JavaMailSenderImpl uses for its own sends
+        Session session = mailSender.getSession();
+        String protocol = mailSender.getProtocol() != null ? mailSender.getProtocol() : "smtp";
+        String username = mailSender.getUsername();
+        String password = mailSender.getPassword();
+        if ("".equals(username)) {
+            username = null;
+            if ("".equals(password)) {
+                password = null;
+            }
+        }
+        Transport transport = session.getTransport(protocol);
+        transport.connect(mailSender.getHost(), mailSender.getPort(), username, password);
+        log.debug("Opened SMTP connection to {}", mailSender.getHost());
+        return transport;
+    }
+
+    private static void closeQuietly(Transport transport) {
+        try {
+            transport.close();
+        } catch (MessagingException e) {
+            log.debug("Failed to close SMTP connection: {}", e.getMessage());
+        }
+    }
+}
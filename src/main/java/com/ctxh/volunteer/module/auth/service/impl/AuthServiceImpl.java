@@ -1,14 +1,14 @@
 package com.ctxh.volunteer.module.auth.service.impl;
 
 
-import com.cloudinary.Cloudinary;
-import com.cloudinary.utils.ObjectUtils;
 import com.ctxh.volunteer.common.exception.BusinessException;
 import com.ctxh.volunteer.common.exception.ErrorCode;
 import com.ctxh.volunteer.common.util.AppConstants;
 import com.ctxh.volunteer.common.util.AuthUtil;
+import com.ctxh.volunteer.common.util.ImageUploader;
 import com.ctxh.volunteer.common.util.ImageValidator;
 import com.ctxh.volunteer.module.auth.RoleEnum;
+import com.ctxh.volunteer.module.auth.config.PrincipalCache;
 import com.ctxh.volunteer.module.auth.config.RSAKeyRecord;
 import com.ctxh.volunteer.module.auth.dto.request.CompleteProfile;
 import com.ctxh.volunteer.module.auth.dto.request.LoginRequest;
@@ -39,7 +39,6 @@ import com.nimbusds.jose.Payload;
 import com.nimbusds.jose.crypto.RSASSASigner;
 import com.nimbusds.jwt.JWTClaimsSet;
 import io.hypersistence.tsid.TSID;
-import jakarta.mail.MessagingException;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.NonFinal;
 import lombok.extern.slf4j.Slf4j;
@@ -51,8 +50,6 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.reactive.function.client.WebClient;
 
-import java.io.IOException;
-import java.io.UnsupportedEncodingException;
 import java.time.Instant;
 import java.util.Date;
 import java.util.List;
@@ -71,7 +68,8 @@ public class AuthServiceImpl implements AuthService {
     private final RSAKeyRecord rsaKeyRecord;
     private final StudentRepository studentRepository;
     private final ImageValidator imageValidator;
-    private final Cloudinary cloudinary;
+    private final ImageUploader imageUploader;
+    private final PrincipalCache principalCache;
 
 
     @Value("${jwt.expirationTime}")
@@ -132,10 +130,11 @@ public class AuthServiceImpl implements AuthService {
         if (Boolean.FALSE.equals(user.getIsVerified()))
             user.setIsVerified(true);
         userRepository.save(user);
+        principalCache.evict(userId);
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional
     public void resendVerificationEmail(String email) {
         User user = userRepository.findByEmail(email).orElseThrow(
                 () -> new BusinessException(ErrorCode.USER_NOT_FOUND)
@@ -164,13 +163,8 @@ public class AuthServiceImpl implements AuthService {
                     user.generatePasswordResetToken(otpCode);
                     userRepository.save(user);
 
-                    try {
-                        mailService.sendEmail(user.getEmail(), otpCode, EmailTemplates.VERIFY_RESET_PASSWORD_TEMPLATE);
-                        log.info("Sent reset password OTP to {}", user.getEmail());
-                    } catch (MessagingException | UnsupportedEncodingException e) {
-                        log.error("Failed to send reset password email", e);
-                        throw new BusinessException(ErrorCode.MAIL_SENDING_FAILED);
-                    }
+                    mailService.sendEmail(user.getEmail(), otpCode, EmailTemplates.VERIFY_RESET_PASSWORD_TEMPLATE);
+                    log.info("Queued reset password OTP for {}", user.getEmail());
                 }
         );
     }
@@ -240,6 +234,7 @@ public class AuthServiceImpl implements AuthService {
             user.setIsLocked(false);
         }
         userRepository.save(user);
+        principalCache.evict(user.getUserId());
         // revoke all refresh tokens for this user
         revokeToken(user.getUserId());
         log.info("complete reset password for user: {}", user.getEmail());
@@ -326,23 +321,19 @@ public class AuthServiceImpl implements AuthService {
         user.setPassword(passwordEncoder.encode(request.getPassword()));
         userRepository.save(user);
         studentRepository.save(student);
+        principalCache.evict(user.getUserId());
     }
 
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public String uploadImage(MultipartFile avatar) {
         User user = getCurrentUser();
         imageValidator.validate(avatar);
-        try {
-            Map<?,?> uploadResult = cloudinary.uploader().upload(avatar.getBytes(), ObjectUtils.emptyMap());
-            log.info("Uploaded image to Cloudinary: {}", uploadResult);
-            String avatarUrl = uploadResult.get("secure_url").toString();
-            user.setAvatarUrl(avatarUrl);
-            // because of @Transactional, no need to call save explicitly
-            return user.getUserId().toString();
-        } catch (IOException e) {
-            throw new BusinessException(ErrorCode.FAILED_TO_UPLOAD_IMAGE);
-        }
+        Long userId = user.getUserId();
+        // The avatar is set when the upload finishes, after this request returns
+        // Avatars are only ever shown small, so the list-size variant is enough
+        imageUploader.upload(avatar, variants -> userRepository.updateAvatarUrl(userId, variants.listUrl()));
+        return userId.toString();
     }
 
     @Override
@@ -418,6 +409,7 @@ public class AuthServiceImpl implements AuthService {
         );
         user.banUser();
         userRepository.save(user);
+        principalCache.evict(userId);
     }
 
     @Override
@@ -428,6 +420,7 @@ public class AuthServiceImpl implements AuthService {
         );
         user.unBanUser();
         userRepository.save(user);
+        principalCache.evict(userId);
     }
 
 
@@ -486,12 +479,7 @@ public class AuthServiceImpl implements AuthService {
     public void sendEmailVerification(User user) {
         String tokenVerify = generateToken(user, PurposeToken.VERIFY_EMAIL);
         String linkConfirm = baseUrl + "/api/v1" + "/auth/verify-email?token=" + tokenVerify;
-        try {
-            mailService.sendEmail(user.getEmail(), linkConfirm, EmailTemplates.VERIFY_EMAIL_TEMPLATE);
-        } catch (MessagingException | UnsupportedEncodingException e) {
-            log.error("Failed to send email verification", e);
-            throw new BusinessException(ErrorCode.MAIL_SENDING_FAILED);
-        }
+        mailService.sendEmail(user.getEmail(), linkConfirm, EmailTemplates.VERIFY_EMAIL_TEMPLATE);
     }
 
     public String generateToken(User user, PurposeToken purpose) {
@@ -0,0 +1,94 @@
+package com.ctxh.volunteer.module.certificate.controller;
+
+import com.ctxh.volunteer.common.dto.ApiResponse;
+import com.ctxh.volunteer.common.util.AuthUtil;
+import com.ctxh.volunteer.module.certificate.dto.CertificateVerificationDto;
+import com.ctxh.volunteer.module.certificate.dto.RevokeCertificateRequestDto;
+import com.ctxh.volunteer.module.certificate.service.CertificateService;
+import io.swagger.v3.oas.annotations.Operation;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+@RestController
+@RequestMapping("/api/v1/certificates")
+@RequiredArgsConstructor
+public class CertificateController {
+
+    private final CertificateService certificateService;
+
+    // ============ PUBLIC - VERIFICATION ============
+
+    /**
+     * Verify a certificate by code (no authentication)
+     * GET /api/v1/certificates/verify/{certificateCode}
+     */
+    @Operation(summary = "verify a certificate by code")
+    @GetMapping("/verify/{certificateCode}")
+    @ResponseStatus(HttpStatus.OK)
+    public ApiResponse<CertificateVerificationDto> verifyCertificate(
+            @PathVariable("certificateCode") String certificateCode) {
+        return ApiResponse.ok(certificateService.verifyCertificate(certificateCode));
+    }
+
+    // ============ STUDENT - DOWNLOAD ============
+
+    /**
+     * Download own certificate as PDF; the request thread is released while it renders
+     * GET /api/v1/certificates/{certificateId}/pdf
+     */
+    @Operation(summary = "download own certificate as PDF")
+    @GetMapping("/{certificateId}/pdf")
+    @PreAuthorize("hasRole('STUDENT')")
+    public CompletableFuture<ResponseEntity<Resource>> downloadCertificatePdf(
+            @PathVariable("certificateId") Long certificateId) {
+        Long studentId = AuthUtil.getIdFromAuthentication();
+        return certificateService.getCertificatePdf(studentId, certificateId)
+                .thenApply(pdf -> ResponseEntity.ok()
+                        .contentType(MediaType.APPLICATION_PDF)
+                        .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                                .filename(pdf.getFileName().toString())
+                                .build()
+                                .toString())
+                        .cacheControl(CacheControl.maxAge(Duration.ofDays(1)).cachePrivate())
+                        // Streamed from disk in small chunks, never held in memory as a whole
+                        .body(new FileSystemResource(pdf)));
+    }
+
+    // ============ ADMIN - REVOCATION ============
+
+    /**
+     * Revoke a certificate
+     * PUT /api/v1/certificates/{certificateCode}/revoke
+     */
+    @Operation(summary = "revoke a certificate")
+    @PutMapping("/{certificateCode}/revoke")
+    @ResponseStatus(HttpStatus.OK)
+    @PreAuthorize("hasRole('ADMIN')")
+    public ApiResponse<CertificateVerificationDto> revokeCertificate(
+            @PathVariable("certificateCode") String certificateCode,
+            @Valid @RequestBody RevokeCertificateRequestDto requestDto) {
+        return ApiResponse.ok(
+                "Certificate revoked successfully",
+                certificateService.revokeCertificate(certificateCode, requestDto.getReason())
+        );
+    }
+}
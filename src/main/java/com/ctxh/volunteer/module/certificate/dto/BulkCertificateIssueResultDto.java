@@ -0,0 +1,18 @@
+package com.ctxh.volunteer.module.certificate.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkCertificateIssueResultDto {
+
+    private Long activityId;
+    private int issued;
+    private long elapsedMillis;
+    private double certificatesPerSecond;
+}
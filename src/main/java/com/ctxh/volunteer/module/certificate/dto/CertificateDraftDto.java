@@ -0,0 +1,32 @@
+package com.ctxh.volunteer.module.certificate.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Everything a certificate caches about a completed enrollment, read in one projection
+ * so bulk issuance never loads the enrollment graph as entities
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CertificateDraftDto {
+
+    private Long enrollmentId;
+    private Long studentId;
+    private Long activityId;
+    private String studentName;
+    private String studentMssv;
+    private String studentFaculty;
+    private String studentAcademicYear;
+    private String activityTitle;
+    private LocalDateTime activityStartDate;
+    private LocalDateTime activityEndDate;
+    private Double ctxhHours;
+    private String organizationName;
+    private String representativeName;
+    private String representativeEmail;
+}
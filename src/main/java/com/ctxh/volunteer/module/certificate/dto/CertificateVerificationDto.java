@@ -0,0 +1,56 @@
+package com.ctxh.volunteer.module.certificate.dto;
+
+import com.ctxh.volunteer.module.certificate.entity.Certificate;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Public, immutable view of a certificate for third-party verification. Safe to share
+ * between requests from a cache; carries no contact details or internal IDs.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class CertificateVerificationDto {
+
+    private final String certificateCode;
+    private final boolean valid;
+    private final LocalDateTime issuedDate;
+    private final LocalDateTime revokedAt;
+
+    // Student info
+    private final String studentName;
+    private final String studentMssv;
+    private final String studentFaculty;
+
+    // Activity info
+    private final String activityTitle;
+    private final LocalDateTime activityStartDate;
+    private final LocalDateTime activityEndDate;
+    private final Double ctxhHours;
+
+    // Organization info
+    private final String organizationName;
+    private final String representativeName;
+
+    public static CertificateVerificationDto from(Certificate certificate) {
+        return CertificateVerificationDto.builder()
+                .certificateCode(certificate.getCertificateCode())
+                .valid(certificate.isValid())
+                .issuedDate(certificate.getIssuedDate())
+                .revokedAt(certificate.getRevokedAt())
+                .studentName(certificate.getStudentName())
+                .studentMssv(certificate.getStudentMssv())
+                .studentFaculty(certificate.getStudentFaculty())
+                .activityTitle(certificate.getActivityTitle())
+                .activityStartDate(certificate.getActivityStartDate())
+                .activityEndDate(certificate.getActivityEndDate())
+                .ctxhHours(certificate.getCtxhHours())
+                .organizationName(certificate.getOrganizationName())
+                .representativeName(certificate.getRepresentativeName())
+                .build();
+    }
+}
@@ -0,0 +1,17 @@
+package com.ctxh.volunteer.module.certificate.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RevokeCertificateRequestDto {
+
+    @NotBlank(message = "Revoke reason is required")
+    @Size(max = 500, message = "Revoke reason must not exceed 500 characters")
+    private String reason;
+}
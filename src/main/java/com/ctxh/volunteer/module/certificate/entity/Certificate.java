@@ -1,7 +1,10 @@
 package com.ctxh.volunteer.module.certificate.entity;
 
 import com.ctxh.volunteer.common.entity.BaseEntity;
+import com.ctxh.volunteer.module.activity.entity.Activity;
 import com.ctxh.volunteer.module.enrollment.entity.Enrollment;
+import com.ctxh.volunteer.module.organization.entity.Organization;
+import com.ctxh.volunteer.module.student.entity.Student;
 import io.hypersistence.utils.hibernate.id.Tsid;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -23,6 +26,7 @@ import lombok.Setter;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
+import java.util.regex.Pattern;
 
 @Entity
 @Table(name = "certificates",
@@ -41,6 +45,7 @@ import java.util.UUID;
 @AllArgsConstructor
 @Builder
 public class Certificate extends BaseEntity {
+    private static final Pattern CODE_PATTERN = Pattern.compile("CERT-[0-9A-F]{8}");
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -120,6 +125,43 @@ public class Certificate extends BaseEntity {
 
     // ============ HELPER METHODS ============
 
+    /**
+     * Build an unissued certificate for a completed enrollment, caching student, activity and organization info
+     */
+    public static Certificate forEnrollment(Enrollment enrollment) {
+        Student student = enrollment.getStudent();
+        Activity activity = enrollment.getActivity();
+        Organization organization = activity.getOrganization();
+
+        return Certificate.builder()
+                .enrollment(enrollment)
+                // Student IDs
+                .studentId(student.getStudentId())
+                .activityId(activity.getActivityId())
+                // Cache student info
+                .studentName(student.getFullName())
+                .studentMssv(student.getMssv())
+                .studentFaculty(student.getFaculty())
+                .studentAcademicYear(student.getAcademicYear())
+                // Cache activity info
+                .activityTitle(activity.getTitle())
+                .activityStartDate(activity.getStartDateTime())
+                .activityEndDate(activity.getEndDateTime())
+                .ctxhHours(activity.getTheNumberOfCtxhDay())
+                // Cache organization info
+                .organizationName(organization.getOrganizationName())
+                .representativeName(organization.getRepresentativeName())
+                .representativeEmail(organization.getRepresentativeEmail())
+                .build();
+    }
+
+    /**
+     * Check that a code has the shape generateCertificateCode produces
+     */
+    public static boolean isWellFormedCode(String code) {
+        return code != null && CODE_PATTERN.matcher(code).matches();
+    }
+
     /**
      * Generate unique certificate code
      */
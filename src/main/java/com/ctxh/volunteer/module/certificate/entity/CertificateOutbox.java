@@ -0,0 +1,86 @@
+package com.ctxh.volunteer.module.certificate.entity;
+
+import com.ctxh.volunteer.common.entity.BaseEntity;
+import com.ctxh.volunteer.module.certificate.enums.CertificateOutboxStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * A pending certificate issuance, written in the same transaction as the checkout that
+ * completed the enrollment and drained by CertificateOutboxWorker
+ */
+@Entity
+@Table(name = "certificate_outbox",
+        indexes = {
+                @Index(name = "idx_certificate_outbox_due", columnList = "status, next_attempt_at"),
+        }
+)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CertificateOutbox extends BaseEntity {
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long outboxId;
+
+    // Not unique: a multi-day activity can complete the same enrollment more than once
+    @Column(name = "enrollment_id", nullable = false)
+    private Long enrollmentId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    @Builder.Default
+    private CertificateOutboxStatus status = CertificateOutboxStatus.PENDING;
+
+    @Column(name = "attempts", nullable = false)
+    @Builder.Default
+    private Integer attempts = 0;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    // ============ HELPER METHODS ============
+
+    /**
+     * Claim for processing; if the worker dies, the entry becomes due again when the lease ends
+     */
+    public void claim(LocalDateTime leaseUntil) {
+        this.attempts++;
+        this.nextAttemptAt = leaseUntil;
+    }
+
+    /**
+     * Record a failed attempt; the entry is parked as FAILED once attempts run out
+     */
+    public void fail(String error, LocalDateTime retryAt, int maxAttempts) {
+        this.lastError = error != null && error.length() > MAX_ERROR_LENGTH
+                ? error.substring(0, MAX_ERROR_LENGTH)
+                : error;
+        if (this.attempts >= maxAttempts) {
+            this.status = CertificateOutboxStatus.FAILED;
+        } else {
+            this.nextAttemptAt = retryAt;
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package com.ctxh.volunteer.module.certificate.enums;
+
+public enum CertificateOutboxStatus {
+    PENDING,
+    FAILED
+}
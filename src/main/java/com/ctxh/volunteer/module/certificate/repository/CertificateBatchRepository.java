@@ -0,0 +1,19 @@
+package com.ctxh.volunteer.module.certificate.repository;
+
+import com.ctxh.volunteer.module.certificate.dto.CertificateDraftDto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * JDBC-batched certificate inserts for bulk issuance. Certificate ids are IDENTITY-generated,
+ * which stops Hibernate from batching inserts, so these statements go through JDBC directly.
+ */
+public interface CertificateBatchRepository {
+
+    /**
+     * Issue a certificate for each draft with a freshly generated code; returns one update count per
+     * row, 0 on PostgreSQL for an enrollment that got its certificate after the drafts were read
+     */
+    int[] insertCertificates(List<CertificateDraftDto> drafts, LocalDateTime issuedAt);
+}
@@ -0,0 +1,92 @@
+package com.ctxh.volunteer.module.certificate.repository;
+
+import com.ctxh.volunteer.module.certificate.dto.CertificateDraftDto;
+import com.ctxh.volunteer.module.certificate.entity.Certificate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+@RequiredArgsConstructor
+class CertificateBatchRepositoryImpl implements CertificateBatchRepository {
+    private static final int BATCH_SIZE = 500;
+
+    private static final String INSERT_CERTIFICATE = "INSERT INTO certificates " +
+            "(enrollment_id, certificate_code, issued_date, student_id, activity_id, " +
+            "student_name, student_mssv, student_faculty, student_academic_year, " +
+            "activity_title, activity_start_date, activity_end_date, ctxh_hours, " +
+            "organization_name, representative_name, representative_email, " +
+            "is_revoked, create_by, create_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    // A certificate the outbox worker committed since the drafts were read is skipped, not a unique violation
+    private static final String SKIP_ISSUED = " ON CONFLICT (enrollment_id) DO NOTHING";
+
+    private final JdbcTemplate jdbcTemplate;
+    // Absent in JPA slice tests, where auditing is not configured
+    private final ObjectProvider<AuditorAware<Long>> auditorAware;
+    private volatile String insertCertificate;
+
+    @Override
+    public int[] insertCertificates(List<CertificateDraftDto> drafts, LocalDateTime issuedAt) {
+        Long auditor = currentAuditor();
+        Timestamp issued = Timestamp.valueOf(issuedAt);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        return flatten(jdbcTemplate.batchUpdate(insertCertificate(), drafts, BATCH_SIZE, (ps, draft) -> {
+            ps.setLong(1, draft.getEnrollmentId());
+            ps.setString(2, Certificate.generateCertificateCode());
+            ps.setTimestamp(3, issued);
+            ps.setLong(4, draft.getStudentId());
+            ps.setLong(5, draft.getActivityId());
+            ps.setString(6, draft.getStudentName());
+            ps.setString(7, draft.getStudentMssv());
+            ps.setString(8, draft.getStudentFaculty());
+            ps.setString(9, draft.getStudentAcademicYear());
+            ps.setString(10, draft.getActivityTitle());
+            ps.setTimestamp(11, toTimestamp(draft.getActivityStartDate()));
+            ps.setTimestamp(12, toTimestamp(draft.getActivityEndDate()));
+            ps.setObject(13, draft.getCtxhHours(), Types.DOUBLE);
+            ps.setString(14, draft.getOrganizationName());
+            ps.setString(15, draft.getRepresentativeName());
+            ps.setString(16, draft.getRepresentativeEmail());
+            ps.setBoolean(17, false);
+            ps.setObject(18, auditor, Types.BIGINT);
+            ps.setTimestamp(19, now);
+        }));
+    }
+
+    /**
+     * The insert statement, skipping already issued enrollments on PostgreSQL. H2 in tests has no
+     * ON CONFLICT outside its PostgreSQL mode and gets the plain insert.
+     */
+    private String insertCertificate() {
+        String sql = insertCertificate;
+        if (sql == null) {
+            String database = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                    connection.getMetaData().getDatabaseProductName());
+            sql = "PostgreSQL".equalsIgnoreCase(database) ? INSERT_CERTIFICATE + SKIP_ISSUED : INSERT_CERTIFICATE;
+            insertCertificate = sql;
+        }
+        return sql;
+    }
+
+    private Long currentAuditor() {
+        AuditorAware<Long> auditor = auditorAware.getIfAvailable();
+        return auditor == null ? null : auditor.getCurrentAuditor().orElse(null);
+    }
+
+    private static Timestamp toTimestamp(LocalDateTime value) {
+        return value == null ? null : Timestamp.valueOf(value);
+    }
+
+    private static int[] flatten(int[][] counts) {
+        return Arrays.stream(counts).flatMapToInt(Arrays::stream).toArray();
+    }
+}
@@ -0,0 +1,30 @@
+package com.ctxh.volunteer.module.certificate.repository;
+
+import com.ctxh.volunteer.module.certificate.entity.CertificateOutbox;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface CertificateOutboxRepository extends JpaRepository<CertificateOutbox, Long> {
+
+    /**
+     * Find and lock pending entries that are due, skipping rows another worker holds
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT o FROM CertificateOutbox o " +
+            "WHERE o.status = 'PENDING' " +
+            "AND o.nextAttemptAt <= :now " +
+            "ORDER BY o.outboxId")
+    List<CertificateOutbox> findDueForUpdate(@Param("now") LocalDateTime now, Pageable pageable);
+}
@@ -1,22 +1,29 @@
 package com.ctxh.volunteer.module.certificate.repository;
 
+import com.ctxh.volunteer.module.certificate.dto.CertificateDraftDto;
 import com.ctxh.volunteer.module.certificate.entity.Certificate;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface CertificateRepository extends JpaRepository<Certificate, Long> {
+public interface CertificateRepository extends JpaRepository<Certificate, Long>, CertificateBatchRepository {
 
     /**
      * Find certificate by code
      */
     Optional<Certificate> findByCertificateCode(String certificateCode);
 
+    /**
+     * Find certificate by ID and student ID (for authorization)
+     */
+    Optional<Certificate> findByCertificateIdAndStudentId(Long certificateId, Long studentId);
+
     /**
      * Find certificate by enrollment ID
      */
@@ -43,4 +50,28 @@ public interface CertificateRepository extends JpaRepository<Certificate, Long>
      * Check if certificate exists for enrollment
      */
     boolean existsByEnrollment_EnrollmentId(Long enrollmentId);
+
+    /**
+     * Find which of the given enrollments already have a certificate
+     */
+    @Query("SELECT c.enrollment.enrollmentId FROM Certificate c " +
+            "WHERE c.enrollment.enrollmentId IN :enrollmentIds")
+    List<Long> findIssuedEnrollmentIds(@Param("enrollmentIds") Collection<Long> enrollmentIds);
+
+    /**
+     * Find certificate data for every completed enrollment of an activity that has no certificate yet
+     */
+    @Query("SELECT new com.ctxh.volunteer.module.certificate.dto.CertificateDraftDto(" +
+            "e.enrollmentId, s.studentId, a.activityId, " +
+            "s.fullName, s.mssv, s.faculty, s.academicYear, " +
+            "a.title, a.startDateTime, a.endDateTime, a.theNumberOfCtxhDay, " +
+            "o.organizationName, o.representativeName, o.representativeEmail) " +
+            "FROM Enrollment e " +
+            "JOIN e.student s " +
+            "JOIN e.activity a " +
+            "JOIN a.organization o " +
+            "WHERE a.activityId = :activityId " +
+            "AND e.isCompleted = true " +
+            "AND NOT EXISTS (SELECT 1 FROM Certificate c WHERE c.enrollment = e)")
+    List<CertificateDraftDto> findDraftsForUncertifiedEnrollments(@Param("activityId") Long activityId);
 }
@@ -0,0 +1,145 @@
+package com.ctxh.volunteer.module.certificate.service;
+
+import com.ctxh.volunteer.module.certificate.entity.Certificate;
+import com.ctxh.volunteer.module.certificate.entity.CertificateOutbox;
+import com.ctxh.volunteer.module.certificate.repository.CertificateOutboxRepository;
+import com.ctxh.volunteer.module.certificate.repository.CertificateRepository;
+import com.ctxh.volunteer.module.enrollment.entity.Enrollment;
+import com.ctxh.volunteer.module.enrollment.repository.EnrollmentRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Drains the certificate outbox. Each poll claims a batch of due entries in a short
+ * transaction (row locks with SKIP LOCKED, so several instances can share the outbox),
+ * then issues the whole batch in one transaction with one enrollment fetch and one
+ * duplicate check. A failing batch is retried entry by entry so one bad enrollment cannot
+ * hold back the rest; failed entries back off exponentially and are parked as FAILED once
+ * their attempts run out.
+ */
+@Slf4j
+@Component
+public class CertificateOutboxWorker {
+    private static final Duration LEASE = Duration.ofMinutes(5);
+    private static final Duration BASE_BACKOFF = Duration.ofSeconds(30);
+    private static final Duration MAX_BACKOFF = Duration.ofHours(1);
+
+    private final CertificateOutboxRepository certificateOutboxRepository;
+    private final CertificateRepository certificateRepository;
+    private final EnrollmentRepository enrollmentRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxAttempts;
+
+    public CertificateOutboxWorker(
+            CertificateOutboxRepository certificateOutboxRepository,
+            CertificateRepository certificateRepository,
+            EnrollmentRepository enrollmentRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${certificate.outbox.batch-size:100}") int batchSize,
+            @Value("${certificate.outbox.max-attempts:8}") int maxAttempts) {
+        this.certificateOutboxRepository = certificateOutboxRepository;
+        this.certificateRepository = certificateRepository;
+        this.enrollmentRepository = enrollmentRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+    }
+
+    /**
+     * Issue everything that is due, one batch at a time, until a short batch comes back
+     */
+    @Scheduled(fixedDelayString = "${certificate.outbox.poll-interval:PT5S}")
+    public void poll() {
+        int drained;
+        do {
+            drained = drainBatch();
+        } while (drained == batchSize);
+    }
+
+    /**
+     * Claim and process one batch of due entries, returning how many were claimed
+     */
+    int drainBatch() {
+        List<CertificateOutbox> batch = transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<CertificateOutbox> due = certificateOutboxRepository.findDueForUpdate(now, PageRequest.of(0, batchSize));
+            due.forEach(entry -> entry.claim(now.plus(LEASE)));
+            return due;
+        });
+        if (batch == null || batch.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> issue(batch));
+        } catch (RuntimeException e) {
+            log.warn("Certificate batch of {} failed, retrying entries one by one: {}", batch.size(), e.getMessage());
+            batch.forEach(this::processOne);
+        }
+        return batch.size();
+    }
+
+    // ============ INTERNALS ============
+
+    private void processOne(CertificateOutbox entry) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> issue(List.of(entry)));
+        } catch (RuntimeException e) {
+            log.warn("Certificate for enrollment {} failed (attempt {}): {}",
+                    entry.getEnrollmentId(), entry.getAttempts(), e.getMessage());
+            transactionTemplate.executeWithoutResult(status ->
+                    certificateOutboxRepository.findById(entry.getOutboxId()).ifPresent(stored -> {
+                        stored.fail(e.getMessage(), LocalDateTime.now().plus(backoff(stored.getAttempts())), maxAttempts);
+                        certificateOutboxRepository.save(stored);
+                    }));
+        }
+    }
+
+    private void issue(List<CertificateOutbox> entries) {
+        Set<Long> enrollmentIds = entries.stream()
+                .map(CertificateOutbox::getEnrollmentId)
+                .collect(Collectors.toSet());
+        Set<Long> issued = new HashSet<>(certificateRepository.findIssuedEnrollmentIds(enrollmentIds));
+        Map<Long, Enrollment> enrollments = enrollmentRepository.findAllForCertificateByIdIn(enrollmentIds).stream()
+                .collect(Collectors.toMap(Enrollment::getEnrollmentId, Function.identity()));
+
+        List<Certificate> certificates = new ArrayList<>();
+        for (Long enrollmentId : enrollmentIds) {
+            Enrollment enrollment = enrollments.get(enrollmentId);
+            // Already issued, deleted or no longer completed: nothing to do, the entry just goes away
+            if (issued.contains(enrollmentId) || enrollment == null || !Boolean.TRUE.equals(enrollment.getIsCompleted())) {
+                continue;
+            }
+            Certificate certificate = Certificate.forEnrollment(enrollment);
+            certificate.issue();
+            certificates.add(certificate);
+        }
+
+        certificateRepository.saveAll(certificates);
+        certificateOutboxRepository.deleteAllByIdInBatch(entries.stream().map(CertificateOutbox::getOutboxId).toList());
+        if (!certificates.isEmpty()) {
+            log.info("Issued {} certificates from the outbox", certificates.size());
+        }
+    }
+
+    static Duration backoff(int attempts) {
+        Duration delay = BASE_BACKOFF.multipliedBy(1L << Math.min(Math.max(attempts - 1, 0), 16));
+        return delay.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : delay;
+    }
+}
@@ -0,0 +1,227 @@
+package com.ctxh.volunteer.module.certificate.service;
+
+import com.ctxh.volunteer.common.exception.BusinessException;
+import com.ctxh.volunteer.common.exception.ErrorCode;
+import com.ctxh.volunteer.module.certificate.entity.Certificate;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.apache.pdfbox.pdmodel.font.PDFont;
+import org.apache.pdfbox.pdmodel.font.PDType0Font;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.pdfbox.pdmodel.font.Standard14Fonts;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.text.Normalizer;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Renders certificate PDFs from the certificate's cached fields and keeps them on local
+ * disk keyed by certificate code, so each certificate is rendered once. Rendering runs on
+ * a small fixed pool with a bounded queue: a burst of downloads waits its turn or is
+ * turned away with 503 instead of tying up request threads, and concurrent requests for
+ * the same certificate share one render.
+ */
+@Slf4j
+@Component
+public class CertificatePdfRenderer {
+    private static final String REGULAR_FONT = "DejaVuSans.ttf";
+    private static final String BOLD_FONT = "DejaVuSans-Bold.ttf";
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+
+    private final Path cacheDir;
+    private final List<Path> fontDirs;
+    private final ThreadPoolExecutor pool;
+    private final Map<String, CompletableFuture<Path>> inFlight = new ConcurrentHashMap<>();
+
+    public CertificatePdfRenderer(
+            @Value("${certificate.pdf.cache-dir:${java.io.tmpdir}/ctxh-certificates}") Path cacheDir,
+            @Value("${certificate.pdf.font-dirs:/usr/share/fonts/truetype/dejavu,/usr/share/fonts/dejavu}") List<Path> fontDirs,
+            @Value("${certificate.pdf.render-threads:2}") int renderThreads,
+            @Value("${certificate.pdf.queue-capacity:32}") int queueCapacity) throws IOException {
+        this.cacheDir = Files.createDirectories(cacheDir);
+        this.fontDirs = fontDirs;
+        this.pool = new ThreadPoolExecutor(renderThreads, renderThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofPlatform().name("certificate-pdf-", 0).daemon().factory());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * PDF file for a certificate, rendered on the pool unless it is already on disk
+     */
+    public CompletableFuture<Path> render(Certificate certificate) {
+        String code = certificate.getCertificateCode();
+        Path target = pathFor(code);
+        if (Files.exists(target)) {
+            return CompletableFuture.completedFuture(target);
+        }
+
+        CompletableFuture<Path> pending = new CompletableFuture<>();
+        CompletableFuture<Path> existing = inFlight.putIfAbsent(code, pending);
+        if (existing != null) {
+            return existing;
+        }
+        try {
+            pool.execute(() -> {
+                try {
+                    pending.complete(renderTo(certificate, target));
+                } catch (Exception e) {
+                    log.error("Failed to render certificate {}", code, e);
+                    pending.completeExceptionally(e);
+                } finally {
+                    inFlight.remove(code, pending);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(code, pending);
+            log.warn("Certificate render queue is full, rejecting {}", code);
+            throw new BusinessException(ErrorCode.SERVICE_UNAVAILABLE);
+        }
+        return pending;
+    }
+
+    /**
+     * Delete the rendered PDF of a certificate, e.g. after it was revoked
+     */
+    public void evict(String certificateCode) {
+        try {
+            Files.deleteIfExists(pathFor(certificateCode));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // ============ RENDERING ============
+
+    private Path pathFor(String certificateCode) {
+        // Codes are validated CERT-XXXXXXXX values, so they are safe file names
+        return cacheDir.resolve(certificateCode + ".pdf");
+    }
+
+    private Path renderTo(Certificate certificate, Path target) throws IOException {
+        Path temp = Files.createTempFile(cacheDir, certificate.getCertificateCode(), ".tmp");
+        try (PDDocument document = new PDDocument()) {
+            PDPage page = new PDPage(new PDRectangle(PDRectangle.A4.getHeight(), PDRectangle.A4.getWidth()));
+            document.addPage(page);
+            Fonts fonts = loadFonts(document);
+
+            try (PDPageContentStream content = new PDPageContentStream(document, page)) {
+                PDRectangle box = page.getMediaBox();
+                content.setLineWidth(3);
+                content.addRect(30, 30, box.getWidth() - 60, box.getHeight() - 60);
+                content.stroke();
+
+                float y = box.getHeight() - 110;
+                y = centered(content, fonts, fonts.bold(), 30, "CERTIFICATE OF PARTICIPATION", box, y);
+                y = centered(content, fonts, fonts.regular(), 14, "This certifies that", box, y - 30);
+                y = centered(content, fonts, fonts.bold(), 26, certificate.getStudentName(), box, y - 20);
+                y = centered(content, fonts, fonts.regular(), 13, studentLine(certificate), box, y - 8);
+                y = centered(content, fonts, fonts.regular(), 14, "has completed the volunteer activity", box, y - 30);
+                y = centered(content, fonts, fonts.bold(), 18, certificate.getActivityTitle(), box, y - 14);
+                y = centered(content, fonts, fonts.regular(), 13, periodLine(certificate), box, y - 8);
+                y = centered(content, fonts, fonts.regular(), 14,
+                        "CTXH days earned: " + certificate.getCtxhHours(), box, y - 20);
+                y = centered(content, fonts, fonts.regular(), 13,
+                        "Organized by " + certificate.getOrganizationName(), box, y - 30);
+
+                text(content, fonts, fonts.regular(), 11, 60, 60,
+                        "Issued " + format(certificate.getIssuedDate()) + "   Certificate code: " + certificate.getCertificateCode());
+                if (certificate.getRepresentativeName() != null) {
+                    text(content, fonts, fonts.regular(), 11, box.getWidth() - 260, 60,
+                            "Representative: " + certificate.getRepresentativeName());
+                }
+            }
+            document.save(temp.toFile());
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+        return Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private float centered(PDPageContentStream content, Fonts fonts, PDFont font, float size,
+                           String value, PDRectangle box, float y) throws IOException {
+        String safe = fonts.printable(value);
+        float width = font.getStringWidth(safe) / 1000 * size;
+        text(content, fonts, font, size, (box.getWidth() - width) / 2, y, safe);
+        return y - size;
+    }
+
+    private void text(PDPageContentStream content, Fonts fonts, PDFont font, float size,
+                      float x, float y, String value) throws IOException {
+        content.beginText();
+        content.setFont(font, size);
+        content.newLineAtOffset(x, y);
+        content.showText(fonts.printable(value));
+        content.endText();
+    }
+
+    private Fonts loadFonts(PDDocument document) throws IOException {
+        for (Path dir : fontDirs) {
+            Path regular = dir.resolve(REGULAR_FONT);
+            Path bold = dir.resolve(BOLD_FONT);
+            if (Files.isReadable(regular) && Files.isReadable(bold)) {
+                // Embedded as subsets, so only the glyphs used end up in the file
+                return new Fonts(PDType0Font.load(document, regular.toFile()),
+                        PDType0Font.load(document, bold.toFile()), true);
+            }
+        }
+        log.warn("No Unicode font found in {}, falling back to Helvetica without diacritics", fontDirs);
+        return new Fonts(new PDType1Font(Standard14Fonts.FontName.HELVETICA),
+                new PDType1Font(Standard14Fonts.FontName.HELVETICA_BOLD), false);
+    }
+
+    private static String studentLine(Certificate certificate) {
+        StringBuilder line = new StringBuilder();
+        if (certificate.getStudentMssv() != null) {
+            line.append("Student ID ").append(certificate.getStudentMssv());
+        }
+        if (certificate.getStudentFaculty() != null) {
+            line.append(line.isEmpty() ? "" : " - ").append(certificate.getStudentFaculty());
+        }
+        return line.toString();
+    }
+
+    private static String periodLine(Certificate certificate) {
+        return format(certificate.getActivityStartDate()) + " - " + format(certificate.getActivityEndDate());
+    }
+
+    private static String format(LocalDateTime dateTime) {
+        return dateTime == null ? "" : dateTime.format(DATE_FORMAT);
+    }
+
+    private record Fonts(PDFont regular, PDFont bold, boolean unicode) {
+        String printable(String value) {
+            if (value == null || unicode) {
+                return value == null ? "" : value;
+            }
+            // Standard fonts only cover WinAnsi; keep Vietnamese readable as plain Latin
+            return Normalizer.normalize(value.replace('đ', 'd').replace('Đ', 'D'), Normalizer.Form.NFD)
+                    .replaceAll("\\p{M}", "")
+                    .replaceAll("[^\\x20-\\x7E]", "?");
+        }
+    }
+}
@@ -1,8 +1,12 @@
 package com.ctxh.volunteer.module.certificate.service;
 
+import com.ctxh.volunteer.module.certificate.dto.CertificateVerificationDto;
 import com.ctxh.volunteer.module.certificate.entity.Certificate;
 import com.ctxh.volunteer.module.enrollment.entity.Enrollment;
 
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+
 public interface CertificateService {
 
     /**
@@ -10,6 +14,26 @@ public interface CertificateService {
      */
     Certificate generateCertificate(Enrollment enrollment);
 
+    /**
+     * Queue certificate issuance for a completed enrollment; it is issued in the background after commit
+     */
+    void requestCertificate(Long enrollmentId);
+
+    /**
+     * Verify a certificate by its public code
+     */
+    CertificateVerificationDto verifyCertificate(String certificateCode);
+
+    /**
+     * Revoke a certificate; public verification reflects it immediately
+     */
+    CertificateVerificationDto revokeCertificate(String certificateCode, String reason);
+
+    /**
+     * Render a student's own certificate as PDF; completes once the file is ready to stream
+     */
+    CompletableFuture<Path> getCertificatePdf(Long studentId, Long certificateId);
+
     /**
      * Check if certificate exists for enrollment
      */
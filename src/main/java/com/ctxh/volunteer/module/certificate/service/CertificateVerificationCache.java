@@ -0,0 +1,65 @@
+package com.ctxh.volunteer.module.certificate.service;
+
+import com.ctxh.volunteer.module.certificate.dto.CertificateVerificationDto;
+import com.ctxh.volunteer.module.certificate.repository.CertificateRepository;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Read-through cache of public certificate snapshots keyed by certificate code. Unknown
+ * codes are cached too, for a shorter time, so scanning random codes stays off the
+ * database; concurrent misses on one code share a single lookup. Anything that changes
+ * what {@link CertificateVerificationDto} shows — revocation in particular — must call
+ * {@link #evict(String)}.
+ */
+@Slf4j
+@Component
+public class CertificateVerificationCache {
+    private final LoadingCache<String, Optional<CertificateVerificationDto>> cache;
+
+    public CertificateVerificationCache(
+            CertificateRepository certificateRepository,
+            @Value("${certificate.verify-cache.ttl:PT1H}") Duration ttl,
+            @Value("${certificate.verify-cache.negative-ttl:PT5M}") Duration negativeTtl,
+            @Value("${certificate.verify-cache.max-size:100000}") long maxSize) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(Expiry.<String, Optional<CertificateVerificationDto>>creating(
+                        (code, snapshot) -> snapshot.isPresent() ? ttl : negativeTtl))
+                .build(code -> certificateRepository.findByCertificateCode(code)
+                        .map(CertificateVerificationDto::from));
+    }
+
+    /**
+     * Snapshot for a certificate code, empty when no certificate has that code
+     */
+    public Optional<CertificateVerificationDto> get(String certificateCode) {
+        return cache.get(certificateCode);
+    }
+
+    /**
+     * Drop the cached snapshot now and, when called inside a transaction, again after
+     * commit so a concurrent verification cannot re-cache the pre-commit row.
+     */
+    public void evict(String certificateCode) {
+        cache.invalidate(certificateCode);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(certificateCode);
+                }
+            });
+        }
+        log.debug("Evicted cached verification for certificate {}", certificateCode);
+    }
+}
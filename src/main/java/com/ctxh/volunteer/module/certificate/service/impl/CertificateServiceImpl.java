@@ -2,24 +2,33 @@ package com.ctxh.volunteer.module.certificate.service.impl;
 
 import com.ctxh.volunteer.common.exception.BusinessException;
 import com.ctxh.volunteer.common.exception.ErrorCode;
-import com.ctxh.volunteer.module.activity.entity.Activity;
+import com.ctxh.volunteer.module.certificate.dto.CertificateVerificationDto;
 import com.ctxh.volunteer.module.certificate.entity.Certificate;
+import com.ctxh.volunteer.module.certificate.entity.CertificateOutbox;
+import com.ctxh.volunteer.module.certificate.repository.CertificateOutboxRepository;
 import com.ctxh.volunteer.module.certificate.repository.CertificateRepository;
+import com.ctxh.volunteer.module.certificate.service.CertificatePdfRenderer;
 import com.ctxh.volunteer.module.certificate.service.CertificateService;
+import com.ctxh.volunteer.module.certificate.service.CertificateVerificationCache;
 import com.ctxh.volunteer.module.enrollment.entity.Enrollment;
-import com.ctxh.volunteer.module.organization.entity.Organization;
-import com.ctxh.volunteer.module.student.entity.Student;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class CertificateServiceImpl implements CertificateService {
 
     private final CertificateRepository certificateRepository;
+    private final CertificateOutboxRepository certificateOutboxRepository;
+    private final CertificateVerificationCache certificateVerificationCache;
+    private final CertificatePdfRenderer certificatePdfRenderer;
 
     @Override
     @Transactional
@@ -34,31 +43,8 @@ public class CertificateServiceImpl implements CertificateService {
             throw new BusinessException(ErrorCode.ENROLLMENT_NOT_APPROVED);
         }
 
-        Student student = enrollment.getStudent();
-        Activity activity = enrollment.getActivity();
-        Organization organization = activity.getOrganization();
-
         // Build certificate with cached data - USE HELPER METHOD
-        Certificate certificate = Certificate.builder()
-                .enrollment(enrollment)
-                // Student IDs
-                .studentId(student.getStudentId())
-                .activityId(activity.getActivityId())
-                // Cache student info
-                .studentName(student.getFullName())
-                .studentMssv(student.getMssv())
-                .studentFaculty(student.getFaculty())
-                .studentAcademicYear(student.getAcademicYear())
-                // Cache activity info
-                .activityTitle(activity.getTitle())
-                .activityStartDate(activity.getStartDateTime())
-                .activityEndDate(activity.getEndDateTime())
-                .ctxhHours(activity.getTheNumberOfCtxhDay())
-                // Cache organization info
-                .organizationName(organization.getOrganizationName())
-                .representativeName(organization.getRepresentativeName())
-                .representativeEmail(organization.getRepresentativeEmail())
-                .build();
+        Certificate certificate = Certificate.forEnrollment(enrollment);
 
         // Issue certificate - USE HELPER METHOD
         certificate.issue(); // Sets issuedDate and generates certificateCode
@@ -71,6 +57,57 @@ public class CertificateServiceImpl implements CertificateService {
         return savedCertificate;
     }
 
+    @Override
+    @Transactional
+    public void requestCertificate(Long enrollmentId) {
+        // One insert in the caller's transaction; the worker does the rest after commit
+        certificateOutboxRepository.save(CertificateOutbox.builder()
+                .enrollmentId(enrollmentId)
+                .nextAttemptAt(LocalDateTime.now())
+                .build());
+    }
+
+    @Override
+    public CertificateVerificationDto verifyCertificate(String certificateCode) {
+        // No transaction here: cache hits must not touch the connection pool
+        if (!Certificate.isWellFormedCode(certificateCode)) {
+            throw new BusinessException(ErrorCode.INVALID_CERTIFICATE_CODE);
+        }
+        return certificateVerificationCache.get(certificateCode)
+                .orElseThrow(() -> new BusinessException(ErrorCode.CERTIFICATE_NOT_FOUND));
+    }
+
+    @Override
+    @Transactional
+    public CertificateVerificationDto revokeCertificate(String certificateCode, String reason) {
+        Certificate certificate = certificateRepository.findByCertificateCode(certificateCode)
+                .orElseThrow(() -> new BusinessException(ErrorCode.CERTIFICATE_NOT_FOUND));
+        if (!certificate.isValid()) {
+            throw new BusinessException(ErrorCode.CERTIFICATE_REVOKED);
+        }
+
+        // Revoke - USE HELPER METHOD
+        certificate.revoke(reason);
+        certificateRepository.save(certificate);
+        certificateVerificationCache.evict(certificateCode);
+        certificatePdfRenderer.evict(certificateCode);
+        log.info("Revoked certificate {}: {}", certificateCode, reason);
+
+        return CertificateVerificationDto.from(certificate);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CompletableFuture<Path> getCertificatePdf(Long studentId, Long certificateId) {
+        Certificate certificate = certificateRepository.findByCertificateIdAndStudentId(certificateId, studentId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.CERTIFICATE_NOT_FOUND));
+        if (!certificate.isValid()) {
+            throw new BusinessException(ErrorCode.CERTIFICATE_REVOKED);
+        }
+        // Rendering reads only the cached columns, so the detached entity is safe off this thread
+        return certificatePdfRenderer.render(certificate);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public boolean certificateExists(Long enrollmentId) {
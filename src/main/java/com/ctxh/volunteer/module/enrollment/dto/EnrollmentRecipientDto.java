@@ -0,0 +1,18 @@
+package com.ctxh.volunteer.module.enrollment.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * An enrollment and the email of its student, read in keyset-paged chunks to notify an
+ * activity's participants without loading the enrollment graph
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EnrollmentRecipientDto {
+
+    private Long enrollmentId;
+    private String email;
+}
@@ -22,7 +22,7 @@ import java.time.LocalDateTime;
         },
         indexes = {
                 @Index(name = "idx_enrollment_student", columnList = "student_id"),
-                @Index(name = "idx_enrollment_activity", columnList = "activity_id"),
+                @Index(name = "idx_enrollment_activity_status", columnList = "activity_id, status, enrollment_id"),
                 @Index(name = "idx_enrollment_status", columnList = "status"),
         }
 )
@@ -87,35 +87,22 @@ public class Enrollment extends BaseEntity {
     // ============ HELPER METHODS ============
 
     /**
-     * Approve enrollment
+     * Approve enrollment. The activity's slot counts are moved separately, by the atomic
+     * ActivityRepository#approvePendingSlot update, so they are never written from a stale entity.
      */
     public void approve(Long approvedByUserId) {
         this.status = EnrollmentStatus.APPROVED;
         this.approvedAt = LocalDateTime.now();
         this.approvedBy = approvedByUserId;
-
-        // Update activity participant count
-        if (activity != null) {
-            if (this.status == EnrollmentStatus.PENDING) {
-                activity.approvePending();
-            } else {
-                activity.incrementParticipants();
-            }
-        }
     }
 
     /**
-     * Reject enrollment
+     * Reject enrollment. The pending slot is released by ActivityRepository#releasePendingSlot.
      */
     public void reject(Long rejectedByUserId) {
         this.status = EnrollmentStatus.REJECTED;
         this.rejectedAt = LocalDateTime.now();
         this.rejectedBy = rejectedByUserId;
-
-        // Update activity counts
-        if (activity != null && this.status == EnrollmentStatus.PENDING) {
-            activity.decrementPending();
-        }
     }
 
     /**
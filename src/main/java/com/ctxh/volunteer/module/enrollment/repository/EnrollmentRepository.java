@@ -2,12 +2,17 @@ package com.ctxh.volunteer.module.enrollment.repository;
 
 import com.ctxh.volunteer.module.activity.entity.Activity;
 import com.ctxh.volunteer.module.enrollment.EnrollmentStatus;
+import com.ctxh.volunteer.module.enrollment.dto.EnrollmentRecipientDto;
 import com.ctxh.volunteer.module.enrollment.entity.Enrollment;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -39,12 +44,13 @@ public interface EnrollmentRepository extends JpaRepository<Enrollment, Long> {
     );
 
     /**
-     * Find enrollment by ID and activity ID (for authorization)
+     * Find and lock an enrollment of an activity, so concurrent reviews of it run one at a time
      */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT e FROM Enrollment e " +
             "WHERE e.enrollmentId = :enrollmentId " +
             "AND e.activity.activityId = :activityId")
-    Optional<Enrollment> findByIdAndActivityId(
+    Optional<Enrollment> findByIdAndActivityIdForUpdate(
             @Param("enrollmentId") Long enrollmentId,
             @Param("activityId") Long activityId
     );
@@ -60,6 +66,42 @@ public interface EnrollmentRepository extends JpaRepository<Enrollment, Long> {
             @Param("activityId") Long activityId
     );
 
+    /**
+     * Find enrollment by student ID and activity ID with the student and user loaded
+     */
+    @Query("SELECT e FROM Enrollment e " +
+            "JOIN FETCH e.student s " +
+            "JOIN FETCH s.user " +
+            "WHERE s.studentId = :studentId " +
+            "AND e.activity.activityId = :activityId")
+    Optional<Enrollment> findWithStudentByStudentIdAndActivityId(
+            @Param("studentId") Long studentId,
+            @Param("activityId") Long activityId
+    );
+
+    /**
+     * Find which of the given students are already enrolled in an activity
+     */
+    @Query("SELECT e.student.studentId FROM Enrollment e " +
+            "WHERE e.activity.activityId = :activityId " +
+            "AND e.student.studentId IN :studentIds")
+    List<Long> findEnrolledStudentIds(
+            @Param("activityId") Long activityId,
+            @Param("studentIds") Collection<Long> studentIds
+    );
+
+    /**
+     * Find which of the given students are approved for an activity
+     */
+    @Query("SELECT e.student.studentId FROM Enrollment e " +
+            "WHERE e.activity.activityId = :activityId " +
+            "AND e.status = 'APPROVED' " +
+            "AND e.student.studentId IN :studentIds")
+    List<Long> findApprovedStudentIds(
+            @Param("activityId") Long activityId,
+            @Param("studentIds") Collection<Long> studentIds
+    );
+
     /**
      * Find all enrollments by student ID
      */
@@ -95,5 +137,34 @@ public interface EnrollmentRepository extends JpaRepository<Enrollment, Long> {
             @Param("studentId") Long studentId
     );
 
+    /**
+     * Find enrollments by IDs with everything a certificate caches
+     */
+    @Query("SELECT e FROM Enrollment e " +
+            "JOIN FETCH e.student s " +
+            "JOIN FETCH s.user " +
+            "JOIN FETCH e.activity a " +
+            "JOIN FETCH a.organization " +
+            "WHERE e.enrollmentId IN :enrollmentIds")
+    List<Enrollment> findAllForCertificateByIdIn(@Param("enrollmentIds") Collection<Long> enrollmentIds);
+
+    /**
+     * Find the next chunk of approved participants of an activity after the given enrollment,
+     * in enrollment order, as a keyset cursor for notification fan-out
+     */
+    @Query("SELECT new com.ctxh.volunteer.module.enrollment.dto.EnrollmentRecipientDto(e.enrollmentId, u.email) " +
+            "FROM Enrollment e " +
+            "JOIN e.student s " +
+            "JOIN s.user u " +
+            "WHERE e.activity.activityId = :activityId " +
+            "AND e.status = 'APPROVED' " +
+            "AND e.enrollmentId > :afterEnrollmentId " +
+            "ORDER BY e.enrollmentId")
+    List<EnrollmentRecipientDto> findApprovedRecipientsAfter(
+            @Param("activityId") Long activityId,
+            @Param("afterEnrollmentId") Long afterEnrollmentId,
+            Pageable pageable
+    );
+
     Long countByActivityAndStatus(Activity activity, EnrollmentStatus status);
 }
@@ -0,0 +1,95 @@
+package com.ctxh.volunteer.module.enrollment.service;
+
+import com.ctxh.volunteer.common.exception.BusinessException;
+import com.ctxh.volunteer.common.exception.ErrorCode;
+import com.ctxh.volunteer.module.activity.repository.ActivityRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.ctxh.volunteer.common.util.AppConstants.REGISTRATION_MULTIPLIER;
+
+/**
+ * Per-activity in-memory count of registrations still accepted, so a registration storm
+ * is turned away without touching the database once an activity is full.
+ * The counter is only a front filter: {@link ActivityRepository#reservePendingSlots} stays
+ * the source of truth, and idle counters expire so drift from other instances heals.
+ */
+@Slf4j
+@Component
+public class EnrollmentAdmission {
+    private final ActivityRepository activityRepository;
+    private final Cache<Long, AtomicInteger> remainingByActivity;
+
+    public EnrollmentAdmission(
+            ActivityRepository activityRepository,
+            @Value("${enrollment.admission.idle-ttl:PT10M}") Duration idleTtl,
+            @Value("${enrollment.admission.max-activities:10000}") long maxActivities) {
+        this.activityRepository = activityRepository;
+        this.remainingByActivity = Caffeine.newBuilder()
+                .expireAfterAccess(idleTtl)
+                .maximumSize(maxActivities)
+                .build();
+    }
+
+    /**
+     * Take one registration permit, seeding the counter from the database on first use.
+     * Returns false when the activity has no registrations left.
+     */
+    public boolean tryAcquire(Long activityId) {
+        AtomicInteger remaining = remainingByActivity.get(activityId, this::loadRemaining);
+        return remaining.getAndUpdate(left -> left > 0 ? left - 1 : left) > 0;
+    }
+
+    /**
+     * Give a permit back after a registration failed for a reason unrelated to capacity
+     */
+    public void release(Long activityId) {
+        AtomicInteger remaining = remainingByActivity.getIfPresent(activityId);
+        if (remaining != null) {
+            remaining.incrementAndGet();
+        }
+    }
+
+    /**
+     * Stop admitting registrations after the database reported the activity full or closed
+     */
+    public void exhaust(Long activityId) {
+        AtomicInteger remaining = remainingByActivity.getIfPresent(activityId);
+        if (remaining != null) {
+            remaining.set(0);
+        }
+    }
+
+    /**
+     * Drop the counter now and, when called inside a transaction, again after commit
+     * so it is reseeded from the committed capacity or registration state.
+     */
+    public void invalidate(Long activityId) {
+        remainingByActivity.invalidate(activityId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    remainingByActivity.invalidate(activityId);
+                }
+            });
+        }
+    }
+
+    private AtomicInteger loadRemaining(Long activityId) {
+        int remaining = activityRepository
+                .findRemainingRegistrations(activityId, REGISTRATION_MULTIPLIER, LocalDateTime.now())
+                .orElseThrow(() -> new BusinessException(ErrorCode.ACTIVITY_NOT_FOUND));
+        log.debug("Admission counter for activity {} seeded with {} slots", activityId, remaining);
+        return new AtomicInteger(Math.max(remaining, 0));
+    }
+}
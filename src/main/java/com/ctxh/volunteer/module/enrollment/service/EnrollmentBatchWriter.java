@@ -0,0 +1,258 @@
+package com.ctxh.volunteer.module.enrollment.service;
+
+import com.ctxh.volunteer.common.exception.BusinessException;
+import com.ctxh.volunteer.common.exception.ErrorCode;
+import com.ctxh.volunteer.module.activity.entity.Activity;
+import com.ctxh.volunteer.module.activity.repository.ActivityRepository;
+import com.ctxh.volunteer.module.enrollment.EnrollmentStatus;
+import com.ctxh.volunteer.module.enrollment.entity.Enrollment;
+import com.ctxh.volunteer.module.enrollment.repository.EnrollmentRepository;
+import com.ctxh.volunteer.module.student.entity.Student;
+import com.ctxh.volunteer.module.student.repository.StudentRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.ctxh.volunteer.common.util.AppConstants.REGISTRATION_MULTIPLIER;
+
+/**
+ * Group-commit writer for enrollments. Request threads enqueue and wait; a single writer
+ * thread drains whatever queued up while the previous batch was being written and stores
+ * each activity's share in one transaction: one activity row lock, one bulk lookup for
+ * students and duplicates, and one counter UPDATE for the whole group. Under a storm this
+ * holds one database connection instead of one per request.
+ */
+@Slf4j
+@Component
+public class EnrollmentBatchWriter {
+    private static final long POLL_INTERVAL_MS = 100;
+
+    private final EnrollmentRepository enrollmentRepository;
+    private final ActivityRepository activityRepository;
+    private final StudentRepository studentRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<PendingEnrollment> queue;
+    private final int maxBatchSize;
+    private final Duration timeout;
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("enrollment-writer").daemon().factory());
+    private volatile boolean running = true;
+
+    public EnrollmentBatchWriter(
+            EnrollmentRepository enrollmentRepository,
+            ActivityRepository activityRepository,
+            StudentRepository studentRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${enrollment.batch.queue-capacity:5000}") int queueCapacity,
+            @Value("${enrollment.batch.max-size:200}") int maxBatchSize,
+            @Value("${enrollment.batch.timeout:PT10S}") Duration timeout) {
+        this.enrollmentRepository = enrollmentRepository;
+        this.activityRepository = activityRepository;
+        this.studentRepository = studentRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.queue = new LinkedBlockingQueue<>(queueCapacity);
+        this.maxBatchSize = maxBatchSize;
+        this.timeout = timeout;
+    }
+
+    @PostConstruct
+    void start() {
+        writer.execute(this::drain);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        writer.shutdown();
+        if (!writer.awaitTermination(timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+            writer.shutdownNow();
+        }
+        PendingEnrollment leftover;
+        while ((leftover = queue.poll()) != null) {
+            leftover.result().completeExceptionally(new BusinessException(ErrorCode.SERVICE_UNAVAILABLE));
+        }
+    }
+
+    /**
+     * Enroll a student and wait until the batch holding the request has committed.
+     * A request still queued after the timeout is withdrawn and never written; one the writer
+     * has already picked up is waited for, so a failure is never reported for a write that commits.
+     */
+    public Enrollment enroll(Long studentId, Long activityId) {
+        PendingEnrollment request = new PendingEnrollment(studentId, activityId, new CompletableFuture<>(), new AtomicBoolean());
+        if (!running || !queue.offer(request)) {
+            throw new BusinessException(ErrorCode.SERVICE_UNAVAILABLE);
+        }
+        try {
+            try {
+                return request.result().get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                if (request.claim()) {
+                    queue.remove(request);
+                    log.warn("Enrollment of student {} in activity {} timed out in the write queue", studentId, activityId);
+                    throw new BusinessException(ErrorCode.SERVICE_UNAVAILABLE);
+                }
+                // Already in a batch transaction, which always completes the result
+                return request.result().get();
+            }
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.SERVICE_UNAVAILABLE);
+        }
+    }
+
+    // ============ WRITER LOOP ============
+
+    private void drain() {
+        List<PendingEnrollment> batch = new ArrayList<>(maxBatchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingEnrollment first = queue.poll(POLL_INTERVAL_MS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, maxBatchSize - 1);
+                // Skip requests whose caller gave up waiting before the writer got to them
+                batch.removeIf(request -> !request.claim());
+
+                batch.stream()
+                        .collect(Collectors.groupingBy(PendingEnrollment::activityId, LinkedHashMap::new, Collectors.toList()))
+                        .forEach(this::writeGroup);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Enrollment writer failed on a batch of {}", batch.size(), e);
+                batch.forEach(request -> request.result().completeExceptionally(e));
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void writeGroup(Long activityId, List<PendingEnrollment> group) {
+        List<Enrollment> saved;
+        try {
+            saved = transactionTemplate.execute(status -> insertGroup(activityId, group));
+        } catch (RuntimeException e) {
+            // The transaction rolled back, so nobody still waiting in this group was enrolled
+            group.forEach(request -> request.result().completeExceptionally(e));
+            return;
+        }
+        // Acknowledge only after commit; rejected requests were already completed
+        Map<Long, Enrollment> byStudent = saved.stream()
+                .collect(Collectors.toMap(e -> e.getStudent().getStudentId(), Function.identity()));
+        group.forEach(request -> {
+            Enrollment enrollment = byStudent.get(request.studentId());
+            if (enrollment != null) {
+                request.result().complete(enrollment);
+            }
+        });
+        log.debug("Enrolled {} of {} queued students in activity {}", saved.size(), group.size(), activityId);
+    }
+
+    private List<Enrollment> insertGroup(Long activityId, List<PendingEnrollment> group) {
+        Activity activity = activityRepository.findById(activityId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.ACTIVITY_NOT_FOUND));
+        if (!activity.canRegister()) {
+            throw new BusinessException(ErrorCode.ACTIVITY_MAX_PENDING_REACHED);
+        }
+
+        Set<Long> studentIds = group.stream().map(PendingEnrollment::studentId).collect(Collectors.toSet());
+        Map<Long, Student> students = studentRepository.findAllWithUserByIdIn(studentIds).stream()
+                .collect(Collectors.toMap(Student::getStudentId, Function.identity()));
+        Set<Long> enrolled = new HashSet<>(enrollmentRepository.findEnrolledStudentIds(activityId, studentIds));
+
+        // First come, first served; adding to 'enrolled' also catches a student queued twice
+        List<PendingEnrollment> eligible = new ArrayList<>(group.size());
+        for (PendingEnrollment request : group) {
+            if (!students.containsKey(request.studentId())) {
+                reject(request, ErrorCode.STUDENT_NOT_FOUND);
+            } else if (!enrolled.add(request.studentId())) {
+                reject(request, ErrorCode.ALREADY_ENROLLED);
+            } else {
+                eligible.add(request);
+            }
+        }
+
+        int granted = reserveSlots(activityId, eligible.size());
+        eligible.subList(granted, eligible.size())
+                .forEach(request -> reject(request, ErrorCode.ACTIVITY_MAX_PENDING_REACHED));
+
+        // Counters were already bumped by reserveSlots, so only the rows are written here
+        LocalDateTime now = LocalDateTime.now();
+        List<Enrollment> enrollments = eligible.subList(0, granted).stream()
+                .map(request -> Enrollment.builder()
+                        .student(students.get(request.studentId()))
+                        .activity(activity)
+                        .status(EnrollmentStatus.PENDING)
+                        .appliedAt(now)
+                        .enrollmentDate(now)
+                        .build())
+                .toList();
+        return enrollmentRepository.saveAll(enrollments);
+    }
+
+    /**
+     * Reserve up to {@code requested} slots; when the group does not fit, retry once with what is left
+     */
+    private int reserveSlots(Long activityId, int requested) {
+        if (requested == 0) {
+            return 0;
+        }
+        if (activityRepository.reservePendingSlots(activityId, requested, REGISTRATION_MULTIPLIER) == 1) {
+            return requested;
+        }
+        int available = Math.min(requested, activityRepository
+                .findRemainingRegistrations(activityId, REGISTRATION_MULTIPLIER, LocalDateTime.now())
+                .orElse(0));
+        if (available > 0 && activityRepository.reservePendingSlots(activityId, available, REGISTRATION_MULTIPLIER) == 1) {
+            return available;
+        }
+        return 0;
+    }
+
+    private void reject(PendingEnrollment request, ErrorCode errorCode) {
+        request.result().completeExceptionally(new BusinessException(errorCode));
+    }
+
+    private record PendingEnrollment(Long studentId, Long activityId, CompletableFuture<Enrollment> result,
+                                     AtomicBoolean claimed) {
+        /**
+         * Hand the request to exactly one side: the writer taking it into a batch or the caller withdrawing it
+         */
+        boolean claim() {
+            return claimed.compareAndSet(false, true);
+        }
+    }
+}
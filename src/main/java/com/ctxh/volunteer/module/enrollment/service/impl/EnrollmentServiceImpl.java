@@ -10,6 +10,8 @@ import com.ctxh.volunteer.module.enrollment.dto.EnrollmentResponseDto;
 import com.ctxh.volunteer.module.enrollment.dto.MyActivityResponseDto;
 import com.ctxh.volunteer.module.enrollment.entity.Enrollment;
 import com.ctxh.volunteer.module.enrollment.repository.EnrollmentRepository;
+import com.ctxh.volunteer.module.enrollment.service.EnrollmentAdmission;
+import com.ctxh.volunteer.module.enrollment.service.EnrollmentBatchWriter;
 import com.ctxh.volunteer.module.enrollment.service.EnrollmentService;
 import com.ctxh.volunteer.module.student.entity.Student;
 import com.ctxh.volunteer.module.student.repository.StudentRepository;
@@ -19,58 +21,55 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class EnrollmentServiceImpl implements EnrollmentService {
+    // Failures meaning the activity takes no more registrations, as opposed to a problem with this request
+    private static final Set<ErrorCode> REGISTRATION_CLOSED_ERRORS = EnumSet.of(
+            ErrorCode.ACTIVITY_MAX_PENDING_REACHED,
+            ErrorCode.ACTIVITY_FULL,
+            ErrorCode.ACTIVITY_NOT_OPEN_FOR_ENROLLMENT,
+            ErrorCode.ACTIVITY_REGISTRATION_DEADLINE_PASSED);
+
 
     private final EnrollmentRepository enrollmentRepository;
     private final ActivityRepository activityRepository;
     private final StudentRepository studentRepository;
+    private final EnrollmentAdmission enrollmentAdmission;
+    private final EnrollmentBatchWriter enrollmentBatchWriter;
 
     @Override
-    @Transactional
     public EnrollmentResponseDto enrollInActivity(Long studentId, @Valid EnrollmentRequestDto requestDto) {
-        // Find student
-        Student student = studentRepository.findById(studentId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.STUDENT_NOT_FOUND));
-
-        // Find activity
-        Activity activity = activityRepository.findById(requestDto.getActivityId())
-                .orElseThrow(() -> new BusinessException(ErrorCode.ACTIVITY_NOT_FOUND));
-
-        // Check if a student already enrolled
-        enrollmentRepository.findByStudentIdAndActivityId(studentId, requestDto.getActivityId())
-                .ifPresent(enrollment -> {
-                    throw new BusinessException(ErrorCode.ALREADY_ENROLLED);
-                });
-
-        // Check if activity can accept registration - USE HELPER METHOD
-        if (!activity.canRegister()) {
+        Long activityId = requestDto.getActivityId();
+
+        // Turn the request away in memory once the activity has no registrations left
+        if (!enrollmentAdmission.tryAcquire(activityId)) {
             throw new BusinessException(ErrorCode.ACTIVITY_MAX_PENDING_REACHED);
         }
 
-        // Create enrollment
-        Enrollment enrollment = Enrollment.builder()
-                .student(student)
-                .activity(activity)
-                .status(EnrollmentStatus.PENDING)
-                .appliedAt(LocalDateTime.now())
-                .enrollmentDate(LocalDateTime.now())
-                .build();
-
-        // Use helper methods to update relationships and counts
-        student.addEnrollment(enrollment);
-        activity.addEnrollment(enrollment);
-        activity.incrementPending(); // USE HELPER METHOD
-
-        Enrollment savedEnrollment = enrollmentRepository.save(enrollment);
-        log.info("Student {} enrolled in activity {}", studentId, requestDto.getActivityId());
+        Enrollment enrollment;
+        try {
+            // Validation, slot reservation and insert happen in the writer's batch transaction
+            enrollment = enrollmentBatchWriter.enroll(studentId, activityId);
+        } catch (BusinessException e) {
+            if (REGISTRATION_CLOSED_ERRORS.contains(e.getErrorCode())) {
+                enrollmentAdmission.exhaust(activityId);
+            } else {
+                enrollmentAdmission.release(activityId);
+            }
+            throw e;
+        } catch (RuntimeException e) {
+            enrollmentAdmission.release(activityId);
+            throw e;
+        }
+        log.info("Student {} enrolled in activity {}", studentId, activityId);
 
-        return mapToEnrollmentResponseDto(savedEnrollment);
+        return mapToEnrollmentResponseDto(enrollment);
     }
 
     @Override
@@ -120,8 +119,10 @@ public class EnrollmentServiceImpl implements EnrollmentService {
         Activity activity = enrollment.getActivity();
         Student student = enrollment.getStudent();
 
-        // Decrement pending count using helper method
-        activity.decrementPending();
+        // Release the slot atomically instead of writing back a stale counter snapshot
+        activityRepository.releasePendingSlot(activity.getActivityId());
+        // Reseeded from the committed counters, so a rollback cannot hand out a phantom permit
+        enrollmentAdmission.invalidate(activity.getActivityId());
         // Remove enrollment using helper methods
         student.removeEnrollment(enrollment);
         activity.removeEnrollment(enrollment);
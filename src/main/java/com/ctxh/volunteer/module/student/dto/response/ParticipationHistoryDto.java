@@ -7,6 +7,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 
 @Data
@@ -46,4 +47,41 @@ public class ParticipationHistoryDto {
     // Certificate info
     private Boolean hasCertificate;
     private String certificateCode;
+
+    /**
+     * Projection constructor for StudentRepository#findParticipationHistory.
+     * Attendance and certificate columns are null when the student has none for the enrollment.
+     */
+    public ParticipationHistoryDto(Long enrollmentId, EnrollmentStatus enrollmentStatus, LocalDateTime appliedAt,
+                                   LocalDateTime approvedAt, Boolean isCompleted, LocalDateTime completedAt,
+                                   Long activityId, String activityTitle, String shortDescription,
+                                   ActivityCategory category, LocalDateTime startDateTime, LocalDateTime endDateTime,
+                                   String address, Double ctxhHours, Long organizationId, String organizationName,
+                                   Long attendanceId, LocalDateTime checkInTime, LocalDateTime checkOutTime,
+                                   String certificateCode) {
+        this.enrollmentId = enrollmentId;
+        this.enrollmentStatus = enrollmentStatus;
+        this.appliedAt = appliedAt;
+        this.approvedAt = approvedAt;
+        this.isCompleted = isCompleted;
+        this.completedAt = completedAt;
+        this.activityId = activityId;
+        this.activityTitle = activityTitle;
+        this.shortDescription = shortDescription;
+        this.category = category;
+        this.startDateTime = startDateTime;
+        this.endDateTime = endDateTime;
+        this.address = address;
+        this.ctxhHours = ctxhHours;
+        this.organizationId = organizationId;
+        this.organizationName = organizationName;
+        this.hasAttendance = attendanceId != null;
+        this.checkInTime = checkInTime;
+        this.checkOutTime = checkOutTime;
+        this.attendanceDuration = checkInTime != null && checkOutTime != null
+                ? Duration.between(checkInTime, checkOutTime).toMinutes()
+                : null;
+        this.hasCertificate = certificateCode != null;
+        this.certificateCode = certificateCode;
+    }
 }
@@ -29,6 +29,7 @@ public class StudentResponseDto {
     private String avatarUrl;
     private String bio;
     private String qrCodeData;
+    private LocalDateTime qrCodeExpiresAt;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 }
@@ -85,8 +85,6 @@ public class Student extends BaseEntity {
     @Column(name = "gender", length = 10)
     private Gender gender;
 
-    @Column(name = "qr_code_data", length = 500, unique = true)
-    private String qrCodeData;
     // ============ HELPER METHODS ============
 
     /**
@@ -122,23 +120,6 @@ public class Student extends BaseEntity {
         }
     }
 
-    /**
-     * Generate QR code data
-     */
-    public void generateQrCode() {
-        this.qrCodeData = generateQrCodeString();
-    }
-
-    /**
-     * Generate unique QR code string
-     */
-    private String generateQrCodeString() {
-        return String.format("STUDENT-%d-%s",
-                studentId,
-                mssv != null ? mssv : "UNKNOWN");
-    }
-
-
     /**
      * Check if the profile is complete
      */
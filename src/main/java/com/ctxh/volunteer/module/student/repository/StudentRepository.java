@@ -1,5 +1,6 @@
 package com.ctxh.volunteer.module.student.repository;
 
+import com.ctxh.volunteer.module.student.dto.response.ParticipationHistoryDto;
 import com.ctxh.volunteer.module.student.entity.Student;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -8,6 +9,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -19,14 +22,35 @@ public interface StudentRepository extends JpaRepository<Student, Long> {
     Optional<Student> findByMssv(String mssv);
 
     /**
-     * Find student by user ID
+     * Find a student's participation history (enrollment, activity, organization, attendance
+     * and certificate) in one round trip. A multi-day activity yields one row per attendance
+     * day, latest first.
      */
-    Optional<Student> findByUser_UserId(Long userId);
+    @Query("SELECT new com.ctxh.volunteer.module.student.dto.response.ParticipationHistoryDto(" +
+            "e.enrollmentId, e.status, e.appliedAt, e.approvedAt, e.isCompleted, e.completedAt, " +
+            "a.activityId, a.title, a.shortDescription, a.category, a.startDateTime, a.endDateTime, " +
+            "a.address, a.theNumberOfCtxhDay, o.organizationId, o.organizationName, " +
+            "att.attendanceId, att.checkInTime, att.checkOutTime, cert.certificateCode) " +
+            "FROM Enrollment e " +
+            "JOIN e.activity a " +
+            "JOIN a.organization o " +
+            "LEFT JOIN Attendance att ON att.student.studentId = e.student.studentId " +
+            "AND att.activity.activityId = a.activityId " +
+            "LEFT JOIN Certificate cert ON cert.enrollment.enrollmentId = e.enrollmentId " +
+            "WHERE e.student.studentId = :studentId " +
+            "ORDER BY e.appliedAt DESC, e.enrollmentId DESC, att.attendanceDate DESC")
+    List<ParticipationHistoryDto> findParticipationHistory(@Param("studentId") Long studentId);
 
     /**
-     * Find student by QR code data
+     * Find students by IDs with their user loaded
      */
-    Optional<Student> findByQrCodeData(String qrCodeData);
+    @Query("SELECT s FROM Student s JOIN FETCH s.user WHERE s.studentId IN :studentIds")
+    List<Student> findAllWithUserByIdIn(@Param("studentIds") Collection<Long> studentIds);
+
+    /**
+     * Find student by user ID
+     */
+    Optional<Student> findByUser_UserId(Long userId);
 
     /**
      * Check if MSSV exists
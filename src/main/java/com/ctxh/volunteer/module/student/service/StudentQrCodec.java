@@ -0,0 +1,112 @@
+package com.ctxh.volunteer.module.student.service;
+
+import com.ctxh.volunteer.common.exception.BusinessException;
+import com.ctxh.volunteer.common.exception.ErrorCode;
+import com.ctxh.volunteer.module.auth.config.RSAKeyRecord;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Base64;
+
+/**
+ * Issues and verifies signed, time-boxed student QR codes of the form
+ * {@code CTXH1.<studentId>.<expiresAtEpochSecond>.<hmac>}. A scanner resolves the student
+ * from the code itself, so check-in needs no lookup by QR string, and every issued code
+ * expires on its own. The HMAC key is derived from the JWT signing key, so rotating that
+ * key also rotates every outstanding QR code.
+ */
+@Component
+public class StudentQrCodec {
+    private static final String PREFIX = "CTXH1";
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final String KEY_LABEL = "ctxh-student-qr-v1";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final SecretKeySpec key;
+    @Getter
+    private final Duration ttl;
+    // Mac is stateful and not thread-safe
+    private final ThreadLocal<Mac> macs = ThreadLocal.withInitial(this::newMac);
+
+    public StudentQrCodec(RSAKeyRecord rsaKeyRecord,
+                          @Value("${student.qr.ttl:PT1H}") Duration ttl) {
+        this.key = new SecretKeySpec(deriveKey(rsaKeyRecord), HMAC_ALGORITHM);
+        this.ttl = ttl;
+    }
+
+    /**
+     * Issue a QR payload for a student, valid until {@code issuedAt + ttl}
+     */
+    public String issue(Long studentId, LocalDateTime issuedAt) {
+        long expiresAt = issuedAt.plus(ttl).atZone(ZoneId.systemDefault()).toEpochSecond();
+        String body = PREFIX + "." + studentId + "." + expiresAt;
+        return body + "." + ENCODER.encodeToString(sign(body));
+    }
+
+    /**
+     * Verify a QR payload as of {@code at} (the scan time) and return the student ID it carries
+     */
+    public Long verify(String payload, LocalDateTime at) {
+        String[] parts = payload == null ? new String[0] : payload.split("\\.", -1);
+        if (parts.length != 4 || !PREFIX.equals(parts[0])) {
+            throw new BusinessException(ErrorCode.INVALID_QR_CODE);
+        }
+
+        long studentId;
+        long expiresAt;
+        byte[] signature;
+        try {
+            studentId = Long.parseLong(parts[1]);
+            expiresAt = Long.parseLong(parts[2]);
+            signature = DECODER.decode(parts[3]);
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(ErrorCode.INVALID_QR_CODE);
+        }
+
+        String body = parts[0] + "." + parts[1] + "." + parts[2];
+        if (!MessageDigest.isEqual(sign(body), signature)) {
+            throw new BusinessException(ErrorCode.INVALID_QR_CODE);
+        }
+        if (at.atZone(ZoneId.systemDefault()).toEpochSecond() > expiresAt) {
+            throw new BusinessException(ErrorCode.QR_CODE_EXPIRED);
+        }
+        return studentId;
+    }
+
+    // ============ INTERNALS ============
+
+    private byte[] sign(String body) {
+        return macs.get().doFinal(body.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Cannot initialize QR code signer", e);
+        }
+    }
+
+    private static byte[] deriveKey(RSAKeyRecord rsaKeyRecord) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(KEY_LABEL.getBytes(StandardCharsets.US_ASCII));
+            digest.update(rsaKeyRecord.rsaPrivateKey().getEncoded());
+            return digest.digest();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Cannot derive QR code signing key", e);
+        }
+    }
+}
@@ -3,8 +3,6 @@ package com.ctxh.volunteer.module.student.service.impl;
 import com.ctxh.volunteer.common.exception.BusinessException;
 import com.ctxh.volunteer.common.exception.ErrorCode;
 import com.ctxh.volunteer.common.util.AuthUtil;
-import com.ctxh.volunteer.module.attendance.entity.Attendance;
-import com.ctxh.volunteer.module.attendance.repository.AttendanceRepository;
 import com.ctxh.volunteer.module.auth.RoleEnum;
 import com.ctxh.volunteer.module.auth.entity.Role;
 import com.ctxh.volunteer.module.auth.repository.RoleRepository;
@@ -12,8 +10,6 @@ import com.ctxh.volunteer.module.auth.service.AuthService;
 import com.ctxh.volunteer.module.certificate.dto.CertificateResponseDto;
 import com.ctxh.volunteer.module.certificate.entity.Certificate;
 import com.ctxh.volunteer.module.certificate.repository.CertificateRepository;
-import com.ctxh.volunteer.module.enrollment.entity.Enrollment;
-import com.ctxh.volunteer.module.enrollment.repository.EnrollmentRepository;
 import com.ctxh.volunteer.module.student.dto.response.ParticipationHistoryDto;
 import com.ctxh.volunteer.module.student.dto.request.CreateStudentRequestDto;
 import com.ctxh.volunteer.module.student.dto.request.UpdateStudentRequestDto;
@@ -21,6 +17,7 @@ import com.ctxh.volunteer.module.student.dto.response.StudentResponseDto;
 import com.ctxh.volunteer.module.student.entity.Student;
 import com.ctxh.volunteer.module.student.enums.Gender;
 import com.ctxh.volunteer.module.student.repository.StudentRepository;
+import com.ctxh.volunteer.module.student.service.StudentQrCodec;
 import com.ctxh.volunteer.module.student.service.StudentService;
 import com.ctxh.volunteer.module.auth.entity.User;
 import com.ctxh.volunteer.module.auth.repository.UserRepository;
@@ -30,9 +27,12 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static com.ctxh.volunteer.common.util.AppConstants.DEFAULT_AVATAR_URL;
 
@@ -45,11 +45,10 @@ public class StudentServiceImpl implements StudentService {
     private final StudentRepository studentRepository;
     private final PasswordEncoder passwordEncoder;
     private final UserRepository userRepository;
-    private final EnrollmentRepository enrollmentRepository;
-    private final AttendanceRepository attendanceRepository;
     private final CertificateRepository certificateRepository;
     private final RoleRepository roleRepository;
     private final AuthService authService;
+    private final StudentQrCodec studentQrCodec;
 
     @Override
     public StudentResponseDto registerStudent(CreateStudentRequestDto requestDto) {
@@ -84,7 +83,6 @@ public class StudentServiceImpl implements StudentService {
 
         user.setStudent(student);
         userRepository.save(user);
-        student.generateQrCode();
         Student savedStudent = studentRepository.save(student);
         log.info("Created student with ID: {}", savedStudent.getStudentId());
 
@@ -155,55 +153,18 @@ public class StudentServiceImpl implements StudentService {
     @Override
     @Transactional(readOnly = true)
     public List<ParticipationHistoryDto> getParticipationHistory(Long studentId) {
-        // Verify student exists
-        if (!studentRepository.existsById(studentId)) {
+        List<ParticipationHistoryDto> rows = studentRepository.findParticipationHistory(studentId);
+
+        // An empty history is the only case where the student may not exist
+        if (rows.isEmpty() && !studentRepository.existsById(studentId)) {
             throw new BusinessException(ErrorCode.STUDENT_NOT_FOUND);
         }
 
-        // Get all enrollments for the student
-        List<Enrollment> enrollments = enrollmentRepository.findByStudentId(studentId);
-
-        return enrollments.stream()
-                .map(enrollment -> {
-                    // Find attendance for this enrollment
-                    Optional<Attendance> attendance = attendanceRepository
-                            .findByStudentIdAndActivityId(studentId, enrollment.getActivity().getActivityId());
-
-                    // Find certificate for this enrollment
-                    Optional<Certificate> certificate = certificateRepository
-                            .findByEnrollment_EnrollmentId(enrollment.getEnrollmentId());
-
-                    return ParticipationHistoryDto.builder()
-                            // Enrollment info
-                            .enrollmentId(enrollment.getEnrollmentId())
-                            .enrollmentStatus(enrollment.getStatus())
-                            .appliedAt(enrollment.getAppliedAt())
-                            .approvedAt(enrollment.getApprovedAt())
-                            .isCompleted(enrollment.getIsCompleted())
-                            .completedAt(enrollment.getCompletedAt())
-                            // Activity info
-                            .activityId(enrollment.getActivity().getActivityId())
-                            .activityTitle(enrollment.getActivity().getTitle())
-                            .shortDescription(enrollment.getActivity().getShortDescription())
-                            .category(enrollment.getActivity().getCategory())
-                            .startDateTime(enrollment.getActivity().getStartDateTime())
-                            .endDateTime(enrollment.getActivity().getEndDateTime())
-                            .address(enrollment.getActivity().getAddress())
-                            .ctxhHours(enrollment.getActivity().getTheNumberOfCtxhDay())
-                            // Organization info
-                            .organizationId(enrollment.getActivity().getOrganization().getOrganizationId())
-                            .organizationName(enrollment.getActivity().getOrganization().getOrganizationName())
-                            // Attendance info
-                            .hasAttendance(attendance.isPresent())
-                            .checkInTime(attendance.map(Attendance::getCheckInTime).orElse(null))
-                            .checkOutTime(attendance.map(Attendance::getCheckOutTime).orElse(null))
-                            .attendanceDuration(attendance.map(Attendance::getAttendanceDurationMinutes).orElse(null))
-                            // Certificate info
-                            .hasCertificate(certificate.isPresent())
-                            .certificateCode(certificate.map(Certificate::getCertificateCode).orElse(null))
-                            .build();
-                })
-                .toList();
+        // Keep one row per enrollment; rows are ordered so the latest attendance day comes first
+        return List.copyOf(rows.stream()
+                .collect(Collectors.toMap(ParticipationHistoryDto::getEnrollmentId, Function.identity(),
+                        (latest, older) -> latest, LinkedHashMap::new))
+                .values());
     }
 
     @Override
@@ -235,9 +196,12 @@ public class StudentServiceImpl implements StudentService {
         Student student = studentRepository.findById(studentId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.STUDENT_NOT_FOUND));
 
-        student.generateQrCode();
-        studentRepository.save(student);
-        return mapToStudentResponseDto(student);
+        // Codes are signed and short-lived, so a fresh one is issued on every call and nothing is stored
+        LocalDateTime now = LocalDateTime.now();
+        StudentResponseDto responseDto = mapToStudentResponseDto(student);
+        responseDto.setQrCodeData(studentQrCodec.issue(student.getStudentId(), now));
+        responseDto.setQrCodeExpiresAt(now.plus(studentQrCodec.getTtl()));
+        return responseDto;
     }
 
 
@@ -257,7 +221,6 @@ public class StudentServiceImpl implements StudentService {
                 .gender(student.getGender())
                 .avatarUrl(student.getUser().getAvatarUrl())
                 .bio(student.getUser().getBio())
-                .qrCodeData(student.getQrCodeData())
                 .createdAt(student.getCreateAt())
                 .updatedAt(student.getUpdateAt())
                 .build();
@@ -0,0 +1,20 @@
+-- Outbox for certificates of completed enrollments: written with the completion and issued
+-- in the background by CertificateOutboxWorker. Kept out of V1, which databases created by
+-- ddl-auto skip when they are baselined.
+
+create table certificate_outbox (
+    attempts integer not null,
+    create_at timestamp(6),
+    create_by bigint,
+    enrollment_id bigint not null,
+    next_attempt_at timestamp(6) not null,
+    outbox_id bigint generated by default as identity,
+    update_at timestamp(6),
+    update_by bigint,
+    status varchar(20) not null check (status in ('PENDING','FAILED')),
+    last_error varchar(500),
+    primary key (outbox_id)
+);
+
+create index idx_certificate_outbox_due
+   on certificate_outbox (status, next_attempt_at);
@@ -0,0 +1,282 @@
+-- Baseline: the schema Hibernate generated from the entities before migrations took over.
+-- Databases created earlier by ddl-auto are baselined at this version and skip it.
+
+create table activities (
+    actual_participants integer,
+    approved_participants integer not null,
+    current_participants integer not null,
+    max_participants integer,
+    pending_participants integer not null,
+    the_number_of_ctxh_day float(53) not null,
+    activity_id bigint generated by default as identity,
+    completed_at timestamp(6),
+    create_at timestamp(6),
+    create_by bigint,
+    end_date_time timestamp(6) not null,
+    organization_id bigint not null,
+    registration_deadline timestamp(6),
+    registration_opens_at timestamp(6),
+    start_date_time timestamp(6) not null,
+    update_at timestamp(6),
+    update_by bigint,
+    activity_status varchar(20) not null check (activity_status in ('UPCOMING','ONGOING','COMPLETED')),
+    registration_state varchar(20) not null check (registration_state in ('OPEN','FULL','CLOSED','COMPLETED')),
+    category varchar(50) check (category in ('EDUCATION_SUPPORT','SOCIAL_SUPPORT','COMMUNITY_SERVICE','ENVIRONMENT','HEALTH_CAMPAIGN','EVENT_SUPPORT','FUNDRAISING','OTHER')),
+    title varchar(200) not null,
+    address varchar(500),
+    short_description varchar(500),
+    description TEXT,
+    image_url varchar(255),
+    requirements TEXT,
+    primary key (activity_id)
+);
+
+create table attendances (
+    activity_id bigint not null,
+    attendance_date timestamp(6) not null,
+    attendance_id bigint generated by default as identity,
+    check_in_time timestamp(6),
+    check_out_time timestamp(6),
+    create_at timestamp(6),
+    create_by bigint,
+    student_id bigint not null,
+    update_at timestamp(6),
+    update_by bigint,
+    status varchar(20) not null check (status in ('PRESENT','ABSENT')),
+    primary key (attendance_id),
+    constraint uk_attendance_student_activity_date unique (student_id, activity_id, attendance_date)
+);
+
+create table certificates (
+    ctxh_hours float(53) not null,
+    is_revoked boolean not null,
+    activity_end_date timestamp(6),
+    activity_id bigint not null,
+    activity_start_date timestamp(6),
+    certificate_id bigint generated by default as identity,
+    create_at timestamp(6),
+    create_by bigint,
+    enrollment_id bigint not null unique,
+    issued_date timestamp(6) not null,
+    revoked_at timestamp(6),
+    student_id bigint not null,
+    update_at timestamp(6),
+    update_by bigint,
+    student_academic_year varchar(20),
+    student_mssv varchar(20),
+    certificate_code varchar(100) not null unique,
+    representative_email varchar(100),
+    representative_name varchar(100),
+    student_faculty varchar(100),
+    student_name varchar(100) not null,
+    activity_title varchar(200) not null,
+    organization_name varchar(200) not null,
+    revoke_reason varchar(500),
+    primary key (certificate_id)
+);
+
+create table enrollments (
+    is_completed boolean not null,
+    activity_id bigint not null,
+    applied_at timestamp(6) not null,
+    approved_at timestamp(6),
+    approved_by bigint,
+    completed_at timestamp(6),
+    create_at timestamp(6),
+    create_by bigint,
+    enrollment_date timestamp(6) not null,
+    enrollment_id bigint generated by default as identity,
+    rejected_at timestamp(6),
+    rejected_by bigint,
+    student_id bigint not null,
+    update_at timestamp(6),
+    update_by bigint,
+    status varchar(20) not null check (status in ('PENDING','APPROVED','REJECTED','COMPLETED')),
+    primary key (enrollment_id),
+    constraint uk_enrollment_student_activity unique (student_id, activity_id)
+);
+
+create table organizations (
+    completed_activities_count integer,
+    total_activities_created integer not null,
+    create_at timestamp(6),
+    create_by bigint,
+    update_at timestamp(6),
+    update_by bigint,
+    user_id bigint not null,
+    representative_phone varchar(20),
+    type varchar(50) not null check (type in ('UNIVERSITY_DEPARTMENT','STUDENT_UNION','CLUB','NGO','COMPANY','GOVERNMENT','CHARITY','FOUNDATION','COMMUNITY_GROUP','OTHER')),
+    representative_email varchar(100),
+    representative_name varchar(100),
+    organization_name varchar(200) not null unique,
+    verification_status varchar(255) check (verification_status in ('PENDING','APPROVED','REJECTED','NEED_MORE_INFO')),
+    constraint uk_org_user primary key (user_id)
+);
+
+create table roles (
+    role_id bigint generated by default as identity,
+    role_name varchar(50) not null unique,
+    description varchar(255),
+    primary key (role_id)
+);
+
+create table students (
+    date_of_birth date,
+    total_ctxh_days float(53) not null,
+    mssv varchar(7) unique,
+    create_at timestamp(6),
+    create_by bigint,
+    update_at timestamp(6),
+    update_by bigint,
+    user_id bigint not null,
+    gender varchar(10) check (gender in ('MALE','FEMALE','OTHER')),
+    academic_year varchar(20),
+    faculty varchar(100),
+    full_name varchar(100) not null,
+    qr_code_data varchar(500) unique,
+    phone_number varchar(255),
+    constraint uk_student_user primary key (user_id)
+);
+
+create table tasks (
+    activity_id bigint not null,
+    create_at timestamp(6),
+    create_by bigint,
+    task_id bigint generated by default as identity,
+    update_at timestamp(6),
+    update_by bigint,
+    task_type varchar(50) check (task_type in ('PREPARATION','MAIN_ACTIVITY','CLEANUP','LOGISTICS','COORDINATION','DOCUMENTATION','MEDIA','REGISTRATION','FEEDBACK','OTHER')),
+    name varchar(200) not null,
+    description TEXT,
+    primary key (task_id)
+);
+
+create table users (
+    failed_login_attempts integer,
+    is_banned boolean not null,
+    is_locked boolean not null,
+    is_verified boolean not null,
+    create_at timestamp(6),
+    create_by bigint,
+    last_login_at timestamp(6),
+    last_password_change_at timestamp(6),
+    locked_until timestamp(6),
+    refresh_token_expires_at timestamp(6),
+    reset_password_token_expires_at timestamp(6),
+    update_at timestamp(6),
+    update_by bigint,
+    user_id bigint generated by default as identity,
+    verification_token_expires_at timestamp(6),
+    email varchar(100) not null unique,
+    avatar_url varchar(500),
+    bio TEXT,
+    password varchar(255),
+    provider varchar(255),
+    provider_id varchar(255),
+    refresh_token_uuid varchar(255),
+    reset_password_token varchar(255),
+    verification_token varchar(255),
+    primary key (user_id)
+);
+
+create table users_roles (
+    roles_role_id bigint not null,
+    user_user_id bigint not null
+);
+
+create index idx_activity_org
+   on activities (organization_id);
+
+create index idx_activity_category
+   on activities (category);
+
+create index idx_attendance_student
+   on attendances (student_id);
+
+create index idx_attendance_activity
+   on attendances (activity_id);
+
+create index idx_certificate_code
+   on certificates (certificate_code);
+
+create index idx_certificate_student
+   on certificates (student_id);
+
+create index idx_enrollment_student
+   on enrollments (student_id);
+
+create index idx_enrollment_activity
+   on enrollments (activity_id);
+
+create index idx_enrollment_status
+   on enrollments (status);
+
+create index idx_org_user
+   on organizations (user_id);
+
+create index idx_student_mssv
+   on students (mssv);
+
+create index idx_student_user
+   on students (user_id);
+
+create index idx_task_activity
+   on tasks (activity_id);
+
+create index idx_user_email
+   on users (email);
+
+alter table if exists activities
+   add constraint fk_activity_organization
+   foreign key (organization_id)
+   references organizations;
+
+alter table if exists attendances
+   add constraint fk_attendance_activity
+   foreign key (activity_id)
+   references activities;
+
+alter table if exists attendances
+   add constraint fk_attendance_student
+   foreign key (student_id)
+   references students;
+
+alter table if exists certificates
+   add constraint fk_certificate_enrollment
+   foreign key (enrollment_id)
+   references enrollments;
+
+alter table if exists enrollments
+   add constraint fk_enrollment_activity
+   foreign key (activity_id)
+   references activities;
+
+alter table if exists enrollments
+   add constraint fk_enrollment_student
+   foreign key (student_id)
+   references students;
+
+alter table if exists organizations
+   add constraint fk_organization_user
+   foreign key (user_id)
+   references users;
+
+alter table if exists students
+   add constraint fk_student_user
+   foreign key (user_id)
+   references users;
+
+alter table if exists tasks
+   add constraint fk_task_activity
+   foreign key (activity_id)
+   references activities;
+
+alter table if exists users_roles
+   add constraint FKtgou1kvdhyryu3fia6uu1fhoi
+   foreign key (roles_role_id)
+   references roles;
+
+alter table if exists users_roles
+   add constraint FK27iuqlfirca39l6y61p4p4qo2
+   foreign key (user_user_id)
+   references users;
@@ -0,0 +1,18 @@
+-- Composite indexes for the activity filters and sort orders actually queried:
+-- an organization's activities newest first, the keyset feed, and advanced search
+-- (registration state, optionally category, ordered by start date).
+
+-- Superseded by idx_activity_org_created, which also serves organization_id lookups
+drop index if exists idx_activity_org;
+
+create index if not exists idx_activity_org_created
+   on activities (organization_id, create_at);
+
+create index if not exists idx_activity_feed
+   on activities (create_at, activity_id);
+
+create index if not exists idx_activity_state_start
+   on activities (registration_state, start_date_time, activity_id);
+
+create index if not exists idx_activity_state_category_start
+   on activities (registration_state, category, start_date_time);
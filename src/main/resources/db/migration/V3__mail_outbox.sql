@@ -0,0 +1,21 @@
+-- Outbox for transactional emails: written with the change that needs the email and
+-- delivered in the background by MailOutboxWorker.
+
+create table mail_outbox (
+    attempts integer not null,
+    create_at timestamp(6),
+    create_by bigint,
+    next_attempt_at timestamp(6) not null,
+    outbox_id bigint generated by default as identity,
+    update_at timestamp(6),
+    update_by bigint,
+    status varchar(20) not null check (status in ('PENDING','FAILED')),
+    template varchar(50) not null check (template in ('VERIFY_EMAIL_TEMPLATE','VERIFY_RESET_PASSWORD_TEMPLATE')),
+    last_error varchar(500),
+    recipient varchar(500) not null,
+    template_value varchar(2048) not null,
+    primary key (outbox_id)
+);
+
+create index idx_mail_outbox_due
+   on mail_outbox (status, next_attempt_at);
@@ -0,0 +1,19 @@
+-- Participant notifications: bulk email is delivered after transactional email, the outbox
+-- accepts the activity update template, and approved participants of an activity are read
+-- in enrollment order as a keyset cursor.
+
+alter table mail_outbox
+    add column bulk boolean not null default false;
+
+alter table mail_outbox
+    drop constraint if exists mail_outbox_template_check;
+
+alter table mail_outbox
+    add constraint mail_outbox_template_check
+    check (template in ('VERIFY_EMAIL_TEMPLATE','VERIFY_RESET_PASSWORD_TEMPLATE','ACTIVITY_UPDATE_TEMPLATE'));
+
+-- Superseded by idx_enrollment_activity_status, which also serves activity_id lookups
+drop index if exists idx_enrollment_activity;
+
+create index if not exists idx_enrollment_activity_status
+   on enrollments (activity_id, status, enrollment_id);
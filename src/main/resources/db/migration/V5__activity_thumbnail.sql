@@ -0,0 +1,3 @@
+-- List-size variant of the activity image, served by list views in place of the full image.
+alter table activities
+    add column thumbnail_url varchar(255);
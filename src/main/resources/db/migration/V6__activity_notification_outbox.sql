@@ -0,0 +1,28 @@
+-- Participant fan-outs are persisted with the change they announce and resumed from their
+-- enrollment cursor by ActivityNotificationWorker. Transactional and bulk email are claimed
+-- separately, so the due index leads with the bulk flag after the status.
+
+create table activity_notification_outbox (
+    attempts integer not null,
+    activity_id bigint not null,
+    create_at timestamp(6),
+    create_by bigint,
+    last_enrollment_id bigint not null,
+    next_attempt_at timestamp(6) not null,
+    notification_id bigint generated by default as identity,
+    update_at timestamp(6),
+    update_by bigint,
+    status varchar(20) not null check (status in ('PENDING','FAILED')),
+    heading varchar(200) not null,
+    last_error varchar(500),
+    message varchar(1000) not null,
+    primary key (notification_id)
+);
+
+create index idx_activity_notification_due
+   on activity_notification_outbox (status, next_attempt_at);
+
+drop index if exists idx_mail_outbox_due;
+
+create index idx_mail_outbox_due
+   on mail_outbox (status, bulk, next_attempt_at);
@@ -0,0 +1,26 @@
+-- Accent-insensitive full-text search over activities, used by ActivityRepository when the
+-- database is PostgreSQL. Vietnamese has no stemmer in PostgreSQL, so the ctxh_unaccent
+-- configuration is simple plus unaccent: "mua he xanh" matches "Mùa hè xanh". The search
+-- vector weighs title (A) over short description (B) over description (C).
+
+create extension if not exists unaccent;
+
+do $$
+begin
+    if not exists (select 1 from pg_ts_config where cfgname = 'ctxh_unaccent') then
+        create text search configuration ctxh_unaccent (copy = simple);
+        alter text search configuration ctxh_unaccent
+            alter mapping for hword, hword_part, word with unaccent, simple;
+    end if;
+end $$;
+
+alter table activities
+    add column if not exists search_vector tsvector
+    generated always as (
+        setweight(to_tsvector('ctxh_unaccent', coalesce(title, '')), 'A') ||
+        setweight(to_tsvector('ctxh_unaccent', coalesce(short_description, '')), 'B') ||
+        setweight(to_tsvector('ctxh_unaccent', coalesce(description, '')), 'C')
+    ) stored;
+
+create index if not exists idx_activity_search_vector
+   on activities using gin (search_vector);
@@ -0,0 +1,4 @@
+-- Check-in codes are signed and issued on demand (StudentQrCodec), so the stored legacy
+-- code, and the unique index that came with it, are no longer read or written.
+alter table students
+    drop column qr_code_data;
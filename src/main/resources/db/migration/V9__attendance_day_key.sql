@@ -0,0 +1,28 @@
+-- One attendance record per student, activity and calendar day. The old key included the
+-- full check-in timestamp, so a concurrent online check-in and offline sync could both
+-- insert a record for the same day. attendance_day carries the day of attendance_date and
+-- backs ON CONFLICT in the offline sync insert.
+alter table attendances
+    add column attendance_day date;
+
+update attendances
+   set attendance_day = cast(attendance_date as date);
+
+-- Keep the most complete record of any day that already has duplicates
+delete from attendances a
+ using (select attendance_id,
+               row_number() over (
+                   partition by student_id, activity_id, attendance_day
+                   order by check_out_time is null, check_in_time is null, attendance_id) as duplicate_no
+          from attendances) ranked
+ where a.attendance_id = ranked.attendance_id
+   and ranked.duplicate_no > 1;
+
+alter table attendances
+    alter column attendance_day set not null;
+
+alter table attendances
+    drop constraint uk_attendance_student_activity_date;
+
+alter table attendances
+    add constraint uk_attendance_student_activity_day unique (student_id, activity_id, attendance_day);
@@ -0,0 +1,75 @@
+package com.ctxh.volunteer.common.util;
+
+import com.ctxh.volunteer.module.auth.enums.EmailTemplates;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("HtmlTemplate Unit Tests")
+class HtmlTemplateTest {
+
+    // ==================== COMPILE TESTS ====================
+
+    @Test
+    @DisplayName("Compile - Splits on placeholders and keeps escaped percent signs")
+    void compile_SplitsOnPlaceholders() {
+        // Arrange
+        HtmlTemplate template = HtmlTemplate.compile("<p>%s is %s%% done</p>");
+
+        // Act & Assert
+        assertThat(template.placeholderCount()).isEqualTo(2);
+        assertThat(template.render("Mùa hè xanh", 50)).isEqualTo("<p>Mùa hè xanh is 50% done</p>");
+    }
+
+    @Test
+    @DisplayName("Render - Matches String.format for the email templates")
+    void render_MatchesStringFormat() {
+        for (EmailTemplates template : EmailTemplates.values()) {
+            Object[] args = new Object[template.getArgumentCount()];
+            Arrays.fill(args, "123456");
+            assertThat(template.formatContent(args))
+                    .isEqualTo(String.format(template.getContent(), args));
+        }
+    }
+
+    // ==================== RENDER TESTS ====================
+
+    @Test
+    @DisplayName("Render - Escapes HTML in arguments and renders null as empty")
+    void render_EscapesArguments() {
+        // Arrange
+        HtmlTemplate template = HtmlTemplate.compile("<a href=\"%s\">%s</a>");
+
+        // Act & Assert
+        assertThat(template.render("/x?a=1&b='2'", null)).isEqualTo("<a href=\"/x?a=1&amp;b=&#39;2&#39;\"></a>");
+        assertThat(template.render("<b>", "\"")).isEqualTo("<a href=\"&lt;b&gt;\">&quot;</a>");
+    }
+
+    @Test
+    @DisplayName("Render - Rejects a wrong number of arguments")
+    void render_Throws_WhenArgumentCountMismatches() {
+        HtmlTemplate template = HtmlTemplate.compile("<p>%s</p>");
+
+        assertThatThrownBy(template::render).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> template.render("a", "b")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Render - Reuses the buffer without leaking a longer message into a shorter one")
+    void render_ReusesBufferWithoutLeaking() {
+        // Arrange
+        HtmlTemplate template = HtmlTemplate.compile("<p>%s</p>");
+
+        // Act
+        String longer = template.render("Mùa hè xanh 2024");
+        String shorter = template.render("Hè");
+
+        // Assert
+        assertThat(longer).isEqualTo("<p>Mùa hè xanh 2024</p>");
+        assertThat(shorter).isEqualTo("<p>Hè</p>");
+    }
+}
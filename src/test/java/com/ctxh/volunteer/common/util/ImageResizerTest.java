@@ -0,0 +1,88 @@
+package com.ctxh.volunteer.common.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ImageResizer Unit Tests")
+class ImageResizerTest {
+
+    @TempDir
+    Path dir;
+
+    private Path write(BufferedImage image, String format) throws IOException {
+        Path file = dir.resolve("source." + format);
+        ImageIO.write(image, format, file.toFile());
+        return file;
+    }
+
+    // ==================== DECODE TESTS ====================
+
+    @Test
+    @DisplayName("Decode - Subsamples a large image to between one and two times the target size")
+    void decode_SubsamplesLargeImage() throws IOException {
+        // Arrange
+        Path source = write(new BufferedImage(4000, 3000, BufferedImage.TYPE_INT_RGB), "jpg");
+
+        // Act
+        BufferedImage decoded = ImageResizer.decode(source, 1200);
+
+        // Assert: every third pixel, instead of 12 million pixels on the heap
+        assertThat(decoded.getWidth()).isEqualTo(1334);
+        assertThat(decoded.getHeight()).isEqualTo(1000);
+    }
+
+    @Test
+    @DisplayName("Decode - Reads a small image at full size")
+    void decode_KeepsSmallImage() throws IOException {
+        // Arrange
+        Path source = write(new BufferedImage(640, 480, BufferedImage.TYPE_INT_RGB), "png");
+
+        // Act & Assert
+        assertThat(ImageResizer.decode(source, 1200).getWidth()).isEqualTo(640);
+    }
+
+    @Test
+    @DisplayName("Decode - Rejects a file that is not an image")
+    void decode_RejectsNonImage() throws IOException {
+        // Arrange
+        Path source = Files.writeString(dir.resolve("notes.txt"), "not an image");
+
+        // Act & Assert
+        assertThatThrownBy(() -> ImageResizer.decode(source, 1200)).isInstanceOf(IOException.class);
+    }
+
+    // ==================== SCALE TESTS ====================
+
+    @Test
+    @DisplayName("Scale To Fit - Fits the longer side and keeps the aspect ratio")
+    void scaleToFit_KeepsAspectRatio() {
+        // Act
+        BufferedImage portrait = ImageResizer.scaleToFit(new BufferedImage(900, 1800, BufferedImage.TYPE_INT_RGB), 400);
+
+        // Assert
+        assertThat(portrait.getWidth()).isEqualTo(200);
+        assertThat(portrait.getHeight()).isEqualTo(400);
+    }
+
+    @Test
+    @DisplayName("Scale To Fit - Flattens transparency onto white for JPEG")
+    void scaleToFit_FlattensTransparency() {
+        // Act
+        BufferedImage flattened = ImageResizer.scaleToFit(new BufferedImage(50, 50, BufferedImage.TYPE_INT_ARGB), 400);
+
+        // Assert
+        assertThat(flattened.getType()).isEqualTo(BufferedImage.TYPE_INT_RGB);
+        assertThat(flattened.getWidth()).isEqualTo(50);
+        assertThat(flattened.getRGB(10, 10) & 0xFFFFFF).isEqualTo(0xFFFFFF);
+    }
+}
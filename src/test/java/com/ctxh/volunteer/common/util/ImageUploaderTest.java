@@ -0,0 +1,284 @@
+package com.ctxh.volunteer.common.util;
+
+import com.ctxh.volunteer.common.exception.BusinessException;
+import com.ctxh.volunteer.common.exception.ErrorCode;
+import com.ctxh.volunteer.common.storage.ImageStorage;
+import com.ctxh.volunteer.common.storage.LocalImageStorage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ImageUploader Unit Tests")
+class ImageUploaderTest {
+
+    @TempDir
+    Path storageDir;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ImageUploader imageUploader;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        LocalImageStorage storage = new LocalImageStorage(storageDir.toString(), "/images/");
+        imageUploader = new ImageUploader(storage, transactionManager, 1, 10, 1200, 400);
+    }
+
+    @AfterEach
+    void tearDown() {
+        imageUploader.shutdown();
+    }
+
+    private static MockMultipartFile png(int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setColor(Color.BLUE);
+        graphics.fillRect(0, 0, width / 2, height);
+        graphics.dispose();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return new MockMultipartFile("image", "cover.png", "image/png", out.toByteArray());
+    }
+
+    private BufferedImage stored(String url) throws IOException {
+        return ImageIO.read(storageDir.resolve(url.substring("/images/".length())).toFile());
+    }
+
+    // ==================== PROCESS TESTS ====================
+
+    @Test
+    @DisplayName("Process - Stores a detail-size and a list-size JPEG keeping the aspect ratio")
+    void process_StoresBothVariants(@TempDir Path source) throws IOException {
+        // Arrange
+        Path original = source.resolve("original.png");
+        png(3000, 2000).transferTo(original);
+
+        // Act
+        ImageUploader.Variants variants = imageUploader.process(original);
+
+        // Assert
+        BufferedImage detail = stored(variants.detailUrl());
+        BufferedImage list = stored(variants.listUrl());
+        assertThat(detail.getWidth()).isEqualTo(1200);
+        assertThat(detail.getHeight()).isEqualTo(800);
+        assertThat(list.getWidth()).isEqualTo(400);
+        assertThat(list.getHeight()).isEqualTo(267);
+        assertThat(Files.size(storageDir.resolve(variants.listUrl().substring("/images/".length()))))
+                .isLessThan(Files.size(storageDir.resolve(variants.detailUrl().substring("/images/".length()))));
+    }
+
+    @Test
+    @DisplayName("Process - Never upscales a small image")
+    void process_KeepsSmallImageSize(@TempDir Path source) throws IOException {
+        // Arrange
+        Path original = source.resolve("original.png");
+        png(300, 200).transferTo(original);
+
+        // Act
+        ImageUploader.Variants variants = imageUploader.process(original);
+
+        // Assert
+        assertThat(stored(variants.detailUrl()).getWidth()).isEqualTo(300);
+        assertThat(stored(variants.listUrl()).getWidth()).isEqualTo(300);
+    }
+
+    // ==================== UPLOAD TESTS ====================
+
+    @Test
+    @DisplayName("Upload - Stores the variants once the transaction commits and hands back their URLs")
+    void upload_WaitsForCommit() throws Exception {
+        // Arrange
+        CompletableFuture<ImageUploader.Variants> uploaded = new CompletableFuture<>();
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // Act
+            imageUploader.upload(png(1600, 900), uploaded::complete);
+
+            // Assert
+            try (Stream<Path> files = Files.list(storageDir)) {
+                assertThat(files).isEmpty();
+            }
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        ImageUploader.Variants variants = uploaded.get(5, TimeUnit.SECONDS);
+        assertThat(stored(variants.detailUrl()).getWidth()).isEqualTo(1200);
+        assertThat(stored(variants.listUrl()).getWidth()).isEqualTo(400);
+        verify(transactionManager, timeout(2000)).commit(any());
+    }
+
+    @Test
+    @DisplayName("Upload - Stores nothing when the transaction rolls back")
+    void upload_Discards_OnRollback() throws IOException {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // Act
+            imageUploader.upload(png(100, 100), variants -> { });
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // Assert
+        verifyNoInteractions(transactionManager);
+        try (Stream<Path> files = Files.list(storageDir)) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("Upload - Leaves the entity untouched when the image cannot be decoded")
+    void upload_DoesNotApply_WhenImageIsCorrupt() throws Exception {
+        // Arrange
+        MockMultipartFile corrupt = new MockMultipartFile("image", "cover.png", "image/png", new byte[]{1, 2, 3});
+        CompletableFuture<ImageUploader.Variants> uploaded = new CompletableFuture<>();
+
+        // Act
+        imageUploader.upload(corrupt, uploaded::complete);
+
+        // Assert
+        imageUploader.shutdown();
+        Thread.sleep(200);
+        assertThat(uploaded).isNotDone();
+        verifyNoInteractions(transactionManager);
+    }
+
+    // ==================== BACKPRESSURE TESTS ====================
+
+    @Test
+    @DisplayName("Upload - Rejects the request while the upload queue is full")
+    void upload_Throws_WhenQueueIsFull() throws Exception {
+        // Arrange
+        CountDownLatch release = new CountDownLatch(1);
+        imageUploader.shutdown();
+        imageUploader = new ImageUploader(blockingStorage(release), transactionManager, 1, 2, 1200, 400);
+        CountDownLatch stored = new CountDownLatch(2);
+        imageUploader.upload(png(100, 100), variants -> stored.countDown());
+        imageUploader.upload(png(100, 100), variants -> stored.countDown());
+
+        try {
+            // Act & Assert
+            assertThatThrownBy(() -> imageUploader.upload(png(100, 100), variants -> { }))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.IMAGE_UPLOAD_BUSY);
+        } finally {
+            release.countDown();
+        }
+        assertThat(stored.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Upload - Links the image from a pool thread in its own transaction after the request commits")
+    void upload_AppliesInNewTransaction_AfterRealCommit() throws Exception {
+        // Arrange
+        CountDownLatch release = new CountDownLatch(1);
+        DataSourceTransactionManager realTransactionManager =
+                new DataSourceTransactionManager(new DriverManagerDataSource("jdbc:h2:mem:image-uploader;DB_CLOSE_DELAY=-1"));
+        imageUploader.shutdown();
+        imageUploader = new ImageUploader(blockingStorage(release), realTransactionManager, 1, 2, 1200, 400);
+        CompletableFuture<Thread> appliedOn = new CompletableFuture<>();
+        AtomicReference<Boolean> appliedInTransaction = new AtomicReference<>();
+
+        try {
+            // Act
+            new TransactionTemplate(realTransactionManager).executeWithoutResult(status -> {
+                try {
+                    imageUploader.upload(png(100, 100), variants -> {
+                        appliedInTransaction.set(TransactionSynchronizationManager.isActualTransactionActive());
+                        appliedOn.complete(Thread.currentThread());
+                    });
+                    // Another request takes the worker before this transaction commits
+                    imageUploader.upload(png(100, 100), variants -> { });
+                } catch (IOException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+
+            // Assert - the committed upload was queued and both slots stay taken
+            assertThatThrownBy(() -> imageUploader.upload(png(100, 100), variants -> { }))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.IMAGE_UPLOAD_BUSY);
+        } finally {
+            release.countDown();
+        }
+        assertThat(appliedOn.get(5, TimeUnit.SECONDS).getName()).startsWith("image-upload-");
+        assertThat(appliedInTransaction.get()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Upload - Frees the slot when the request rolls back")
+    void upload_ReleasesSlot_WhenRolledBack() throws Exception {
+        // Arrange
+        imageUploader.shutdown();
+        imageUploader = new ImageUploader(new LocalImageStorage(storageDir.toString(), "/images/"),
+                transactionManager, 1, 1, 1200, 400);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            imageUploader.upload(png(100, 100), variants -> { });
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        CompletableFuture<ImageUploader.Variants> uploaded = new CompletableFuture<>();
+
+        // Act
+        imageUploader.upload(png(100, 100), uploaded::complete);
+
+        // Assert
+        assertThat(uploaded.get(5, TimeUnit.SECONDS)).isNotNull();
+    }
+
+    /**
+     * Storage that holds the pool's worker until released, so the queue can be filled
+     */
+    private static ImageStorage blockingStorage(CountDownLatch release) {
+        return image -> {
+            if (Thread.currentThread().getName().startsWith("image-upload-")) {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return "/images/" + image.getFileName();
+        };
+    }
+}
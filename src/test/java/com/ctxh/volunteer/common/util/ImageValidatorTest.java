@@ -0,0 +1,57 @@
+package com.ctxh.volunteer.common.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ImageValidator Unit Tests")
+class ImageValidatorTest {
+
+    private final ImageValidator imageValidator = new ImageValidator();
+
+    private static MockMultipartFile png(int width, int height) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_BYTE_BINARY), "png", out);
+        return new MockMultipartFile("image", "cover.png", "image/png", out.toByteArray());
+    }
+
+    // ==================== VALIDATE TESTS ====================
+
+    @Test
+    @DisplayName("Validate - Accepts a large photo that the upload pipeline will downsize")
+    void validate_AcceptsLargeImage() throws IOException {
+        assertThatCode(() -> imageValidator.validate(png(4032, 3024))).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("Validate - Rejects images beyond the dimension limit from the header alone")
+    void validate_RejectsOversizedDimensions() throws IOException {
+        // Arrange: a few KB compressed, hundreds of MB once decoded
+        MockMultipartFile bomb = png(10_000, 10_000);
+
+        // Act & Assert
+        assertThatThrownBy(() -> imageValidator.validate(bomb))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("8192x8192");
+    }
+
+    @Test
+    @DisplayName("Validate - Rejects content that is not an image despite its type")
+    void validate_RejectsNonImage() {
+        // Arrange
+        MockMultipartFile fake = new MockMultipartFile("image", "cover.png", "image/png", new byte[]{1, 2, 3});
+
+        // Act & Assert
+        assertThatThrownBy(() -> imageValidator.validate(fake))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid image file");
+    }
+}
@@ -0,0 +1,130 @@
+package com.ctxh.volunteer.module.activity.repository;
+
+import com.ctxh.volunteer.module.activity.entity.Activity;
+import com.ctxh.volunteer.module.activity.enums.ActivityCategory;
+import com.ctxh.volunteer.module.activity.enums.RegistrationState;
+import com.ctxh.volunteer.module.auth.entity.User;
+import com.ctxh.volunteer.module.auth.repository.UserRepository;
+import com.ctxh.volunteer.module.organization.entity.Organization;
+import com.ctxh.volunteer.module.organization.enums.OrganizationType;
+import com.ctxh.volunteer.module.organization.repository.OrganizationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the Flyway migrations and the full-text queries against a real PostgreSQL. Needs
+ * Docker and is skipped without it; the H2 suite cannot cover {@code search_vector}.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.jpa.database-platform=org.hibernate.dialect.PostgreSQLDialect"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@ActiveProfiles("test")
+@DisplayName("Activity full-text search PostgreSQL Tests")
+class ActivityFullTextPostgresTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private ActivityRepository activityRepository;
+
+    @Autowired
+    private OrganizationRepository organizationRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private Organization organization;
+    private LocalDateTime start;
+
+    @BeforeEach
+    void setUp() {
+        User user = User.builder()
+                .email("fts-org@example.com")
+                .password("password")
+                .isVerified(true)
+                .build();
+        organization = Organization.builder()
+                .user(user)
+                .organizationName("Full-text Org")
+                .type(OrganizationType.NGO)
+                .build();
+        user.setOrganization(organization);
+        userRepository.save(user);
+        organization = organizationRepository.save(organization);
+        start = LocalDate.now().plusDays(10).atTime(8, 0);
+    }
+
+    private Activity save(String title, ActivityCategory category, LocalDateTime startDateTime) {
+        return activityRepository.saveAndFlush(Activity.builder()
+                .organization(organization)
+                .title(title)
+                .category(category)
+                .startDateTime(startDateTime)
+                .endDateTime(startDateTime.plusHours(4))
+                .registrationDeadline(startDateTime.minusDays(2))
+                .maxParticipants(10)
+                .theNumberOfCtxhDay(1.0)
+                .build());
+    }
+
+    // ==================== FIND FULL TEXT MATCH IDS TESTS ====================
+
+    @Test
+    @DisplayName("Find Full Text Match Ids - Matches without accents and applies the filters in the query")
+    void findFullTextMatchIds_AppliesFilters() {
+        // Arrange
+        Activity education = save("Mùa hè xanh dạy học", ActivityCategory.EDUCATION_SUPPORT, start);
+        save("Mùa hè xanh trồng cây", ActivityCategory.ENVIRONMENT, start);
+        save("Hiến máu nhân đạo", ActivityCategory.EDUCATION_SUPPORT, start);
+
+        // Act
+        Page<Long> result = activityRepository.findFullTextMatchIds("mua he xanh", ActivityCategory.EDUCATION_SUPPORT,
+                RegistrationState.OPEN, null, null, PageRequest.of(0, 10));
+
+        // Assert
+        assertThat(result.getContent()).containsExactly(education.getActivityId());
+        assertThat(result.getTotalElements()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Find Full Text Match Ids - Pages every match in start date order and counts them all")
+    void findFullTextMatchIds_PagesAllMatches() {
+        // Arrange
+        Activity later = save("Mùa hè xanh đợt 2", ActivityCategory.ENVIRONMENT, start.plusDays(3));
+        Activity earlier = save("Mùa hè xanh đợt 1", ActivityCategory.ENVIRONMENT, start);
+        save("Mùa hè xanh năm trước", ActivityCategory.ENVIRONMENT, start.minusDays(5));
+
+        // Act
+        Page<Long> first = activityRepository.findFullTextMatchIds("mua he xanh", null,
+                RegistrationState.OPEN, start.toLocalDate(), null, PageRequest.of(0, 1));
+        Page<Long> second = activityRepository.findFullTextMatchIds("mua he xanh", null,
+                RegistrationState.OPEN, start.toLocalDate(), null, PageRequest.of(1, 1));
+
+        // Assert
+        assertThat(first.getContent()).containsExactly(earlier.getActivityId());
+        assertThat(second.getContent()).containsExactly(later.getActivityId());
+        assertThat(first.getTotalElements()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,70 @@
+package com.ctxh.volunteer.module.activity.repository;
+
+import com.ctxh.volunteer.module.activity.entity.ActivityNotification;
+import com.ctxh.volunteer.module.activity.enums.ActivityNotificationStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@DisplayName("ActivityNotificationRepository Integration Tests")
+class ActivityNotificationRepositoryTest {
+
+    @Autowired
+    private ActivityNotificationRepository activityNotificationRepository;
+
+    private ActivityNotification save(ActivityNotificationStatus status, LocalDateTime nextAttemptAt) {
+        return activityNotificationRepository.save(ActivityNotification.builder()
+                .activityId(1L)
+                .heading("Mùa hè xanh")
+                .message("Hoạt động đã thay đổi.")
+                .status(status)
+                .nextAttemptAt(nextAttemptAt)
+                .build());
+    }
+
+    // ==================== FIND DUE FOR UPDATE TESTS ====================
+
+    @Test
+    @DisplayName("Find Due For Update - Returns pending due fan-outs oldest first")
+    void findDueForUpdate_ReturnsDuePendingEntries() {
+        // Arrange
+        LocalDateTime now = LocalDateTime.now();
+        ActivityNotification first = save(ActivityNotificationStatus.PENDING, now.minusMinutes(5));
+        save(ActivityNotificationStatus.PENDING, now.plusMinutes(5));
+        save(ActivityNotificationStatus.FAILED, now.minusMinutes(5));
+
+        // Act
+        List<ActivityNotification> result = activityNotificationRepository.findDueForUpdate(now, PageRequest.of(0, 10));
+
+        // Assert
+        assertThat(result).extracting(ActivityNotification::getNotificationId)
+                .containsExactly(first.getNotificationId());
+    }
+
+    @Test
+    @DisplayName("Find Due For Update - Keeps the cursor of a fan-out whose lease ran out")
+    void findDueForUpdate_ResumesAdvancedEntry() {
+        // Arrange
+        LocalDateTime now = LocalDateTime.now();
+        ActivityNotification entry = save(ActivityNotificationStatus.PENDING, now.minusMinutes(1));
+        entry.claim(now.plusMinutes(5));
+        entry.advance(42L, now.plusMinutes(5));
+        activityNotificationRepository.saveAndFlush(entry);
+
+        // Act & Assert
+        assertThat(activityNotificationRepository.findDueForUpdate(now, PageRequest.of(0, 10))).isEmpty();
+        assertThat(activityNotificationRepository.findDueForUpdate(now.plusMinutes(6), PageRequest.of(0, 10)))
+                .extracting(ActivityNotification::getLastEnrollmentId)
+                .containsExactly(42L);
+    }
+}
@@ -0,0 +1,314 @@
+package com.ctxh.volunteer.module.activity.repository;
+
+import com.ctxh.volunteer.module.activity.enums.ActivityCategory;
+import com.ctxh.volunteer.module.activity.enums.RegistrationState;
+import com.ctxh.volunteer.module.activity.specification.ActivitySpecification;
+import com.ctxh.volunteer.module.auth.RoleEnum;
+import com.ctxh.volunteer.module.auth.entity.Role;
+import com.ctxh.volunteer.module.auth.entity.User;
+import com.ctxh.volunteer.module.auth.repository.RoleRepository;
+import com.ctxh.volunteer.module.auth.repository.UserRepository;
+import com.ctxh.volunteer.module.organization.entity.Organization;
+import com.ctxh.volunteer.module.organization.enums.OrganizationType;
+import com.ctxh.volunteer.module.organization.repository.OrganizationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Query-plan regression suite: runs each activity repository query against a seeded and
+ * analyzed PostgreSQL table, then EXPLAINs the SQL Hibernate actually sent with the values it
+ * actually bound. Sequential scans are switched off for the test transaction, so the planner
+ * only falls back to one when no index can serve the query; each test also names the index it
+ * expects. Deliberately not covered: the LIKE fallback search (a leading wildcard cannot use a
+ * B-tree index) and the search index bulk load (reads nearly every row by design). Needs
+ * Docker and is skipped without it.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.jpa.database-platform=org.hibernate.dialect.PostgreSQLDialect"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@Import(ActivityQueryPlanPostgresTest.StatementCaptureConfig.class)
+@ActiveProfiles("test")
+@DisplayName("Activity Query Plan PostgreSQL Tests")
+class ActivityQueryPlanPostgresTest {
+    private static final int SEEDED_ACTIVITIES = 2000;
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private ActivityRepository activityRepository;
+
+    @Autowired
+    private OrganizationRepository organizationRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long organizationId;
+
+    /**
+     * A prepared statement as executed: its SQL and the setter calls that bound its parameters
+     */
+    record CapturedStatement(String sql, List<BoundParameter> parameters) {
+    }
+
+    record BoundParameter(Method setter, Object[] args) {
+    }
+
+    /**
+     * Wraps the data source so every statement Hibernate executes is recorded with its bound values
+     */
+    @TestConfiguration
+    static class StatementCaptureConfig {
+        static final List<CapturedStatement> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Bean
+        static BeanPostProcessor statementCapture() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource
+                            ? proxy(DataSource.class, dataSource, (method, result, args) ->
+                                    result instanceof Connection connection ? capturing(connection) : result)
+                            : bean;
+                }
+            };
+        }
+
+        private static Connection capturing(Connection connection) {
+            return proxy(Connection.class, connection, (method, result, args) ->
+                    result instanceof PreparedStatement statement && method.getName().equals("prepareStatement")
+                            ? capturing(statement, (String) args[0])
+                            : result);
+        }
+
+        private static PreparedStatement capturing(PreparedStatement statement, String sql) {
+            List<BoundParameter> parameters = new ArrayList<>();
+            return proxy(PreparedStatement.class, statement, (method, result, args) -> {
+                String name = method.getName();
+                if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer) {
+                    parameters.add(new BoundParameter(method, args));
+                } else if (name.startsWith("execute") && (args == null || args.length == 0)
+                        && !sql.startsWith("EXPLAIN")) {
+                    STATEMENTS.add(new CapturedStatement(sql, List.copyOf(parameters)));
+                } else if (name.equals("clearParameters")) {
+                    parameters.clear();
+                }
+                return result;
+            });
+        }
+
+        private interface AfterCall {
+            Object apply(Method method, Object result, Object[] args);
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> T proxy(Class<T> type, T target, AfterCall afterCall) {
+            return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+                try {
+                    return afterCall.apply(method, method.invoke(target, args), args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+            });
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        Role organizationRole = roleRepository.save(Role.builder()
+                .roleName(RoleEnum.ORGANIZATION.name())
+                .build());
+        List<Long> organizationIds = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            User user = User.builder()
+                    .email("org" + i + "@example.com")
+                    .password("password")
+                    .avatarUrl("avatar.png")
+                    .roles(List.of(organizationRole))
+                    .build();
+            Organization organization = Organization.builder()
+                    .user(user)
+                    .organizationName("Organization " + i)
+                    .type(OrganizationType.NGO)
+                    .build();
+            user.setOrganization(organization);
+            userRepository.save(user);
+            organizationIds.add(organizationRepository.save(organization).getOrganizationId());
+        }
+        entityManager.flush();
+        organizationId = organizationIds.get(0);
+        seedActivities(organizationIds);
+        jdbcTemplate.execute("ANALYZE activities");
+        // Only for this test transaction: a sequential scan now means no index fits the query
+        jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+        StatementCaptureConfig.STATEMENTS.clear();
+    }
+
+    private void seedActivities(List<Long> organizationIds) {
+        RegistrationState[] states = RegistrationState.values();
+        ActivityCategory[] categories = ActivityCategory.values();
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 8, 0);
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < SEEDED_ACTIVITIES; i++) {
+            Timestamp start = Timestamp.valueOf(base.plusDays(i % 365).plusHours(i % 7));
+            rows.add(new Object[]{
+                    organizationIds.get(i % organizationIds.size()), "Activity " + i, "Description " + i,
+                    categories[i % categories.length].name(), states[i % states.length].name(), "UPCOMING",
+                    start, Timestamp.valueOf(start.toLocalDateTime().plusHours(4)),
+                    Timestamp.valueOf(base.minusDays(i % 400).plusMinutes(i))});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO activities (organization_id, title, description, category, " +
+                "registration_state, activity_status, start_date_time, end_date_time, create_at, " +
+                "max_participants, approved_participants, current_participants, pending_participants, " +
+                "the_number_of_ctxh_day) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, 50, 0, 0, 0, 1.0)", rows);
+    }
+
+    /**
+     * EXPLAIN every captured statement that reads the activities table, with its bound values
+     */
+    private List<String> plans(Runnable query) {
+        StatementCaptureConfig.STATEMENTS.clear();
+        query.run();
+        List<String> plans = StatementCaptureConfig.STATEMENTS.stream()
+                .filter(statement -> statement.sql().toLowerCase().contains("from activities"))
+                .map(this::explain)
+                .toList();
+        assertThat(plans).as("captured activity queries").isNotEmpty();
+        return plans;
+    }
+
+    private String explain(CapturedStatement captured) {
+        return jdbcTemplate.query("EXPLAIN " + captured.sql(), statement -> {
+            for (BoundParameter parameter : captured.parameters()) {
+                try {
+                    parameter.setter().invoke(statement, parameter.args());
+                } catch (ReflectiveOperationException e) {
+                    throw new IllegalStateException("Could not rebind " + parameter.setter().getName(), e);
+                }
+            }
+        }, resultSet -> {
+            StringBuilder plan = new StringBuilder();
+            while (resultSet.next()) {
+                plan.append(resultSet.getString(1)).append('\n');
+            }
+            return plan.toString();
+        });
+    }
+
+    private void assertUsesIndex(String index, Runnable query) {
+        assertThat(plans(query)).allSatisfy(plan -> assertThat(plan)
+                .as("plan should read activities through %s:%n%s", index, plan)
+                .doesNotContain("Seq Scan on activities")
+                .contains(index));
+    }
+
+    // ==================== ORGANIZATION AND FEED TESTS ====================
+
+    @Test
+    @DisplayName("Find By Organization Id - Uses the organization index")
+    void findByOrganizationId_UsesIndex() {
+        assertUsesIndex("idx_activity_org_created", () -> activityRepository.findByOrganizationId(organizationId));
+    }
+
+    @Test
+    @DisplayName("Find Feed - First and next pages use the feed index")
+    void findFeed_UsesIndex() {
+        assertUsesIndex("idx_activity_feed", () -> activityRepository.findFeedFirstPage(PageRequest.of(0, 20)));
+        assertUsesIndex("idx_activity_feed", () -> activityRepository.findFeedAfter(
+                LocalDateTime.of(2024, 6, 1, 0, 0), 1000L, PageRequest.of(0, 20)));
+    }
+
+    // ==================== PRIMARY KEY LOOKUP TESTS ====================
+
+    @Test
+    @DisplayName("Lookups by id - Use the primary key")
+    void lookupsById_UsePrimaryKey() {
+        assertUsesIndex("activities_pkey", () -> activityRepository.findByIdAndOrganizationId(1L, organizationId));
+        assertUsesIndex("activities_pkey", () -> activityRepository.findOrganizationIdByActivityId(1L));
+        assertUsesIndex("activities_pkey", () -> activityRepository.findUpcomingListItemsByIdIn(List.of(1L, 2L, 3L)));
+    }
+
+    // ==================== ADVANCED SEARCH TESTS ====================
+
+    @Test
+    @DisplayName("Advanced Search - Default filter uses a registration state index")
+    void advancedSearch_Default_UsesIndex() {
+        assertUsesIndex("idx_activity_state_", () -> activityRepository.findListItems(
+                ActivitySpecification.searchActivities(null, null, null, null, null), PageRequest.of(0, 20)));
+    }
+
+    @Test
+    @DisplayName("Advanced Search - Category and date filters use a registration state index")
+    void advancedSearch_Filters_UseIndex() {
+        assertUsesIndex("idx_activity_state_", () -> activityRepository.findListItems(
+                ActivitySpecification.searchActivities(null, ActivityCategory.ENVIRONMENT, RegistrationState.OPEN,
+                        null, null), PageRequest.of(0, 20)));
+        assertUsesIndex("idx_activity_state_", () -> activityRepository.findListItems(
+                ActivitySpecification.searchActivities(null, null, RegistrationState.CLOSED,
+                        LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 31)), PageRequest.of(0, 20)));
+    }
+
+    @Test
+    @DisplayName("Advanced Search - Keyword matches use the primary key")
+    void advancedSearch_KeywordMatches_UseIndex() {
+        assertUsesIndex("activities_pkey", () -> activityRepository.findListItems(
+                ActivitySpecification.searchActivities("x", List.of(1L, 2L), null, null, null, null),
+                PageRequest.of(0, 20)));
+    }
+
+    // ==================== FULL-TEXT SEARCH TESTS ====================
+
+    @Test
+    @DisplayName("Full-Text Search - Matches through the search vector index")
+    void fullTextSearch_UsesSearchVectorIndex() {
+        assertUsesIndex("idx_activity_search_vector", () -> activityRepository.searchByFullText("1234"));
+        assertUsesIndex("idx_activity_search_vector", () -> activityRepository.findFullTextMatchIds(
+                "1234", null, RegistrationState.OPEN, null, null, PageRequest.of(0, 20)));
+    }
+}
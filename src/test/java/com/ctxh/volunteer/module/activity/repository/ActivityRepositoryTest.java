@@ -0,0 +1,354 @@
+package com.ctxh.volunteer.module.activity.repository;
+
+import com.ctxh.volunteer.module.activity.dto.ActivitySearchDocumentDto;
+import com.ctxh.volunteer.module.activity.dto.response.ActivityListResponseDto;
+import com.ctxh.volunteer.module.activity.entity.Activity;
+import com.ctxh.volunteer.module.activity.enums.ActivityCategory;
+import com.ctxh.volunteer.module.activity.enums.RegistrationState;
+import com.ctxh.volunteer.module.activity.specification.ActivitySpecification;
+import com.ctxh.volunteer.module.auth.RoleEnum;
+import com.ctxh.volunteer.module.auth.entity.Role;
+import com.ctxh.volunteer.module.auth.entity.User;
+import com.ctxh.volunteer.module.auth.repository.RoleRepository;
+import com.ctxh.volunteer.module.auth.repository.UserRepository;
+import com.ctxh.volunteer.module.organization.entity.Organization;
+import com.ctxh.volunteer.module.organization.enums.OrganizationType;
+import com.ctxh.volunteer.module.organization.repository.OrganizationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@DisplayName("ActivityRepository Integration Tests")
+class ActivityRepositoryTest {
+
+    @Autowired
+    private ActivityRepository activityRepository;
+
+    @Autowired
+    private OrganizationRepository organizationRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Organization testOrganization;
+    private LocalDateTime baseTime;
+
+    @BeforeEach
+    void setUp() {
+        Role organizationRole = roleRepository.save(Role.builder()
+                .roleName(RoleEnum.ORGANIZATION.name())
+                .build());
+
+        User user = User.builder()
+                .email("org@example.com")
+                .password("password")
+                .avatarUrl("avatar.png")
+                .roles(List.of(organizationRole))
+                .build();
+
+        testOrganization = Organization.builder()
+                .user(user)
+                .organizationName("Test Organization")
+                .type(OrganizationType.NGO)
+                .build();
+
+        user.setOrganization(testOrganization);
+        userRepository.save(user);
+        testOrganization = organizationRepository.save(testOrganization);
+
+        baseTime = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+    }
+
+    private Activity saveActivity(String title, LocalDateTime createAt, Integer maxParticipants, int approved) {
+        Activity activity = Activity.builder()
+                .organization(testOrganization)
+                .title(title)
+                .description("Long description that list views never need")
+                .category(ActivityCategory.EDUCATION_SUPPORT)
+                .startDateTime(baseTime.plusDays(7))
+                .endDateTime(baseTime.plusDays(8))
+                .maxParticipants(maxParticipants)
+                .approvedParticipants(approved)
+                .theNumberOfCtxhDay(1.0)
+                .build();
+        activity = activityRepository.saveAndFlush(activity);
+
+        // Auditing stamps createAt on insert, so pin it afterwards to control feed order
+        entityManager.getEntityManager()
+                .createNativeQuery("UPDATE activities SET create_at = :createAt WHERE activity_id = :id")
+                .setParameter("createAt", createAt)
+                .setParameter("id", activity.getActivityId())
+                .executeUpdate();
+        entityManager.clear();
+        return activity;
+    }
+
+    // ==================== FEED KEYSET PAGINATION TESTS ====================
+
+    @Test
+    @DisplayName("Find Feed First Page - Returns newest activities first with list columns")
+    void findFeedFirstPage_ReturnsNewestFirst() {
+        // Arrange
+        saveActivity("Old", baseTime.minusDays(2), 10, 4);
+        Activity newest = saveActivity("New", baseTime, 10, 4);
+
+        // Act
+        List<ActivityListResponseDto> rows = activityRepository.findFeedFirstPage(PageRequest.of(0, 10));
+
+        // Assert
+        assertThat(rows).extracting(ActivityListResponseDto::getTitle).containsExactly("New", "Old");
+        assertThat(rows.get(0).getActivityId()).isEqualTo(newest.getActivityId());
+        assertThat(rows.get(0).getCreatedAt()).isEqualTo(baseTime);
+        assertThat(rows.get(0).getRemainingSlots()).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("Find Feed First Page - Serves the list-size image, or the full image until there is one")
+    void findFeedFirstPage_PrefersListSizeImage() {
+        // Arrange
+        Activity resized = saveActivity("Resized", baseTime, 10, 0);
+        Activity original = saveActivity("Original", baseTime.minusMinutes(1), 10, 0);
+        activityRepository.updateImages(resized.getActivityId(), "https://cdn/detail.jpg", "https://cdn/list.jpg");
+        entityManager.getEntityManager()
+                .createNativeQuery("UPDATE activities SET image_url = 'https://cdn/original.jpg' WHERE activity_id = :id")
+                .setParameter("id", original.getActivityId())
+                .executeUpdate();
+
+        // Act
+        List<ActivityListResponseDto> rows = activityRepository.findFeedFirstPage(PageRequest.of(0, 10));
+        Page<ActivityListResponseDto> page = activityRepository.findListItems(
+                ActivitySpecification.searchActivities(null, null, null, null, null), PageRequest.of(0, 10));
+
+        // Assert
+        assertThat(rows).extracting(ActivityListResponseDto::getImageUrl)
+                .containsExactly("https://cdn/list.jpg", "https://cdn/original.jpg");
+        assertThat(page.getContent()).extracting(ActivityListResponseDto::getImageUrl)
+                .containsExactlyInAnyOrder("https://cdn/list.jpg", "https://cdn/original.jpg");
+        assertThat(activityRepository.findById(resized.getActivityId()))
+                .hasValueSatisfying(activity -> assertThat(activity.getImageUrl()).isEqualTo("https://cdn/detail.jpg"));
+    }
+
+    @Test
+    @DisplayName("Find Feed First Page - Remaining slots are null when unlimited and never negative")
+    void findFeedFirstPage_ComputesRemainingSlots() {
+        // Arrange
+        saveActivity("Unlimited", baseTime, null, 3);
+        saveActivity("Overbooked", baseTime.minusMinutes(1), 2, 5);
+
+        // Act
+        List<ActivityListResponseDto> rows = activityRepository.findFeedFirstPage(PageRequest.of(0, 10));
+
+        // Assert
+        assertThat(rows.get(0).getRemainingSlots()).isNull();
+        assertThat(rows.get(1).getRemainingSlots()).isZero();
+    }
+
+    @Test
+    @DisplayName("Find Feed After - Walks every activity exactly once across equal timestamps")
+    void findFeedAfter_WalksAllRowsWithoutDuplicates() {
+        // Arrange: several activities share a timestamp so the id tie-breaker matters
+        List<Long> expected = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            LocalDateTime createAt = i < 4 ? baseTime : baseTime.minusHours(i);
+            expected.add(saveActivity("Activity " + i, createAt, 10, 0).getActivityId());
+        }
+
+        // Act
+        List<Long> seen = new ArrayList<>();
+        List<ActivityListResponseDto> page = activityRepository.findFeedFirstPage(PageRequest.of(0, 3));
+        while (!page.isEmpty()) {
+            page.forEach(row -> seen.add(row.getActivityId()));
+            ActivityListResponseDto last = page.get(page.size() - 1);
+            page = activityRepository.findFeedAfter(last.getCreatedAt(), last.getActivityId(), PageRequest.of(0, 3));
+        }
+
+        // Assert
+        assertThat(seen).containsExactlyInAnyOrderElementsOf(expected).doesNotHaveDuplicates();
+    }
+
+    // ==================== OWNERSHIP LOOKUP TESTS ====================
+
+    @Test
+    @DisplayName("Find Organization Id By Activity Id - Returns owner or empty")
+    void findOrganizationIdByActivityId_ReturnsOwner() {
+        // Arrange
+        Activity activity = saveActivity("Owned", baseTime, 10, 0);
+
+        // Act & Assert
+        assertThat(activityRepository.findOrganizationIdByActivityId(activity.getActivityId()))
+                .contains(testOrganization.getOrganizationId());
+        assertThat(activityRepository.findOrganizationIdByActivityId(-1L)).isEmpty();
+    }
+
+    // ==================== SEARCH INDEX SOURCE TESTS ====================
+
+    @Test
+    @DisplayName("Find Search Documents - Skips completed activities and carries the organization")
+    void findSearchDocuments_SkipsCompleted() {
+        // Arrange
+        Activity open = saveActivity("Open", baseTime, 10, 0);
+        Activity completed = saveActivity("Completed", baseTime, 10, 0);
+        completed.complete();
+        activityRepository.saveAndFlush(completed);
+
+        // Act
+        List<ActivitySearchDocumentDto> documents = activityRepository.findSearchDocuments();
+
+        // Assert
+        assertThat(documents).singleElement().satisfies(document -> {
+            assertThat(document.getActivityId()).isEqualTo(open.getActivityId());
+            assertThat(document.getOrganizationId()).isEqualTo(testOrganization.getOrganizationId());
+            assertThat(document.getOrganizationName()).isEqualTo("Test Organization");
+        });
+    }
+
+    @Test
+    @DisplayName("Find Search Documents Changed Since - Returns only activities created or edited after the watermark")
+    void findSearchDocumentsChangedSince_FiltersByWatermark() {
+        // Arrange
+        saveActivity("Old", baseTime.minusDays(10), 10, 0);
+        Activity recent = saveActivity("Recent", baseTime, 10, 0);
+
+        // Act
+        List<ActivitySearchDocumentDto> documents =
+                activityRepository.findSearchDocumentsChangedSince(baseTime.minusDays(1));
+
+        // Assert
+        assertThat(documents).extracting(ActivitySearchDocumentDto::getActivityId)
+                .containsExactly(recent.getActivityId());
+    }
+
+    @Test
+    @DisplayName("Find Searchable Ids - Skips completed activities")
+    void findSearchableIds_SkipsCompleted() {
+        // Arrange
+        Activity open = saveActivity("Open", baseTime, 10, 0);
+        Activity completed = saveActivity("Completed", baseTime, 10, 0);
+        completed.complete();
+        activityRepository.saveAndFlush(completed);
+
+        // Act
+        List<Long> ids = activityRepository.findSearchableIds();
+
+        // Assert
+        assertThat(ids).containsExactly(open.getActivityId());
+    }
+
+    // ==================== SLOT COUNTER TESTS ====================
+
+    @Test
+    @DisplayName("Approve Pending Slot - Moves a pending slot to approved and fills the activity")
+    void approvePendingSlot_MovesSlotAndMarksFull() {
+        // Arrange
+        Activity activity = saveActivity("Two seats", baseTime, 2, 1);
+        activityRepository.reservePendingSlots(activity.getActivityId(), 2, 2);
+
+        // Act
+        int first = activityRepository.approvePendingSlot(activity.getActivityId());
+        int second = activityRepository.approvePendingSlot(activity.getActivityId());
+        entityManager.clear();
+
+        // Assert
+        assertThat(first).isEqualTo(1);
+        assertThat(second).isZero();
+        Activity reloaded = activityRepository.findById(activity.getActivityId()).orElseThrow();
+        assertThat(reloaded.getApprovedParticipants()).isEqualTo(2);
+        assertThat(reloaded.getPendingParticipants()).isEqualTo(1);
+        assertThat(reloaded.getCurrentParticipants()).isEqualTo(2);
+        assertThat(reloaded.getRegistrationState()).isEqualTo(RegistrationState.FULL);
+    }
+
+    @Test
+    @DisplayName("Update - Editing an activity does not overwrite counters changed by atomic updates")
+    void update_KeepsConcurrentCounterChanges() {
+        // Arrange: the entity is loaded before another request reserves a slot
+        Activity activity = saveActivity("Original", baseTime, 10, 0);
+        Activity loaded = activityRepository.findById(activity.getActivityId()).orElseThrow();
+        activityRepository.reservePendingSlots(activity.getActivityId(), 1, 2);
+
+        // Act
+        loaded.setTitle("Renamed");
+        activityRepository.saveAndFlush(loaded);
+        entityManager.clear();
+
+        // Assert
+        Activity reloaded = activityRepository.findById(activity.getActivityId()).orElseThrow();
+        assertThat(reloaded.getTitle()).isEqualTo("Renamed");
+        assertThat(reloaded.getPendingParticipants()).isEqualTo(1);
+        assertThat(reloaded.getCurrentParticipants()).isEqualTo(1);
+    }
+
+    // ==================== ADVANCED SEARCH TESTS ====================
+
+    @Test
+    @DisplayName("Find List Items - Pages open activities by start date with list columns only")
+    void findListItems_PagesOpenActivities() {
+        // Arrange
+        Activity first = saveActivity("First", baseTime, 10, 4);
+        Activity second = saveActivity("Second", baseTime, 10, 0);
+        Activity third = saveActivity("Third", baseTime, null, 0);
+        Activity closed = saveActivity("Closed", baseTime, 10, 0);
+        closed.closeRegistration();
+        activityRepository.saveAndFlush(closed);
+
+        // Act
+        Page<ActivityListResponseDto> page = activityRepository.findListItems(
+                ActivitySpecification.searchActivities(null, null, null, null, null), PageRequest.of(0, 2));
+        Page<ActivityListResponseDto> last = activityRepository.findListItems(
+                ActivitySpecification.searchActivities(null, null, null, null, null), PageRequest.of(1, 2));
+
+        // Assert
+        assertThat(page.getTotalElements()).isEqualTo(3);
+        assertThat(page.getContent()).extracting(ActivityListResponseDto::getActivityId)
+                .containsExactly(first.getActivityId(), second.getActivityId());
+        assertThat(page.getContent().get(0).getRemainingSlots()).isEqualTo(6);
+        assertThat(page.getContent().get(0).getRegistrationState()).isEqualTo(RegistrationState.OPEN);
+        assertThat(last.getContent()).extracting(ActivityListResponseDto::getActivityId)
+                .containsExactly(third.getActivityId());
+        assertThat(last.getContent().get(0).getRemainingSlots()).isNull();
+    }
+
+    @Test
+    @DisplayName("Find List Items - Filters by state and keyword matches")
+    void findListItems_FiltersByStateAndMatches() {
+        // Arrange
+        Activity open = saveActivity("Open", baseTime, 10, 0);
+        saveActivity("Other", baseTime, 10, 0);
+        Activity closed = saveActivity("Closed", baseTime, 10, 0);
+        closed.closeRegistration();
+        activityRepository.saveAndFlush(closed);
+
+        // Act
+        Page<ActivityListResponseDto> byState = activityRepository.findListItems(
+                ActivitySpecification.searchActivities(null, null, RegistrationState.CLOSED, null, null),
+                PageRequest.of(0, 10));
+        Page<ActivityListResponseDto> byMatches = activityRepository.findListItems(
+                ActivitySpecification.searchActivities("open", List.of(open.getActivityId()), null, null, null, null),
+                PageRequest.of(0, 10));
+
+        // Assert
+        assertThat(byState.getContent()).extracting(ActivityListResponseDto::getTitle).containsExactly("Closed");
+        assertThat(byMatches.getContent()).extracting(ActivityListResponseDto::getTitle).containsExactly("Open");
+    }
+}
@@ -0,0 +1,91 @@
+package com.ctxh.volunteer.module.activity.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ActivityFullTextSearch Unit Tests")
+class ActivityFullTextSearchTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private void givenDatabase(String productName) {
+        when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenReturn(productName);
+    }
+
+    @Test
+    @DisplayName("Is Available - True on PostgreSQL once the migration added the search vector, checked once")
+    void isAvailable_True_WhenSearchVectorExists() {
+        // Arrange
+        givenDatabase("PostgreSQL");
+        when(jdbcTemplate.queryForObject(contains("search_vector"), eq(Boolean.class))).thenReturn(true);
+        ActivityFullTextSearch search = new ActivityFullTextSearch(jdbcTemplate, true);
+
+        // Act & Assert
+        assertThat(search.isAvailable()).isTrue();
+        assertThat(search.isAvailable()).isTrue();
+        verify(jdbcTemplate, times(1)).queryForObject(anyString(), eq(Boolean.class));
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+
+    @Test
+    @DisplayName("Is Available - False on PostgreSQL when the search vector is missing")
+    void isAvailable_False_WhenSearchVectorMissing() {
+        // Arrange
+        givenDatabase("PostgreSQL");
+        when(jdbcTemplate.queryForObject(contains("search_vector"), eq(Boolean.class))).thenReturn(false);
+        ActivityFullTextSearch search = new ActivityFullTextSearch(jdbcTemplate, true);
+
+        // Act & Assert
+        assertThat(search.isAvailable()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Is Available - Keeps LIKE search on other databases")
+    void isAvailable_False_OnH2() {
+        // Arrange
+        givenDatabase("H2");
+        ActivityFullTextSearch search = new ActivityFullTextSearch(jdbcTemplate, true);
+
+        // Act & Assert
+        assertThat(search.isAvailable()).isFalse();
+        verify(jdbcTemplate, never()).queryForObject(anyString(), eq(Boolean.class));
+    }
+
+    @Test
+    @DisplayName("Is Available - Keeps LIKE search when the database cannot be reached")
+    void isAvailable_False_WhenCheckFails() {
+        // Arrange
+        when(jdbcTemplate.execute(any(ConnectionCallback.class)))
+                .thenThrow(new DataAccessResourceFailureException("connection refused"));
+        ActivityFullTextSearch search = new ActivityFullTextSearch(jdbcTemplate, true);
+
+        // Act & Assert
+        assertThat(search.isAvailable()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Is Available - Does nothing when disabled")
+    void isAvailable_False_WhenDisabled() {
+        // Arrange
+        ActivityFullTextSearch search = new ActivityFullTextSearch(jdbcTemplate, false);
+
+        // Act & Assert
+        assertThat(search.isAvailable()).isFalse();
+        verifyNoInteractions(jdbcTemplate);
+    }
+}
@@ -0,0 +1,175 @@
+package com.ctxh.volunteer.module.activity.service;
+
+import com.ctxh.volunteer.module.activity.dto.ActivitySearchDocumentDto;
+import com.ctxh.volunteer.module.activity.dto.response.ActivitySuggestionDto;
+import com.ctxh.volunteer.module.activity.enums.ActivityCategory;
+import com.ctxh.volunteer.module.activity.repository.ActivityRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ActivityIndexer Unit Tests")
+class ActivityIndexerTest {
+
+    @Mock
+    private ActivityRepository activityRepository;
+
+    private ActivitySearchIndex searchIndex;
+    private ActivitySuggestIndex suggestIndex;
+    private ActivityIndexer indexer;
+
+    @BeforeEach
+    void setUp() {
+        searchIndex = new ActivitySearchIndex(true);
+        suggestIndex = new ActivitySuggestIndex(true);
+        indexer = new ActivityIndexer(activityRepository, List.of(searchIndex, suggestIndex), Duration.ofMinutes(1));
+    }
+
+    private static ActivitySearchDocumentDto document(long id, String title, String address) {
+        return new ActivitySearchDocumentDto(id, title, "Mô tả ngắn", ActivityCategory.OTHER, address, 10L, "Đoàn trường");
+    }
+
+    private List<String> suggestions(String prefix) {
+        return suggestIndex.suggest(prefix, 5).stream().map(ActivitySuggestionDto::getText).toList();
+    }
+
+    // ==================== LOAD TESTS ====================
+
+    @Test
+    @DisplayName("Run - Loads every index from a single read")
+    void run_LoadsEveryIndexOnce() {
+        // Arrange
+        when(activityRepository.findSearchDocuments()).thenReturn(List.of(
+                document(1L, "Mùa hè xanh", "Quận 1"),
+                document(2L, "Hiến máu nhân đạo", "Đà Nẵng")));
+
+        // Act
+        indexer.run();
+
+        // Assert
+        assertThat(searchIndex.isReady()).isTrue();
+        assertThat(suggestIndex.isReady()).isTrue();
+        assertThat(searchIndex.search("hien mau", 10)).containsExactly(2L);
+        assertThat(suggestions("mua")).containsExactly("Mùa hè xanh");
+        verify(activityRepository, times(1)).findSearchDocuments();
+    }
+
+    @Test
+    @DisplayName("Run - Skips disabled indexes and reads nothing when all are disabled")
+    void run_DoesNothing_WhenDisabled() {
+        // Arrange
+        searchIndex = new ActivitySearchIndex(false);
+        suggestIndex = new ActivitySuggestIndex(false);
+        indexer = new ActivityIndexer(activityRepository, List.of(searchIndex, suggestIndex), Duration.ofMinutes(1));
+
+        // Act
+        indexer.run();
+
+        // Assert
+        assertThat(searchIndex.isReady()).isFalse();
+        assertThat(suggestIndex.isReady()).isFalse();
+        verifyNoInteractions(activityRepository);
+    }
+
+    // ==================== UPDATE TESTS ====================
+
+    @Test
+    @DisplayName("Index - Applies changes to every index only after the transaction commits")
+    void index_WaitsForCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // Act
+            indexer.index(document(1L, "Mùa hè xanh", "Quận 1"));
+
+            // Assert
+            assertThat(searchIndex.search("xanh", 10)).isEmpty();
+            assertThat(suggestions("xanh")).isEmpty();
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            assertThat(searchIndex.search("xanh", 10)).containsExactly(1L);
+            assertThat(suggestions("xanh")).containsExactly("Mùa hè xanh");
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Remove - Drops the activity from every index")
+    void remove_DropsFromEveryIndex() {
+        // Arrange
+        indexer.index(document(1L, "Mùa hè xanh", "Quận 1"));
+
+        // Act
+        indexer.remove(1L);
+
+        // Assert
+        assertThat(searchIndex.search("xanh", 10)).isEmpty();
+        assertThat(suggestions("xanh")).isEmpty();
+    }
+
+    // ==================== RESYNC TESTS ====================
+
+    @Test
+    @DisplayName("Resync - Applies edits from other instances and drops completed or deleted activities")
+    void resync_AppliesRemoteChanges() {
+        // Arrange
+        when(activityRepository.findSearchDocuments()).thenReturn(List.of(
+                document(1L, "Mùa hè xanh", "Quận 1"),
+                document(2L, "Hiến máu nhân đạo", "Quận 3")));
+        indexer.run();
+        when(activityRepository.findSearchDocumentsChangedSince(any(LocalDateTime.class))).thenReturn(List.of(
+                document(1L, "Tiếp sức mùa thi", "Quận 1"),
+                document(3L, "Dọn rác bờ biển", "Vũng Tàu")));
+        when(activityRepository.findSearchableIds()).thenReturn(List.of(1L, 3L));
+
+        // Act
+        indexer.resync();
+
+        // Assert
+        assertThat(searchIndex.search("xanh", 10)).isEmpty();
+        assertThat(searchIndex.search("mua thi", 10)).containsExactly(1L);
+        assertThat(searchIndex.search("vung tau", 10)).containsExactly(3L);
+        assertThat(searchIndex.search("hien mau", 10)).isEmpty();
+        assertThat(searchIndex.indexedIds()).containsExactlyInAnyOrder(1L, 3L);
+        assertThat(suggestIndex.indexedIds()).containsExactlyInAnyOrder(1L, 3L);
+        assertThat(suggestions("hien")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Resync - Looks back one interval before the previous pass")
+    void resync_OverlapsPreviousWindow() {
+        // Arrange
+        LocalDateTime before = LocalDateTime.now();
+        when(activityRepository.findSearchDocuments()).thenReturn(List.of());
+        indexer.run();
+
+        // Act
+        indexer.resync();
+
+        // Assert
+        verify(activityRepository).findSearchDocumentsChangedSince(argThat(since ->
+                !since.isAfter(before.minusMinutes(1).plusSeconds(5)) && !since.isBefore(before.minusMinutes(1))));
+    }
+
+    @Test
+    @DisplayName("Resync - Does nothing before the indexes are loaded")
+    void resync_SkipsUntilLoaded() {
+        // Act
+        indexer.resync();
+
+        // Assert
+        verifyNoInteractions(activityRepository);
+    }
+}
@@ -0,0 +1,142 @@
+package com.ctxh.volunteer.module.activity.service;
+
+import com.ctxh.volunteer.module.activity.entity.ActivityNotification;
+import com.ctxh.volunteer.module.activity.enums.ActivityNotificationStatus;
+import com.ctxh.volunteer.module.activity.repository.ActivityNotificationRepository;
+import com.ctxh.volunteer.module.auth.enums.EmailTemplates;
+import com.ctxh.volunteer.module.auth.service.MailService;
+import com.ctxh.volunteer.module.enrollment.dto.EnrollmentRecipientDto;
+import com.ctxh.volunteer.module.enrollment.repository.EnrollmentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ActivityNotificationWorker Unit Tests")
+class ActivityNotificationWorkerTest {
+
+    private static final String HEADING = "Mùa hè xanh";
+    private static final String MESSAGE = "Hoạt động đã thay đổi.";
+
+    @Mock
+    private ActivityNotificationRepository activityNotificationRepository;
+
+    @Mock
+    private EnrollmentRepository enrollmentRepository;
+
+    @Mock
+    private MailService mailService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ActivityNotificationWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        worker = new ActivityNotificationWorker(activityNotificationRepository, enrollmentRepository,
+                mailService, transactionManager, 2, 3);
+    }
+
+    private ActivityNotification notification(long lastEnrollmentId) {
+        ActivityNotification notification = ActivityNotification.builder()
+                .notificationId(5L)
+                .activityId(1L)
+                .heading(HEADING)
+                .message(MESSAGE)
+                .lastEnrollmentId(lastEnrollmentId)
+                .nextAttemptAt(LocalDateTime.now().minusMinutes(1))
+                .build();
+        when(activityNotificationRepository.findById(5L)).thenReturn(Optional.of(notification));
+        return notification;
+    }
+
+    // ==================== PROCESS TESTS ====================
+
+    @Test
+    @DisplayName("Process - Queues one bulk email per chunk, following the enrollment cursor")
+    void process_QueuesEveryChunk() {
+        // Arrange
+        ActivityNotification notification = notification(0L);
+        when(enrollmentRepository.findApprovedRecipientsAfter(1L, 0L, PageRequest.of(0, 2))).thenReturn(List.of(
+                new EnrollmentRecipientDto(3L, "a@hcmut.edu.vn"), new EnrollmentRecipientDto(7L, "b@hcmut.edu.vn")));
+        when(enrollmentRepository.findApprovedRecipientsAfter(1L, 7L, PageRequest.of(0, 2))).thenReturn(List.of(
+                new EnrollmentRecipientDto(9L, "c@hcmut.edu.vn")));
+
+        // Act
+        int queued = worker.process(notification);
+
+        // Assert
+        assertThat(queued).isEqualTo(3);
+        verify(mailService).sendEmails(List.of("a@hcmut.edu.vn", "b@hcmut.edu.vn"),
+                EmailTemplates.ACTIVITY_UPDATE_TEMPLATE, HEADING, MESSAGE);
+        verify(mailService).sendEmails(List.of("c@hcmut.edu.vn"),
+                EmailTemplates.ACTIVITY_UPDATE_TEMPLATE, HEADING, MESSAGE);
+        verify(activityNotificationRepository).save(notification);
+        verify(activityNotificationRepository).delete(notification);
+    }
+
+    @Test
+    @DisplayName("Process - Resumes after the last queued enrollment")
+    void process_ResumesFromCursor() {
+        // Arrange
+        ActivityNotification notification = notification(7L);
+        when(enrollmentRepository.findApprovedRecipientsAfter(1L, 7L, PageRequest.of(0, 2))).thenReturn(List.of(
+                new EnrollmentRecipientDto(9L, "c@hcmut.edu.vn")));
+
+        // Act & Assert
+        assertThat(worker.process(notification)).isEqualTo(1);
+        verify(mailService).sendEmails(List.of("c@hcmut.edu.vn"),
+                EmailTemplates.ACTIVITY_UPDATE_TEMPLATE, HEADING, MESSAGE);
+        verify(enrollmentRepository, never()).findApprovedRecipientsAfter(eq(1L), eq(0L), any(Pageable.class));
+        verify(activityNotificationRepository).delete(notification);
+    }
+
+    @Test
+    @DisplayName("Process - Keeps the cursor of queued chunks and backs off when a chunk fails")
+    void process_BacksOff_WhenChunkFails() {
+        // Arrange
+        ActivityNotification notification = notification(0L);
+        notification.claim(LocalDateTime.now().plusMinutes(5));
+        when(enrollmentRepository.findApprovedRecipientsAfter(1L, 0L, PageRequest.of(0, 2))).thenReturn(List.of(
+                new EnrollmentRecipientDto(3L, "a@hcmut.edu.vn"), new EnrollmentRecipientDto(7L, "b@hcmut.edu.vn")));
+        when(enrollmentRepository.findApprovedRecipientsAfter(1L, 7L, PageRequest.of(0, 2)))
+                .thenThrow(new IllegalStateException("connection reset"));
+
+        // Act
+        int queued = worker.process(notification);
+
+        // Assert
+        assertThat(queued).isEqualTo(2);
+        assertThat(notification.getLastEnrollmentId()).isEqualTo(7L);
+        assertThat(notification.getLastError()).isEqualTo("connection reset");
+        assertThat(notification.getStatus()).isEqualTo(ActivityNotificationStatus.PENDING);
+        assertThat(notification.getNextAttemptAt()).isBefore(LocalDateTime.now().plusMinutes(1));
+        verify(activityNotificationRepository, never()).delete(any());
+    }
+
+    // ==================== BACKOFF TESTS ====================
+
+    @Test
+    @DisplayName("Backoff - Doubles per attempt up to one hour")
+    void backoff_DoublesAndCaps() {
+        assertThat(ActivityNotificationWorker.backoff(1)).isEqualTo(Duration.ofSeconds(30));
+        assertThat(ActivityNotificationWorker.backoff(2)).isEqualTo(Duration.ofSeconds(60));
+        assertThat(ActivityNotificationWorker.backoff(20)).isEqualTo(Duration.ofHours(1));
+    }
+}
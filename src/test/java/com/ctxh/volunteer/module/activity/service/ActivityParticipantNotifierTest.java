@@ -0,0 +1,64 @@
+package com.ctxh.volunteer.module.activity.service;
+
+import com.ctxh.volunteer.module.activity.entity.Activity;
+import com.ctxh.volunteer.module.activity.entity.ActivityNotification;
+import com.ctxh.volunteer.module.activity.enums.ActivityNotificationStatus;
+import com.ctxh.volunteer.module.activity.repository.ActivityNotificationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ActivityParticipantNotifier Unit Tests")
+class ActivityParticipantNotifierTest {
+
+    @Mock
+    private ActivityNotificationRepository activityNotificationRepository;
+
+    private ActivityParticipantNotifier notifier;
+
+    @BeforeEach
+    void setUp() {
+        notifier = new ActivityParticipantNotifier(activityNotificationRepository);
+    }
+
+    // ==================== NOTIFY TESTS ====================
+
+    @Test
+    @DisplayName("Notify - Records a due fan-out starting from the first enrollment")
+    void notifyScheduleChanged_RecordsNotification() {
+        // Arrange
+        Activity activity = Activity.builder()
+                .activityId(1L)
+                .title("Mùa hè xanh")
+                .address("Quận 1")
+                .startDateTime(LocalDateTime.of(2026, 7, 1, 7, 30))
+                .build();
+        ArgumentCaptor<ActivityNotification> captor = ArgumentCaptor.forClass(ActivityNotification.class);
+
+        // Act
+        notifier.notifyScheduleChanged(activity);
+
+        // Assert
+        verify(activityNotificationRepository).save(captor.capture());
+        ActivityNotification notification = captor.getValue();
+        assertThat(notification.getActivityId()).isEqualTo(1L);
+        assertThat(notification.getHeading()).isEqualTo("Mùa hè xanh");
+        assertThat(notification.getMessage())
+                .contains("07:30 01/07/2026")
+                .contains("Quận 1")
+                .contains("chưa cập nhật");
+        assertThat(notification.getLastEnrollmentId()).isZero();
+        assertThat(notification.getStatus()).isEqualTo(ActivityNotificationStatus.PENDING);
+        assertThat(notification.getNextAttemptAt()).isBeforeOrEqualTo(LocalDateTime.now());
+    }
+}
@@ -0,0 +1,108 @@
+package com.ctxh.volunteer.module.activity.service;
+
+import com.ctxh.volunteer.module.activity.dto.ActivitySearchDocumentDto;
+import com.ctxh.volunteer.module.activity.enums.ActivityCategory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ActivitySearchIndex Unit Tests")
+class ActivitySearchIndexTest {
+
+    private ActivitySearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ActivitySearchIndex(true);
+    }
+
+    private static ActivitySearchDocumentDto document(long id, String title, ActivityCategory category, String address) {
+        return new ActivitySearchDocumentDto(id, title, "Mô tả ngắn", category, address, 1L, "Đoàn trường");
+    }
+
+    // ==================== LOAD TESTS ====================
+
+    @Test
+    @DisplayName("Load - Indexes every document and becomes ready")
+    void load_BuildsIndex() {
+        // Act
+        index.load(List.of(
+                document(1L, "Mùa hè xanh", ActivityCategory.ENVIRONMENT, "Quận 1"),
+                document(2L, "Hiến máu nhân đạo", ActivityCategory.HEALTH_CAMPAIGN, "Đà Nẵng")));
+
+        // Assert
+        assertThat(index.isReady()).isTrue();
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.indexedIds()).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(index.search("hien mau", 10)).containsExactly(2L);
+    }
+
+    // ==================== SEARCH TESTS ====================
+
+    @Test
+    @DisplayName("Search - Ignores case and Vietnamese diacritics")
+    void search_FoldsDiacritics() {
+        // Arrange
+        index.apply(document(1L, "Mùa Hè Xanh", ActivityCategory.ENVIRONMENT, "Đà Lạt"));
+
+        // Act & Assert
+        assertThat(index.search("mua he xanh", 10)).containsExactly(1L);
+        assertThat(index.search("MÙA HÈ", 10)).containsExactly(1L);
+        assertThat(index.search("da lat", 10)).containsExactly(1L);
+        assertThat(index.search("environment", 10)).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("Search - Requires every word, matching word prefixes, newest first")
+    void search_IntersectsWords() {
+        // Arrange
+        index.apply(document(1L, "Dạy học cho trẻ em", ActivityCategory.EDUCATION_SUPPORT, "Quận 1"));
+        index.apply(document(2L, "Dạy tin học", ActivityCategory.EDUCATION_SUPPORT, "Quận 3"));
+        index.apply(document(3L, "Dọn rác bờ biển", ActivityCategory.ENVIRONMENT, "Quận 1"));
+
+        // Act & Assert
+        assertThat(index.search("day hoc", 10)).containsExactly(2L, 1L);
+        assertThat(index.search("quan 1", 10)).containsExactly(3L, 1L);
+        assertThat(index.search("day quan 3", 10)).containsExactly(2L);
+        assertThat(index.search("tre", 10)).containsExactly(1L);
+        assertThat(index.search("day", 1)).containsExactly(2L);
+        assertThat(index.search("hien mau", 10)).isEmpty();
+        assertThat(index.search("  !!  ", 10)).isEmpty();
+    }
+
+    // ==================== UPDATE TESTS ====================
+
+    @Test
+    @DisplayName("Apply - Replaces the terms of an updated activity")
+    void apply_ReplacesTerms() {
+        // Arrange
+        index.apply(document(1L, "Mùa hè xanh", ActivityCategory.ENVIRONMENT, "Quận 1"));
+
+        // Act
+        index.apply(document(1L, "Tiếp sức mùa thi", ActivityCategory.EDUCATION_SUPPORT, "Quận 1"));
+
+        // Assert
+        assertThat(index.search("xanh", 10)).isEmpty();
+        assertThat(index.search("mua thi", 10)).containsExactly(1L);
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Unapply - Drops the activity from every posting list")
+    void unapply_DropsActivity() {
+        // Arrange
+        index.apply(document(1L, "Mùa hè xanh", ActivityCategory.ENVIRONMENT, "Quận 1"));
+        index.apply(document(2L, "Mùa hè xanh 2", ActivityCategory.ENVIRONMENT, "Quận 1"));
+
+        // Act
+        index.unapply(1L);
+
+        // Assert
+        assertThat(index.search("mua he xanh", 10)).containsExactly(2L);
+        assertThat(index.size()).isEqualTo(1);
+    }
+}
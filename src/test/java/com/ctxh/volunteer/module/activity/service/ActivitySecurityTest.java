@@ -0,0 +1,100 @@
+package com.ctxh.volunteer.module.activity.service;
+
+import com.ctxh.volunteer.module.activity.repository.ActivityRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ActivitySecurity Unit Tests")
+class ActivitySecurityTest {
+
+    @Mock
+    private ActivityRepository activityRepository;
+
+    @InjectMocks
+    private ActivitySecurity activitySecurity;
+
+    @BeforeEach
+    void setUp() {
+        authenticateAs(1L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private void authenticateAs(Long userId) {
+        SecurityContextHolder.getContext()
+                .setAuthentication(new TestingAuthenticationToken(userId.toString(), null));
+    }
+
+    @Test
+    @DisplayName("Is Owner - Looks up the owner once and answers later checks from memory")
+    void isOwner_CachesOwnerAfterFirstLookup() {
+        // Arrange
+        when(activityRepository.findOrganizationIdByActivityId(10L)).thenReturn(Optional.of(1L));
+
+        // Act
+        boolean first = activitySecurity.isOwner(10L);
+        authenticateAs(2L);
+        boolean otherOrganization = activitySecurity.isOwner(10L);
+
+        // Assert
+        assertThat(first).isTrue();
+        assertThat(otherOrganization).isFalse();
+        verify(activityRepository, times(1)).findOrganizationIdByActivityId(10L);
+    }
+
+    @Test
+    @DisplayName("Is Owner - Returns false and caches nothing for an unknown activity")
+    void isOwner_ReturnsFalse_WhenActivityNotFound() {
+        // Arrange
+        when(activityRepository.findOrganizationIdByActivityId(99L)).thenReturn(Optional.empty());
+
+        // Act
+        boolean first = activitySecurity.isOwner(99L);
+        boolean second = activitySecurity.isOwner(99L);
+
+        // Assert
+        assertThat(first).isFalse();
+        assertThat(second).isFalse();
+        verify(activityRepository, times(2)).findOrganizationIdByActivityId(99L);
+    }
+
+    @Test
+    @DisplayName("Evict - Forces the next check to hit the repository")
+    void evict_RemovesCachedOwner() {
+        // Arrange
+        when(activityRepository.findOrganizationIdByActivityId(10L))
+                .thenReturn(Optional.of(1L), Optional.empty());
+        activitySecurity.isOwner(10L);
+
+        // Act
+        activitySecurity.evict(10L);
+
+        // Assert
+        assertThat(activitySecurity.isOwner(10L)).isFalse();
+        verify(activityRepository, times(2)).findOrganizationIdByActivityId(10L);
+    }
+
+    @Test
+    @DisplayName("Is Owner - Returns false for a null activity id")
+    void isOwner_ReturnsFalse_WhenActivityIdNull() {
+        assertThat(activitySecurity.isOwner(null)).isFalse();
+        verifyNoInteractions(activityRepository);
+    }
+}
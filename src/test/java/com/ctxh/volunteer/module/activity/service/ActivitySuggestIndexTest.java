@@ -0,0 +1,184 @@
+package com.ctxh.volunteer.module.activity.service;
+
+import com.ctxh.volunteer.common.util.AppConstants;
+import com.ctxh.volunteer.module.activity.dto.ActivitySearchDocumentDto;
+import com.ctxh.volunteer.module.activity.dto.response.ActivitySuggestionDto;
+import com.ctxh.volunteer.module.activity.enums.ActivityCategory;
+import com.ctxh.volunteer.module.activity.enums.SuggestionType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DisplayName("ActivitySuggestIndex Unit Tests")
+class ActivitySuggestIndexTest {
+
+    private ActivitySuggestIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ActivitySuggestIndex(true);
+    }
+
+    private static ActivitySearchDocumentDto document(long id, String title, long organizationId, String organizationName) {
+        return new ActivitySearchDocumentDto(id, title, null, ActivityCategory.OTHER, null, organizationId, organizationName);
+    }
+
+    private List<String> texts(String prefix, int limit) {
+        return index.suggest(prefix, limit).stream().map(ActivitySuggestionDto::getText).toList();
+    }
+
+    // ==================== LOAD TESTS ====================
+
+    @Test
+    @DisplayName("Load - Builds suggestions from every document and becomes ready")
+    void load_BuildsSuggestions() {
+        // Act
+        index.load(List.of(document(1L, "Mùa hè xanh", 10L, "Đoàn Khoa CNTT")));
+
+        // Assert
+        assertThat(index.isReady()).isTrue();
+        assertThat(index.indexedIds()).containsExactly(1L);
+        assertThat(index.suggest("mua", 5))
+                .extracting(ActivitySuggestionDto::getType, ActivitySuggestionDto::getId, ActivitySuggestionDto::getText)
+                .containsExactly(tuple(SuggestionType.ACTIVITY, 1L, "Mùa hè xanh"));
+        assertThat(index.suggest("doan", 5))
+                .extracting(ActivitySuggestionDto::getType, ActivitySuggestionDto::getId)
+                .containsExactly(tuple(SuggestionType.ORGANIZATION, 10L));
+    }
+
+    // ==================== SUGGEST TESTS ====================
+
+    @Test
+    @DisplayName("Suggest - Matches the start of any word, ignoring case and diacritics")
+    void suggest_MatchesWordPrefixes() {
+        // Arrange
+        index.apply(document(1L, "Mùa hè xanh", 10L, "Đoàn Khoa CNTT"));
+
+        // Act & Assert
+        assertThat(texts("MÙA HÈ", 5)).containsExactly("Mùa hè xanh");
+        assertThat(texts("he x", 5)).containsExactly("Mùa hè xanh");
+        assertThat(texts("xan", 5)).containsExactly("Mùa hè xanh");
+        assertThat(texts("khoa cn", 5)).containsExactly("Đoàn Khoa CNTT");
+        assertThat(texts("anh", 5)).isEmpty();
+        assertThat(texts(" ", 5)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Suggest - Returns the newest first, each suggestion once, up to the limit")
+    void suggest_RanksByRecency() {
+        // Arrange
+        index.apply(document(1L, "Hiến máu đợt 1", 10L, "Hội Sinh viên"));
+        index.apply(document(2L, "Hiến máu đợt 2", 20L, "Hội Chữ thập đỏ"));
+        index.apply(document(3L, "Hiến máu hiến tiểu cầu", 10L, "Hội Sinh viên"));
+
+        // Act & Assert
+        assertThat(index.suggest("hien", 2))
+                .extracting(ActivitySuggestionDto::getId)
+                .containsExactly(3L, 2L);
+        // Hội Sinh viên ranks by its newest activity (3), ahead of Hội Chữ thập đỏ (2)
+        assertThat(texts("hoi", 5)).containsExactly("Hội Sinh viên", "Hội Chữ thập đỏ");
+    }
+
+    @Test
+    @DisplayName("Suggest - Keeps the newest suggestions ranked under a common prefix")
+    void suggest_RanksCommonPrefix() {
+        // Arrange
+        for (long id = 1; id <= 50; id++) {
+            index.apply(document(id, "Hiến máu đợt " + id, 100 + id, "Hội " + id));
+        }
+
+        // Act & Assert
+        assertThat(index.suggest("h", AppConstants.MAX_SUGGESTIONS)).hasSize(AppConstants.MAX_SUGGESTIONS);
+        assertThat(index.suggest("hien", 3))
+                .extracting(ActivitySuggestionDto::getId)
+                .containsExactly(50L, 49L, 48L);
+        // Past the ranked prefix length the range is scanned
+        assertThat(texts("hien mau dot 4", 5)).containsExactly("Hiến máu đợt 49", "Hiến máu đợt 48",
+                "Hiến máu đợt 47", "Hiến máu đợt 46", "Hiến máu đợt 45");
+    }
+
+    @Test
+    @DisplayName("Suggest - Refills a ranked prefix from past the cut when a top suggestion goes")
+    void suggest_RefillsRankedPrefix_WhenTopRemoved() {
+        // Arrange
+        for (long id = 1; id <= AppConstants.MAX_SUGGESTIONS + 1; id++) {
+            index.apply(document(id, "Xuân tình nguyện " + id, 10L, "Đoàn trường"));
+        }
+
+        // Act
+        index.unapply((long) AppConstants.MAX_SUGGESTIONS + 1);
+
+        // Assert
+        assertThat(index.suggest("xuan", AppConstants.MAX_SUGGESTIONS))
+                .extracting(ActivitySuggestionDto::getId)
+                .hasSize(AppConstants.MAX_SUGGESTIONS)
+                .doesNotContain((long) AppConstants.MAX_SUGGESTIONS + 1)
+                .contains(1L);
+    }
+
+    @Test
+    @DisplayName("Suggest - Moves an organization down when its newest activity goes")
+    void suggest_ReranksOrganization_WhenNewestActivityRemoved() {
+        // Arrange
+        index.apply(document(1L, "Mùa hè xanh", 10L, "Hội Sinh viên"));
+        index.apply(document(2L, "Hiến máu", 20L, "Hội Chữ thập đỏ"));
+        index.apply(document(3L, "Xuân tình nguyện", 10L, "Hội Sinh viên"));
+
+        // Act
+        index.unapply(3L);
+
+        // Assert
+        assertThat(texts("hoi", 5)).containsExactly("Hội Chữ thập đỏ", "Hội Sinh viên");
+    }
+
+    // ==================== UPDATE TESTS ====================
+
+    @Test
+    @DisplayName("Apply - Replaces the title of an updated activity")
+    void apply_ReplacesTitle() {
+        // Arrange
+        index.apply(document(1L, "Mùa hè xanh", 10L, "Đoàn Khoa CNTT"));
+
+        // Act
+        index.apply(document(1L, "Tiếp sức mùa thi", 10L, "Đoàn Khoa CNTT"));
+
+        // Assert
+        assertThat(texts("xanh", 5)).isEmpty();
+        assertThat(texts("mua", 5)).containsExactly("Tiếp sức mùa thi");
+    }
+
+    @Test
+    @DisplayName("Apply - Replaces the name of a renamed organization")
+    void apply_ReplacesOrganizationName() {
+        // Arrange
+        index.apply(document(1L, "Mùa hè xanh", 10L, "Đoàn Khoa CNTT"));
+
+        // Act
+        index.apply(document(1L, "Mùa hè xanh", 10L, "Đoàn Khoa Máy tính"));
+
+        // Assert
+        assertThat(texts("doan", 5)).containsExactly("Đoàn Khoa Máy tính");
+        assertThat(texts("cntt", 5)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Unapply - Drops the organization with its last activity")
+    void unapply_DropsOrganizationWithLastActivity() {
+        // Arrange
+        index.apply(document(1L, "Mùa hè xanh", 10L, "Đoàn Khoa CNTT"));
+        index.apply(document(2L, "Xuân tình nguyện", 10L, "Đoàn Khoa CNTT"));
+
+        // Act & Assert
+        index.unapply(2L);
+        assertThat(texts("xuan", 5)).isEmpty();
+        assertThat(texts("doan", 5)).containsExactly("Đoàn Khoa CNTT");
+
+        index.unapply(1L);
+        assertThat(texts("doan", 5)).isEmpty();
+    }
+}
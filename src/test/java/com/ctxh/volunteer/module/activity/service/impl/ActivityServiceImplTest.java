@@ -1,7 +1,13 @@
 package com.ctxh.volunteer.module.activity.service.impl;
 
+import com.ctxh.volunteer.common.dto.CursorPageResponse;
+import com.ctxh.volunteer.common.dto.PaginatedResponse;
 import com.ctxh.volunteer.common.exception.BusinessException;
 import com.ctxh.volunteer.common.exception.ErrorCode;
+import com.ctxh.volunteer.common.util.AppConstants;
+import com.ctxh.volunteer.common.util.CursorUtil;
+import com.ctxh.volunteer.common.util.ImageUploader;
+import com.ctxh.volunteer.module.activity.dto.ActivitySearchDocumentDto;
 import com.ctxh.volunteer.module.activity.dto.request.CreateActivityRequestDto;
 import com.ctxh.volunteer.module.activity.dto.request.UpdateActivityRequestDto;
 import com.ctxh.volunteer.module.activity.dto.response.ActivityListResponseDto;
@@ -10,32 +16,55 @@ import com.ctxh.volunteer.module.activity.entity.Activity;
 import com.ctxh.volunteer.module.activity.enums.ActivityCategory;
 import com.ctxh.volunteer.module.activity.enums.RegistrationState;
 import com.ctxh.volunteer.module.activity.repository.ActivityRepository;
+import com.ctxh.volunteer.module.activity.service.ActivityFullTextSearch;
+import com.ctxh.volunteer.module.activity.service.ActivityIndexer;
+import com.ctxh.volunteer.module.activity.service.ActivityParticipantNotifier;
+import com.ctxh.volunteer.module.activity.service.ActivitySearchIndex;
+import com.ctxh.volunteer.module.activity.service.ActivitySecurity;
+import com.ctxh.volunteer.module.activity.service.ActivitySuggestIndex;
+import com.ctxh.volunteer.module.attendance.service.LiveAttendanceTracker;
+import com.ctxh.volunteer.module.certificate.dto.BulkCertificateIssueResultDto;
+import com.ctxh.volunteer.module.certificate.service.CertificateBulkIssuer;
 import com.ctxh.volunteer.module.enrollment.EnrollmentStatus;
 import com.ctxh.volunteer.module.enrollment.dto.EnrollmentResponseDto;
 import com.ctxh.volunteer.module.enrollment.entity.Enrollment;
 import com.ctxh.volunteer.module.enrollment.repository.EnrollmentRepository;
+import com.ctxh.volunteer.module.enrollment.service.EnrollmentAdmission;
 import com.ctxh.volunteer.module.organization.entity.Organization;
+import com.ctxh.volunteer.module.organization.enums.VerificationStatus;
 import com.ctxh.volunteer.module.organization.repository.OrganizationRepository;
 import com.ctxh.volunteer.module.student.entity.Student;
 import com.ctxh.volunteer.module.auth.entity.User;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -55,7 +84,34 @@ class ActivityServiceImplTest {
     private com.ctxh.volunteer.common.util.ImageValidator imageValidator;
 
     @Mock
-    private com.cloudinary.Cloudinary cloudinary;
+    private ImageUploader imageUploader;
+
+    @Mock
+    private ActivitySecurity activitySecurity;
+
+    @Mock
+    private EnrollmentAdmission enrollmentAdmission;
+
+    @Mock
+    private CertificateBulkIssuer certificateBulkIssuer;
+
+    @Mock
+    private ActivityFullTextSearch activityFullTextSearch;
+
+    @Mock
+    private ActivityIndexer activityIndexer;
+
+    @Mock
+    private ActivitySearchIndex activitySearchIndex;
+
+    @Mock
+    private ActivitySuggestIndex activitySuggestIndex;
+
+    @Mock
+    private ActivityParticipantNotifier activityParticipantNotifier;
+
+    @Mock
+    private LiveAttendanceTracker liveAttendanceTracker;
 
     @InjectMocks
     private ActivityServiceImpl activityService;
@@ -71,6 +127,7 @@ class ActivityServiceImplTest {
         testOrganization = Organization.builder()
                 .organizationId(1L)
                 .organizationName("Test Organization")
+                .verificationStatus(VerificationStatus.APPROVED)
                 .build();
 
         // Create test activity
@@ -90,7 +147,7 @@ class ActivityServiceImplTest {
                 .pendingParticipants(0)
                 .approvedParticipants(0)
                 .theNumberOfCtxhDay(1.0)
-                .status(RegistrationState.OPEN)
+                .registrationState(RegistrationState.OPEN)
                 .build();
 
         // Create request DTOs
@@ -108,6 +165,26 @@ class ActivityServiceImplTest {
         updateRequest = new UpdateActivityRequestDto();
         updateRequest.setName("Updated Activity");
         updateRequest.setDescription("Updated Description");
+
+        authenticateAs(1L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private ActivityListResponseDto listRow(Long activityId, LocalDateTime createdAt) {
+        return ActivityListResponseDto.builder()
+                .activityId(activityId)
+                .title("Activity " + activityId)
+                .createdAt(createdAt)
+                .build();
+    }
+
+    private void authenticateAs(Long userId) {
+        SecurityContextHolder.getContext()
+                .setAuthentication(new TestingAuthenticationToken(userId.toString(), null));
     }
 
     // ==================== CREATE ACTIVITY TESTS ====================
@@ -129,12 +206,33 @@ class ActivityServiceImplTest {
 
         verify(organizationRepository).findById(1L);
         verify(activityRepository).save(any(Activity.class));
+        verify(activityIndexer).index(any(ActivitySearchDocumentDto.class));
+    }
+
+    @Test
+    @DisplayName("Create Activity - Uploads the image in the background and sets it on the saved activity")
+    void createActivity_UploadsImage_AfterSave() {
+        // Arrange
+        MockMultipartFile image = new MockMultipartFile("image", "cover.png", "image/png", new byte[]{1, 2, 3});
+        when(organizationRepository.findById(1L)).thenReturn(Optional.of(testOrganization));
+        when(activityRepository.save(any(Activity.class))).thenReturn(testActivity);
+
+        // Act
+        activityService.createActivity(createRequest, image);
+
+        // Assert
+        verify(imageValidator).validate(image);
+        ArgumentCaptor<Consumer<ImageUploader.Variants>> onUploaded = ArgumentCaptor.captor();
+        verify(imageUploader).upload(eq(image), onUploaded.capture());
+        onUploaded.getValue().accept(new ImageUploader.Variants("https://cdn/detail.jpg", "https://cdn/list.jpg"));
+        verify(activityRepository).updateImages(testActivity.getActivityId(), "https://cdn/detail.jpg", "https://cdn/list.jpg");
     }
 
     @Test
     @DisplayName("Create Activity - Fails when organization not found")
     void createActivity_ThrowsException_WhenOrganizationNotFound() {
         // Arrange
+        authenticateAs(999L);
         when(organizationRepository.findById(anyLong())).thenReturn(Optional.empty());
 
         // Act & Assert
@@ -340,6 +438,9 @@ class ActivityServiceImplTest {
         // Assert
         verify(activityRepository).findByIdAndOrganizationId(1L, 1L);
         verify(activityRepository).delete(testActivity);
+        verify(activitySecurity).evict(1L);
+        verify(enrollmentAdmission).invalidate(1L);
+        verify(activityIndexer).remove(1L);
     }
 
     @Test
@@ -392,6 +493,41 @@ class ActivityServiceImplTest {
         verify(activityRepository, never()).delete(any(Activity.class));
     }
 
+    // ==================== PARTICIPANT NOTIFICATION TESTS ====================
+
+    @Test
+    @DisplayName("Update Activity - Notifies participants when the time or place changes")
+    void updateActivity_NotifiesParticipants_WhenScheduleChanges() {
+        // Arrange
+        UpdateActivityRequestDto request = new UpdateActivityRequestDto();
+        request.setAddress("Nhà văn hóa sinh viên");
+        when(activityRepository.findByIdAndOrganizationId(1L, 1L)).thenReturn(Optional.of(testActivity));
+        when(activityRepository.save(testActivity)).thenReturn(testActivity);
+
+        // Act
+        activityService.updateActivity(1L, 1L, request, null);
+
+        // Assert
+        verify(activityParticipantNotifier).notifyScheduleChanged(testActivity);
+    }
+
+    @Test
+    @DisplayName("Update Activity - Does not notify participants for other changes")
+    void updateActivity_DoesNotNotify_WhenScheduleUnchanged() {
+        // Arrange
+        UpdateActivityRequestDto request = new UpdateActivityRequestDto();
+        request.setName("Updated Activity");
+        request.setStartDateTime(testActivity.getStartDateTime());
+        when(activityRepository.findByIdAndOrganizationId(1L, 1L)).thenReturn(Optional.of(testActivity));
+        when(activityRepository.save(testActivity)).thenReturn(testActivity);
+
+        // Act
+        activityService.updateActivity(1L, 1L, request, null);
+
+        // Assert
+        verifyNoInteractions(activityParticipantNotifier);
+    }
+
     // ==================== CLOSE REGISTRATION TESTS ====================
 
     @Test
@@ -413,6 +549,8 @@ class ActivityServiceImplTest {
         verify(activityRepository).findByIdAndOrganizationId(1L, 1L);
         verify(mockActivity).closeRegistration();
         verify(activityRepository).save(mockActivity);
+        verify(enrollmentAdmission).invalidate(1L);
+        verify(activityParticipantNotifier).notifyRegistrationClosed(mockActivity);
     }
 
     @Test
@@ -445,6 +583,48 @@ class ActivityServiceImplTest {
         verify(activityRepository, never()).save(any());
     }
 
+    // ==================== COMPLETE ACTIVITY TESTS ====================
+
+    @Test
+    @DisplayName("Complete Activity - Success completes activity and issues certificates")
+    void completeActivity_Success_IssuesCertificates() {
+        // Arrange
+        testActivity.setRegistrationState(RegistrationState.CLOSED);
+        BulkCertificateIssueResultDto issued = BulkCertificateIssueResultDto.builder()
+                .activityId(1L)
+                .issued(3)
+                .build();
+        when(activityRepository.findByIdAndOrganizationId(1L, 1L)).thenReturn(Optional.of(testActivity));
+        when(certificateBulkIssuer.issueForActivity(1L)).thenReturn(issued);
+
+        // Act
+        BulkCertificateIssueResultDto result = activityService.completeActivity(1L, 1L);
+
+        // Assert
+        assertThat(result.getIssued()).isEqualTo(3);
+        assertThat(testActivity.getRegistrationState()).isEqualTo(RegistrationState.COMPLETED);
+        assertThat(testActivity.getCompletedAt()).isNotNull();
+        verify(activityRepository).save(testActivity);
+        verify(enrollmentAdmission).invalidate(1L);
+        verify(activityIndexer).remove(1L);
+    }
+
+    @Test
+    @DisplayName("Complete Activity - Fails when activity already completed")
+    void completeActivity_ThrowsException_WhenAlreadyCompleted() {
+        // Arrange
+        testActivity.setRegistrationState(RegistrationState.COMPLETED);
+        when(activityRepository.findByIdAndOrganizationId(1L, 1L)).thenReturn(Optional.of(testActivity));
+
+        // Act & Assert
+        assertThatThrownBy(() -> activityService.completeActivity(1L, 1L))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.ACTIVITY_ALREADY_COMPLETED);
+
+        verify(activityRepository, never()).save(any());
+        verifyNoInteractions(certificateBulkIssuer);
+    }
+
     // ==================== GET ENROLLMENTS TESTS ====================
 
     @Test
@@ -501,14 +681,19 @@ class ActivityServiceImplTest {
 
         when(mockEnrollment.getStatus()).thenReturn(EnrollmentStatus.PENDING);
         when(mockEnrollment.getStudent()).thenReturn(student);
-        when(enrollmentRepository.findByIdAndActivityId(1L, 1L)).thenReturn(Optional.of(mockEnrollment));
+        when(enrollmentRepository.findByIdAndActivityIdForUpdate(1L, 1L)).thenReturn(Optional.of(mockEnrollment));
         when(enrollmentRepository.save(mockEnrollment)).thenReturn(mockEnrollment);
 
+        when(activityRepository.approvePendingSlot(1L)).thenReturn(1);
+
         // Act
         activityService.approveEnrollment(1L, 1L, 100L);
 
         // Assert
-        verify(enrollmentRepository).findByIdAndActivityId(1L, 1L);
+        verify(enrollmentRepository).findByIdAndActivityIdForUpdate(1L, 1L);
+        verify(activityRepository).approvePendingSlot(1L);
+        verify(enrollmentAdmission).invalidate(1L);
+        verify(liveAttendanceTracker).invalidate(1L);
         verify(mockEnrollment).approve(100L);
         verify(enrollmentRepository).save(mockEnrollment);
     }
@@ -517,14 +702,14 @@ class ActivityServiceImplTest {
     @DisplayName("Approve Enrollment - Fails when enrollment not found")
     void approveEnrollment_ThrowsException_WhenEnrollmentNotFound() {
         // Arrange
-        when(enrollmentRepository.findByIdAndActivityId(anyLong(), anyLong())).thenReturn(Optional.empty());
+        when(enrollmentRepository.findByIdAndActivityIdForUpdate(anyLong(), anyLong())).thenReturn(Optional.empty());
 
         // Act & Assert
         assertThatThrownBy(() -> activityService.approveEnrollment(1L, 999L, 100L))
                 .isInstanceOf(BusinessException.class)
                 .hasFieldOrPropertyWithValue("errorCode", ErrorCode.ENROLLMENT_NOT_FOUND);
 
-        verify(enrollmentRepository).findByIdAndActivityId(999L, 1L);
+        verify(enrollmentRepository).findByIdAndActivityIdForUpdate(999L, 1L);
     }
 
     @Test
@@ -533,14 +718,32 @@ class ActivityServiceImplTest {
         // Arrange
         Enrollment mockEnrollment = mock(Enrollment.class);
         when(mockEnrollment.getStatus()).thenReturn(EnrollmentStatus.APPROVED);
-        when(enrollmentRepository.findByIdAndActivityId(1L, 1L)).thenReturn(Optional.of(mockEnrollment));
+        when(enrollmentRepository.findByIdAndActivityIdForUpdate(1L, 1L)).thenReturn(Optional.of(mockEnrollment));
 
         // Act & Assert
         assertThatThrownBy(() -> activityService.approveEnrollment(1L, 1L, 100L))
                 .isInstanceOf(BusinessException.class)
                 .hasFieldOrPropertyWithValue("errorCode", ErrorCode.ENROLLMENT_NOT_PENDING);
 
-        verify(enrollmentRepository).findByIdAndActivityId(1L, 1L);
+        verify(enrollmentRepository).findByIdAndActivityIdForUpdate(1L, 1L);
+        verify(enrollmentRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Approve Enrollment - Fails when the activity is already full")
+    void approveEnrollment_ThrowsException_WhenActivityFull() {
+        // Arrange
+        Enrollment mockEnrollment = mock(Enrollment.class);
+        when(mockEnrollment.getStatus()).thenReturn(EnrollmentStatus.PENDING);
+        when(enrollmentRepository.findByIdAndActivityIdForUpdate(1L, 1L)).thenReturn(Optional.of(mockEnrollment));
+        when(activityRepository.approvePendingSlot(1L)).thenReturn(0);
+
+        // Act & Assert
+        assertThatThrownBy(() -> activityService.approveEnrollment(1L, 1L, 100L))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.ACTIVITY_FULL);
+
+        verify(mockEnrollment, never()).approve(anyLong());
         verify(enrollmentRepository, never()).save(any());
     }
 
@@ -554,35 +757,89 @@ class ActivityServiceImplTest {
 
         when(mockEnrollment.getStatus()).thenReturn(EnrollmentStatus.PENDING);
         when(mockEnrollment.getStudent()).thenReturn(student);
-        when(enrollmentRepository.findByIdAndActivityId(1L, 1L)).thenReturn(Optional.of(mockEnrollment));
+        when(enrollmentRepository.findByIdAndActivityIdForUpdate(1L, 1L)).thenReturn(Optional.of(mockEnrollment));
         when(enrollmentRepository.save(mockEnrollment)).thenReturn(mockEnrollment);
 
         // Act
         activityService.rejectEnrollment(1L, 1L, 100L);
 
         // Assert
-        verify(enrollmentRepository).findByIdAndActivityId(1L, 1L);
+        verify(enrollmentRepository).findByIdAndActivityIdForUpdate(1L, 1L);
         verify(mockEnrollment).reject(100L);
+        verify(activityRepository).releasePendingSlot(1L);
+        verify(enrollmentAdmission).invalidate(1L);
+        verify(liveAttendanceTracker).invalidate(1L);
         verify(enrollmentRepository).save(mockEnrollment);
     }
 
     // ==================== STUDENT DISCOVERY TESTS ====================
 
     @Test
-    @DisplayName("Get Available Activities - Success returns available activities")
-    void getAvailableActivities_Success_ReturnsAllActivity() {
+    @DisplayName("Get All Activity - First page returns projection rows and next cursor")
+    void getAllActivity_FirstPage_ReturnsRowsAndNextCursor() {
         // Arrange
-        when(activityRepository.findAllActivityOrderByDESC())
-                .thenReturn(List.of(testActivity));
+        LocalDateTime now = LocalDateTime.now();
+        List<ActivityListResponseDto> rows = List.of(
+                listRow(3L, now),
+                listRow(2L, now.minusMinutes(1)),
+                listRow(1L, now.minusMinutes(2))
+        );
+        when(activityRepository.findFeedFirstPage(PageRequest.of(0, 3))).thenReturn(rows);
 
         // Act
-        List<ActivityListResponseDto> result = activityService.getAllActivity();
+        CursorPageResponse<ActivityListResponseDto> result = activityService.getAllActivity(null, 2);
 
         // Assert
-        assertThat(result).hasSize(1);
-        assertThat(result.get(0).getActivityId()).isEqualTo(testActivity.getActivityId());
+        assertThat(result.getContents()).extracting(ActivityListResponseDto::getActivityId)
+                .containsExactly(3L, 2L);
+        assertThat(result.isHasNext()).isTrue();
+        assertThat(CursorUtil.decode(result.getNextCursor()))
+                .isEqualTo(new CursorUtil.Cursor(now.minusMinutes(1), 2L));
+        verify(activityRepository, never()).findFeedAfter(any(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("Get All Activity - Cursor seeks past the last row and ends the feed")
+    void getAllActivity_WithCursor_SeeksAfterLastRow() {
+        // Arrange
+        LocalDateTime createdAt = LocalDateTime.now().minusHours(1);
+        String cursor = CursorUtil.encode(createdAt, 5L);
+        when(activityRepository.findFeedAfter(createdAt, 5L, PageRequest.of(0, 21)))
+                .thenReturn(List.of(listRow(4L, createdAt)));
+
+        // Act
+        CursorPageResponse<ActivityListResponseDto> result = activityService.getAllActivity(cursor, 20);
+
+        // Assert
+        assertThat(result.getContents()).hasSize(1);
+        assertThat(result.isHasNext()).isFalse();
+        assertThat(result.getNextCursor()).isNull();
+        verify(activityRepository, never()).findFeedFirstPage(any());
+    }
 
-        verify(activityRepository).findAllActivityOrderByDESC();
+    @Test
+    @DisplayName("Get All Activity - Clamps page size to the maximum")
+    void getAllActivity_ClampsPageSize() {
+        // Arrange
+        when(activityRepository.findFeedFirstPage(any())).thenReturn(List.of());
+
+        // Act
+        CursorPageResponse<ActivityListResponseDto> result = activityService.getAllActivity("", 10_000);
+
+        // Assert
+        assertThat(result.getSize()).isEqualTo(AppConstants.MAX_PAGE_SIZE);
+        verify(activityRepository).findFeedFirstPage(PageRequest.of(0, AppConstants.MAX_PAGE_SIZE + 1));
+    }
+
+    @Test
+    @DisplayName("Get All Activity - Fails on a malformed cursor")
+    void getAllActivity_ThrowsException_WhenCursorMalformed() {
+        // Act & Assert
+        assertThatThrownBy(() -> activityService.getAllActivity("not-a-cursor", 20))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_CURSOR);
+
+        verifyNoInteractions(activityRepository);
     }
 
     @Test
@@ -605,15 +862,15 @@ class ActivityServiceImplTest {
     @DisplayName("Search Activities - Returns all when keyword is empty")
     void searchActivities_ReturnsAll_WhenKeywordEmpty() {
         // Arrange
-        when(activityRepository.findAllActivityOrderByDESC())
-                .thenReturn(List.of(testActivity));
+        when(activityRepository.findFeedFirstPage(PageRequest.of(0, AppConstants.DEFAULT_PAGE_SIZE + 1)))
+                .thenReturn(List.of(listRow(1L, LocalDateTime.now())));
 
         // Act
         List<ActivityListResponseDto> result = activityService.searchActivities("");
 
         // Assert
         assertThat(result).hasSize(1);
-        verify(activityRepository).findAllActivityOrderByDESC();
+        verify(activityRepository).findFeedFirstPage(any());
         verify(activityRepository, never()).searchByKeyword(anyString());
     }
 
@@ -621,22 +878,224 @@ class ActivityServiceImplTest {
     @DisplayName("Search Activities Advanced - Success with filters")
     void searchActivitiesAdvanced_Success_WithFilters() {
         // Arrange
-        when(activityRepository.findAll(any(Specification.class))).thenReturn(List.of(testActivity));
+        when(activityRepository.findListItems(any(Specification.class), eq(PageRequest.of(1, 20))))
+                .thenReturn(new PageImpl<>(List.of(listRow(1L, LocalDateTime.now())), PageRequest.of(1, 20), 21));
 
         // Act
-        List<ActivityListResponseDto> result = activityService.searchActivitiesAdvanced(
+        PaginatedResponse<ActivityListResponseDto> result = activityService.searchActivitiesAdvanced(
                 "test",
                 ActivityCategory.EDUCATION_SUPPORT,
                 RegistrationState.OPEN,
                 LocalDate.now(),
-                LocalDate.now().plusDays(30)
+                LocalDate.now().plusDays(30),
+                1,
+                20
         );
 
+        // Assert
+        assertThat(result.getContents()).extracting(ActivityListResponseDto::getActivityId).containsExactly(1L);
+        assertThat(result.getPage()).isEqualTo(1);
+        assertThat(result.getTotalElements()).isEqualTo(21);
+        assertThat(result.isHasNext()).isFalse();
+        assertThat(result.isHasPrevious()).isTrue();
+
+        verify(activityRepository, never()).findAll(any(Specification.class));
+    }
+
+    @Test
+    @DisplayName("Search Activities Advanced - Caps the page size and rejects negative pages")
+    void searchActivitiesAdvanced_ClampsPaging() {
+        // Arrange
+        PageRequest expected = PageRequest.of(0, AppConstants.MAX_PAGE_SIZE);
+        when(activityRepository.findListItems(any(Specification.class), eq(expected)))
+                .thenReturn(new PageImpl<>(List.of(), expected, 0));
+
+        // Act
+        PaginatedResponse<ActivityListResponseDto> result = activityService.searchActivitiesAdvanced(
+                null, null, null, null, null, -3, 10_000);
+
+        // Assert
+        assertThat(result.getContents()).isEmpty();
+        assertThat(result.getSize()).isEqualTo(AppConstants.MAX_PAGE_SIZE);
+    }
+
+    @Test
+    @DisplayName("Search Activities - Uses the full-text index when available")
+    void searchActivities_UsesFullText_WhenAvailable() {
+        // Arrange
+        when(activityFullTextSearch.isAvailable()).thenReturn(true);
+        when(activityRepository.searchByFullText("mua he xanh")).thenReturn(List.of(testActivity));
+
+        // Act
+        List<ActivityListResponseDto> result = activityService.searchActivities(" mua he xanh ");
+
         // Assert
         assertThat(result).hasSize(1);
-        assertThat(result.get(0).getActivityId()).isEqualTo(testActivity.getActivityId());
+        verify(activityRepository, never()).searchByKeyword(anyString());
+    }
+
+    @Test
+    @DisplayName("Search Activities Advanced - Filters and pages the full-text matches in the database")
+    void searchActivitiesAdvanced_PagesFullTextMatches_WhenAvailable() {
+        // Arrange
+        Pageable pageable = PageRequest.of(2, 20);
+        when(activityFullTextSearch.isAvailable()).thenReturn(true);
+        when(activityRepository.findFullTextMatchIds("test", ActivityCategory.EDUCATION_SUPPORT,
+                RegistrationState.OPEN, null, null, pageable))
+                .thenReturn(new PageImpl<>(List.of(1L), pageable, 41));
+        when(activityRepository.findListItems(any(Specification.class), eq(PageRequest.of(0, 1))))
+                .thenReturn(new PageImpl<>(List.of(listRow(1L, LocalDateTime.now()))));
+
+        // Act
+        PaginatedResponse<ActivityListResponseDto> result = activityService.searchActivitiesAdvanced(
+                " test ", ActivityCategory.EDUCATION_SUPPORT, null, null, null, 2, 20);
+
+        // Assert
+        assertThat(result.getContents()).extracting(ActivityListResponseDto::getActivityId).containsExactly(1L);
+        assertThat(result.getTotalElements()).isEqualTo(41);
+    }
+
+    @Test
+    @DisplayName("Search Activities Advanced - Skips loading rows when the full-text page is empty")
+    void searchActivitiesAdvanced_ReturnsEmpty_WhenNoFullTextMatch() {
+        // Arrange
+        when(activityFullTextSearch.isAvailable()).thenReturn(true);
+        when(activityRepository.findFullTextMatchIds(eq("xyz"), isNull(), eq(RegistrationState.OPEN),
+                isNull(), isNull(), any(Pageable.class)))
+                .thenReturn(Page.empty());
+
+        // Act
+        PaginatedResponse<ActivityListResponseDto> result = activityService.searchActivitiesAdvanced(
+                "xyz", null, RegistrationState.OPEN, null, null, 0, 20);
+
+        // Assert
+        assertThat(result.getContents()).isEmpty();
+        verify(activityRepository, never()).findListItems(any(Specification.class), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("Search Activities - Answers from the in-memory index when it is ready")
+    void searchActivities_UsesIndex_WhenReady() {
+        // Arrange
+        when(activitySearchIndex.isReady()).thenReturn(true);
+        when(activitySearchIndex.search("mua he", AppConstants.MAX_FULL_TEXT_MATCHES + 1)).thenReturn(List.of(2L, 1L));
+        when(activityRepository.findUpcomingListItemsByIdIn(List.of(2L, 1L)))
+                .thenReturn(List.of(listRow(2L, LocalDateTime.now()), listRow(1L, LocalDateTime.now())));
+
+        // Act
+        List<ActivityListResponseDto> result = activityService.searchActivities("mua he");
 
-        verify(activityRepository).findAll(any(Specification.class));
+        // Assert
+        assertThat(result).extracting(ActivityListResponseDto::getActivityId).containsExactly(2L, 1L);
+        verify(activityRepository, never()).searchByKeyword(anyString());
+        verifyNoInteractions(activityFullTextSearch);
+    }
+
+    @Test
+    @DisplayName("Search Activities - Searches descriptions in the database when the index has no match")
+    void searchActivities_FallsBackToFullText_WhenIndexHasNoMatch() {
+        // Arrange
+        when(activitySearchIndex.isReady()).thenReturn(true);
+        when(activitySearchIndex.search("dieu phoi", AppConstants.MAX_FULL_TEXT_MATCHES + 1)).thenReturn(List.of());
+        when(activityFullTextSearch.isAvailable()).thenReturn(true);
+        when(activityRepository.searchByFullText("dieu phoi")).thenReturn(List.of(testActivity));
+
+        // Act
+        List<ActivityListResponseDto> result = activityService.searchActivities("dieu phoi");
+
+        // Assert
+        assertThat(result).hasSize(1);
+        verify(activityRepository, never()).findUpcomingListItemsByIdIn(anyList());
+    }
+
+    @Test
+    @DisplayName("Search Activities Advanced - Searches descriptions in the database when the index has no match")
+    void searchActivitiesAdvanced_FallsBackToFullText_WhenIndexHasNoMatch() {
+        // Arrange
+        when(activitySearchIndex.isReady()).thenReturn(true);
+        when(activitySearchIndex.search("dieu phoi", AppConstants.MAX_FULL_TEXT_MATCHES + 1)).thenReturn(List.of());
+        when(activityFullTextSearch.isAvailable()).thenReturn(true);
+        when(activityRepository.findFullTextMatchIds(eq("dieu phoi"), isNull(), eq(RegistrationState.OPEN),
+                isNull(), isNull(), any(Pageable.class)))
+                .thenReturn(Page.empty());
+
+        // Act
+        activityService.searchActivitiesAdvanced("dieu phoi", null, null, null, null, 0, 20);
+
+        // Assert
+        verify(activityRepository).findFullTextMatchIds(eq("dieu phoi"), isNull(), eq(RegistrationState.OPEN),
+                isNull(), isNull(), any(Pageable.class));
+        verify(activityRepository, never()).findListItems(any(Specification.class), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("Search Activities Advanced - Narrows by in-memory index matches when it is ready")
+    void searchActivitiesAdvanced_UsesIndexMatches_WhenReady() {
+        // Arrange
+        when(activitySearchIndex.isReady()).thenReturn(true);
+        when(activitySearchIndex.search("test", AppConstants.MAX_FULL_TEXT_MATCHES + 1)).thenReturn(List.of(1L));
+        when(activityRepository.findListItems(any(Specification.class), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(listRow(1L, LocalDateTime.now()))));
+
+        // Act
+        PaginatedResponse<ActivityListResponseDto> result = activityService.searchActivitiesAdvanced(
+                "test", null, RegistrationState.OPEN, null, null, 0, 20);
+
+        // Assert
+        assertThat(result.getContents()).hasSize(1);
+        verify(activityRepository, never()).findFullTextMatchIds(anyString(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Search Activities Advanced - Falls back to the database when the index matches too many")
+    void searchActivitiesAdvanced_FallsBackToFullText_WhenIndexMatchesTooMany() {
+        // Arrange
+        List<Long> tooMany = LongStream.rangeClosed(1, AppConstants.MAX_FULL_TEXT_MATCHES + 1).boxed().toList();
+        when(activitySearchIndex.isReady()).thenReturn(true);
+        when(activitySearchIndex.search("day", AppConstants.MAX_FULL_TEXT_MATCHES + 1)).thenReturn(tooMany);
+        when(activityFullTextSearch.isAvailable()).thenReturn(true);
+        when(activityRepository.findFullTextMatchIds(eq("day"), isNull(), eq(RegistrationState.OPEN),
+                isNull(), isNull(), any(Pageable.class)))
+                .thenReturn(Page.empty());
+
+        // Act
+        PaginatedResponse<ActivityListResponseDto> result = activityService.searchActivitiesAdvanced(
+                "day", null, null, null, null, 0, 20);
+
+        // Assert
+        assertThat(result.getContents()).isEmpty();
+        verify(activityRepository, never()).findListItems(any(Specification.class), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("Search Activities - Falls back to the database when the index matches too many")
+    void searchActivities_FallsBackToKeyword_WhenIndexMatchesTooMany() {
+        // Arrange
+        List<Long> tooMany = LongStream.rangeClosed(1, AppConstants.MAX_FULL_TEXT_MATCHES + 1).boxed().toList();
+        when(activitySearchIndex.isReady()).thenReturn(true);
+        when(activitySearchIndex.search("day", AppConstants.MAX_FULL_TEXT_MATCHES + 1)).thenReturn(tooMany);
+        when(activityRepository.searchByKeyword("day")).thenReturn(List.of(testActivity));
+
+        // Act
+        List<ActivityListResponseDto> result = activityService.searchActivities("day");
+
+        // Assert
+        assertThat(result).hasSize(1);
+        verify(activityRepository, never()).findUpcomingListItemsByIdIn(anyList());
+    }
+
+    @Test
+    @DisplayName("Suggest Activities - Caps the limit and answers from memory")
+    void suggestActivities_CapsLimit() {
+        // Arrange
+        when(activitySuggestIndex.suggest("mua", AppConstants.MAX_SUGGESTIONS)).thenReturn(List.of());
+
+        // Act
+        activityService.suggestActivities("mua", 500);
+
+        // Assert
+        verify(activitySuggestIndex).suggest("mua", AppConstants.MAX_SUGGESTIONS);
+        verifyNoInteractions(activityRepository);
     }
 
     @Test
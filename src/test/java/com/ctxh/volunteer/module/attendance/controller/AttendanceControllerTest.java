@@ -4,6 +4,10 @@ import com.ctxh.volunteer.common.exception.BusinessException;
 import com.ctxh.volunteer.common.exception.ErrorCode;
 import com.ctxh.volunteer.module.attendance.dto.AttendanceResponseDto;
 import com.ctxh.volunteer.module.attendance.dto.AttendanceSummaryDto;
+import com.ctxh.volunteer.module.attendance.dto.OfflineCheckInRecordDto;
+import com.ctxh.volunteer.module.attendance.dto.OfflineCheckInResultDto;
+import com.ctxh.volunteer.module.attendance.dto.OfflineCheckInSyncRequestDto;
+import com.ctxh.volunteer.module.attendance.dto.OfflineCheckInSyncResponseDto;
 import com.ctxh.volunteer.module.attendance.dto.QrCheckInRequestDto;
 import com.ctxh.volunteer.module.attendance.dto.QrCheckOutRequestDto;
 import com.ctxh.volunteer.module.attendance.enums.AttendanceStatus;
@@ -18,6 +22,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -165,6 +170,61 @@ class AttendanceControllerTest {
                 .andExpect(status().isBadRequest());
     }
 
+    // ==================== OFFLINE SYNC TESTS ====================
+
+    @Test
+    @DisplayName("POST /check-in/sync - Success returns per-record results")
+    void syncOfflineCheckIns_Success_ReturnsResults() throws Exception {
+        // Arrange
+        OfflineCheckInSyncRequestDto request = OfflineCheckInSyncRequestDto.builder()
+                .records(List.of(OfflineCheckInRecordDto.builder()
+                        .activityId(1L)
+                        .qrCodeData("STUDENT-1-2012345")
+                        .scannedAt(LocalDateTime.now().minusHours(1))
+                        .build()))
+                .build();
+        OfflineCheckInSyncResponseDto response = OfflineCheckInSyncResponseDto.builder()
+                .total(1)
+                .accepted(1)
+                .rejected(0)
+                .results(List.of(OfflineCheckInResultDto.builder()
+                        .index(0)
+                        .activityId(1L)
+                        .studentId(1L)
+                        .success(true)
+                        .build()))
+                .build();
+        when(attendanceService.syncOfflineCheckIns(any(OfflineCheckInSyncRequestDto.class)))
+                .thenReturn(response);
+
+        // Act & Assert
+        mockMvc.perform(post("/api/v1/attendance/check-in/sync")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.accepted").value(1))
+                .andExpect(jsonPath("$.data.results[0].success").value(true));
+    }
+
+    @Test
+    @DisplayName("POST /check-in/sync - Fails when a record has no scan time")
+    void syncOfflineCheckIns_MissingScanTime_ReturnsBadRequest() throws Exception {
+        // Arrange
+        OfflineCheckInSyncRequestDto request = OfflineCheckInSyncRequestDto.builder()
+                .records(List.of(OfflineCheckInRecordDto.builder()
+                        .activityId(1L)
+                        .qrCodeData("STUDENT-1-2012345")
+                        .build()))
+                .build();
+
+        // Act & Assert
+        mockMvc.perform(post("/api/v1/attendance/check-in/sync")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+    }
+
     // ==================== CHECK-OUT TESTS ====================
 
     @Test
@@ -326,6 +386,20 @@ class AttendanceControllerTest {
                 .andExpect(jsonPath("$.success").value(false));
     }
 
+    // ==================== STREAM ATTENDANCE TESTS ====================
+
+    @Test
+    @DisplayName("GET /activities/{id}/attendance/stream - Opens an event stream")
+    void streamAttendance_Success_StartsAsync() throws Exception {
+        // Arrange
+        when(attendanceService.streamAttendance(1L)).thenReturn(new SseEmitter());
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/activities/1/attendance/stream")
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted());
+    }
+
     // ==================== GET STUDENT ATTENDANCE HISTORY TESTS ====================
 
     @Test
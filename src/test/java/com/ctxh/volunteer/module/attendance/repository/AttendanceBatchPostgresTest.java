@@ -0,0 +1,141 @@
+package com.ctxh.volunteer.module.attendance.repository;
+
+import com.ctxh.volunteer.module.activity.entity.Activity;
+import com.ctxh.volunteer.module.activity.repository.ActivityRepository;
+import com.ctxh.volunteer.module.attendance.entity.Attendance;
+import com.ctxh.volunteer.module.attendance.enums.AttendanceStatus;
+import com.ctxh.volunteer.module.auth.entity.User;
+import com.ctxh.volunteer.module.auth.repository.UserRepository;
+import com.ctxh.volunteer.module.organization.entity.Organization;
+import com.ctxh.volunteer.module.organization.enums.OrganizationType;
+import com.ctxh.volunteer.module.organization.repository.OrganizationRepository;
+import com.ctxh.volunteer.module.student.entity.Student;
+import com.ctxh.volunteer.module.student.enums.Gender;
+import com.ctxh.volunteer.module.student.repository.StudentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the offline check-in insert against a real PostgreSQL, where a day that got a record
+ * online after the sync read it must be skipped. Needs Docker and is skipped without it.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.jpa.database-platform=org.hibernate.dialect.PostgreSQLDialect"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@ActiveProfiles("test")
+@DisplayName("Attendance batch insert PostgreSQL Tests")
+class AttendanceBatchPostgresTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private AttendanceRepository attendanceRepository;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ActivityRepository activityRepository;
+
+    @Autowired
+    private OrganizationRepository organizationRepository;
+
+    private Activity activity;
+    private Student student;
+
+    @BeforeEach
+    void setUp() {
+        User orgUser = User.builder()
+                .email("attendance-org@example.com")
+                .password("password")
+                .isVerified(true)
+                .build();
+        Organization organization = Organization.builder()
+                .user(orgUser)
+                .organizationName("Attendance Org")
+                .representativeName("John Doe")
+                .representativeEmail("john@example.com")
+                .type(OrganizationType.NGO)
+                .build();
+        orgUser.setOrganization(organization);
+        userRepository.save(orgUser);
+        organization = organizationRepository.save(organization);
+
+        activity = activityRepository.save(Activity.builder()
+                .title("Attendance Activity")
+                .shortDescription("Description")
+                .organization(organization)
+                .startDateTime(LocalDateTime.now())
+                .endDateTime(LocalDateTime.now().plusDays(1))
+                .theNumberOfCtxhDay(1.0)
+                .build());
+
+        User studentUser = User.builder()
+                .email("attendance-student@hcmut.edu.vn")
+                .password("password")
+                .isVerified(true)
+                .build();
+        student = Student.builder()
+                .user(studentUser)
+                .fullName("Nguyen Van A")
+                .mssv("2012345")
+                .gender(Gender.MALE)
+                .totalCtxhDays(0.0)
+                .build();
+        studentUser.setStudent(student);
+        userRepository.save(studentUser);
+        student = studentRepository.save(student);
+    }
+
+    @Test
+    @DisplayName("insertCheckIns - Should skip a day that got a record after the sync read it")
+    void insertCheckIns_SkipsDayWithExistingRecord() {
+        // Arrange
+        LocalDate day = LocalDate.now();
+        // An online check-in commits its record for the day in between
+        attendanceRepository.saveAndFlush(Attendance.builder()
+                .student(student)
+                .activity(activity)
+                .attendanceDate(day.atTime(9, 15))
+                .checkInTime(day.atTime(9, 15))
+                .status(AttendanceStatus.PRESENT)
+                .build());
+
+        // Act
+        int[] counts = attendanceRepository.insertCheckIns(List.of(new AttendanceBatchRepository.CheckInRow(
+                null, student.getStudentId(), activity.getActivityId(), day.atTime(8, 30))));
+
+        // Assert
+        assertThat(counts).containsExactly(0);
+        assertThat(attendanceRepository.findByActivityIdAndStudentIdsAndDateBetween(
+                activity.getActivityId(), List.of(student.getStudentId()),
+                day.atStartOfDay(), day.plusDays(1).atStartOfDay()))
+                .singleElement()
+                .extracting(Attendance::getCheckInTime)
+                .isEqualTo(day.atTime(9, 15));
+    }
+}
@@ -2,6 +2,7 @@ package com.ctxh.volunteer.module.attendance.repository;
 
 import com.ctxh.volunteer.module.activity.entity.Activity;
 import com.ctxh.volunteer.module.activity.repository.ActivityRepository;
+import com.ctxh.volunteer.module.attendance.dto.AttendanceSummaryDto;
 import com.ctxh.volunteer.module.attendance.entity.Attendance;
 import com.ctxh.volunteer.module.attendance.enums.AttendanceStatus;
 import com.ctxh.volunteer.module.auth.RoleEnum;
@@ -9,6 +10,8 @@ import com.ctxh.volunteer.module.auth.entity.Role;
 import com.ctxh.volunteer.module.auth.entity.User;
 import com.ctxh.volunteer.module.auth.repository.RoleRepository;
 import com.ctxh.volunteer.module.auth.repository.UserRepository;
+import com.ctxh.volunteer.module.enrollment.EnrollmentStatus;
+import com.ctxh.volunteer.module.enrollment.entity.Enrollment;
 import com.ctxh.volunteer.module.organization.entity.Organization;
 import com.ctxh.volunteer.module.organization.repository.OrganizationRepository;
 import com.ctxh.volunteer.module.student.entity.Student;
@@ -19,6 +22,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.time.LocalDate;
@@ -52,6 +56,9 @@ class AttendanceRepositoryTest {
     @Autowired
     private RoleRepository roleRepository;
 
+    @Autowired
+    private TestEntityManager entityManager;
+
     private Student testStudent1;
     private Student testStudent2;
     private Activity testActivity;
@@ -364,6 +371,66 @@ class AttendanceRepositoryTest {
         assertThat(count).isEqualTo(1L); // Only attendance1 has checkOutTime
     }
 
+    @Test
+    @DisplayName("Find Summary - Returns every dashboard figure from one query")
+    void findSummaryByActivityId_AggregatesAllFigures() {
+        // Arrange
+        attendance1.checkOut();
+        attendanceRepository.save(attendance1);
+        for (Student student : List.of(testStudent1, testStudent2)) {
+            entityManager.persist(Enrollment.builder()
+                    .student(student)
+                    .activity(testActivity)
+                    .status(EnrollmentStatus.APPROVED)
+                    .appliedAt(LocalDateTime.now())
+                    .enrollmentDate(LocalDateTime.now())
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        // Act
+        Optional<AttendanceSummaryDto> result = attendanceRepository.findSummaryByActivityId(testActivity.getActivityId());
+
+        // Assert
+        assertThat(result).hasValueSatisfying(summary -> {
+            assertThat(summary.getActivityTitle()).isEqualTo("Test Activity");
+            assertThat(summary.getTotalEnrolled()).isEqualTo(2L);
+            assertThat(summary.getTotalPresent()).isEqualTo(1L);
+            assertThat(summary.getTotalAbsent()).isEqualTo(1L);
+            assertThat(summary.getTotalCheckedIn()).isEqualTo(1L);
+            assertThat(summary.getTotalCheckedOut()).isEqualTo(1L);
+            assertThat(summary.getAttendanceRate()).isEqualTo(50.0);
+        });
+    }
+
+    @Test
+    @DisplayName("Find Summary - Returns zeros for an activity without attendance and empty when missing")
+    void findSummaryByActivityId_HandlesEmptyAndMissingActivity() {
+        // Arrange
+        Activity emptyActivity = activityRepository.save(Activity.builder()
+                .title("Empty Activity")
+                .organization(testOrganization)
+                .startDateTime(LocalDateTime.now())
+                .endDateTime(LocalDateTime.now().plusDays(1))
+                .theNumberOfCtxhDay(1.0)
+                .build());
+
+        // Act
+        Optional<AttendanceSummaryDto> result = attendanceRepository.findSummaryByActivityId(emptyActivity.getActivityId());
+
+        // Assert
+        assertThat(result).hasValueSatisfying(summary -> {
+            assertThat(summary.getTotalEnrolled()).isZero();
+            assertThat(summary.getTotalPresent()).isZero();
+            assertThat(summary.getTotalAbsent()).isZero();
+            assertThat(summary.getTotalCheckedIn()).isZero();
+            assertThat(summary.getTotalCheckedOut()).isZero();
+            assertThat(summary.getAttendanceRate()).isZero();
+        });
+        assertThat(attendanceRepository.findSummaryByActivityId(-1L)).isEmpty();
+    }
+
     @Test
     @DisplayName("Count Present - Returns zero for activity with no present students")
     void countPresentByActivityId_ReturnsZero_WhenNoPresent() {
@@ -452,6 +519,55 @@ class AttendanceRepositoryTest {
         assertThat(result).isPresent();
     }
 
+    // ==================== BATCH CHECK-IN TESTS ====================
+
+    @Test
+    @DisplayName("Update Check-Ins - Checks in open records and skips checked-in ones")
+    void updateCheckIns_OnlyTouchesRecordsWithoutCheckIn() {
+        // Arrange
+        LocalDateTime scannedAt = LocalDateTime.now().minusHours(1).withNano(0);
+        List<AttendanceBatchRepository.CheckInRow> rows = List.of(
+                new AttendanceBatchRepository.CheckInRow(attendance2.getAttendanceId(),
+                        testStudent2.getStudentId(), testActivity.getActivityId(), scannedAt),
+                new AttendanceBatchRepository.CheckInRow(attendance1.getAttendanceId(),
+                        testStudent1.getStudentId(), testActivity.getActivityId(), scannedAt));
+
+        // Act
+        int[] counts = attendanceRepository.updateCheckIns(rows);
+
+        // Assert
+        assertThat(counts).containsExactly(1, 0);
+        entityManager.clear();
+        Attendance reloaded = attendanceRepository.findById(attendance2.getAttendanceId()).orElseThrow();
+        assertThat(reloaded.getCheckInTime()).isEqualTo(scannedAt);
+        assertThat(reloaded.getStatus()).isEqualTo(AttendanceStatus.PRESENT);
+    }
+
+    @Test
+    @DisplayName("Insert Check-Ins - Stores new records dated at the scan time")
+    void insertCheckIns_StoresRecordsAtScanTime() {
+        // Arrange
+        LocalDateTime scannedAt = LocalDate.now().plusDays(1).atTime(8, 30);
+
+        // Act
+        int[] counts = attendanceRepository.insertCheckIns(List.of(new AttendanceBatchRepository.CheckInRow(
+                null, testStudent2.getStudentId(), testActivity.getActivityId(), scannedAt)));
+
+        // Assert
+        assertThat(counts).containsExactly(1);
+        entityManager.clear();
+        List<Attendance> nextDay = attendanceRepository.findByActivityIdAndStudentIdsAndDateBetween(
+                testActivity.getActivityId(),
+                List.of(testStudent1.getStudentId(), testStudent2.getStudentId()),
+                scannedAt.toLocalDate().atStartOfDay(),
+                scannedAt.toLocalDate().atTime(LocalTime.MAX));
+        assertThat(nextDay).singleElement().satisfies(attendance -> {
+            assertThat(attendance.getAttendanceDate()).isEqualTo(scannedAt);
+            assertThat(attendance.getCheckInTime()).isEqualTo(scannedAt);
+            assertThat(attendance.getStatus()).isEqualTo(AttendanceStatus.PRESENT);
+        });
+    }
+
     // ==================== COMPLEX SCENARIOS TESTS ====================
 
     @Test
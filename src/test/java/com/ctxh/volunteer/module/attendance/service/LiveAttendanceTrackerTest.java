@@ -0,0 +1,202 @@
+package com.ctxh.volunteer.module.attendance.service;
+
+import com.ctxh.volunteer.common.exception.BusinessException;
+import com.ctxh.volunteer.common.exception.ErrorCode;
+import com.ctxh.volunteer.module.attendance.dto.AttendanceDeltaDto;
+import com.ctxh.volunteer.module.attendance.dto.AttendanceSummaryDto;
+import com.ctxh.volunteer.module.attendance.enums.AttendanceEventType;
+import com.ctxh.volunteer.module.attendance.repository.AttendanceRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LiveAttendanceTracker Unit Tests")
+class LiveAttendanceTrackerTest {
+
+    @Mock
+    private AttendanceRepository attendanceRepository;
+
+    private LiveAttendanceTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new LiveAttendanceTracker(attendanceRepository, Duration.ofMinutes(15), Duration.ofMinutes(30));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        tracker.shutdown();
+    }
+
+    private void givenSeed(long present, long absent, long checkedIn, long checkedOut) {
+        when(attendanceRepository.findSummaryByActivityId(1L)).thenReturn(Optional.of(
+                new AttendanceSummaryDto(1L, "Test Activity", 10L, present, absent, checkedIn, checkedOut)));
+    }
+
+    private AttendanceDeltaDto checkIn(long absent) {
+        return AttendanceDeltaDto.builder()
+                .activityId(1L)
+                .type(AttendanceEventType.CHECK_IN)
+                .studentId(7L)
+                .occurredAt(LocalDateTime.now())
+                .present(1)
+                .absent(absent)
+                .checkedIn(1)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Snapshot - Seeds from the database once and then serves from memory")
+    void snapshot_SeedsOnce() {
+        // Arrange
+        givenSeed(3, 1, 3, 0);
+
+        // Act
+        tracker.snapshot(1L);
+        AttendanceSummaryDto result = tracker.snapshot(1L);
+
+        // Assert
+        assertThat(result.getTotalPresent()).isEqualTo(3L);
+        assertThat(result.getAttendanceRate()).isEqualTo(30.0);
+        verify(attendanceRepository, times(1)).findSummaryByActivityId(1L);
+    }
+
+    @Test
+    @DisplayName("Publish - Applies deltas to seeded counters")
+    void publish_UpdatesCounters() {
+        // Arrange
+        givenSeed(3, 1, 3, 0);
+        tracker.snapshot(1L);
+
+        // Act
+        tracker.publish(checkIn(-1));
+        tracker.publish(AttendanceDeltaDto.builder()
+                .activityId(1L)
+                .type(AttendanceEventType.CHECK_OUT)
+                .checkedOut(1)
+                .build());
+
+        // Assert
+        AttendanceSummaryDto result = tracker.snapshot(1L);
+        assertThat(result.getTotalPresent()).isEqualTo(4L);
+        assertThat(result.getTotalAbsent()).isZero();
+        assertThat(result.getTotalCheckedIn()).isEqualTo(4L);
+        assertThat(result.getTotalCheckedOut()).isEqualTo(1L);
+        verify(attendanceRepository, times(1)).findSummaryByActivityId(1L);
+    }
+
+    @Test
+    @DisplayName("Publish - Inside a transaction waits for commit")
+    void publish_AppliesAfterCommit() {
+        // Arrange
+        givenSeed(0, 0, 0, 0);
+        tracker.snapshot(1L);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        tracker.publish(checkIn(0));
+
+        // Assert
+        assertThat(tracker.snapshot(1L).getTotalCheckedIn()).isZero();
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(tracker.snapshot(1L).getTotalCheckedIn()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("Publish - Ignores activities nobody is watching")
+    void publish_IgnoresUnseededActivity() {
+        // Act
+        tracker.publish(checkIn(0));
+
+        // Assert
+        givenSeed(5, 0, 5, 0);
+        assertThat(tracker.snapshot(1L).getTotalCheckedIn()).isEqualTo(5L);
+    }
+
+    @Test
+    @DisplayName("Invalidate - Reseeds after an enrollment decision commits")
+    void invalidate_ReseedsAfterCommit() {
+        // Arrange
+        givenSeed(0, 0, 0, 0);
+        tracker.snapshot(1L);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        tracker.invalidate(1L);
+        tracker.snapshot(1L);
+        when(attendanceRepository.findSummaryByActivityId(1L)).thenReturn(Optional.of(
+                new AttendanceSummaryDto(1L, "Test Activity", 11L, 0L, 0L, 0L, 0L)));
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        // Assert
+        assertThat(tracker.snapshot(1L).getTotalEnrolled()).isEqualTo(11L);
+        verify(attendanceRepository, times(3)).findSummaryByActivityId(1L);
+    }
+
+    @Test
+    @DisplayName("Snapshot - Reseeds a watched activity once the interval has passed")
+    void snapshot_ReseedsEvenWhenReadConstantly() throws InterruptedException {
+        // Arrange
+        tracker.shutdown();
+        tracker = new LiveAttendanceTracker(attendanceRepository, Duration.ofMillis(200), Duration.ofMinutes(30));
+        givenSeed(0, 0, 0, 0);
+
+        // Act
+        for (int i = 0; i < 8; i++) {
+            tracker.snapshot(1L);
+            Thread.sleep(50);
+        }
+
+        // Assert
+        verify(attendanceRepository, atLeast(2)).findSummaryByActivityId(1L);
+    }
+
+    @Test
+    @DisplayName("Subscribe - Registers a dashboard per activity")
+    void subscribe_RegistersEmitter() {
+        // Arrange
+        givenSeed(0, 0, 0, 0);
+
+        // Act
+        tracker.subscribe(1L);
+        tracker.subscribe(1L);
+
+        // Assert
+        assertThat(tracker.subscriberCount(1L)).isEqualTo(2);
+        verify(attendanceRepository, times(1)).findSummaryByActivityId(1L);
+    }
+
+    @Test
+    @DisplayName("Subscribe - Fails for an unknown activity without registering")
+    void subscribe_ThrowsException_WhenActivityNotFound() {
+        // Arrange
+        when(attendanceRepository.findSummaryByActivityId(99L)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThatThrownBy(() -> tracker.subscribe(99L))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.ACTIVITY_NOT_FOUND);
+        assertThat(tracker.subscriberCount(99L)).isZero();
+    }
+}
@@ -4,15 +4,23 @@ import com.ctxh.volunteer.common.exception.BusinessException;
 import com.ctxh.volunteer.common.exception.ErrorCode;
 import com.ctxh.volunteer.module.activity.entity.Activity;
 import com.ctxh.volunteer.module.activity.repository.ActivityRepository;
+import com.ctxh.volunteer.module.activity.service.ActivitySecurity;
+import com.ctxh.volunteer.module.attendance.dto.AttendanceDeltaDto;
 import com.ctxh.volunteer.module.attendance.dto.AttendanceResponseDto;
 import com.ctxh.volunteer.module.attendance.dto.AttendanceSummaryDto;
+import com.ctxh.volunteer.module.attendance.dto.OfflineCheckInRecordDto;
+import com.ctxh.volunteer.module.attendance.dto.OfflineCheckInResultDto;
+import com.ctxh.volunteer.module.attendance.dto.OfflineCheckInSyncRequestDto;
+import com.ctxh.volunteer.module.attendance.dto.OfflineCheckInSyncResponseDto;
 import com.ctxh.volunteer.module.attendance.dto.QrCheckInRequestDto;
 import com.ctxh.volunteer.module.attendance.dto.QrCheckOutRequestDto;
 import com.ctxh.volunteer.module.attendance.entity.Attendance;
+import com.ctxh.volunteer.module.attendance.enums.AttendanceEventType;
 import com.ctxh.volunteer.module.attendance.enums.AttendanceStatus;
+import com.ctxh.volunteer.module.attendance.repository.AttendanceBatchRepository.CheckInRow;
 import com.ctxh.volunteer.module.attendance.repository.AttendanceRepository;
+import com.ctxh.volunteer.module.attendance.service.LiveAttendanceTracker;
 import com.ctxh.volunteer.module.auth.entity.User;
-import com.ctxh.volunteer.module.certificate.entity.Certificate;
 import com.ctxh.volunteer.module.certificate.service.CertificateService;
 import com.ctxh.volunteer.module.enrollment.EnrollmentStatus;
 import com.ctxh.volunteer.module.enrollment.entity.Enrollment;
@@ -21,13 +29,16 @@ import com.ctxh.volunteer.module.organization.entity.Organization;
 import com.ctxh.volunteer.module.student.entity.Student;
 import com.ctxh.volunteer.module.student.enums.Gender;
 import com.ctxh.volunteer.module.student.repository.StudentRepository;
+import com.ctxh.volunteer.module.student.service.StudentQrCodec;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -39,6 +50,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -60,6 +73,15 @@ class AttendanceServiceImplTest {
     @Mock
     private CertificateService certificateService;
 
+    @Mock
+    private LiveAttendanceTracker liveAttendanceTracker;
+
+    @Mock
+    private ActivitySecurity activitySecurity;
+
+    @Mock
+    private StudentQrCodec studentQrCodec;
+
     @InjectMocks
     private AttendanceServiceImpl attendanceService;
 
@@ -87,7 +109,6 @@ class AttendanceServiceImplTest {
                 .fullName("Nguyen Van A")
                 .mssv("2012345")
                 .gender(Gender.MALE)
-                .qrCodeData("STUDENT-1-2012345")
                 .build();
 
         testUser.setStudent(testStudent);
@@ -140,11 +161,11 @@ class AttendanceServiceImplTest {
     @DisplayName("Check-in - Success creates new attendance record")
     void checkIn_Success_CreatesNewAttendance() {
         // Arrange
-        when(studentRepository.findByQrCodeData("STUDENT-1-2012345"))
-                .thenReturn(Optional.of(testStudent));
+        when(studentQrCodec.verify(eq("STUDENT-1-2012345"), any(LocalDateTime.class)))
+                .thenReturn(1L);
         when(activityRepository.findById(1L))
                 .thenReturn(Optional.of(testActivity));
-        when(enrollmentRepository.findByStudentIdAndActivityId(1L, 1L))
+        when(enrollmentRepository.findWithStudentByStudentIdAndActivityId(1L, 1L))
                 .thenReturn(Optional.of(testEnrollment));
         when(attendanceRepository.findByStudentIdAndActivityIdAndDate(
                 anyLong(), anyLong(), any(LocalDateTime.class), any(LocalDateTime.class)))
@@ -165,21 +186,51 @@ class AttendanceServiceImplTest {
         assertThat(result.getStatus()).isEqualTo(AttendanceStatus.PRESENT);
         assertThat(result.getCheckInTime()).isNotNull();
 
-        verify(studentRepository).findByQrCodeData("STUDENT-1-2012345");
+        verify(studentQrCodec).verify(eq("STUDENT-1-2012345"), any(LocalDateTime.class));
         verify(activityRepository).findById(1L);
-        verify(enrollmentRepository).findByStudentIdAndActivityId(1L, 1L);
+        verify(enrollmentRepository).findWithStudentByStudentIdAndActivityId(1L, 1L);
         verify(attendanceRepository).save(any(Attendance.class));
+
+        ArgumentCaptor<AttendanceDeltaDto> delta = ArgumentCaptor.forClass(AttendanceDeltaDto.class);
+        verify(liveAttendanceTracker).publish(delta.capture());
+        assertThat(delta.getValue().getType()).isEqualTo(AttendanceEventType.CHECK_IN);
+        assertThat(delta.getValue().getPresent()).isEqualTo(1);
+        assertThat(delta.getValue().getAbsent()).isZero();
+        assertThat(delta.getValue().getCheckedIn()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Check-in - Fails when today's record was created concurrently")
+    void checkIn_ThrowsException_WhenRecordCreatedConcurrently() {
+        // Arrange
+        when(studentQrCodec.verify(eq("STUDENT-1-2012345"), any(LocalDateTime.class)))
+                .thenReturn(1L);
+        when(activityRepository.findById(1L))
+                .thenReturn(Optional.of(testActivity));
+        when(enrollmentRepository.findWithStudentByStudentIdAndActivityId(1L, 1L))
+                .thenReturn(Optional.of(testEnrollment));
+        when(attendanceRepository.findByStudentIdAndActivityIdAndDate(
+                anyLong(), anyLong(), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(Optional.empty());
+        when(attendanceRepository.save(any(Attendance.class)))
+                .thenThrow(new DataIntegrityViolationException("uk_attendance_student_activity_day"));
+
+        // Act & Assert
+        assertThatThrownBy(() -> attendanceService.checkIn(checkInRequest))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.ALREADY_CHECKED_IN);
+        verify(liveAttendanceTracker, never()).publish(any());
     }
 
     @Test
     @DisplayName("Check-in - Success updates existing attendance record")
     void checkIn_Success_UpdatesExistingAttendance() {
         // Arrange
-        when(studentRepository.findByQrCodeData("STUDENT-1-2012345"))
-                .thenReturn(Optional.of(testStudent));
+        when(studentQrCodec.verify(eq("STUDENT-1-2012345"), any(LocalDateTime.class)))
+                .thenReturn(1L);
         when(activityRepository.findById(1L))
                 .thenReturn(Optional.of(testActivity));
-        when(enrollmentRepository.findByStudentIdAndActivityId(1L, 1L))
+        when(enrollmentRepository.findWithStudentByStudentIdAndActivityId(1L, 1L))
                 .thenReturn(Optional.of(testEnrollment));
         when(attendanceRepository.findByStudentIdAndActivityIdAndDate(
                 anyLong(), anyLong(), any(LocalDateTime.class), any(LocalDateTime.class)))
@@ -193,14 +244,20 @@ class AttendanceServiceImplTest {
         // Assert
         assertThat(result).isNotNull();
         verify(attendanceRepository).save(testAttendance);
+
+        // The record was counted as absent until now
+        ArgumentCaptor<AttendanceDeltaDto> delta = ArgumentCaptor.forClass(AttendanceDeltaDto.class);
+        verify(liveAttendanceTracker).publish(delta.capture());
+        assertThat(delta.getValue().getPresent()).isEqualTo(1);
+        assertThat(delta.getValue().getAbsent()).isEqualTo(-1);
     }
 
     @Test
     @DisplayName("Check-in - Fails with invalid QR code")
     void checkIn_InvalidQrCode_ThrowsException() {
         // Arrange
-        when(studentRepository.findByQrCodeData("INVALID-QR"))
-                .thenReturn(Optional.empty());
+        when(studentQrCodec.verify(eq("INVALID-QR"), any(LocalDateTime.class)))
+                .thenThrow(new BusinessException(ErrorCode.INVALID_QR_CODE));
 
         checkInRequest.setQrCodeData("INVALID-QR");
 
@@ -209,7 +266,7 @@ class AttendanceServiceImplTest {
                 .isInstanceOf(BusinessException.class)
                 .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_QR_CODE);
 
-        verify(studentRepository).findByQrCodeData("INVALID-QR");
+        verify(studentQrCodec).verify(eq("INVALID-QR"), any(LocalDateTime.class));
         verify(attendanceRepository, never()).save(any());
     }
 
@@ -217,8 +274,8 @@ class AttendanceServiceImplTest {
     @DisplayName("Check-in - Fails when activity not found")
     void checkIn_ActivityNotFound_ThrowsException() {
         // Arrange
-        when(studentRepository.findByQrCodeData("STUDENT-1-2012345"))
-                .thenReturn(Optional.of(testStudent));
+        when(studentQrCodec.verify(eq("STUDENT-1-2012345"), any(LocalDateTime.class)))
+                .thenReturn(1L);
         when(activityRepository.findById(999L))
                 .thenReturn(Optional.empty());
 
@@ -237,11 +294,11 @@ class AttendanceServiceImplTest {
     @DisplayName("Check-in - Fails when student not enrolled")
     void checkIn_StudentNotEnrolled_ThrowsException() {
         // Arrange
-        when(studentRepository.findByQrCodeData("STUDENT-1-2012345"))
-                .thenReturn(Optional.of(testStudent));
+        when(studentQrCodec.verify(eq("STUDENT-1-2012345"), any(LocalDateTime.class)))
+                .thenReturn(1L);
         when(activityRepository.findById(1L))
                 .thenReturn(Optional.of(testActivity));
-        when(enrollmentRepository.findByStudentIdAndActivityId(1L, 1L))
+        when(enrollmentRepository.findWithStudentByStudentIdAndActivityId(1L, 1L))
                 .thenReturn(Optional.empty());
 
         // Act & Assert
@@ -249,7 +306,7 @@ class AttendanceServiceImplTest {
                 .isInstanceOf(BusinessException.class)
                 .hasFieldOrPropertyWithValue("errorCode", ErrorCode.STUDENT_NOT_ENROLLED);
 
-        verify(enrollmentRepository).findByStudentIdAndActivityId(1L, 1L);
+        verify(enrollmentRepository).findWithStudentByStudentIdAndActivityId(1L, 1L);
         verify(attendanceRepository, never()).save(any());
     }
 
@@ -259,11 +316,11 @@ class AttendanceServiceImplTest {
         // Arrange
         testEnrollment.setStatus(EnrollmentStatus.PENDING);
 
-        when(studentRepository.findByQrCodeData("STUDENT-1-2012345"))
-                .thenReturn(Optional.of(testStudent));
+        when(studentQrCodec.verify(eq("STUDENT-1-2012345"), any(LocalDateTime.class)))
+                .thenReturn(1L);
         when(activityRepository.findById(1L))
                 .thenReturn(Optional.of(testActivity));
-        when(enrollmentRepository.findByStudentIdAndActivityId(1L, 1L))
+        when(enrollmentRepository.findWithStudentByStudentIdAndActivityId(1L, 1L))
                 .thenReturn(Optional.of(testEnrollment));
 
         // Act & Assert
@@ -271,7 +328,7 @@ class AttendanceServiceImplTest {
                 .isInstanceOf(BusinessException.class)
                 .hasFieldOrPropertyWithValue("errorCode", ErrorCode.STUDENT_NOT_ENROLLED);
 
-        verify(enrollmentRepository).findByStudentIdAndActivityId(1L, 1L);
+        verify(enrollmentRepository).findWithStudentByStudentIdAndActivityId(1L, 1L);
         verify(attendanceRepository, never()).save(any());
     }
 
@@ -281,11 +338,11 @@ class AttendanceServiceImplTest {
         // Arrange
         testAttendance.checkIn(); // Already checked in
 
-        when(studentRepository.findByQrCodeData("STUDENT-1-2012345"))
-                .thenReturn(Optional.of(testStudent));
+        when(studentQrCodec.verify(eq("STUDENT-1-2012345"), any(LocalDateTime.class)))
+                .thenReturn(1L);
         when(activityRepository.findById(1L))
                 .thenReturn(Optional.of(testActivity));
-        when(enrollmentRepository.findByStudentIdAndActivityId(1L, 1L))
+        when(enrollmentRepository.findWithStudentByStudentIdAndActivityId(1L, 1L))
                 .thenReturn(Optional.of(testEnrollment));
         when(attendanceRepository.findByStudentIdAndActivityIdAndDate(
                 anyLong(), anyLong(), any(LocalDateTime.class), any(LocalDateTime.class)))
@@ -302,25 +359,22 @@ class AttendanceServiceImplTest {
     // ==================== CHECK-OUT TESTS ====================
 
     @Test
-    @DisplayName("Check-out - Success and auto-generates certificate")
-    void checkOut_Success_GeneratesCertificate() {
+    @DisplayName("Check-out - Success and queues certificate")
+    void checkOut_Success_QueuesCertificate() {
         // Arrange
         testAttendance.checkIn(); // Must check in first
 
-        when(studentRepository.findByQrCodeData("STUDENT-1-2012345"))
-                .thenReturn(Optional.of(testStudent));
+        when(studentQrCodec.verify(eq("STUDENT-1-2012345"), any(LocalDateTime.class)))
+                .thenReturn(1L);
         when(activityRepository.findById(1L))
                 .thenReturn(Optional.of(testActivity));
         when(attendanceRepository.findByStudentIdAndActivityIdAndDate(
                 anyLong(), anyLong(), any(LocalDateTime.class), any(LocalDateTime.class)))
                 .thenReturn(Optional.of(testAttendance));
-        when(enrollmentRepository.findByStudentIdAndActivityId(1L, 1L))
+        when(enrollmentRepository.findWithStudentByStudentIdAndActivityId(1L, 1L))
                 .thenReturn(Optional.of(testEnrollment));
         when(attendanceRepository.save(any(Attendance.class)))
                 .thenReturn(testAttendance);
-        when(certificateService.certificateExists(1L)).thenReturn(false);
-        when(certificateService.generateCertificate(any(Enrollment.class)))
-                .thenReturn(mock(Certificate.class));
 
         // Act
         AttendanceResponseDto result = attendanceService.checkOut(checkOutRequest);
@@ -332,72 +386,18 @@ class AttendanceServiceImplTest {
 
         verify(attendanceRepository).save(testAttendance);
         verify(enrollmentRepository).save(testEnrollment);
-        verify(certificateService).certificateExists(1L);
-        verify(certificateService).generateCertificate(testEnrollment);
-    }
-
-    @Test
-    @DisplayName("Check-out - Skips certificate if already exists")
-    void checkOut_SkipsCertificate_WhenAlreadyExists() {
-        // Arrange
-        testAttendance.checkIn();
-
-        when(studentRepository.findByQrCodeData("STUDENT-1-2012345"))
-                .thenReturn(Optional.of(testStudent));
-        when(activityRepository.findById(1L))
-                .thenReturn(Optional.of(testActivity));
-        when(attendanceRepository.findByStudentIdAndActivityIdAndDate(
-                anyLong(), anyLong(), any(LocalDateTime.class), any(LocalDateTime.class)))
-                .thenReturn(Optional.of(testAttendance));
-        when(enrollmentRepository.findByStudentIdAndActivityId(1L, 1L))
-                .thenReturn(Optional.of(testEnrollment));
-        when(attendanceRepository.save(any(Attendance.class)))
-                .thenReturn(testAttendance);
-        when(certificateService.certificateExists(1L)).thenReturn(true);
-
-        // Act
-        attendanceService.checkOut(checkOutRequest);
-
-        // Assert
-        verify(certificateService).certificateExists(1L);
+        verify(certificateService).requestCertificate(1L);
         verify(certificateService, never()).generateCertificate(any());
-    }
-
-    @Test
-    @DisplayName("Check-out - Continues even if certificate generation fails")
-    void checkOut_ContinuesOnCertificateError() {
-        // Arrange
-        testAttendance.checkIn();
-
-        when(studentRepository.findByQrCodeData("STUDENT-1-2012345"))
-                .thenReturn(Optional.of(testStudent));
-        when(activityRepository.findById(1L))
-                .thenReturn(Optional.of(testActivity));
-        when(attendanceRepository.findByStudentIdAndActivityIdAndDate(
-                anyLong(), anyLong(), any(LocalDateTime.class), any(LocalDateTime.class)))
-                .thenReturn(Optional.of(testAttendance));
-        when(enrollmentRepository.findByStudentIdAndActivityId(1L, 1L))
-                .thenReturn(Optional.of(testEnrollment));
-        when(attendanceRepository.save(any(Attendance.class)))
-                .thenReturn(testAttendance);
-        when(certificateService.certificateExists(1L)).thenReturn(false);
-        doThrow(new RuntimeException("Certificate service error"))
-                .when(certificateService).generateCertificate(any(Enrollment.class));
-
-        // Act - Should not throw exception
-        AttendanceResponseDto result = attendanceService.checkOut(checkOutRequest);
-
-        // Assert
-        assertThat(result).isNotNull();
-        verify(certificateService).generateCertificate(testEnrollment);
+        verify(liveAttendanceTracker).publish(argThat(delta ->
+                delta.getType() == AttendanceEventType.CHECK_OUT && delta.getCheckedOut() == 1));
     }
 
     @Test
     @DisplayName("Check-out - Fails with invalid QR code")
     void checkOut_InvalidQrCode_ThrowsException() {
         // Arrange
-        when(studentRepository.findByQrCodeData("INVALID-QR"))
-                .thenReturn(Optional.empty());
+        when(studentQrCodec.verify(eq("INVALID-QR"), any(LocalDateTime.class)))
+                .thenThrow(new BusinessException(ErrorCode.INVALID_QR_CODE));
 
         checkOutRequest.setQrCodeData("INVALID-QR");
 
@@ -406,7 +406,7 @@ class AttendanceServiceImplTest {
                 .isInstanceOf(BusinessException.class)
                 .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_QR_CODE);
 
-        verify(studentRepository).findByQrCodeData("INVALID-QR");
+        verify(studentQrCodec).verify(eq("INVALID-QR"), any(LocalDateTime.class));
         verify(attendanceRepository, never()).save(any());
     }
 
@@ -414,8 +414,8 @@ class AttendanceServiceImplTest {
     @DisplayName("Check-out - Fails when not checked in")
     void checkOut_NotCheckedIn_ThrowsException() {
         // Arrange
-        when(studentRepository.findByQrCodeData("STUDENT-1-2012345"))
-                .thenReturn(Optional.of(testStudent));
+        when(studentQrCodec.verify(eq("STUDENT-1-2012345"), any(LocalDateTime.class)))
+                .thenReturn(1L);
         when(activityRepository.findById(1L))
                 .thenReturn(Optional.of(testActivity));
         when(attendanceRepository.findByStudentIdAndActivityIdAndDate(
@@ -437,8 +437,8 @@ class AttendanceServiceImplTest {
         testAttendance.checkIn();
         testAttendance.checkOut(); // Already checked out
 
-        when(studentRepository.findByQrCodeData("STUDENT-1-2012345"))
-                .thenReturn(Optional.of(testStudent));
+        when(studentQrCodec.verify(eq("STUDENT-1-2012345"), any(LocalDateTime.class)))
+                .thenReturn(1L);
         when(activityRepository.findById(1L))
                 .thenReturn(Optional.of(testActivity));
         when(attendanceRepository.findByStudentIdAndActivityIdAndDate(
@@ -451,6 +451,193 @@ class AttendanceServiceImplTest {
                 .hasFieldOrPropertyWithValue("errorCode", ErrorCode.ALREADY_CHECKED_OUT);
     }
 
+    // ==================== OFFLINE SYNC TESTS ====================
+
+    private OfflineCheckInRecordDto offlineScan(Long activityId, String qrCodeData, LocalDateTime scannedAt) {
+        return OfflineCheckInRecordDto.builder()
+                .activityId(activityId)
+                .qrCodeData(qrCodeData)
+                .scannedAt(scannedAt)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Sync Offline Check-ins - Resolves the batch in bulk and reports each record")
+    void syncOfflineCheckIns_MixedBatch_ReturnsPerRecordResults() {
+        // Arrange
+        LocalDateTime firstScan = LocalDateTime.now().minusHours(2).withNano(0);
+        OfflineCheckInSyncRequestDto request = OfflineCheckInSyncRequestDto.builder()
+                .records(List.of(
+                        offlineScan(1L, "STUDENT-1-2012345", firstScan.plusHours(1)),
+                        offlineScan(1L, "STUDENT-1-2012345", firstScan),
+                        offlineScan(1L, "UNKNOWN", firstScan),
+                        offlineScan(1L, "STUDENT-2-2098765", firstScan),
+                        offlineScan(1L, "STUDENT-1-2012345", LocalDateTime.now().plusHours(1))))
+                .build();
+
+        when(studentQrCodec.verify(eq("STUDENT-1-2012345"), any())).thenReturn(1L);
+        when(studentQrCodec.verify(eq("UNKNOWN"), any())).thenThrow(new BusinessException(ErrorCode.INVALID_QR_CODE));
+        when(studentQrCodec.verify(eq("STUDENT-2-2098765"), any())).thenReturn(2L);
+        when(activityRepository.findAllById(any())).thenReturn(List.of(testActivity));
+        when(activitySecurity.isOwner(1L)).thenReturn(true);
+        when(enrollmentRepository.findApprovedStudentIds(eq(1L), any())).thenReturn(List.of(1L));
+        when(attendanceRepository.findByActivityIdAndStudentIdsAndDateBetween(eq(1L), any(), any(), any()))
+                .thenReturn(List.of(testAttendance));
+        when(attendanceRepository.insertCheckIns(any())).thenReturn(new int[0]);
+        when(attendanceRepository.updateCheckIns(any())).thenReturn(new int[]{1});
+
+        // Act
+        OfflineCheckInSyncResponseDto result = attendanceService.syncOfflineCheckIns(request);
+
+        // Assert
+        assertThat(result.getTotal()).isEqualTo(5);
+        assertThat(result.getAccepted()).isEqualTo(1);
+        assertThat(result.getRejected()).isEqualTo(4);
+        assertThat(result.getResults())
+                .extracting(OfflineCheckInResultDto::getErrorCode)
+                .containsExactly(
+                        ErrorCode.ALREADY_CHECKED_IN.getCode(),
+                        null,
+                        ErrorCode.INVALID_QR_CODE.getCode(),
+                        ErrorCode.STUDENT_NOT_ENROLLED.getCode(),
+                        ErrorCode.ATTENDANCE_NOT_ALLOWED.getCode());
+        // The earliest scan of the day wins and keeps its own timestamp
+        assertThat(result.getResults().get(1).getCheckInTime()).isEqualTo(firstScan);
+
+        ArgumentCaptor<List<CheckInRow>> updates = ArgumentCaptor.forClass(List.class);
+        verify(attendanceRepository).updateCheckIns(updates.capture());
+        assertThat(updates.getValue()).containsExactly(new CheckInRow(1L, 1L, 1L, firstScan));
+
+        ArgumentCaptor<AttendanceDeltaDto> delta = ArgumentCaptor.forClass(AttendanceDeltaDto.class);
+        verify(liveAttendanceTracker).publish(delta.capture());
+        assertThat(delta.getValue().getPresent()).isEqualTo(1);
+        assertThat(delta.getValue().getAbsent()).isEqualTo(-1);
+        assertThat(delta.getValue().getCheckedIn()).isEqualTo(1);
+        // QR codes are verified in memory as of each scan time
+        verify(studentQrCodec).verify("STUDENT-1-2012345", firstScan);
+        verifyNoInteractions(studentRepository);
+    }
+
+    @Test
+    @DisplayName("Sync Offline Check-ins - Inserts past scans and rejects those after the check-in window")
+    void syncOfflineCheckIns_HonorsScanTime() {
+        // Arrange
+        LocalDateTime start = LocalDate.now().minusDays(2).atTime(8, 0);
+        testActivity.setStartDateTime(start);
+        testActivity.setEndDateTime(start.plusHours(4));
+        OfflineCheckInSyncRequestDto request = OfflineCheckInSyncRequestDto.builder()
+                .records(List.of(
+                        offlineScan(1L, "STUDENT-1-2012345", start.plusMinutes(30)),
+                        offlineScan(1L, "STUDENT-1-2012345", start.plusHours(3))))
+                .build();
+
+        when(studentQrCodec.verify(eq("STUDENT-1-2012345"), any())).thenReturn(1L);
+        when(activityRepository.findAllById(any())).thenReturn(List.of(testActivity));
+        when(activitySecurity.isOwner(1L)).thenReturn(true);
+        when(enrollmentRepository.findApprovedStudentIds(eq(1L), any())).thenReturn(List.of(1L));
+        when(attendanceRepository.findByActivityIdAndStudentIdsAndDateBetween(
+                eq(1L), any(), eq(start.toLocalDate().atStartOfDay()), eq(start.toLocalDate().atTime(LocalTime.MAX))))
+                .thenReturn(List.of());
+        when(attendanceRepository.insertCheckIns(any())).thenReturn(new int[]{1});
+        when(attendanceRepository.updateCheckIns(any())).thenReturn(new int[0]);
+
+        // Act
+        OfflineCheckInSyncResponseDto result = attendanceService.syncOfflineCheckIns(request);
+
+        // Assert
+        assertThat(result.getAccepted()).isEqualTo(1);
+        assertThat(result.getResults().get(1).getErrorCode()).isEqualTo(ErrorCode.EXPIRED_CHECK_IN.getCode());
+        verify(attendanceRepository).insertCheckIns(List.of(new CheckInRow(null, 1L, 1L, start.plusMinutes(30))));
+        verify(liveAttendanceTracker).publish(argThat(delta ->
+                delta.getPresent() == 1 && delta.getAbsent() == 0 && delta.getCheckedIn() == 1));
+    }
+
+    @Test
+    @DisplayName("Sync Offline Check-ins - Checks in a record created online for the same day instead of adding one")
+    void syncOfflineCheckIns_UpdatesRecordCreatedConcurrently() {
+        // Arrange
+        LocalDateTime scannedAt = LocalDateTime.now().minusHours(1).withNano(0);
+        OfflineCheckInSyncRequestDto request = OfflineCheckInSyncRequestDto.builder()
+                .records(List.of(offlineScan(1L, "STUDENT-1-2012345", scannedAt)))
+                .build();
+
+        when(studentQrCodec.verify(eq("STUDENT-1-2012345"), any())).thenReturn(1L);
+        when(activityRepository.findAllById(any())).thenReturn(List.of(testActivity));
+        when(activitySecurity.isOwner(1L)).thenReturn(true);
+        when(enrollmentRepository.findApprovedStudentIds(eq(1L), any())).thenReturn(List.of(1L));
+        // Nothing for the day when the batch is read; an absent record once the insert conflicts
+        when(attendanceRepository.findByActivityIdAndStudentIdsAndDateBetween(eq(1L), any(), any(), any()))
+                .thenReturn(List.of())
+                .thenReturn(List.of(testAttendance));
+        when(attendanceRepository.insertCheckIns(any())).thenReturn(new int[]{0});
+        when(attendanceRepository.updateCheckIns(any())).thenReturn(new int[]{1});
+
+        // Act
+        OfflineCheckInSyncResponseDto result = attendanceService.syncOfflineCheckIns(request);
+
+        // Assert
+        assertThat(result.getAccepted()).isEqualTo(1);
+        verify(attendanceRepository).updateCheckIns(List.of(new CheckInRow(1L, 1L, 1L, scannedAt)));
+        verify(liveAttendanceTracker).publish(argThat(delta ->
+                delta.getPresent() == 1 && delta.getAbsent() == -1 && delta.getCheckedIn() == 1));
+    }
+
+    @Test
+    @DisplayName("Sync Offline Check-ins - Rejects a scan whose day was checked in online meanwhile")
+    void syncOfflineCheckIns_RejectsDayCheckedInConcurrently() {
+        // Arrange
+        LocalDateTime scannedAt = LocalDateTime.now().minusHours(1).withNano(0);
+        OfflineCheckInSyncRequestDto request = OfflineCheckInSyncRequestDto.builder()
+                .records(List.of(offlineScan(1L, "STUDENT-1-2012345", scannedAt)))
+                .build();
+        testAttendance.checkIn();
+
+        when(studentQrCodec.verify(eq("STUDENT-1-2012345"), any())).thenReturn(1L);
+        when(activityRepository.findAllById(any())).thenReturn(List.of(testActivity));
+        when(activitySecurity.isOwner(1L)).thenReturn(true);
+        when(enrollmentRepository.findApprovedStudentIds(eq(1L), any())).thenReturn(List.of(1L));
+        when(attendanceRepository.findByActivityIdAndStudentIdsAndDateBetween(eq(1L), any(), any(), any()))
+                .thenReturn(List.of())
+                .thenReturn(List.of(testAttendance));
+        when(attendanceRepository.insertCheckIns(any())).thenReturn(new int[]{0});
+        when(attendanceRepository.updateCheckIns(any())).thenReturn(new int[0]);
+
+        // Act
+        OfflineCheckInSyncResponseDto result = attendanceService.syncOfflineCheckIns(request);
+
+        // Assert
+        assertThat(result.getRejected()).isEqualTo(1);
+        assertThat(result.getResults().getFirst().getErrorCode()).isEqualTo(ErrorCode.ALREADY_CHECKED_IN.getCode());
+        verify(attendanceRepository).updateCheckIns(List.of());
+        verify(liveAttendanceTracker, never()).publish(any());
+    }
+
+    @Test
+    @DisplayName("Sync Offline Check-ins - Writes nothing for foreign or unknown activities")
+    void syncOfflineCheckIns_RejectsForeignActivities() {
+        // Arrange
+        OfflineCheckInSyncRequestDto request = OfflineCheckInSyncRequestDto.builder()
+                .records(List.of(
+                        offlineScan(1L, "STUDENT-1-2012345", LocalDateTime.now()),
+                        offlineScan(99L, "STUDENT-1-2012345", LocalDateTime.now())))
+                .build();
+
+        when(activityRepository.findAllById(any())).thenReturn(List.of(testActivity));
+        when(activitySecurity.isOwner(1L)).thenReturn(false);
+
+        // Act
+        OfflineCheckInSyncResponseDto result = attendanceService.syncOfflineCheckIns(request);
+
+        // Assert
+        assertThat(result.getRejected()).isEqualTo(2);
+        assertThat(result.getResults())
+                .extracting(OfflineCheckInResultDto::getErrorCode)
+                .containsExactly(ErrorCode.NOT_ACTIVITY_OWNER.getCode(), ErrorCode.ACTIVITY_NOT_FOUND.getCode());
+        verify(attendanceRepository, never()).insertCheckIns(any());
+        verify(attendanceRepository, never()).updateCheckIns(any());
+        verify(liveAttendanceTracker, never()).publish(any());
+    }
+
     // ==================== GET ACTIVITY ATTENDANCE TESTS ====================
 
     @Test
@@ -508,14 +695,8 @@ class AttendanceServiceImplTest {
     @DisplayName("Get Attendance Summary - Success returns summary")
     void getAttendanceSummary_Success_ReturnsSummary() {
         // Arrange
-        when(activityRepository.findById(1L))
-                .thenReturn(Optional.of(testActivity));
-        when(enrollmentRepository.countByActivityAndStatus(testActivity, EnrollmentStatus.APPROVED))
-                .thenReturn(10L);
-        when(attendanceRepository.countPresentByActivityId(1L)).thenReturn(8L);
-        when(attendanceRepository.countAbsentByActivityId(1L)).thenReturn(2L);
-        when(attendanceRepository.countCheckedInByActivityId(1L)).thenReturn(8L);
-        when(attendanceRepository.countCheckedOutByActivityId(1L)).thenReturn(5L);
+        when(attendanceRepository.findSummaryByActivityId(1L))
+                .thenReturn(Optional.of(new AttendanceSummaryDto(1L, "Test Activity", 10L, 8L, 2L, 8L, 5L)));
 
         // Act
         AttendanceSummaryDto result = attendanceService.getAttendanceSummary(1L);
@@ -530,21 +711,16 @@ class AttendanceServiceImplTest {
         assertThat(result.getTotalCheckedOut()).isEqualTo(5L);
         assertThat(result.getAttendanceRate()).isEqualTo(80.0);
 
-        verify(activityRepository).findById(1L);
+        verify(attendanceRepository).findSummaryByActivityId(1L);
+        verifyNoInteractions(activityRepository, enrollmentRepository);
     }
 
     @Test
     @DisplayName("Get Attendance Summary - Handles zero enrollment")
     void getAttendanceSummary_HandlesZeroEnrollment() {
         // Arrange
-        when(activityRepository.findById(1L))
-                .thenReturn(Optional.of(testActivity));
-        when(enrollmentRepository.countByActivityAndStatus(testActivity, EnrollmentStatus.APPROVED))
-                .thenReturn(0L);
-        when(attendanceRepository.countPresentByActivityId(1L)).thenReturn(0L);
-        when(attendanceRepository.countAbsentByActivityId(1L)).thenReturn(0L);
-        when(attendanceRepository.countCheckedInByActivityId(1L)).thenReturn(0L);
-        when(attendanceRepository.countCheckedOutByActivityId(1L)).thenReturn(0L);
+        when(attendanceRepository.findSummaryByActivityId(1L))
+                .thenReturn(Optional.of(new AttendanceSummaryDto(1L, "Test Activity", 0L, 0L, 0L, 0L, 0L)));
 
         // Act
         AttendanceSummaryDto result = attendanceService.getAttendanceSummary(1L);
@@ -557,7 +733,7 @@ class AttendanceServiceImplTest {
     @DisplayName("Get Attendance Summary - Fails when activity not found")
     void getAttendanceSummary_ActivityNotFound_ThrowsException() {
         // Arrange
-        when(activityRepository.findById(999L))
+        when(attendanceRepository.findSummaryByActivityId(999L))
                 .thenReturn(Optional.empty());
 
         // Act & Assert
@@ -565,7 +741,7 @@ class AttendanceServiceImplTest {
                 .isInstanceOf(BusinessException.class)
                 .hasFieldOrPropertyWithValue("errorCode", ErrorCode.ACTIVITY_NOT_FOUND);
 
-        verify(activityRepository).findById(999L);
+        verify(attendanceRepository).findSummaryByActivityId(999L);
     }
 
     // ==================== GET STUDENT ATTENDANCE HISTORY TESTS ====================
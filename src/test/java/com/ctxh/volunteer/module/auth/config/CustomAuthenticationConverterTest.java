@@ -0,0 +1,100 @@
+package com.ctxh.volunteer.module.auth.config;
+
+import com.ctxh.volunteer.module.auth.RoleEnum;
+import com.ctxh.volunteer.module.auth.entity.CustomUserDetails;
+import com.ctxh.volunteer.module.auth.entity.Role;
+import com.ctxh.volunteer.module.auth.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.authentication.DisabledException;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CustomAuthenticationConverter Unit Tests")
+class CustomAuthenticationConverterTest {
+
+    @Mock
+    private UserDetailsService userDetailsService;
+
+    private PrincipalCache principalCache;
+    private CustomAuthenticationConverter converter;
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        principalCache = new PrincipalCache(Duration.ofMinutes(5), 100);
+        converter = new CustomAuthenticationConverter(userDetailsService, principalCache);
+
+        testUser = User.builder()
+                .userId(1L)
+                .email("test@hcmut.edu.vn")
+                .password("hashedPassword")
+                .isVerified(true)
+                .roles(List.of(Role.builder().roleName(RoleEnum.STUDENT.name()).build()))
+                .build();
+    }
+
+    private Jwt jwtFor(Long userId) {
+        return Jwt.withTokenValue("token")
+                .header("alg", "RS256")
+                .subject(userId.toString())
+                .issuedAt(Instant.now())
+                .expiresAt(Instant.now().plusSeconds(60))
+                .build();
+    }
+
+    @Test
+    @DisplayName("Convert - Loads the principal once and serves later requests from cache")
+    void convert_CachesPrincipalAcrossRequests() {
+        // Arrange
+        when(userDetailsService.loadUserByUsername("1")).thenReturn(new CustomUserDetails(testUser));
+
+        // Act
+        AbstractAuthenticationToken first = converter.convert(jwtFor(1L));
+        AbstractAuthenticationToken second = converter.convert(jwtFor(1L));
+
+        // Assert
+        assertThat(first.getAuthorities()).extracting("authority").containsExactly("ROLE_STUDENT");
+        assertThat(second.getPrincipal()).isSameAs(first.getPrincipal());
+        verify(userDetailsService, times(1)).loadUserByUsername("1");
+    }
+
+    @Test
+    @DisplayName("Convert - Reloads the principal after eviction")
+    void convert_ReloadsAfterEviction() {
+        // Arrange
+        User banned = User.builder()
+                .userId(1L)
+                .email("test@hcmut.edu.vn")
+                .password("hashedPassword")
+                .isVerified(true)
+                .isBanned(true)
+                .roles(testUser.getRoles())
+                .build();
+        when(userDetailsService.loadUserByUsername("1"))
+                .thenReturn(new CustomUserDetails(testUser), new CustomUserDetails(banned));
+        converter.convert(jwtFor(1L));
+
+        // Act
+        principalCache.evict(1L);
+
+        // Assert
+        assertThatThrownBy(() -> converter.convert(jwtFor(1L)))
+                .isInstanceOf(DisabledException.class);
+        verify(userDetailsService, times(2)).loadUserByUsername("1");
+    }
+}
@@ -0,0 +1,124 @@
+package com.ctxh.volunteer.module.auth.config;
+
+import com.ctxh.volunteer.common.exception.BusinessException;
+import com.ctxh.volunteer.common.exception.ErrorCode;
+import com.ctxh.volunteer.common.util.AppConstants;
+import com.ctxh.volunteer.module.auth.enums.PurposeToken;
+import com.nimbusds.jose.JOSEObjectType;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.InvalidBearerTokenException;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("CustomJwtDecoder Unit Tests")
+class CustomJwtDecoderTest {
+
+    private CustomJwtDecoder decoder;
+    private RSAPrivateKey privateKey;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        KeyPairGenerator keyGen = KeyPairGenerator.getInstance("RSA");
+        keyGen.initialize(2048);
+        KeyPair keyPair = keyGen.generateKeyPair();
+        privateKey = (RSAPrivateKey) keyPair.getPrivate();
+
+        RSAKeyRecord keyRecord = new RSAKeyRecord((RSAPublicKey) keyPair.getPublic(), privateKey, "test-key-id");
+        decoder = new CustomJwtDecoder(new NimbusDecoderConfig().nimbusJwtDecoder(keyRecord));
+    }
+
+    private String sign(PurposeToken purpose, long expiresAtMillis, RSAPrivateKey signingKey) throws Exception {
+        JWTClaimsSet claims = new JWTClaimsSet.Builder()
+                .subject("1")
+                .issueTime(new Date())
+                .expirationTime(new Date(expiresAtMillis))
+                .claim(AppConstants.PURPOSE, purpose.name())
+                .build();
+        SignedJWT jwt = new SignedJWT(
+                new JWSHeader.Builder(JWSAlgorithm.RS256).keyID("test-key-id").type(JOSEObjectType.JWT).build(),
+                claims);
+        jwt.sign(new RSASSASigner(signingKey));
+        return jwt.serialize();
+    }
+
+    private void assertRejected(String token) {
+        assertThatThrownBy(() -> decoder.decode(token))
+                .isInstanceOf(InvalidBearerTokenException.class)
+                .hasCauseInstanceOf(BusinessException.class)
+                .cause()
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.TOKEN_INVALID);
+    }
+
+    @Test
+    @DisplayName("Decode - Returns Jwt for a valid access token")
+    void decode_ReturnsJwt_ForValidAccessToken() throws Exception {
+        // Arrange
+        String token = sign(PurposeToken.ACCESS, System.currentTimeMillis() + 3_600_000, privateKey);
+
+        // Act
+        Jwt jwt = decoder.decode(token);
+
+        // Assert
+        assertThat(jwt.getSubject()).isEqualTo("1");
+        assertThat(jwt.getClaimAsString(AppConstants.PURPOSE)).isEqualTo(PurposeToken.ACCESS.name());
+    }
+
+    @Test
+    @DisplayName("Decode - Rejects a token issued for another purpose")
+    void decode_Rejects_WrongPurpose() throws Exception {
+        assertRejected(sign(PurposeToken.REFRESH, System.currentTimeMillis() + 3_600_000, privateKey));
+    }
+
+    @Test
+    @DisplayName("Decode - Rejects an expired token")
+    void decode_Rejects_ExpiredToken() throws Exception {
+        assertRejected(sign(PurposeToken.ACCESS, System.currentTimeMillis() - 1_000, privateKey));
+    }
+
+    @Test
+    @DisplayName("Decode - Rejects a token without an expiry")
+    void decode_Rejects_TokenWithoutExpiry() throws Exception {
+        JWTClaimsSet claims = new JWTClaimsSet.Builder()
+                .subject("1")
+                .issueTime(new Date())
+                .claim(AppConstants.PURPOSE, PurposeToken.ACCESS.name())
+                .build();
+        SignedJWT jwt = new SignedJWT(
+                new JWSHeader.Builder(JWSAlgorithm.RS256).keyID("test-key-id").type(JOSEObjectType.JWT).build(),
+                claims);
+        jwt.sign(new RSASSASigner(privateKey));
+
+        assertRejected(jwt.serialize());
+    }
+
+    @Test
+    @DisplayName("Decode - Rejects a token signed with another key")
+    void decode_Rejects_ForeignSignature() throws Exception {
+        KeyPairGenerator keyGen = KeyPairGenerator.getInstance("RSA");
+        keyGen.initialize(2048);
+        RSAPrivateKey otherKey = (RSAPrivateKey) keyGen.generateKeyPair().getPrivate();
+
+        assertRejected(sign(PurposeToken.ACCESS, System.currentTimeMillis() + 3_600_000, otherKey));
+    }
+
+    @Test
+    @DisplayName("Decode - Rejects a malformed token")
+    void decode_Rejects_MalformedToken() {
+        assertRejected("not.a.jwt");
+    }
+}
@@ -0,0 +1,122 @@
+package com.ctxh.volunteer.module.auth.repository;
+
+import com.ctxh.volunteer.module.auth.entity.MailOutbox;
+import com.ctxh.volunteer.module.auth.enums.EmailTemplates;
+import com.ctxh.volunteer.module.auth.enums.MailOutboxStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@DisplayName("MailOutboxRepository Integration Tests")
+class MailOutboxRepositoryTest {
+
+    @Autowired
+    private MailOutboxRepository mailOutboxRepository;
+
+    private MailOutbox save(String recipient, MailOutboxStatus status, LocalDateTime nextAttemptAt) {
+        return mailOutboxRepository.save(MailOutbox.builder()
+                .recipient(recipient)
+                .template(EmailTemplates.VERIFY_EMAIL_TEMPLATE)
+                .templateValue("http://localhost:8080/api/v1/auth/verify-email?token=abc")
+                .status(status)
+                .nextAttemptAt(nextAttemptAt)
+                .build());
+    }
+
+    // ==================== FIND DUE FOR UPDATE TESTS ====================
+
+    @Test
+    @DisplayName("Find Due For Update - Returns pending due emails oldest first, up to the page size")
+    void findDueForUpdate_ReturnsDuePendingEntries() {
+        // Arrange
+        LocalDateTime now = LocalDateTime.now();
+        MailOutbox first = save("a@hcmut.edu.vn", MailOutboxStatus.PENDING, now.minusMinutes(5));
+        MailOutbox second = save("b@hcmut.edu.vn", MailOutboxStatus.PENDING, now.minusMinutes(10));
+        save("c@hcmut.edu.vn", MailOutboxStatus.PENDING, now.minusMinutes(1));
+        save("d@hcmut.edu.vn", MailOutboxStatus.PENDING, now.plusMinutes(5));
+        save("e@hcmut.edu.vn", MailOutboxStatus.FAILED, now.minusMinutes(5));
+
+        // Act
+        List<MailOutbox> result = mailOutboxRepository.findDueForUpdate(now, false, PageRequest.of(0, 2));
+
+        // Assert
+        assertThat(result).extracting(MailOutbox::getOutboxId)
+                .containsExactly(first.getOutboxId(), second.getOutboxId());
+    }
+
+    @Test
+    @DisplayName("Find Due For Update - Skips claimed emails until their lease ends")
+    void findDueForUpdate_SkipsClaimedEntries() {
+        // Arrange
+        LocalDateTime now = LocalDateTime.now();
+        MailOutbox entry = save("a@hcmut.edu.vn", MailOutboxStatus.PENDING, now.minusMinutes(1));
+        entry.claim(now.plusMinutes(5));
+        mailOutboxRepository.saveAndFlush(entry);
+
+        // Act & Assert
+        assertThat(mailOutboxRepository.findDueForUpdate(now, false, PageRequest.of(0, 10))).isEmpty();
+        assertThat(mailOutboxRepository.findDueForUpdate(now.plusMinutes(6), false, PageRequest.of(0, 10)))
+                .extracting(MailOutbox::getAttempts)
+                .containsExactly(1);
+    }
+
+    @Test
+    @DisplayName("Find Due For Update - Claims transactional and bulk emails separately")
+    void findDueForUpdate_SeparatesTransactionalAndBulkEmails() {
+        // Arrange
+        LocalDateTime now = LocalDateTime.now();
+        mailOutboxRepository.insertEmails(List.of("bulk1@hcmut.edu.vn", "bulk2@hcmut.edu.vn"),
+                EmailTemplates.VERIFY_RESET_PASSWORD_TEMPLATE, MailOutbox.packArgs("123456"), now.minusMinutes(1));
+        MailOutbox otp = save("otp@hcmut.edu.vn", MailOutboxStatus.PENDING, now.minusMinutes(1));
+
+        // Act
+        List<MailOutbox> transactional = mailOutboxRepository.findDueForUpdate(now, false, PageRequest.of(0, 10));
+        List<MailOutbox> bulk = mailOutboxRepository.findDueForUpdate(now, true, PageRequest.of(0, 10));
+
+        // Assert
+        assertThat(transactional).extracting(MailOutbox::getRecipient).containsExactly(otp.getRecipient());
+        assertThat(bulk).extracting(MailOutbox::getRecipient)
+                .containsExactly("bulk1@hcmut.edu.vn", "bulk2@hcmut.edu.vn");
+        assertThat(bulk).allSatisfy(entry -> assertThat(entry.getBulk()).isTrue());
+    }
+
+    // ==================== INSERT EMAILS TESTS ====================
+
+    @Test
+    @DisplayName("Insert Emails - Queues pending bulk emails across JDBC batches")
+    void insertEmails_QueuesBulkBatch() {
+        // Arrange
+        // One more than a JDBC batch, so the last statement goes out in a second batch
+        List<String> recipients = IntStream.range(0, 501)
+                .mapToObj(i -> "student" + i + "@hcmut.edu.vn")
+                .toList();
+        LocalDateTime now = LocalDateTime.now();
+
+        // Act
+        int[] counts = mailOutboxRepository.insertEmails(recipients, EmailTemplates.VERIFY_RESET_PASSWORD_TEMPLATE,
+                MailOutbox.packArgs("123456"), now);
+
+        // Assert
+        assertThat(counts).hasSize(501);
+        assertThat(mailOutboxRepository.count()).isEqualTo(501);
+        List<MailOutbox> due = mailOutboxRepository.findDueForUpdate(now.plusSeconds(1), true, PageRequest.of(0, 3));
+        assertThat(due).extracting(MailOutbox::getRecipient)
+                .containsExactly("student0@hcmut.edu.vn", "student1@hcmut.edu.vn", "student2@hcmut.edu.vn");
+        assertThat(due).allSatisfy(entry -> {
+            assertThat(entry.getStatus()).isEqualTo(MailOutboxStatus.PENDING);
+            assertThat(entry.getAttempts()).isZero();
+            assertThat(entry.templateArgs()).containsExactly("123456");
+        });
+    }
+}
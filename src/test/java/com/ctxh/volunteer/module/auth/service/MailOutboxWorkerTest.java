@@ -0,0 +1,236 @@
+package com.ctxh.volunteer.module.auth.service;
+
+import com.ctxh.volunteer.module.auth.entity.MailOutbox;
+import com.ctxh.volunteer.module.auth.enums.EmailTemplates;
+import com.ctxh.volunteer.module.auth.enums.MailOutboxStatus;
+import com.ctxh.volunteer.module.auth.repository.MailOutboxRepository;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MailOutboxWorker Unit Tests")
+class MailOutboxWorkerTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP.dynamicPort());
+
+    @Mock
+    private MailOutboxRepository mailOutboxRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private MailTransportPool transportPool;
+
+    private MailOutboxWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("localhost");
+        mailSender.setPort(greenMail.getSmtp().getPort());
+        MailService mailService = new MailService(mailSender, mailOutboxRepository);
+        ReflectionTestUtils.setField(mailService, "from", "noreply@quniverse.com");
+        transportPool = new MailTransportPool(mailSender, 2, Duration.ofMinutes(1));
+        worker = new MailOutboxWorker(mailOutboxRepository, mailService, transportPool, transactionManager, 10, 3, 0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        worker.shutdown();
+        transportPool.shutdown();
+    }
+
+    private MailOutbox entry(long outboxId, String recipient) {
+        return MailOutbox.builder()
+                .outboxId(outboxId)
+                .recipient(recipient)
+                .template(EmailTemplates.VERIFY_RESET_PASSWORD_TEMPLATE)
+                .templateValue("123456")
+                .nextAttemptAt(LocalDateTime.now().minusMinutes(1))
+                .build();
+    }
+
+    private void due(List<MailOutbox> transactional, List<MailOutbox> bulk) {
+        when(mailOutboxRepository.findDueForUpdate(any(LocalDateTime.class), eq(false), any(Pageable.class)))
+                .thenReturn(transactional);
+        when(mailOutboxRepository.findDueForUpdate(any(LocalDateTime.class), eq(true), any(Pageable.class)))
+                .thenReturn(bulk);
+    }
+
+    private List<String> receivedRecipients() {
+        return Arrays.stream(greenMail.getReceivedMessages())
+                .map(message -> {
+                    try {
+                        return message.getAllRecipients()[0].toString();
+                    } catch (Exception e) {
+                        throw new IllegalStateException(e);
+                    }
+                })
+                .toList();
+    }
+
+    // ==================== DRAIN BATCH TESTS ====================
+
+    @Test
+    @DisplayName("Drain Batch - Sends the batch over pooled connections and clears the outbox")
+    void drainBatch_SendsBatch() throws Exception {
+        // Arrange
+        List<MailOutbox> batch = List.of(entry(1L, "a@hcmut.edu.vn"), entry(2L, "b@hcmut.edu.vn"),
+                entry(3L, "c@hcmut.edu.vn"), entry(4L, "d@hcmut.edu.vn"), entry(5L, "e@hcmut.edu.vn"));
+        due(batch, List.of());
+
+        // Act
+        int drained = worker.drainBatch();
+
+        // Assert
+        assertThat(drained).isEqualTo(5);
+        assertThat(batch.get(0).getAttempts()).isEqualTo(1);
+        assertThat(receivedRecipients()).containsExactlyInAnyOrder(
+                "a@hcmut.edu.vn", "b@hcmut.edu.vn", "c@hcmut.edu.vn", "d@hcmut.edu.vn", "e@hcmut.edu.vn");
+        MimeMessage received = greenMail.getReceivedMessages()[0];
+        assertThat(received.getSubject()).isEqualTo(EmailTemplates.VERIFY_RESET_PASSWORD_TEMPLATE.getSubject());
+        verify(mailOutboxRepository).deleteAllByIdInBatch(List.of(1L, 2L, 3L, 4L, 5L));
+        verify(mailOutboxRepository, never()).saveAll(any());
+        // Connections stay open for the next batch, never more than the pool allows
+        assertThat(transportPool.idleCount()).isBetween(1, 2);
+    }
+
+    @Test
+    @DisplayName("Drain Batch - Returns zero when nothing is due")
+    void drainBatch_ReturnsZero_WhenNothingDue() {
+        // Arrange
+        due(List.of(), List.of());
+
+        // Act & Assert
+        assertThat(worker.drainBatch()).isZero();
+        assertThat(greenMail.getReceivedMessages()).isEmpty();
+        verify(mailOutboxRepository, never()).deleteAllByIdInBatch(any());
+    }
+
+    @Test
+    @DisplayName("Drain Batch - A failing email does not hold back the rest of the batch")
+    void drainBatch_IsolatesFailingEntry() {
+        // Arrange
+        MailOutbox good = entry(1L, "good@hcmut.edu.vn");
+        MailOutbox bad = entry(2L, "bad@hcmut.edu.vn");
+        bad.setTemplate(null);
+        due(List.of(good, bad), List.of());
+        when(mailOutboxRepository.findAllById(Set.of(2L))).thenReturn(List.of(bad));
+
+        // Act
+        worker.drainBatch();
+
+        // Assert
+        assertThat(receivedRecipients()).containsExactly("good@hcmut.edu.vn");
+        verify(mailOutboxRepository).deleteAllByIdInBatch(List.of(1L));
+        verify(mailOutboxRepository).saveAll(List.of(bad));
+        assertThat(bad.getStatus()).isEqualTo(MailOutboxStatus.PENDING);
+        assertThat(bad.getLastError()).isNotNull();
+        assertThat(bad.getNextAttemptAt()).isAfter(LocalDateTime.now().plusSeconds(20));
+    }
+
+    @Test
+    @DisplayName("Drain Batch - Backs off every email while the SMTP server is unreachable")
+    void drainBatch_BacksOff_WhenServerDown() {
+        // Arrange
+        greenMail.stop();
+        MailOutbox first = entry(1L, "a@hcmut.edu.vn");
+        MailOutbox second = entry(2L, "b@hcmut.edu.vn");
+        due(List.of(first, second), List.of());
+        when(mailOutboxRepository.findAllById(Set.of(1L, 2L))).thenReturn(List.of(first, second));
+
+        // Act
+        worker.drainBatch();
+
+        // Assert
+        verify(mailOutboxRepository, never()).deleteAllByIdInBatch(any());
+        assertThat(List.of(first, second)).allSatisfy(entry -> {
+            assertThat(entry.getStatus()).isEqualTo(MailOutboxStatus.PENDING);
+            assertThat(entry.getLastError()).isNotNull();
+        });
+        assertThat(transportPool.idleCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Drain Batch - Throttles bulk email to the send rate but never transactional email")
+    void drainBatch_ThrottlesOnlyBulkEmail() {
+        // Arrange
+        MailOutboxWorker throttled = new MailOutboxWorker(mailOutboxRepository,
+                new MailService(new JavaMailSenderImpl(), mailOutboxRepository), transportPool, transactionManager, 10, 3, 2);
+        MailOutbox otp = entry(1L, "otp@hcmut.edu.vn");
+        otp.setTemplate(null);
+        MailOutbox bulk = entry(2L, "bulk@hcmut.edu.vn");
+        bulk.setTemplate(null);
+        due(List.of(otp), List.of(bulk));
+        when(mailOutboxRepository.findAllById(anySet())).thenReturn(List.of());
+
+        try {
+            // Act
+            int first = throttled.drainBatch();
+            int second = throttled.drainBatch();
+
+            // Assert: the first batch asks for the two bulk sends the rate allows and
+            // uses one, the second has one left; transactional email is claimed both times
+            assertThat(first).isEqualTo(2);
+            assertThat(second).isEqualTo(2);
+            verify(mailOutboxRepository).findDueForUpdate(any(LocalDateTime.class), eq(true), eq(PageRequest.of(0, 2)));
+            verify(mailOutboxRepository).findDueForUpdate(any(LocalDateTime.class), eq(true), eq(PageRequest.of(0, 1)));
+            verify(mailOutboxRepository, times(2)).findDueForUpdate(any(LocalDateTime.class), eq(false), eq(PageRequest.of(0, 10)));
+        } finally {
+            throttled.shutdown();
+        }
+    }
+
+    // ==================== RETRY TESTS ====================
+
+    @Test
+    @DisplayName("Fail - Parks the email as FAILED once attempts run out")
+    void fail_ParksEntry_WhenAttemptsExhausted() {
+        // Arrange
+        MailOutbox outbox = entry(1L, "a@hcmut.edu.vn");
+        LocalDateTime now = LocalDateTime.now();
+
+        // Act
+        for (int attempt = 0; attempt < 3; attempt++) {
+            outbox.claim(now.plusMinutes(5));
+            outbox.fail("boom", now.plus(MailOutboxWorker.backoff(outbox.getAttempts())), 3);
+        }
+
+        // Assert
+        assertThat(outbox.getStatus()).isEqualTo(MailOutboxStatus.FAILED);
+        assertThat(outbox.getAttempts()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Backoff - Doubles per attempt up to one hour")
+    void backoff_DoublesAndCaps() {
+        assertThat(MailOutboxWorker.backoff(1)).isEqualTo(Duration.ofSeconds(30));
+        assertThat(MailOutboxWorker.backoff(3)).isEqualTo(Duration.ofMinutes(2));
+        assertThat(MailOutboxWorker.backoff(20)).isEqualTo(Duration.ofHours(1));
+    }
+}
@@ -0,0 +1,68 @@
+package com.ctxh.volunteer.module.auth.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("MailRateLimiter Unit Tests")
+class MailRateLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    // ==================== ACQUIRE TESTS ====================
+
+    @Test
+    @DisplayName("Acquire - Grants at most one minute of quota at once")
+    void acquireUpTo_CapsAtRate() {
+        // Arrange
+        MailRateLimiter limiter = new MailRateLimiter(60, clock::get);
+
+        // Act & Assert
+        assertThat(limiter.acquireUpTo(50)).isEqualTo(50);
+        assertThat(limiter.acquireUpTo(50)).isEqualTo(10);
+        assertThat(limiter.acquireUpTo(50)).isZero();
+    }
+
+    @Test
+    @DisplayName("Acquire - Refills with elapsed time, never beyond one minute of quota")
+    void acquireUpTo_RefillsOverTime() {
+        // Arrange
+        MailRateLimiter limiter = new MailRateLimiter(60, clock::get);
+        limiter.acquireUpTo(60);
+
+        // Act & Assert
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(5));
+        assertThat(limiter.acquireUpTo(50)).isEqualTo(5);
+        clock.addAndGet(TimeUnit.HOURS.toNanos(1));
+        assertThat(limiter.acquireUpTo(100)).isEqualTo(60);
+    }
+
+    @Test
+    @DisplayName("Refund - Returns unused sends to the bucket")
+    void refund_ReturnsUnusedSends() {
+        // Arrange
+        MailRateLimiter limiter = new MailRateLimiter(60, clock::get);
+        limiter.acquireUpTo(60);
+
+        // Act
+        limiter.refund(20);
+
+        // Assert
+        assertThat(limiter.acquireUpTo(50)).isEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("Acquire - A rate of zero disables the limit")
+    void acquireUpTo_Unlimited_WhenRateIsZero() {
+        // Arrange
+        MailRateLimiter limiter = new MailRateLimiter(0, clock::get);
+
+        // Act & Assert
+        assertThat(limiter.acquireUpTo(1000)).isEqualTo(1000);
+        assertThat(limiter.acquireUpTo(1000)).isEqualTo(1000);
+    }
+}
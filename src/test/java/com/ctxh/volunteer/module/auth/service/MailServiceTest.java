@@ -1,6 +1,9 @@
 package com.ctxh.volunteer.module.auth.service;
 
+import com.ctxh.volunteer.module.auth.entity.MailOutbox;
 import com.ctxh.volunteer.module.auth.enums.EmailTemplates;
+import com.ctxh.volunteer.module.auth.enums.MailOutboxStatus;
+import com.ctxh.volunteer.module.auth.repository.MailOutboxRepository;
 import jakarta.mail.MessagingException;
 import jakarta.mail.Session;
 import jakarta.mail.internet.MimeMessage;
@@ -17,11 +20,14 @@ import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.io.UnsupportedEncodingException;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Properties;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -31,184 +37,153 @@ class MailServiceTest {
     @Mock
     private JavaMailSender mailSender;
 
+    @Mock
+    private MailOutboxRepository mailOutboxRepository;
+
     @InjectMocks
     private MailService mailService;
 
     @Captor
-    private ArgumentCaptor<MimeMessage> mimeMessageCaptor;
-
-    private MimeMessage mimeMessage;
+    private ArgumentCaptor<MailOutbox> outboxCaptor;
 
     @BeforeEach
     void setUp() {
         // Set the @Value field using ReflectionTestUtils
         ReflectionTestUtils.setField(mailService, "from", "test@quniverse.com");
+    }
 
-        // Create a real MimeMessage for mocking
-        Session session = Session.getInstance(new Properties());
-        mimeMessage = new MimeMessage(session);
-
-        // Mock createMimeMessage to return our test MimeMessage
-        when(mailSender.createMimeMessage()).thenReturn(mimeMessage);
+    private void stubMimeMessage() {
+        when(mailSender.createMimeMessage()).thenReturn(new MimeMessage(Session.getInstance(new Properties())));
     }
 
+    // ==================== SEND EMAIL TESTS ====================
+
     @Test
-    @DisplayName("Send Email - Success with single recipient")
-    void sendEmail_Success_WithSingleRecipient() throws MessagingException, UnsupportedEncodingException {
+    @DisplayName("Send Email - Queues the email in the outbox instead of sending it")
+    void sendEmail_QueuesInOutbox() {
         // Arrange
         String to = "recipient@hcmut.edu.vn";
         String link = "http://localhost:8080/verify?token=abc123";
-        EmailTemplates template = EmailTemplates.VERIFY_EMAIL_TEMPLATE;
+        LocalDateTime before = LocalDateTime.now();
 
         // Act
-        mailService.sendEmail(to, link, template);
+        mailService.sendEmail(to, link, EmailTemplates.VERIFY_EMAIL_TEMPLATE);
 
         // Assert
-        verify(mailSender).createMimeMessage();
-        verify(mailSender).send(mimeMessageCaptor.capture());
-
-        MimeMessage sentMessage = mimeMessageCaptor.getValue();
-        assertThat(sentMessage.getSubject()).isEqualTo(template.getSubject());
-        assertThat(sentMessage.getAllRecipients()).hasSize(1);
-        assertThat(sentMessage.getAllRecipients()[0].toString()).isEqualTo(to);
+        verify(mailOutboxRepository).save(outboxCaptor.capture());
+        MailOutbox queued = outboxCaptor.getValue();
+        assertThat(queued.getRecipient()).isEqualTo(to);
+        assertThat(queued.getTemplate()).isEqualTo(EmailTemplates.VERIFY_EMAIL_TEMPLATE);
+        assertThat(queued.getTemplateValue()).isEqualTo(link);
+        assertThat(queued.getStatus()).isEqualTo(MailOutboxStatus.PENDING);
+        assertThat(queued.getAttempts()).isZero();
+        assertThat(queued.getNextAttemptAt()).isAfterOrEqualTo(before);
+        verifyNoInteractions(mailSender);
     }
 
     @Test
-    @DisplayName("Send Email - Success with multiple recipients")
-    void sendEmail_Success_WithMultipleRecipients() throws MessagingException, UnsupportedEncodingException {
+    @DisplayName("Send Email - Propagates outbox write failures to the caller")
+    void sendEmail_Throws_WhenOutboxWriteFails() {
         // Arrange
-        String to = "user1@hcmut.edu.vn,user2@hcmut.edu.vn,user3@hcmut.edu.vn";
-        String link = "http://localhost:8080/verify?token=xyz789";
-        EmailTemplates template = EmailTemplates.VERIFY_EMAIL_TEMPLATE;
-
-        // Act
-        mailService.sendEmail(to, link, template);
-
-        // Assert
-        verify(mailSender).createMimeMessage();
-        verify(mailSender).send(mimeMessageCaptor.capture());
+        when(mailOutboxRepository.save(any(MailOutbox.class))).thenThrow(new IllegalStateException("database down"));
 
-        MimeMessage sentMessage = mimeMessageCaptor.getValue();
-        assertThat(sentMessage.getAllRecipients()).hasSize(3);
+        // Act & Assert
+        assertThatThrownBy(() ->
+                        mailService.sendEmail("user@hcmut.edu.vn", "123456", EmailTemplates.VERIFY_RESET_PASSWORD_TEMPLATE))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("database down");
     }
 
     @Test
-    @DisplayName("Send Email - Uses correct email template for verification")
-    void sendEmail_UsesCorrectTemplate_ForVerification() throws MessagingException, UnsupportedEncodingException {
+    @DisplayName("Send Emails - Queues one entry per recipient in a single batch insert")
+    void sendEmails_QueuesBatch() {
         // Arrange
-        String to = "user@hcmut.edu.vn";
-        String link = "http://localhost:8080/verify?token=test123";
-        EmailTemplates template = EmailTemplates.VERIFY_EMAIL_TEMPLATE;
+        List<String> recipients = List.of("a@hcmut.edu.vn", "b@hcmut.edu.vn", "c@hcmut.edu.vn");
 
         // Act
-        mailService.sendEmail(to, link, template);
+        mailService.sendEmails(recipients, EmailTemplates.VERIFY_RESET_PASSWORD_TEMPLATE, "123456");
 
         // Assert
-        verify(mailSender).send(mimeMessageCaptor.capture());
-        MimeMessage sentMessage = mimeMessageCaptor.getValue();
-        assertThat(sentMessage.getSubject()).isEqualTo(EmailTemplates.VERIFY_EMAIL_TEMPLATE.getSubject());
+        verify(mailOutboxRepository).insertEmails(eq(recipients), eq(EmailTemplates.VERIFY_RESET_PASSWORD_TEMPLATE),
+                eq("123456"), any(LocalDateTime.class));
+        verify(mailOutboxRepository, never()).save(any(MailOutbox.class));
     }
 
     @Test
-    @DisplayName("Send Email - Uses correct email template for password reset")
-    void sendEmail_UsesCorrectTemplate_ForPasswordReset() throws MessagingException, UnsupportedEncodingException {
-        // Arrange
-        String to = "user@hcmut.edu.vn";
-        String otpCode = "123456";
-        EmailTemplates template = EmailTemplates.VERIFY_RESET_PASSWORD_TEMPLATE;
-
-        // Act
-        mailService.sendEmail(to, otpCode, template);
-
-        // Assert
-        verify(mailSender).send(mimeMessageCaptor.capture());
-        MimeMessage sentMessage = mimeMessageCaptor.getValue();
-        assertThat(sentMessage.getSubject()).isEqualTo(EmailTemplates.VERIFY_RESET_PASSWORD_TEMPLATE.getSubject());
+    @DisplayName("Send Emails - Rejects arguments that do not match the template placeholders")
+    void sendEmails_Throws_WhenArgumentCountMismatches() {
+        // Act & Assert
+        assertThatThrownBy(() -> mailService.sendEmails(List.of("a@hcmut.edu.vn"),
+                EmailTemplates.VERIFY_EMAIL_TEMPLATE, "link", "extra"))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(mailOutboxRepository);
     }
 
+    // ==================== COMPOSE TESTS ====================
+
     @Test
-    @DisplayName("Send Email - Sets correct sender information")
-    void sendEmail_SetsCorrectSender() throws MessagingException, UnsupportedEncodingException {
+    @DisplayName("Compose - Single recipient, template subject and sender")
+    void compose_SingleRecipient() throws MessagingException, UnsupportedEncodingException {
         // Arrange
+        stubMimeMessage();
         String to = "recipient@hcmut.edu.vn";
-        String link = "http://localhost:8080/verify";
-        EmailTemplates template = EmailTemplates.VERIFY_EMAIL_TEMPLATE;
 
         // Act
-        mailService.sendEmail(to, link, template);
+        MimeMessage message = mailService.compose(to, EmailTemplates.VERIFY_EMAIL_TEMPLATE,
+                "http://localhost:8080/verify?token=abc123");
 
         // Assert
-        verify(mailSender).send(mimeMessageCaptor.capture());
-        MimeMessage sentMessage = mimeMessageCaptor.getValue();
-        assertThat(sentMessage.getFrom()).isNotEmpty();
-        assertThat(sentMessage.getFrom()[0].toString()).contains("QUniverse");
+        assertThat(message.getSubject()).isEqualTo(EmailTemplates.VERIFY_EMAIL_TEMPLATE.getSubject());
+        assertThat(message.getAllRecipients()).hasSize(1);
+        assertThat(message.getAllRecipients()[0].toString()).isEqualTo(to);
+        assertThat(message.getFrom()[0].toString()).contains("Uni Volunteer");
+        assertThat(message.getSentDate()).isNotNull();
     }
 
     @Test
-    @DisplayName("Send Email - Formats content with link")
-    void sendEmail_FormatsContentWithLink() throws MessagingException, UnsupportedEncodingException {
+    @DisplayName("Compose - Splits a comma separated recipient list")
+    void compose_MultipleRecipients() throws MessagingException, UnsupportedEncodingException {
         // Arrange
-        String to = "user@hcmut.edu.vn";
-        String link = "http://localhost:8080/verify?token=abc123";
-        EmailTemplates template = EmailTemplates.VERIFY_EMAIL_TEMPLATE;
+        stubMimeMessage();
 
         // Act
-        mailService.sendEmail(to, link, template);
+        MimeMessage message = mailService.compose("user1@hcmut.edu.vn,user2@hcmut.edu.vn,user3@hcmut.edu.vn",
+                EmailTemplates.VERIFY_EMAIL_TEMPLATE, "http://localhost:8080/verify?token=xyz789");
 
         // Assert
-        verify(mailSender).send(any(MimeMessage.class));
-        verify(mailSender).createMimeMessage();
-    }
-
-    @Test
-    @DisplayName("Send Email - Does not throw exception when successful")
-    void sendEmail_DoesNotThrowException_WhenSuccessful() {
-        // Arrange
-        String to = "user@hcmut.edu.vn";
-        String link = "http://localhost:8080/verify";
-        EmailTemplates template = EmailTemplates.VERIFY_EMAIL_TEMPLATE;
-
-        doNothing().when(mailSender).send(any(MimeMessage.class));
-
-        // Act & Assert
-        assertThatCode(() -> mailService.sendEmail(to, link, template))
-                .doesNotThrowAnyException();
-
-        verify(mailSender).send(any(MimeMessage.class));
+        assertThat(message.getAllRecipients()).hasSize(3);
     }
 
     @Test
-    @DisplayName("Send Email - Throws MessagingException when mail sender fails")
-    void sendEmail_ThrowsMessagingException_WhenMailSenderFails() {
+    @DisplayName("Compose - Uses the password reset template")
+    void compose_UsesPasswordResetTemplate() throws Exception {
         // Arrange
-        String to = "user@hcmut.edu.vn";
-        String link = "http://localhost:8080/verify";
-        EmailTemplates template = EmailTemplates.VERIFY_EMAIL_TEMPLATE;
+        stubMimeMessage();
 
-        doThrow(new RuntimeException("Mail server error"))
-                .when(mailSender).send(any(MimeMessage.class));
-
-        // Act & Assert
-        assertThatCode(() -> mailService.sendEmail(to, link, template))
-                .isInstanceOf(RuntimeException.class)
-                .hasMessageContaining("Mail server error");
+        // Act
+        MimeMessage message = mailService.compose("user@hcmut.edu.vn",
+                EmailTemplates.VERIFY_RESET_PASSWORD_TEMPLATE, "123456");
 
-        verify(mailSender).send(any(MimeMessage.class));
+        // Assert
+        assertThat(message.getSubject()).isEqualTo(EmailTemplates.VERIFY_RESET_PASSWORD_TEMPLATE.getSubject());
+        assertThat(message.getContentType()).startsWith("text/html");
+        assertThat((String) message.getContent()).contains("123456");
+        verify(mailSender, never()).send(any(MimeMessage.class));
     }
 
     @Test
-    @DisplayName("Send Email - Sets message encoding to UTF-8")
-    void sendEmail_SetsUtf8Encoding() throws MessagingException, UnsupportedEncodingException {
+    @DisplayName("Compose - Escapes HTML in template arguments")
+    void compose_EscapesArguments() throws Exception {
         // Arrange
-        String to = "user@hcmut.edu.vn";
-        String link = "http://localhost:8080/verify";
-        EmailTemplates template = EmailTemplates.VERIFY_EMAIL_TEMPLATE;
+        stubMimeMessage();
 
         // Act
-        mailService.sendEmail(to, link, template);
+        MimeMessage message = mailService.compose("user@hcmut.edu.vn",
+                EmailTemplates.VERIFY_EMAIL_TEMPLATE, "http://localhost/verify?a=1&b=\"><script>");
 
         // Assert
-        verify(mailSender).createMimeMessage();
-        verify(mailSender).send(any(MimeMessage.class));
+        assertThat((String) message.getContent())
+                .contains("href=\"http://localhost/verify?a=1&amp;b=&quot;&gt;&lt;script&gt;\"")
+                .doesNotContain("<script>");
     }
 }
@@ -0,0 +1,108 @@
+package com.ctxh.volunteer.module.auth.service;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Transport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+@DisplayName("MailTransportPool Unit Tests")
+class MailTransportPoolTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP.dynamicPort());
+
+    private MailTransportPool pool;
+
+    private MailTransportPool pool(int capacity, Duration maxIdle) {
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("localhost");
+        mailSender.setPort(greenMail.getSmtp().getPort());
+        pool = new MailTransportPool(mailSender, capacity, maxIdle);
+        return pool;
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (pool != null) {
+            pool.shutdown();
+        }
+    }
+
+    // ==================== BORROW TESTS ====================
+
+    @Test
+    @DisplayName("Borrow - Reuses a released connection")
+    void borrow_ReusesReleasedConnection() throws MessagingException {
+        // Arrange
+        pool(1, Duration.ofMinutes(1));
+        Transport first = pool.borrow();
+        pool.release(first);
+
+        // Act
+        Transport second = pool.borrow();
+
+        // Assert
+        assertThat(second).isSameAs(first);
+        assertThat(second.isConnected()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Invalidate - Closes the connection and frees its slot")
+    void invalidate_ClosesConnection() throws MessagingException {
+        // Arrange
+        pool(1, Duration.ofMinutes(1));
+        Transport broken = pool.borrow();
+
+        // Act
+        pool.invalidate(broken);
+        Transport replacement = pool.borrow();
+
+        // Assert
+        assertThat(broken.isConnected()).isFalse();
+        assertThat(replacement).isNotSameAs(broken);
+        assertThat(replacement.isConnected()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Evict Idle - Closes connections idle longer than the limit")
+    void evictIdle_ClosesStaleConnections() throws MessagingException {
+        // Arrange
+        pool(2, Duration.ZERO);
+        Transport transport = pool.borrow();
+        pool.release(transport);
+
+        // Act
+        pool.evictIdle();
+
+        // Assert
+        assertThat(pool.idleCount()).isZero();
+        assertThat(transport.isConnected()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Borrow - A failed connect does not use up a slot")
+    void borrow_ReleasesSlot_WhenConnectFails() throws MessagingException {
+        // Arrange
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("localhost");
+        mailSender.setPort(1);
+        pool = new MailTransportPool(mailSender, 1, Duration.ofMinutes(1));
+
+        // Act & Assert
+        assertThatThrownBy(pool::borrow).isInstanceOf(MessagingException.class);
+        mailSender.setPort(greenMail.getSmtp().getPort());
+        Transport transport = assertTimeoutPreemptively(Duration.ofSeconds(5), pool::borrow);
+        assertThat(transport.isConnected()).isTrue();
+    }
+}
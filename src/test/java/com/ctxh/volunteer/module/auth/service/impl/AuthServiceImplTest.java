@@ -1,11 +1,12 @@
 package com.ctxh.volunteer.module.auth.service.impl;
 
-import com.cloudinary.Cloudinary;
 import com.ctxh.volunteer.common.exception.BusinessException;
 import com.ctxh.volunteer.common.exception.ErrorCode;
 import com.ctxh.volunteer.common.util.AppConstants;
+import com.ctxh.volunteer.common.util.ImageUploader;
 import com.ctxh.volunteer.common.util.ImageValidator;
 import com.ctxh.volunteer.module.auth.RoleEnum;
+import com.ctxh.volunteer.module.auth.config.PrincipalCache;
 import com.ctxh.volunteer.module.auth.config.RSAKeyRecord;
 import com.ctxh.volunteer.module.auth.dto.request.CompleteProfile;
 import com.ctxh.volunteer.module.auth.dto.request.LoginRequest;
@@ -90,7 +91,10 @@ class AuthServiceImplTest {
     private ImageValidator imageValidator;
 
     @Mock
-    private Cloudinary cloudinary;
+    private ImageUploader imageUploader;
+
+    @Mock
+    private PrincipalCache principalCache;
 
     @InjectMocks
     private AuthServiceImpl authService;
@@ -458,6 +462,7 @@ class AuthServiceImplTest {
         verify(userRepository, times(2)).findById(testUser.getUserId()); // Called twice: getUserFromClaims() + revokeToken()
         verify(passwordEncoder).encode(newPassword);
         verify(userRepository).save(testUser);
+        verify(principalCache).evict(testUser.getUserId());
     }
 
     @Test
@@ -1086,6 +1091,52 @@ class AuthServiceImplTest {
         assertThat(testStudent.getGender()).isEqualTo(Gender.FEMALE);
     }
 
+    // ==================== BAN / UNBAN TESTS ====================
+
+    @Test
+    @DisplayName("Ban User - Bans user and evicts cached principal")
+    void banUser_Success_EvictsCachedPrincipal() {
+        // Arrange
+        when(userRepository.findById(testUser.getUserId())).thenReturn(Optional.of(testUser));
+
+        // Act
+        authService.banUser(testUser.getUserId());
+
+        // Assert
+        assertThat(testUser.getIsBanned()).isTrue();
+        verify(userRepository).save(testUser);
+        verify(principalCache).evict(testUser.getUserId());
+    }
+
+    @Test
+    @DisplayName("Unban User - Unbans user and evicts cached principal")
+    void unBanUser_Success_EvictsCachedPrincipal() {
+        // Arrange
+        testUser.banUser();
+        when(userRepository.findById(testUser.getUserId())).thenReturn(Optional.of(testUser));
+
+        // Act
+        authService.unBanUser(testUser.getUserId());
+
+        // Assert
+        assertThat(testUser.getIsBanned()).isFalse();
+        verify(principalCache).evict(testUser.getUserId());
+    }
+
+    @Test
+    @DisplayName("Ban User - Fails when user not found")
+    void banUser_ThrowsException_WhenUserNotFound() {
+        // Arrange
+        when(userRepository.findById(999L)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThatThrownBy(() -> authService.banUser(999L))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.USER_NOT_FOUND);
+
+        verify(principalCache, never()).evict(anyLong());
+    }
+
     // ==================== UPLOAD IMAGE TESTS ====================
 
     @Test
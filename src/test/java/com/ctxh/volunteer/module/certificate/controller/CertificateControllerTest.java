@@ -0,0 +1,134 @@
+package com.ctxh.volunteer.module.certificate.controller;
+
+import com.ctxh.volunteer.common.exception.BusinessException;
+import com.ctxh.volunteer.common.exception.ErrorCode;
+import com.ctxh.volunteer.module.certificate.dto.CertificateVerificationDto;
+import com.ctxh.volunteer.module.certificate.dto.RevokeCertificateRequestDto;
+import com.ctxh.volunteer.module.certificate.service.CertificateService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(value = {CertificateController.class, com.ctxh.volunteer.common.exception.GlobalExceptionHandler.class},
+    excludeFilters = @org.springframework.context.annotation.ComponentScan.Filter(
+        type = org.springframework.context.annotation.FilterType.ASSIGNABLE_TYPE,
+        classes = com.ctxh.volunteer.module.auth.config.CustomAuthenticationConverter.class
+    ),
+    excludeAutoConfiguration = {
+        org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration.class,
+        org.springframework.boot.autoconfigure.security.servlet.SecurityFilterAutoConfiguration.class,
+        org.springframework.boot.autoconfigure.security.oauth2.client.servlet.OAuth2ClientAutoConfiguration.class,
+        org.springframework.boot.autoconfigure.security.oauth2.client.servlet.OAuth2ClientWebSecurityAutoConfiguration.class,
+        org.springframework.boot.autoconfigure.security.oauth2.resource.servlet.OAuth2ResourceServerAutoConfiguration.class
+    })
+@DisplayName("CertificateController Integration Tests")
+class CertificateControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockBean
+    private CertificateService certificateService;
+
+    // ==================== VERIFY TESTS ====================
+
+    @Test
+    @DisplayName("GET /certificates/verify/{code} - Returns the public snapshot")
+    void verifyCertificate_Success() throws Exception {
+        // Arrange
+        when(certificateService.verifyCertificate("CERT-1A2B3C4D")).thenReturn(CertificateVerificationDto.builder()
+                .certificateCode("CERT-1A2B3C4D")
+                .valid(true)
+                .issuedDate(LocalDateTime.now())
+                .studentName("Nguyen Van A")
+                .activityTitle("Volunteer Activity")
+                .organizationName("Test Organization")
+                .build());
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/certificates/verify/CERT-1A2B3C4D"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.certificateCode").value("CERT-1A2B3C4D"))
+                .andExpect(jsonPath("$.data.valid").value(true))
+                .andExpect(jsonPath("$.data.studentName").value("Nguyen Van A"));
+    }
+
+    @Test
+    @DisplayName("GET /certificates/verify/{code} - Returns 404 for unknown codes")
+    void verifyCertificate_NotFound() throws Exception {
+        // Arrange
+        when(certificateService.verifyCertificate("CERT-00000000"))
+                .thenThrow(new BusinessException(ErrorCode.CERTIFICATE_NOT_FOUND));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/certificates/verify/CERT-00000000"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.success").value(false));
+    }
+
+    // ==================== PDF TESTS ====================
+
+    @Test
+    @DisplayName("GET /certificates/{id}/pdf - Streams the rendered file as an attachment")
+    void downloadCertificatePdf_Success(@TempDir Path dir) throws Exception {
+        // Arrange
+        Path pdf = Files.write(dir.resolve("CERT-1A2B3C4D.pdf"), "%PDF-1.7 test".getBytes());
+        when(certificateService.getCertificatePdf(1L, 5L)).thenReturn(CompletableFuture.completedFuture(pdf));
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("1", null));
+
+        try {
+            // Act
+            MvcResult started = mockMvc.perform(get("/api/v1/certificates/5/pdf"))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            // Assert
+            mockMvc.perform(asyncDispatch(started))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType(MediaType.APPLICATION_PDF))
+                    .andExpect(header().string("Content-Disposition", "attachment; filename=\"CERT-1A2B3C4D.pdf\""))
+                    .andExpect(content().bytes("%PDF-1.7 test".getBytes()));
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    // ==================== REVOKE TESTS ====================
+
+    @Test
+    @DisplayName("PUT /certificates/{code}/revoke - Fails without a reason")
+    void revokeCertificate_MissingReason_ReturnsBadRequest() throws Exception {
+        // Act & Assert
+        mockMvc.perform(put("/api/v1/certificates/CERT-1A2B3C4D/revoke")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new RevokeCertificateRequestDto(""))))
+                .andExpect(status().isBadRequest());
+
+        verify(certificateService, never()).revokeCertificate(any(), any());
+    }
+}
@@ -0,0 +1,141 @@
+package com.ctxh.volunteer.module.certificate.repository;
+
+import com.ctxh.volunteer.module.activity.entity.Activity;
+import com.ctxh.volunteer.module.activity.repository.ActivityRepository;
+import com.ctxh.volunteer.module.auth.entity.User;
+import com.ctxh.volunteer.module.auth.repository.UserRepository;
+import com.ctxh.volunteer.module.certificate.dto.CertificateDraftDto;
+import com.ctxh.volunteer.module.enrollment.entity.Enrollment;
+import com.ctxh.volunteer.module.enrollment.repository.EnrollmentRepository;
+import com.ctxh.volunteer.module.organization.entity.Organization;
+import com.ctxh.volunteer.module.organization.enums.OrganizationType;
+import com.ctxh.volunteer.module.organization.repository.OrganizationRepository;
+import com.ctxh.volunteer.module.student.entity.Student;
+import com.ctxh.volunteer.module.student.enums.Gender;
+import com.ctxh.volunteer.module.student.repository.StudentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the certificate batch insert against a real PostgreSQL, where an enrollment that was
+ * certified after the drafts were read must be skipped. Needs Docker and is skipped without it.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.jpa.database-platform=org.hibernate.dialect.PostgreSQLDialect"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@ActiveProfiles("test")
+@DisplayName("Certificate batch insert PostgreSQL Tests")
+class CertificateBatchPostgresTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private CertificateRepository certificateRepository;
+
+    @Autowired
+    private EnrollmentRepository enrollmentRepository;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ActivityRepository activityRepository;
+
+    @Autowired
+    private OrganizationRepository organizationRepository;
+
+    private Activity activity;
+
+    @BeforeEach
+    void setUp() {
+        User orgUser = User.builder()
+                .email("batch-org@example.com")
+                .password("password")
+                .isVerified(true)
+                .build();
+        Organization organization = Organization.builder()
+                .user(orgUser)
+                .organizationName("Batch Org")
+                .representativeName("John Doe")
+                .representativeEmail("john@example.com")
+                .type(OrganizationType.NGO)
+                .build();
+        orgUser.setOrganization(organization);
+        userRepository.save(orgUser);
+        organization = organizationRepository.save(organization);
+
+        activity = activityRepository.save(Activity.builder()
+                .title("Batch Activity")
+                .shortDescription("Description")
+                .organization(organization)
+                .startDateTime(LocalDateTime.now())
+                .endDateTime(LocalDateTime.now().plusDays(1))
+                .theNumberOfCtxhDay(1.0)
+                .build());
+
+        User studentUser = User.builder()
+                .email("batch-student@hcmut.edu.vn")
+                .password("password")
+                .isVerified(true)
+                .build();
+        Student student = Student.builder()
+                .user(studentUser)
+                .fullName("Nguyen Van A")
+                .mssv("2012345")
+                .gender(Gender.MALE)
+                .faculty("Computer Science")
+                .academicYear("2020")
+                .totalCtxhDays(0.0)
+                .build();
+        studentUser.setStudent(student);
+        userRepository.save(studentUser);
+        student = studentRepository.save(student);
+
+        enrollmentRepository.saveAndFlush(Enrollment.builder()
+                .student(student)
+                .activity(activity)
+                .isCompleted(true)
+                .completedAt(LocalDateTime.now())
+                .build());
+    }
+
+    @Test
+    @DisplayName("insertCertificates - Should skip an enrollment certified after the drafts were read")
+    void insertCertificates_SkipsAlreadyIssuedEnrollment() {
+        // Arrange
+        List<CertificateDraftDto> drafts =
+                certificateRepository.findDraftsForUncertifiedEnrollments(activity.getActivityId());
+        // The outbox worker commits its certificate in between
+        certificateRepository.insertCertificates(drafts, LocalDateTime.now());
+
+        // Act
+        int[] counts = certificateRepository.insertCertificates(drafts, LocalDateTime.now());
+
+        // Assert
+        assertThat(counts).containsExactly(0);
+        assertThat(certificateRepository.count()).isEqualTo(1);
+    }
+}
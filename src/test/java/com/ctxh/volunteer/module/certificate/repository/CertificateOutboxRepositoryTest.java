@@ -0,0 +1,69 @@
+package com.ctxh.volunteer.module.certificate.repository;
+
+import com.ctxh.volunteer.module.certificate.entity.CertificateOutbox;
+import com.ctxh.volunteer.module.certificate.enums.CertificateOutboxStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@DisplayName("CertificateOutboxRepository Integration Tests")
+class CertificateOutboxRepositoryTest {
+
+    @Autowired
+    private CertificateOutboxRepository certificateOutboxRepository;
+
+    private CertificateOutbox save(Long enrollmentId, CertificateOutboxStatus status, LocalDateTime nextAttemptAt) {
+        return certificateOutboxRepository.save(CertificateOutbox.builder()
+                .enrollmentId(enrollmentId)
+                .status(status)
+                .nextAttemptAt(nextAttemptAt)
+                .build());
+    }
+
+    // ==================== FIND DUE FOR UPDATE TESTS ====================
+
+    @Test
+    @DisplayName("Find Due For Update - Returns pending due entries oldest first, up to the page size")
+    void findDueForUpdate_ReturnsDuePendingEntries() {
+        // Arrange
+        LocalDateTime now = LocalDateTime.now();
+        CertificateOutbox first = save(1L, CertificateOutboxStatus.PENDING, now.minusMinutes(5));
+        CertificateOutbox second = save(2L, CertificateOutboxStatus.PENDING, now.minusMinutes(10));
+        save(3L, CertificateOutboxStatus.PENDING, now.minusMinutes(1));
+        save(4L, CertificateOutboxStatus.PENDING, now.plusMinutes(5));
+        save(5L, CertificateOutboxStatus.FAILED, now.minusMinutes(5));
+
+        // Act
+        List<CertificateOutbox> result = certificateOutboxRepository.findDueForUpdate(now, PageRequest.of(0, 2));
+
+        // Assert
+        assertThat(result).extracting(CertificateOutbox::getOutboxId)
+                .containsExactly(first.getOutboxId(), second.getOutboxId());
+    }
+
+    @Test
+    @DisplayName("Find Due For Update - Skips claimed entries until their lease ends")
+    void findDueForUpdate_SkipsClaimedEntries() {
+        // Arrange
+        LocalDateTime now = LocalDateTime.now();
+        CertificateOutbox entry = save(1L, CertificateOutboxStatus.PENDING, now.minusMinutes(1));
+        entry.claim(now.plusMinutes(5));
+        certificateOutboxRepository.saveAndFlush(entry);
+
+        // Act & Assert
+        assertThat(certificateOutboxRepository.findDueForUpdate(now, PageRequest.of(0, 10))).isEmpty();
+        assertThat(certificateOutboxRepository.findDueForUpdate(now.plusMinutes(6), PageRequest.of(0, 10)))
+                .extracting(CertificateOutbox::getAttempts)
+                .containsExactly(1);
+    }
+}
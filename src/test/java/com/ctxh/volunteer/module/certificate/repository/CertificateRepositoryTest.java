@@ -7,6 +7,7 @@ import com.ctxh.volunteer.module.auth.entity.Role;
 import com.ctxh.volunteer.module.auth.entity.User;
 import com.ctxh.volunteer.module.auth.repository.RoleRepository;
 import com.ctxh.volunteer.module.auth.repository.UserRepository;
+import com.ctxh.volunteer.module.certificate.dto.CertificateDraftDto;
 import com.ctxh.volunteer.module.certificate.entity.Certificate;
 import com.ctxh.volunteer.module.enrollment.entity.Enrollment;
 import com.ctxh.volunteer.module.enrollment.repository.EnrollmentRepository;
@@ -482,6 +483,97 @@ class CertificateRepositoryTest {
         assertThat(exists).isTrue();
     }
 
+    // ==================== FIND ISSUED ENROLLMENT IDS TESTS ====================
+
+    @Test
+    @DisplayName("Find Issued Enrollment IDs - Returns only enrollments with a certificate")
+    void findIssuedEnrollmentIds_ReturnsOnlyIssued() {
+        // Act
+        List<Long> result = certificateRepository.findIssuedEnrollmentIds(
+                List.of(testEnrollment.getEnrollmentId(), 999L));
+
+        // Assert
+        assertThat(result).containsExactly(testEnrollment.getEnrollmentId());
+    }
+
+    // ==================== BULK ISSUANCE TESTS ====================
+
+    @Test
+    @DisplayName("Find Drafts - Returns only completed enrollments without a certificate")
+    void findDraftsForUncertifiedEnrollments_SkipsIssuedAndIncomplete() {
+        // Arrange
+        Enrollment uncertified = enrollmentRepository.save(Enrollment.builder()
+                .student(newStudent("2012346"))
+                .activity(testActivity)
+                .isCompleted(true)
+                .completedAt(LocalDateTime.now())
+                .build());
+        enrollmentRepository.save(Enrollment.builder()
+                .student(newStudent("2012347"))
+                .activity(testActivity)
+                .isCompleted(false)
+                .build());
+
+        // Act
+        List<CertificateDraftDto> result = certificateRepository.findDraftsForUncertifiedEnrollments(
+                testActivity.getActivityId());
+
+        // Assert
+        assertThat(result).hasSize(1);
+        CertificateDraftDto draft = result.get(0);
+        assertThat(draft.getEnrollmentId()).isEqualTo(uncertified.getEnrollmentId());
+        assertThat(draft.getStudentMssv()).isEqualTo("2012346");
+        assertThat(draft.getActivityTitle()).isEqualTo("Test Activity");
+        assertThat(draft.getOrganizationName()).isEqualTo("Test Organization");
+        assertThat(draft.getCtxhHours()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Insert Certificates - Batch inserts issued certificates with unique codes")
+    void insertCertificates_InsertsIssuedCertificates() {
+        // Arrange
+        for (int i = 0; i < 3; i++) {
+            enrollmentRepository.save(Enrollment.builder()
+                    .student(newStudent("20130" + i))
+                    .activity(testActivity)
+                    .isCompleted(true)
+                    .completedAt(LocalDateTime.now())
+                    .build());
+        }
+        enrollmentRepository.flush();
+        List<CertificateDraftDto> drafts = certificateRepository.findDraftsForUncertifiedEnrollments(
+                testActivity.getActivityId());
+
+        // Act
+        int[] counts = certificateRepository.insertCertificates(drafts, LocalDateTime.now());
+
+        // Assert
+        assertThat(counts).containsOnly(1).hasSize(3);
+        assertThat(certificateRepository.findDraftsForUncertifiedEnrollments(testActivity.getActivityId())).isEmpty();
+        List<Certificate> certificates = certificateRepository.findAll();
+        assertThat(certificates).hasSize(4);
+        assertThat(certificates).extracting(Certificate::getCertificateCode).doesNotHaveDuplicates();
+        assertThat(certificates).allSatisfy(certificate -> assertThat(certificate.getIsRevoked()).isFalse());
+    }
+
+    private Student newStudent(String mssv) {
+        User user = User.builder()
+                .email(mssv + "@hcmut.edu.vn")
+                .password("password")
+                .avatarUrl("avatar.png")
+                .build();
+        Student student = Student.builder()
+                .user(user)
+                .fullName("Student " + mssv)
+                .mssv(mssv)
+                .gender(Gender.MALE)
+                .totalCtxhDays(0.0)
+                .build();
+        user.setStudent(student);
+        userRepository.save(user);
+        return studentRepository.save(student);
+    }
+
     // ==================== CERTIFICATE CODE UNIQUENESS TESTS ====================
 
     @Test
@@ -0,0 +1,78 @@
+package com.ctxh.volunteer.module.certificate.service;
+
+import com.ctxh.volunteer.module.certificate.dto.BulkCertificateIssueResultDto;
+import com.ctxh.volunteer.module.certificate.dto.CertificateDraftDto;
+import com.ctxh.volunteer.module.certificate.repository.CertificateRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CertificateBulkIssuer Unit Tests")
+class CertificateBulkIssuerTest {
+
+    @Mock
+    private CertificateRepository certificateRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CertificateBulkIssuer issuer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        issuer = new CertificateBulkIssuer(certificateRepository, meterRegistry);
+    }
+
+    private CertificateDraftDto draft(long enrollmentId) {
+        CertificateDraftDto draft = new CertificateDraftDto();
+        draft.setEnrollmentId(enrollmentId);
+        return draft;
+    }
+
+    @Test
+    @DisplayName("Issue For Activity - Inserts all drafts in one batch and records metrics")
+    void issueForActivity_InsertsDraftsAndRecordsMetrics() {
+        // Arrange
+        List<CertificateDraftDto> drafts = List.of(draft(1L), draft(2L), draft(3L));
+        when(certificateRepository.findDraftsForUncertifiedEnrollments(7L)).thenReturn(drafts);
+        when(certificateRepository.insertCertificates(eq(drafts), any(LocalDateTime.class)))
+                .thenReturn(new int[]{1, 1, Statement.SUCCESS_NO_INFO});
+
+        // Act
+        BulkCertificateIssueResultDto result = issuer.issueForActivity(7L);
+
+        // Assert
+        assertThat(result.getActivityId()).isEqualTo(7L);
+        assertThat(result.getIssued()).isEqualTo(3);
+        assertThat(result.getCertificatesPerSecond()).isPositive();
+        assertThat(meterRegistry.get("certificate.bulk.issued").counter().count()).isEqualTo(3.0);
+        assertThat(meterRegistry.get("certificate.bulk.issue").timer().count()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("Issue For Activity - Skips the insert when every certificate exists")
+    void issueForActivity_SkipsInsert_WhenNothingMissing() {
+        // Arrange
+        when(certificateRepository.findDraftsForUncertifiedEnrollments(7L)).thenReturn(List.of());
+
+        // Act
+        BulkCertificateIssueResultDto result = issuer.issueForActivity(7L);
+
+        // Assert
+        assertThat(result.getIssued()).isZero();
+        verify(certificateRepository, never()).insertCertificates(anyList(), any());
+    }
+}
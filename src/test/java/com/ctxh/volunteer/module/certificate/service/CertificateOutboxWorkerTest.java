@@ -0,0 +1,190 @@
+package com.ctxh.volunteer.module.certificate.service;
+
+import com.ctxh.volunteer.module.activity.entity.Activity;
+import com.ctxh.volunteer.module.certificate.entity.Certificate;
+import com.ctxh.volunteer.module.certificate.entity.CertificateOutbox;
+import com.ctxh.volunteer.module.certificate.enums.CertificateOutboxStatus;
+import com.ctxh.volunteer.module.certificate.repository.CertificateOutboxRepository;
+import com.ctxh.volunteer.module.certificate.repository.CertificateRepository;
+import com.ctxh.volunteer.module.enrollment.entity.Enrollment;
+import com.ctxh.volunteer.module.enrollment.repository.EnrollmentRepository;
+import com.ctxh.volunteer.module.organization.entity.Organization;
+import com.ctxh.volunteer.module.student.entity.Student;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CertificateOutboxWorker Unit Tests")
+class CertificateOutboxWorkerTest {
+
+    @Mock
+    private CertificateOutboxRepository certificateOutboxRepository;
+
+    @Mock
+    private CertificateRepository certificateRepository;
+
+    @Mock
+    private EnrollmentRepository enrollmentRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private CertificateOutboxWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        worker = new CertificateOutboxWorker(certificateOutboxRepository, certificateRepository,
+                enrollmentRepository, transactionManager, 10, 3);
+    }
+
+    private CertificateOutbox entry(long outboxId, long enrollmentId) {
+        return CertificateOutbox.builder()
+                .outboxId(outboxId)
+                .enrollmentId(enrollmentId)
+                .nextAttemptAt(LocalDateTime.now().minusMinutes(1))
+                .build();
+    }
+
+    private Enrollment completedEnrollment(long enrollmentId) {
+        Organization organization = Organization.builder()
+                .organizationName("Test Organization")
+                .build();
+        Activity activity = Activity.builder()
+                .activityId(1L)
+                .title("Volunteer Activity")
+                .organization(organization)
+                .theNumberOfCtxhDay(1.0)
+                .build();
+        return Enrollment.builder()
+                .enrollmentId(enrollmentId)
+                .student(Student.builder().studentId(enrollmentId).fullName("Student " + enrollmentId).build())
+                .activity(activity)
+                .isCompleted(true)
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Certificate> savedCertificates() {
+        ArgumentCaptor<List<Certificate>> captor = ArgumentCaptor.forClass(List.class);
+        verify(certificateRepository, atLeastOnce()).saveAll(captor.capture());
+        return captor.getAllValues().stream().flatMap(List::stream).toList();
+    }
+
+    // ==================== DRAIN BATCH TESTS ====================
+
+    @Test
+    @DisplayName("Drain Batch - Issues the whole batch at once and clears the outbox")
+    void drainBatch_IssuesBatch() {
+        // Arrange
+        CertificateOutbox first = entry(1L, 11L);
+        CertificateOutbox second = entry(2L, 12L);
+        CertificateOutbox alreadyIssued = entry(3L, 13L);
+        when(certificateOutboxRepository.findDueForUpdate(any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(first, second, alreadyIssued));
+        when(certificateRepository.findIssuedEnrollmentIds(anyCollection())).thenReturn(List.of(13L));
+        when(enrollmentRepository.findAllForCertificateByIdIn(anyCollection()))
+                .thenReturn(List.of(completedEnrollment(11L), completedEnrollment(12L), completedEnrollment(13L)));
+
+        // Act
+        int drained = worker.drainBatch();
+
+        // Assert
+        assertThat(drained).isEqualTo(3);
+        assertThat(first.getAttempts()).isEqualTo(1);
+        assertThat(first.getNextAttemptAt()).isAfter(LocalDateTime.now());
+        assertThat(savedCertificates())
+                .allSatisfy(certificate -> assertThat(certificate.getCertificateCode()).isNotNull())
+                .extracting(Certificate::getStudentName)
+                .containsExactlyInAnyOrder("Student 11", "Student 12");
+        verify(enrollmentRepository, times(1)).findAllForCertificateByIdIn(Set.of(11L, 12L, 13L));
+        verify(certificateOutboxRepository).deleteAllByIdInBatch(List.of(1L, 2L, 3L));
+    }
+
+    @Test
+    @DisplayName("Drain Batch - Returns zero when nothing is due")
+    void drainBatch_ReturnsZero_WhenNothingDue() {
+        // Arrange
+        when(certificateOutboxRepository.findDueForUpdate(any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of());
+
+        // Act & Assert
+        assertThat(worker.drainBatch()).isZero();
+        verifyNoInteractions(certificateRepository, enrollmentRepository);
+    }
+
+    @Test
+    @DisplayName("Drain Batch - A failing entry does not hold back the rest of the batch")
+    void drainBatch_IsolatesFailingEntry() {
+        // Arrange
+        CertificateOutbox good = entry(1L, 11L);
+        CertificateOutbox bad = entry(2L, 12L);
+        when(certificateOutboxRepository.findDueForUpdate(any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(good, bad));
+        when(certificateRepository.findIssuedEnrollmentIds(anyCollection())).thenReturn(List.of());
+        when(enrollmentRepository.findAllForCertificateByIdIn(anyCollection())).thenAnswer(invocation -> {
+            if (invocation.<Collection<Long>>getArgument(0).contains(12L)) {
+                throw new IllegalStateException("broken enrollment");
+            }
+            return List.of(completedEnrollment(11L));
+        });
+        when(certificateOutboxRepository.findById(2L)).thenReturn(Optional.of(bad));
+
+        // Act
+        worker.drainBatch();
+
+        // Assert
+        assertThat(savedCertificates()).extracting(Certificate::getStudentName).containsExactly("Student 11");
+        verify(certificateOutboxRepository).deleteAllByIdInBatch(List.of(1L));
+        verify(certificateOutboxRepository, never()).deleteAllByIdInBatch(List.of(2L));
+        assertThat(bad.getStatus()).isEqualTo(CertificateOutboxStatus.PENDING);
+        assertThat(bad.getLastError()).isEqualTo("broken enrollment");
+        verify(certificateOutboxRepository).save(bad);
+    }
+
+    // ==================== RETRY TESTS ====================
+
+    @Test
+    @DisplayName("Fail - Parks the entry as FAILED once attempts run out")
+    void fail_ParksEntry_WhenAttemptsExhausted() {
+        // Arrange
+        CertificateOutbox outbox = entry(1L, 11L);
+        LocalDateTime now = LocalDateTime.now();
+
+        // Act
+        for (int attempt = 0; attempt < 3; attempt++) {
+            outbox.claim(now.plusMinutes(5));
+            outbox.fail("boom", now.plus(CertificateOutboxWorker.backoff(outbox.getAttempts())), 3);
+        }
+
+        // Assert
+        assertThat(outbox.getStatus()).isEqualTo(CertificateOutboxStatus.FAILED);
+        assertThat(outbox.getAttempts()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Backoff - Doubles per attempt up to one hour")
+    void backoff_DoublesAndCaps() {
+        assertThat(CertificateOutboxWorker.backoff(1)).isEqualTo(Duration.ofSeconds(30));
+        assertThat(CertificateOutboxWorker.backoff(3)).isEqualTo(Duration.ofMinutes(2));
+        assertThat(CertificateOutboxWorker.backoff(20)).isEqualTo(Duration.ofHours(1));
+    }
+}
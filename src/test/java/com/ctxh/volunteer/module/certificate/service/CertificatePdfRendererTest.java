@@ -0,0 +1,115 @@
+package com.ctxh.volunteer.module.certificate.service;
+
+import com.ctxh.volunteer.module.certificate.entity.Certificate;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.text.PDFTextStripper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+@DisplayName("CertificatePdfRenderer Unit Tests")
+class CertificatePdfRendererTest {
+
+    private static final Path DEJAVU = Path.of("/usr/share/fonts/truetype/dejavu");
+
+    @TempDir
+    private Path cacheDir;
+
+    @TempDir
+    private Path emptyFontDir;
+
+    private CertificatePdfRenderer renderer;
+
+    @AfterEach
+    void tearDown() {
+        if (renderer != null) {
+            renderer.shutdown();
+        }
+    }
+
+    private Certificate certificate(String code) {
+        return Certificate.builder()
+                .certificateCode(code)
+                .issuedDate(LocalDateTime.of(2025, 3, 1, 8, 0))
+                .studentName("Nguyễn Văn Đức")
+                .studentMssv("2012345")
+                .studentFaculty("Computer Science")
+                .activityTitle("Mùa hè xanh")
+                .activityStartDate(LocalDateTime.of(2025, 2, 1, 8, 0))
+                .activityEndDate(LocalDateTime.of(2025, 2, 2, 17, 0))
+                .ctxhHours(2.0)
+                .organizationName("Test Organization")
+                .representativeName("John Doe")
+                .build();
+    }
+
+    private static String text(Path pdf) throws IOException {
+        try (PDDocument document = Loader.loadPDF(pdf.toFile())) {
+            return new PDFTextStripper().getText(document);
+        }
+    }
+
+    @Test
+    @DisplayName("Render - Writes a PDF with the cached fields and reuses it afterwards")
+    void render_WritesPdfOnceAndReusesIt() throws Exception {
+        // Arrange
+        assumeTrue(Files.isDirectory(DEJAVU), "DejaVu fonts not installed");
+        renderer = new CertificatePdfRenderer(cacheDir, List.of(DEJAVU), 1, 4);
+
+        // Act
+        Path first = renderer.render(certificate("CERT-1A2B3C4D")).get();
+        Files.setLastModifiedTime(first, FileTime.fromMillis(0));
+        Path second = renderer.render(certificate("CERT-1A2B3C4D")).get();
+
+        // Assert
+        assertThat(first).isEqualTo(cacheDir.resolve("CERT-1A2B3C4D.pdf"));
+        assertThat(second).isEqualTo(first);
+        assertThat(Files.getLastModifiedTime(second).toMillis()).isZero();
+        assertThat(text(first))
+                .contains("Nguyễn Văn Đức")
+                .contains("Mùa hè xanh")
+                .contains("CERT-1A2B3C4D");
+        try (var files = Files.list(cacheDir)) {
+            assertThat(files).containsExactly(first);
+        }
+    }
+
+    @Test
+    @DisplayName("Render - Falls back to a standard font without diacritics")
+    void render_FallsBackWithoutUnicodeFont() throws Exception {
+        // Arrange
+        renderer = new CertificatePdfRenderer(cacheDir, List.of(emptyFontDir), 1, 4);
+
+        // Act
+        Path pdf = renderer.render(certificate("CERT-1A2B3C4D")).get();
+
+        // Assert
+        assertThat(text(pdf)).contains("Nguyen Van Duc").contains("Mua he xanh");
+    }
+
+    @Test
+    @DisplayName("Evict - Removes the rendered file so the next download re-renders")
+    void evict_DeletesRenderedFile() throws Exception {
+        // Arrange
+        renderer = new CertificatePdfRenderer(cacheDir, List.of(emptyFontDir), 1, 4);
+        Path pdf = renderer.render(certificate("CERT-1A2B3C4D")).get();
+
+        // Act
+        renderer.evict("CERT-1A2B3C4D");
+
+        // Assert
+        assertThat(pdf).doesNotExist();
+    }
+}
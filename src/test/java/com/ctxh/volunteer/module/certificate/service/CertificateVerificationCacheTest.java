@@ -0,0 +1,106 @@
+package com.ctxh.volunteer.module.certificate.service;
+
+import com.ctxh.volunteer.module.certificate.dto.CertificateVerificationDto;
+import com.ctxh.volunteer.module.certificate.entity.Certificate;
+import com.ctxh.volunteer.module.certificate.repository.CertificateRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CertificateVerificationCache Unit Tests")
+class CertificateVerificationCacheTest {
+
+    private static final String CODE = "CERT-1A2B3C4D";
+
+    @Mock
+    private CertificateRepository certificateRepository;
+
+    private CertificateVerificationCache cache;
+    private Certificate certificate;
+
+    @BeforeEach
+    void setUp() {
+        cache = new CertificateVerificationCache(certificateRepository,
+                Duration.ofHours(1), Duration.ofMinutes(5), 1000);
+        certificate = Certificate.builder()
+                .certificateCode(CODE)
+                .issuedDate(LocalDateTime.now())
+                .studentName("Nguyen Van A")
+                .activityTitle("Volunteer Activity")
+                .organizationName("Test Organization")
+                .representativeEmail("john@test.com")
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Get - Loads a certificate once and then serves the snapshot from memory")
+    void get_LoadsOnce() {
+        // Arrange
+        when(certificateRepository.findByCertificateCode(CODE)).thenReturn(Optional.of(certificate));
+
+        // Act
+        cache.get(CODE);
+        Optional<CertificateVerificationDto> result = cache.get(CODE);
+
+        // Assert
+        assertThat(result).isPresent();
+        assertThat(result.get().isValid()).isTrue();
+        assertThat(result.get().getStudentName()).isEqualTo("Nguyen Van A");
+        verify(certificateRepository, times(1)).findByCertificateCode(CODE);
+    }
+
+    @Test
+    @DisplayName("Get - Caches unknown codes so repeated scans stay off the database")
+    void get_CachesMisses() {
+        // Arrange
+        when(certificateRepository.findByCertificateCode("CERT-00000000")).thenReturn(Optional.empty());
+
+        // Act
+        cache.get("CERT-00000000");
+        Optional<CertificateVerificationDto> result = cache.get("CERT-00000000");
+
+        // Assert
+        assertThat(result).isEmpty();
+        verify(certificateRepository, times(1)).findByCertificateCode("CERT-00000000");
+    }
+
+    @Test
+    @DisplayName("Evict - Revocation is visible on the next lookup and again after commit")
+    void evict_ReloadsRevokedCertificate() {
+        // Arrange
+        when(certificateRepository.findByCertificateCode(CODE)).thenReturn(Optional.of(certificate));
+        cache.get(CODE);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        certificate.revoke("Fraudulent attendance");
+        cache.evict(CODE);
+
+        // Assert
+        assertThat(cache.get(CODE)).get().extracting(CertificateVerificationDto::isValid).isEqualTo(false);
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        cache.get(CODE);
+        verify(certificateRepository, times(3)).findByCertificateCode(CODE);
+    }
+}
@@ -3,8 +3,13 @@ package com.ctxh.volunteer.module.certificate.service.impl;
 import com.ctxh.volunteer.common.exception.BusinessException;
 import com.ctxh.volunteer.common.exception.ErrorCode;
 import com.ctxh.volunteer.module.activity.entity.Activity;
+import com.ctxh.volunteer.module.certificate.dto.CertificateVerificationDto;
 import com.ctxh.volunteer.module.certificate.entity.Certificate;
+import com.ctxh.volunteer.module.certificate.enums.CertificateOutboxStatus;
+import com.ctxh.volunteer.module.certificate.repository.CertificateOutboxRepository;
 import com.ctxh.volunteer.module.certificate.repository.CertificateRepository;
+import com.ctxh.volunteer.module.certificate.service.CertificatePdfRenderer;
+import com.ctxh.volunteer.module.certificate.service.CertificateVerificationCache;
 import com.ctxh.volunteer.module.enrollment.entity.Enrollment;
 import com.ctxh.volunteer.module.organization.entity.Organization;
 import com.ctxh.volunteer.module.student.entity.Student;
@@ -17,12 +22,16 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.nio.file.Path;
 import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -32,6 +41,15 @@ class CertificateServiceImplTest {
     @Mock
     private CertificateRepository certificateRepository;
 
+    @Mock
+    private CertificateOutboxRepository certificateOutboxRepository;
+
+    @Mock
+    private CertificateVerificationCache certificateVerificationCache;
+
+    @Mock
+    private CertificatePdfRenderer certificatePdfRenderer;
+
     @InjectMocks
     private CertificateServiceImpl certificateService;
 
@@ -397,6 +415,160 @@ class CertificateServiceImplTest {
         assertThat(code2).isNotEqualTo(code3);
     }
 
+    // ==================== REQUEST CERTIFICATE TESTS ====================
+
+    @Test
+    @DisplayName("Request Certificate - Queues a due outbox entry without issuing")
+    void requestCertificate_QueuesOutboxEntry() {
+        // Act
+        certificateService.requestCertificate(1L);
+
+        // Assert
+        verify(certificateOutboxRepository).save(argThat(entry ->
+                entry.getEnrollmentId().equals(1L)
+                        && entry.getStatus() == CertificateOutboxStatus.PENDING
+                        && entry.getAttempts() == 0
+                        && !entry.getNextAttemptAt().isAfter(LocalDateTime.now())));
+        verify(certificateRepository, never()).save(any(Certificate.class));
+    }
+
+    // ==================== VERIFY CERTIFICATE TESTS ====================
+
+    @Test
+    @DisplayName("Verify Certificate - Returns the cached snapshot")
+    void verifyCertificate_ReturnsSnapshot() {
+        // Arrange
+        CertificateVerificationDto snapshot = CertificateVerificationDto.builder()
+                .certificateCode("CERT-1A2B3C4D")
+                .valid(true)
+                .build();
+        when(certificateVerificationCache.get("CERT-1A2B3C4D")).thenReturn(Optional.of(snapshot));
+
+        // Act
+        CertificateVerificationDto result = certificateService.verifyCertificate("CERT-1A2B3C4D");
+
+        // Assert
+        assertThat(result).isSameAs(snapshot);
+        verifyNoInteractions(certificateRepository);
+    }
+
+    @Test
+    @DisplayName("Verify Certificate - Fails for unknown codes")
+    void verifyCertificate_ThrowsException_WhenNotFound() {
+        // Arrange
+        when(certificateVerificationCache.get("CERT-00000000")).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThatThrownBy(() -> certificateService.verifyCertificate("CERT-00000000"))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.CERTIFICATE_NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("Verify Certificate - Rejects malformed codes without a lookup")
+    void verifyCertificate_ThrowsException_WhenMalformed() {
+        // Act & Assert
+        assertThatThrownBy(() -> certificateService.verifyCertificate("cert-1a2b3c4d"))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_CERTIFICATE_CODE);
+        assertThatThrownBy(() -> certificateService.verifyCertificate("' OR 1=1 --"))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_CERTIFICATE_CODE);
+
+        verifyNoInteractions(certificateVerificationCache);
+    }
+
+    // ==================== REVOKE CERTIFICATE TESTS ====================
+
+    @Test
+    @DisplayName("Revoke Certificate - Revokes and evicts the cached snapshot")
+    void revokeCertificate_Success_EvictsCache() {
+        // Arrange
+        Certificate certificate = Certificate.forEnrollment(testEnrollment);
+        certificate.issue();
+        String code = certificate.getCertificateCode();
+        when(certificateRepository.findByCertificateCode(code)).thenReturn(Optional.of(certificate));
+
+        // Act
+        CertificateVerificationDto result = certificateService.revokeCertificate(code, "Fraudulent attendance");
+
+        // Assert
+        assertThat(result.isValid()).isFalse();
+        assertThat(certificate.getRevokeReason()).isEqualTo("Fraudulent attendance");
+        verify(certificateRepository).save(certificate);
+        verify(certificateVerificationCache).evict(code);
+        verify(certificatePdfRenderer).evict(code);
+    }
+
+    @Test
+    @DisplayName("Revoke Certificate - Fails when already revoked")
+    void revokeCertificate_ThrowsException_WhenAlreadyRevoked() {
+        // Arrange
+        Certificate certificate = Certificate.forEnrollment(testEnrollment);
+        certificate.issue();
+        certificate.revoke("Earlier");
+        when(certificateRepository.findByCertificateCode(certificate.getCertificateCode()))
+                .thenReturn(Optional.of(certificate));
+
+        // Act & Assert
+        assertThatThrownBy(() -> certificateService.revokeCertificate(certificate.getCertificateCode(), "Again"))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.CERTIFICATE_REVOKED);
+
+        verify(certificateRepository, never()).save(any());
+        verifyNoInteractions(certificateVerificationCache);
+    }
+
+    // ==================== CERTIFICATE PDF TESTS ====================
+
+    @Test
+    @DisplayName("Certificate PDF - Renders the student's own certificate")
+    void getCertificatePdf_Success_Renders() {
+        // Arrange
+        Certificate certificate = Certificate.forEnrollment(testEnrollment);
+        certificate.issue();
+        CompletableFuture<Path> rendered = CompletableFuture.completedFuture(Path.of("cert.pdf"));
+        when(certificateRepository.findByCertificateIdAndStudentId(5L, 1L)).thenReturn(Optional.of(certificate));
+        when(certificatePdfRenderer.render(certificate)).thenReturn(rendered);
+
+        // Act
+        CompletableFuture<Path> result = certificateService.getCertificatePdf(1L, 5L);
+
+        // Assert
+        assertThat(result).isSameAs(rendered);
+    }
+
+    @Test
+    @DisplayName("Certificate PDF - Fails for another student's certificate")
+    void getCertificatePdf_ThrowsException_WhenNotOwner() {
+        // Arrange
+        when(certificateRepository.findByCertificateIdAndStudentId(5L, 2L)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThatThrownBy(() -> certificateService.getCertificatePdf(2L, 5L))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.CERTIFICATE_NOT_FOUND);
+
+        verifyNoInteractions(certificatePdfRenderer);
+    }
+
+    @Test
+    @DisplayName("Certificate PDF - Fails for a revoked certificate")
+    void getCertificatePdf_ThrowsException_WhenRevoked() {
+        // Arrange
+        Certificate certificate = Certificate.forEnrollment(testEnrollment);
+        certificate.issue();
+        certificate.revoke("Fraudulent attendance");
+        when(certificateRepository.findByCertificateIdAndStudentId(5L, 1L)).thenReturn(Optional.of(certificate));
+
+        // Act & Assert
+        assertThatThrownBy(() -> certificateService.getCertificatePdf(1L, 5L))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.CERTIFICATE_REVOKED);
+
+        verifyNoInteractions(certificatePdfRenderer);
+    }
+
     // ==================== INTEGRATION WITH HELPER METHODS TESTS ====================
 
     @Test
@@ -0,0 +1,139 @@
+package com.ctxh.volunteer.module.enrollment.repository;
+
+import com.ctxh.volunteer.module.activity.entity.Activity;
+import com.ctxh.volunteer.module.activity.repository.ActivityRepository;
+import com.ctxh.volunteer.module.auth.RoleEnum;
+import com.ctxh.volunteer.module.auth.entity.Role;
+import com.ctxh.volunteer.module.auth.entity.User;
+import com.ctxh.volunteer.module.auth.repository.RoleRepository;
+import com.ctxh.volunteer.module.auth.repository.UserRepository;
+import com.ctxh.volunteer.module.enrollment.EnrollmentStatus;
+import com.ctxh.volunteer.module.enrollment.dto.EnrollmentRecipientDto;
+import com.ctxh.volunteer.module.enrollment.entity.Enrollment;
+import com.ctxh.volunteer.module.organization.entity.Organization;
+import com.ctxh.volunteer.module.organization.enums.OrganizationType;
+import com.ctxh.volunteer.module.organization.repository.OrganizationRepository;
+import com.ctxh.volunteer.module.student.entity.Student;
+import com.ctxh.volunteer.module.student.repository.StudentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@DisplayName("EnrollmentRepository Integration Tests")
+class EnrollmentRepositoryTest {
+
+    @Autowired
+    private EnrollmentRepository enrollmentRepository;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ActivityRepository activityRepository;
+
+    @Autowired
+    private OrganizationRepository organizationRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    private Role studentRole;
+    private Activity testActivity;
+    private Activity otherActivity;
+
+    @BeforeEach
+    void setUp() {
+        studentRole = roleRepository.save(Role.builder().roleName(RoleEnum.STUDENT.name()).build());
+        Role organizationRole = roleRepository.save(Role.builder().roleName(RoleEnum.ORGANIZATION.name()).build());
+
+        User orgUser = User.builder()
+                .email("org@test.com")
+                .password("password")
+                .avatarUrl("avatar.png")
+                .roles(List.of(organizationRole))
+                .build();
+        Organization organization = Organization.builder()
+                .organizationName("Test Organization")
+                .type(OrganizationType.NGO)
+                .user(orgUser)
+                .build();
+        orgUser.setOrganization(organization);
+        userRepository.save(orgUser);
+        organization = organizationRepository.save(organization);
+
+        testActivity = activityRepository.save(activity(organization, "Test Activity"));
+        otherActivity = activityRepository.save(activity(organization, "Other Activity"));
+    }
+
+    private static Activity activity(Organization organization, String title) {
+        return Activity.builder()
+                .title(title)
+                .shortDescription("Description")
+                .organization(organization)
+                .startDateTime(LocalDateTime.now().plusDays(7))
+                .endDateTime(LocalDateTime.now().plusDays(8))
+                .theNumberOfCtxhDay(1.0)
+                .build();
+    }
+
+    private Enrollment enroll(String email, Activity activity, EnrollmentStatus status) {
+        User user = User.builder()
+                .email(email)
+                .password("password")
+                .avatarUrl("avatar.png")
+                .roles(List.of(studentRole))
+                .build();
+        Student student = Student.builder()
+                .user(user)
+                .fullName(email)
+                .totalCtxhDays(0.0)
+                .build();
+        user.setStudent(student);
+        userRepository.save(user);
+        student = studentRepository.save(student);
+        return enrollmentRepository.save(Enrollment.builder()
+                .student(student)
+                .activity(activity)
+                .status(status)
+                .build());
+    }
+
+    // ==================== FIND APPROVED RECIPIENTS AFTER TESTS ====================
+
+    @Test
+    @DisplayName("Find Approved Recipients After - Pages approved participants in enrollment order")
+    void findApprovedRecipientsAfter_PagesApprovedParticipants() {
+        // Arrange
+        enroll("a@hcmut.edu.vn", testActivity, EnrollmentStatus.APPROVED);
+        enroll("b@hcmut.edu.vn", testActivity, EnrollmentStatus.PENDING);
+        enroll("c@hcmut.edu.vn", testActivity, EnrollmentStatus.APPROVED);
+        enroll("d@hcmut.edu.vn", otherActivity, EnrollmentStatus.APPROVED);
+        enroll("e@hcmut.edu.vn", testActivity, EnrollmentStatus.APPROVED);
+
+        // Act
+        List<EnrollmentRecipientDto> first = enrollmentRepository.findApprovedRecipientsAfter(
+                testActivity.getActivityId(), 0L, PageRequest.of(0, 2));
+        List<EnrollmentRecipientDto> second = enrollmentRepository.findApprovedRecipientsAfter(
+                testActivity.getActivityId(), first.get(1).getEnrollmentId(), PageRequest.of(0, 2));
+
+        // Assert
+        assertThat(first).extracting(EnrollmentRecipientDto::getEmail)
+                .containsExactly("a@hcmut.edu.vn", "c@hcmut.edu.vn");
+        assertThat(second).extracting(EnrollmentRecipientDto::getEmail)
+                .containsExactly("e@hcmut.edu.vn");
+    }
+}
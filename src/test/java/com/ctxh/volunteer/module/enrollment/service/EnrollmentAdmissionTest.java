@@ -0,0 +1,117 @@
+package com.ctxh.volunteer.module.enrollment.service;
+
+import com.ctxh.volunteer.common.exception.BusinessException;
+import com.ctxh.volunteer.common.exception.ErrorCode;
+import com.ctxh.volunteer.module.activity.repository.ActivityRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EnrollmentAdmission Unit Tests")
+class EnrollmentAdmissionTest {
+
+    @Mock
+    private ActivityRepository activityRepository;
+
+    private EnrollmentAdmission admission;
+
+    @BeforeEach
+    void setUp() {
+        admission = new EnrollmentAdmission(activityRepository, Duration.ofMinutes(10), 100);
+    }
+
+    private void givenRemaining(Long activityId, int remaining) {
+        when(activityRepository.findRemainingRegistrations(eq(activityId), anyInt(), any()))
+                .thenReturn(Optional.of(remaining));
+    }
+
+    @Test
+    @DisplayName("Try Acquire - Admits up to the seeded capacity, then rejects without querying again")
+    void tryAcquire_RejectsInMemoryOnceExhausted() {
+        // Arrange
+        givenRemaining(1L, 2);
+
+        // Act & Assert
+        assertThat(admission.tryAcquire(1L)).isTrue();
+        assertThat(admission.tryAcquire(1L)).isTrue();
+        assertThat(admission.tryAcquire(1L)).isFalse();
+        assertThat(admission.tryAcquire(1L)).isFalse();
+        verify(activityRepository, times(1)).findRemainingRegistrations(eq(1L), anyInt(), any());
+    }
+
+    @Test
+    @DisplayName("Release - Hands a permit back to the next request")
+    void release_ReturnsPermit() {
+        // Arrange
+        givenRemaining(1L, 1);
+        admission.tryAcquire(1L);
+
+        // Act
+        admission.release(1L);
+
+        // Assert
+        assertThat(admission.tryAcquire(1L)).isTrue();
+        assertThat(admission.tryAcquire(1L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Exhaust - Closes admission even with permits left")
+    void exhaust_ClosesAdmission() {
+        // Arrange
+        givenRemaining(1L, 10);
+        admission.tryAcquire(1L);
+
+        // Act
+        admission.exhaust(1L);
+
+        // Assert
+        assertThat(admission.tryAcquire(1L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Invalidate - Reseeds the counter from the database")
+    void invalidate_Reseeds() {
+        // Arrange
+        when(activityRepository.findRemainingRegistrations(eq(1L), anyInt(), any()))
+                .thenReturn(Optional.of(0), Optional.of(5));
+        assertThat(admission.tryAcquire(1L)).isFalse();
+
+        // Act
+        admission.invalidate(1L);
+
+        // Assert
+        assertThat(admission.tryAcquire(1L)).isTrue();
+        verify(activityRepository, times(2)).findRemainingRegistrations(eq(1L), anyInt(), any());
+    }
+
+    @Test
+    @DisplayName("Try Acquire - Fails for an unknown activity and caches nothing")
+    void tryAcquire_ThrowsException_WhenActivityNotFound() {
+        // Arrange
+        when(activityRepository.findRemainingRegistrations(eq(99L), anyInt(), any())).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThatThrownBy(() -> admission.tryAcquire(99L))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.ACTIVITY_NOT_FOUND);
+        assertThatThrownBy(() -> admission.tryAcquire(99L))
+                .isInstanceOf(BusinessException.class);
+        verify(activityRepository, times(2)).findRemainingRegistrations(eq(99L), anyInt(), any());
+    }
+}
@@ -0,0 +1,206 @@
+package com.ctxh.volunteer.module.enrollment.service;
+
+import com.ctxh.volunteer.common.exception.BusinessException;
+import com.ctxh.volunteer.common.exception.ErrorCode;
+import com.ctxh.volunteer.module.activity.entity.Activity;
+import com.ctxh.volunteer.module.activity.enums.ActivityCategory;
+import com.ctxh.volunteer.module.activity.enums.RegistrationState;
+import com.ctxh.volunteer.module.activity.repository.ActivityRepository;
+import com.ctxh.volunteer.module.auth.entity.User;
+import com.ctxh.volunteer.module.auth.repository.UserRepository;
+import com.ctxh.volunteer.module.enrollment.entity.Enrollment;
+import com.ctxh.volunteer.module.enrollment.repository.EnrollmentRepository;
+import com.ctxh.volunteer.module.organization.entity.Organization;
+import com.ctxh.volunteer.module.organization.enums.OrganizationType;
+import com.ctxh.volunteer.module.organization.repository.OrganizationRepository;
+import com.ctxh.volunteer.module.student.entity.Student;
+import com.ctxh.volunteer.module.student.repository.StudentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:enrollment-stress;LOCK_TIMEOUT=10000")
+@ActiveProfiles("test")
+@DisplayName("EnrollmentBatchWriter Integration Tests")
+class EnrollmentBatchWriterTest {
+
+    // maxParticipants 2 * REGISTRATION_MULTIPLIER 3
+    private static final int CAPACITY = 6;
+
+    @Autowired
+    private EnrollmentBatchWriter enrollmentBatchWriter;
+
+    @Autowired
+    private ActivityRepository activityRepository;
+
+    @Autowired
+    private EnrollmentRepository enrollmentRepository;
+
+    @Autowired
+    private OrganizationRepository organizationRepository;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Activity activity;
+    private List<Long> studentIds;
+
+    @BeforeEach
+    void setUp() {
+        long seed = System.nanoTime();
+        User orgUser = User.builder()
+                .email("writer-org-" + seed + "@example.com")
+                .password("password")
+                .isVerified(true)
+                .build();
+        Organization organization = Organization.builder()
+                .user(orgUser)
+                .organizationName("Writer Org " + seed)
+                .type(OrganizationType.NGO)
+                .build();
+        orgUser.setOrganization(organization);
+        userRepository.save(orgUser);
+        organization = organizationRepository.save(organization);
+
+        activity = activityRepository.save(Activity.builder()
+                .organization(organization)
+                .title("Batched activity")
+                .category(ActivityCategory.EDUCATION_SUPPORT)
+                .startDateTime(LocalDateTime.now().plusDays(7))
+                .endDateTime(LocalDateTime.now().plusDays(8))
+                .registrationDeadline(LocalDateTime.now().plusDays(5))
+                .maxParticipants(2)
+                .theNumberOfCtxhDay(1.0)
+                .build());
+
+        studentIds = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            User user = User.builder()
+                    .email("writer-" + seed + "-" + i + "@hcmut.edu.vn")
+                    .password("password")
+                    .isVerified(true)
+                    .build();
+            Student student = Student.builder()
+                    .user(user)
+                    .fullName("Student " + i)
+                    .build();
+            user.setStudent(student);
+            userRepository.save(user);
+            studentIds.add(studentRepository.save(student).getStudentId());
+        }
+    }
+
+    @Test
+    @DisplayName("Enroll - Returns the stored enrollment with the student loaded")
+    void enroll_ReturnsStoredEnrollment() {
+        // Act
+        Enrollment enrollment = enrollmentBatchWriter.enroll(studentIds.get(0), activity.getActivityId());
+
+        // Assert
+        assertThat(enrollment.getEnrollmentId()).isNotNull();
+        assertThat(enrollment.getStudent().getUser().getEmail()).startsWith("writer-");
+        Activity reloaded = activityRepository.findById(activity.getActivityId()).orElseThrow();
+        assertThat(reloaded.getCurrentParticipants()).isEqualTo(1);
+        assertThat(reloaded.getPendingParticipants()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Enroll - Concurrent requests get per-request outcomes and never overshoot capacity")
+    void enroll_ResolvesEachRequestIndependently() throws Exception {
+        // Arrange: one student is already enrolled, so 5 slots are left for 7 new students
+        Long alreadyEnrolled = studentIds.get(0);
+        enrollmentBatchWriter.enroll(alreadyEnrolled, activity.getActivityId());
+
+        List<Long> requests = new ArrayList<>(studentIds);
+        requests.add(-1L);
+        Map<ErrorCode, AtomicInteger> failures = new ConcurrentHashMap<>();
+        AtomicInteger accepted = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(requests.size());
+
+        // Act
+        CompletableFuture.allOf(requests.stream()
+                        .map(studentId -> CompletableFuture.runAsync(() -> {
+                            try {
+                                enrollmentBatchWriter.enroll(studentId, activity.getActivityId());
+                                accepted.incrementAndGet();
+                            } catch (BusinessException e) {
+                                failures.computeIfAbsent(e.getErrorCode(), code -> new AtomicInteger()).incrementAndGet();
+                            }
+                        }, pool))
+                        .toArray(CompletableFuture[]::new))
+                .get(1, TimeUnit.MINUTES);
+        pool.shutdown();
+
+        // Assert
+        assertThat(accepted.get()).isEqualTo(CAPACITY - 1);
+        assertThat(failures.get(ErrorCode.ALREADY_ENROLLED)).hasValue(1);
+        assertThat(failures.get(ErrorCode.STUDENT_NOT_FOUND)).hasValue(1);
+        assertThat(failures.get(ErrorCode.ACTIVITY_MAX_PENDING_REACHED)).hasValue(2);
+
+        Activity reloaded = activityRepository.findById(activity.getActivityId()).orElseThrow();
+        assertThat(reloaded.getCurrentParticipants()).isEqualTo(CAPACITY);
+        assertThat(reloaded.getPendingParticipants()).isEqualTo(CAPACITY);
+        assertThat(enrollmentRepository.findByActivityId(activity.getActivityId())).hasSize(CAPACITY);
+    }
+
+    @Test
+    @DisplayName("Enroll - Rolls back the whole group when the activity is closed")
+    void enroll_ThrowsException_WhenRegistrationClosed() {
+        // Arrange
+        activity.setRegistrationState(RegistrationState.CLOSED);
+        activityRepository.save(activity);
+
+        // Act & Assert
+        assertThatThrownBy(() -> enrollmentBatchWriter.enroll(studentIds.get(0), activity.getActivityId()))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.ACTIVITY_NOT_OPEN_FOR_ENROLLMENT);
+        assertThat(enrollmentRepository.findByActivityId(activity.getActivityId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Enroll - A request withdrawn after timing out in the queue is never written")
+    void enroll_SkipsRequest_WhenCallerTimedOut() throws Exception {
+        // Arrange: a writer whose loop is not running yet, so the request can only time out
+        EnrollmentRepository enrollments = mock(EnrollmentRepository.class);
+        ActivityRepository activities = mock(ActivityRepository.class);
+        EnrollmentBatchWriter idleWriter = new EnrollmentBatchWriter(enrollments, activities,
+                mock(StudentRepository.class), transactionManager, 10, 10, Duration.ofMillis(50));
+
+        // Act
+        assertThatThrownBy(() -> idleWriter.enroll(studentIds.get(0), activity.getActivityId()))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.SERVICE_UNAVAILABLE);
+        idleWriter.start();
+        idleWriter.stop();
+
+        // Assert
+        verifyNoInteractions(enrollments, activities);
+    }
+}
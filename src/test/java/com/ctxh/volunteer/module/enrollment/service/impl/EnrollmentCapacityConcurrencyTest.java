@@ -0,0 +1,167 @@
+package com.ctxh.volunteer.module.enrollment.service.impl;
+
+import com.ctxh.volunteer.common.exception.BusinessException;
+import com.ctxh.volunteer.common.exception.ErrorCode;
+import com.ctxh.volunteer.module.activity.entity.Activity;
+import com.ctxh.volunteer.module.activity.enums.ActivityCategory;
+import com.ctxh.volunteer.module.activity.repository.ActivityRepository;
+import com.ctxh.volunteer.module.auth.entity.User;
+import com.ctxh.volunteer.module.auth.repository.UserRepository;
+import com.ctxh.volunteer.module.enrollment.dto.EnrollmentRequestDto;
+import com.ctxh.volunteer.module.enrollment.repository.EnrollmentRepository;
+import com.ctxh.volunteer.module.enrollment.service.EnrollmentService;
+import com.ctxh.volunteer.module.organization.entity.Organization;
+import com.ctxh.volunteer.module.organization.enums.OrganizationType;
+import com.ctxh.volunteer.module.organization.repository.OrganizationRepository;
+import com.ctxh.volunteer.module.student.entity.Student;
+import com.ctxh.volunteer.module.student.repository.StudentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.ctxh.volunteer.common.util.AppConstants.REGISTRATION_MULTIPLIER;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:enrollment-stress;LOCK_TIMEOUT=10000")
+@ActiveProfiles("test")
+@DisplayName("Enrollment capacity under concurrent registration")
+class EnrollmentCapacityConcurrencyTest {
+
+    private static final int STUDENTS = 2_000;
+    private static final int THREADS = 32;
+    private static final int MAX_PARTICIPANTS = 10;
+
+    @Autowired
+    private EnrollmentService enrollmentService;
+
+    @Autowired
+    private ActivityRepository activityRepository;
+
+    @Autowired
+    private EnrollmentRepository enrollmentRepository;
+
+    @Autowired
+    private OrganizationRepository organizationRepository;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private Activity activity;
+    private List<Long> studentIds;
+
+    @BeforeEach
+    void setUp() {
+        enrollmentRepository.deleteAll();
+        activityRepository.deleteAll();
+
+        User orgUser = User.builder()
+                .email("stress-org-" + System.nanoTime() + "@example.com")
+                .password("password")
+                .isVerified(true)
+                .build();
+        Organization organization = Organization.builder()
+                .user(orgUser)
+                .organizationName("Stress Org " + System.nanoTime())
+                .type(OrganizationType.NGO)
+                .build();
+        orgUser.setOrganization(organization);
+        userRepository.save(orgUser);
+        organization = organizationRepository.save(organization);
+
+        activity = activityRepository.save(Activity.builder()
+                .organization(organization)
+                .title("Hot activity")
+                .category(ActivityCategory.EDUCATION_SUPPORT)
+                .startDateTime(LocalDateTime.now().plusDays(7))
+                .endDateTime(LocalDateTime.now().plusDays(8))
+                .registrationDeadline(LocalDateTime.now().plusDays(5))
+                .maxParticipants(MAX_PARTICIPANTS)
+                .theNumberOfCtxhDay(1.0)
+                .build());
+
+        studentIds = new ArrayList<>(STUDENTS);
+        long seed = System.nanoTime();
+        for (int i = 0; i < STUDENTS; i++) {
+            User user = User.builder()
+                    .email("stress-" + seed + "-" + i + "@hcmut.edu.vn")
+                    .password("password")
+                    .isVerified(true)
+                    .build();
+            Student student = Student.builder()
+                    .user(user)
+                    .fullName("Student " + i)
+                    .build();
+            user.setStudent(student);
+            userRepository.save(user);
+            studentIds.add(studentRepository.save(student).getStudentId());
+        }
+    }
+
+    @Test
+    @DisplayName("Thousands of parallel enrollments never overshoot maxParticipants * multiplier")
+    void parallelEnrollments_NeverOvershootCapacity() throws Exception {
+        // Arrange
+        int capacity = MAX_PARTICIPANTS * REGISTRATION_MULTIPLIER;
+        AtomicInteger accepted = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        Queue<Throwable> unexpected = new ConcurrentLinkedQueue<>();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+
+        // Act
+        List<Future<?>> futures = new ArrayList<>(STUDENTS);
+        for (Long studentId : studentIds) {
+            futures.add(pool.submit(() -> {
+                start.await();
+                EnrollmentRequestDto request = new EnrollmentRequestDto();
+                request.setActivityId(activity.getActivityId());
+                try {
+                    enrollmentService.enrollInActivity(studentId, request);
+                    accepted.incrementAndGet();
+                } catch (BusinessException e) {
+                    if (e.getErrorCode() == ErrorCode.ACTIVITY_MAX_PENDING_REACHED) {
+                        rejected.incrementAndGet();
+                    } else {
+                        unexpected.add(e);
+                    }
+                } catch (RuntimeException e) {
+                    unexpected.add(e);
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(2, TimeUnit.MINUTES);
+        }
+        pool.shutdown();
+
+        // Assert
+        assertThat(unexpected).isEmpty();
+        assertThat(accepted.get()).isEqualTo(capacity);
+        assertThat(rejected.get()).isEqualTo(STUDENTS - capacity);
+
+        Activity reloaded = activityRepository.findById(activity.getActivityId()).orElseThrow();
+        assertThat(reloaded.getCurrentParticipants()).isEqualTo(capacity);
+        assertThat(reloaded.getPendingParticipants()).isEqualTo(capacity);
+        assertThat(enrollmentRepository.count()).isEqualTo(capacity);
+    }
+}
@@ -13,6 +13,7 @@ import com.ctxh.volunteer.module.organization.dto.response.OrganizationResponseD
 import com.ctxh.volunteer.module.organization.entity.Organization;
 import com.ctxh.volunteer.module.organization.enums.OrganizationType;
 import com.ctxh.volunteer.module.organization.repository.OrganizationRepository;
+import com.ctxh.volunteer.module.auth.service.AuthService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -47,6 +48,9 @@ class OrganizationServiceImplTest {
     @Mock
     private RoleRepository roleRepository;
 
+    @Mock
+    private AuthService authService;
+
     @InjectMocks
     private OrganizationServiceImpl organizationService;
 
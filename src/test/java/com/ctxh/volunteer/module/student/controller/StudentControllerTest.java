@@ -11,6 +11,7 @@ import com.ctxh.volunteer.module.student.dto.response.StudentResponseDto;
 import com.ctxh.volunteer.module.student.enums.Gender;
 import com.ctxh.volunteer.module.student.service.StudentService;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -18,6 +19,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.LocalDate;
@@ -58,6 +61,16 @@ class StudentControllerTest {
     private UpdateStudentRequestDto updateRequest;
     private StudentResponseDto studentResponse;
 
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private void authenticateAs(Long userId) {
+        SecurityContextHolder.getContext()
+                .setAuthentication(new TestingAuthenticationToken(userId.toString(), null));
+    }
+
     @BeforeEach
     void setUp() {
         // Setup create request
@@ -335,12 +348,12 @@ class StudentControllerTest {
                 .isRevoked(false)
                 .build();
 
+        authenticateAs(1L);
         when(studentService.getStudentCertificates(1L))
                 .thenReturn(List.of(certificateDto));
 
         // Act & Assert
-        mockMvc.perform(get("/api/v1/students/certificates")
-                        .param("studentId", "1"))
+        mockMvc.perform(get("/api/v1/students/certificates"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.success").value(true))
                 .andExpect(jsonPath("$.message").value("Certificates retrieved successfully"))
@@ -355,12 +368,12 @@ class StudentControllerTest {
     @DisplayName("GET /certificates - Returns empty list when no certificates")
     void getStudentCertificates_NoCertificates_ReturnsEmptyList() throws Exception {
         // Arrange
+        authenticateAs(1L);
         when(studentService.getStudentCertificates(1L))
                 .thenReturn(List.of());
 
         // Act & Assert
-        mockMvc.perform(get("/api/v1/students/certificates")
-                        .param("studentId", "1"))
+        mockMvc.perform(get("/api/v1/students/certificates"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.success").value(true))
                 .andExpect(jsonPath("$.data").isArray())
@@ -371,12 +384,12 @@ class StudentControllerTest {
     @DisplayName("GET /certificates - Fails when student not found")
     void getStudentCertificates_StudentNotFound_ReturnsNotFound() throws Exception {
         // Arrange
+        authenticateAs(999L);
         when(studentService.getStudentCertificates(999L))
                 .thenThrow(new BusinessException(ErrorCode.STUDENT_NOT_FOUND));
 
         // Act & Assert
-        mockMvc.perform(get("/api/v1/students/certificates")
-                        .param("studentId", "999"))
+        mockMvc.perform(get("/api/v1/students/certificates"))
                 .andExpect(status().isNotFound())
                 .andExpect(jsonPath("$.success").value(false));
     }
@@ -1,29 +1,43 @@
 package com.ctxh.volunteer.module.student.repository;
 
+import com.ctxh.volunteer.module.activity.entity.Activity;
+import com.ctxh.volunteer.module.activity.enums.ActivityCategory;
+import com.ctxh.volunteer.module.attendance.entity.Attendance;
+import com.ctxh.volunteer.module.attendance.enums.AttendanceStatus;
 import com.ctxh.volunteer.module.auth.RoleEnum;
 import com.ctxh.volunteer.module.auth.entity.Role;
 import com.ctxh.volunteer.module.auth.entity.User;
 import com.ctxh.volunteer.module.auth.repository.RoleRepository;
 import com.ctxh.volunteer.module.auth.repository.UserRepository;
+import com.ctxh.volunteer.module.certificate.entity.Certificate;
+import com.ctxh.volunteer.module.enrollment.EnrollmentStatus;
+import com.ctxh.volunteer.module.enrollment.entity.Enrollment;
+import com.ctxh.volunteer.module.organization.entity.Organization;
+import com.ctxh.volunteer.module.organization.enums.OrganizationType;
+import com.ctxh.volunteer.module.student.dto.response.ParticipationHistoryDto;
 import com.ctxh.volunteer.module.student.entity.Student;
 import com.ctxh.volunteer.module.student.enums.Gender;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
-@DataJpaTest
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
 @ActiveProfiles("test")
 @DisplayName("StudentRepository Integration Tests")
 class StudentRepositoryTest {
@@ -37,6 +51,9 @@ class StudentRepositoryTest {
     @Autowired
     private RoleRepository roleRepository;
 
+    @Autowired
+    private TestEntityManager entityManager;
+
     private Role studentRole;
     private User testUser1;
     private User testUser2;
@@ -74,7 +91,6 @@ class StudentRepositoryTest {
 
         testUser1.setStudent(testStudent1);
         userRepository.save(testUser1);
-        testStudent1.generateQrCode();
         testStudent1 = studentRepository.save(testStudent1);
 
         // Create second user and student
@@ -100,7 +116,6 @@ class StudentRepositoryTest {
 
         testUser2.setStudent(testStudent2);
         userRepository.save(testUser2);
-        testStudent2.generateQrCode();
         testStudent2 = studentRepository.save(testStudent2);
     }
 
@@ -152,33 +167,6 @@ class StudentRepositoryTest {
         assertThat(result).isEmpty();
     }
 
-    // ==================== FIND BY QR CODE TESTS ====================
-
-    @Test
-    @DisplayName("Find By QR Code - Success returns student")
-    void findByQrCode_Success_ReturnsStudent() {
-        // Arrange
-        String qrCode = testStudent1.getQrCodeData();
-
-        // Act
-        Optional<Student> result = studentRepository.findByQrCodeData(qrCode);
-
-        // Assert
-        assertThat(result).isPresent();
-        assertThat(result.get().getQrCodeData()).isEqualTo(qrCode);
-        assertThat(result.get().getMssv()).isEqualTo("2012345");
-    }
-
-    @Test
-    @DisplayName("Find By QR Code - Returns empty when not found")
-    void findByQrCode_ReturnsEmpty_WhenNotFound() {
-        // Act
-        Optional<Student> result = studentRepository.findByQrCodeData("INVALID-QR-CODE");
-
-        // Assert
-        assertThat(result).isEmpty();
-    }
-
     // ==================== EXISTS BY MSSV TESTS ====================
 
     @Test
@@ -514,4 +502,124 @@ class StudentRepositoryTest {
         assertThat(result.getTotalElements()).isEqualTo(2);
         assertThat(result.hasNext()).isFalse();
     }
+
+    // ==================== PARTICIPATION HISTORY TESTS ====================
+
+    private Activity persistActivity(Organization organization, String title) {
+        return entityManager.persist(Activity.builder()
+                .organization(organization)
+                .title(title)
+                .category(ActivityCategory.EDUCATION_SUPPORT)
+                .startDateTime(LocalDateTime.now().minusDays(3))
+                .endDateTime(LocalDateTime.now().minusDays(1))
+                .maxParticipants(10)
+                .theNumberOfCtxhDay(1.0)
+                .build());
+    }
+
+    private Enrollment persistEnrollment(Activity activity, LocalDateTime appliedAt) {
+        return entityManager.persist(Enrollment.builder()
+                .student(testStudent1)
+                .activity(activity)
+                .status(EnrollmentStatus.APPROVED)
+                .appliedAt(appliedAt)
+                .enrollmentDate(appliedAt)
+                .build());
+    }
+
+    private void persistAttendance(Activity activity, LocalDateTime checkIn, LocalDateTime checkOut) {
+        entityManager.persist(Attendance.builder()
+                .student(testStudent1)
+                .activity(activity)
+                .attendanceDate(checkIn)
+                .status(AttendanceStatus.PRESENT)
+                .checkInTime(checkIn)
+                .checkOutTime(checkOut)
+                .build());
+    }
+
+    @Test
+    @DisplayName("Find Participation History - Loads every enrollment with attendance and certificate in one statement")
+    void findParticipationHistory_UsesSingleStatement() {
+        // Arrange
+        User orgUser = userRepository.save(User.builder()
+                .email("org@example.com")
+                .password("encoded_password")
+                .build());
+        Organization organization = Organization.builder()
+                .user(orgUser)
+                .organizationName("History Org")
+                .type(OrganizationType.NGO)
+                .build();
+        orgUser.setOrganization(organization);
+        organization = entityManager.persist(organization);
+
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+        int enrollments = 10;
+        for (int i = 0; i < enrollments; i++) {
+            Activity activity = persistActivity(organization, "Activity " + i);
+            Enrollment enrollment = persistEnrollment(activity, now.minusHours(i));
+            persistAttendance(activity, now.minusDays(2), now.minusDays(2).plusMinutes(90));
+            entityManager.persist(Certificate.builder()
+                    .enrollment(enrollment)
+                    .certificateCode("CERT-" + i)
+                    .issuedDate(now)
+                    .studentId(testStudent1.getStudentId())
+                    .activityId(activity.getActivityId())
+                    .studentName(testStudent1.getFullName())
+                    .activityTitle(activity.getTitle())
+                    .ctxhHours(1.0)
+                    .organizationName(organization.getOrganizationName())
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // Act
+        List<ParticipationHistoryDto> history = studentRepository.findParticipationHistory(testStudent1.getStudentId());
+
+        // Assert
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(history).hasSize(enrollments);
+        assertThat(history.get(0).getActivityTitle()).isEqualTo("Activity 0");
+        assertThat(history.get(0).getOrganizationName()).isEqualTo("History Org");
+        assertThat(history.get(0).getHasAttendance()).isTrue();
+        assertThat(history.get(0).getAttendanceDuration()).isEqualTo(90L);
+        assertThat(history.get(0).getCertificateCode()).isEqualTo("CERT-0");
+    }
+
+    @Test
+    @DisplayName("Find Participation History - Enrollments without attendance or certificate still appear")
+    void findParticipationHistory_KeepsEnrollmentsWithoutAttendance() {
+        // Arrange
+        User orgUser = userRepository.save(User.builder()
+                .email("org@example.com")
+                .password("encoded_password")
+                .build());
+        Organization organization = Organization.builder()
+                .user(orgUser)
+                .organizationName("History Org")
+                .type(OrganizationType.NGO)
+                .build();
+        orgUser.setOrganization(organization);
+        organization = entityManager.persist(organization);
+        persistEnrollment(persistActivity(organization, "Fresh"), LocalDateTime.now());
+        entityManager.flush();
+        entityManager.clear();
+
+        // Act
+        List<ParticipationHistoryDto> history = studentRepository.findParticipationHistory(testStudent1.getStudentId());
+
+        // Assert
+        assertThat(history).singleElement().satisfies(row -> {
+            assertThat(row.getHasAttendance()).isFalse();
+            assertThat(row.getAttendanceDuration()).isNull();
+            assertThat(row.getHasCertificate()).isFalse();
+        });
+        assertThat(studentRepository.findParticipationHistory(testStudent2.getStudentId())).isEmpty();
+    }
 }
@@ -0,0 +1,108 @@
+package com.ctxh.volunteer.module.student.service;
+
+import com.ctxh.volunteer.common.exception.BusinessException;
+import com.ctxh.volunteer.common.exception.ErrorCode;
+import com.ctxh.volunteer.module.auth.config.RSAKeyRecord;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("StudentQrCodec Unit Tests")
+class StudentQrCodecTest {
+
+    private static RSAKeyRecord keys;
+    private static RSAKeyRecord otherKeys;
+
+    private StudentQrCodec codec;
+    private LocalDateTime issuedAt;
+
+    @BeforeAll
+    static void generateKeys() throws NoSuchAlgorithmException {
+        keys = rsaKeys();
+        otherKeys = rsaKeys();
+    }
+
+    private static RSAKeyRecord rsaKeys() throws NoSuchAlgorithmException {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        KeyPair pair = generator.generateKeyPair();
+        return new RSAKeyRecord((RSAPublicKey) pair.getPublic(), (RSAPrivateKey) pair.getPrivate(), "test");
+    }
+
+    @BeforeEach
+    void setUp() {
+        codec = new StudentQrCodec(keys, Duration.ofMinutes(30));
+        issuedAt = LocalDateTime.of(2025, 3, 1, 8, 0);
+    }
+
+    private void assertRejected(String payload, LocalDateTime at, ErrorCode errorCode) {
+        assertThatThrownBy(() -> codec.verify(payload, at))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", errorCode);
+    }
+
+    @Test
+    @DisplayName("Verify - Returns the student ID of a code it issued")
+    void verify_ReturnsStudentId() {
+        // Act
+        String payload = codec.issue(42L, issuedAt);
+
+        // Assert
+        assertThat(payload).startsWith("CTXH1.42.");
+        assertThat(codec.verify(payload, issuedAt.plusMinutes(29))).isEqualTo(42L);
+    }
+
+    @Test
+    @DisplayName("Verify - Rejects a code scanned after it expired")
+    void verify_ThrowsException_WhenExpired() {
+        // Arrange
+        String payload = codec.issue(42L, issuedAt);
+
+        // Act & Assert
+        assertRejected(payload, issuedAt.plusMinutes(31), ErrorCode.QR_CODE_EXPIRED);
+    }
+
+    @Test
+    @DisplayName("Verify - Rejects codes whose student or expiry was altered")
+    void verify_ThrowsException_WhenTampered() {
+        // Arrange
+        String payload = codec.issue(42L, issuedAt);
+        String[] parts = payload.split("\\.");
+
+        // Act & Assert
+        assertRejected(String.join(".", parts[0], "43", parts[2], parts[3]), issuedAt, ErrorCode.INVALID_QR_CODE);
+        assertRejected(String.join(".", parts[0], parts[1], String.valueOf(Long.parseLong(parts[2]) + 3600), parts[3]),
+                issuedAt, ErrorCode.INVALID_QR_CODE);
+    }
+
+    @Test
+    @DisplayName("Verify - Rejects codes signed with a rotated-out key")
+    void verify_ThrowsException_WhenKeyRotated() {
+        // Arrange
+        String payload = new StudentQrCodec(otherKeys, Duration.ofMinutes(30)).issue(42L, issuedAt);
+
+        // Act & Assert
+        assertRejected(payload, issuedAt, ErrorCode.INVALID_QR_CODE);
+    }
+
+    @Test
+    @DisplayName("Verify - Rejects legacy and malformed codes")
+    void verify_ThrowsException_WhenMalformed() {
+        assertRejected("STUDENT-1-2012345", issuedAt, ErrorCode.INVALID_QR_CODE);
+        assertRejected("CTXH1.x.1.AAAA", issuedAt, ErrorCode.INVALID_QR_CODE);
+        assertRejected("CTXH1.1.1.%%%", issuedAt, ErrorCode.INVALID_QR_CODE);
+        assertRejected(null, issuedAt, ErrorCode.INVALID_QR_CODE);
+    }
+}
@@ -2,8 +2,6 @@ package com.ctxh.volunteer.module.student.service.impl;
 
 import com.ctxh.volunteer.common.exception.BusinessException;
 import com.ctxh.volunteer.common.exception.ErrorCode;
-import com.ctxh.volunteer.module.attendance.entity.Attendance;
-import com.ctxh.volunteer.module.attendance.repository.AttendanceRepository;
 import com.ctxh.volunteer.module.auth.RoleEnum;
 import com.ctxh.volunteer.module.auth.entity.Role;
 import com.ctxh.volunteer.module.auth.entity.User;
@@ -14,9 +12,6 @@ import com.ctxh.volunteer.module.certificate.entity.Certificate;
 import com.ctxh.volunteer.module.certificate.repository.CertificateRepository;
 import com.ctxh.volunteer.module.enrollment.EnrollmentStatus;
 import com.ctxh.volunteer.module.enrollment.entity.Enrollment;
-import com.ctxh.volunteer.module.enrollment.repository.EnrollmentRepository;
-import com.ctxh.volunteer.module.activity.entity.Activity;
-import com.ctxh.volunteer.module.organization.entity.Organization;
 import com.ctxh.volunteer.module.student.dto.request.CreateStudentRequestDto;
 import com.ctxh.volunteer.module.student.dto.request.UpdateStudentRequestDto;
 import com.ctxh.volunteer.module.student.dto.response.ParticipationHistoryDto;
@@ -24,6 +19,8 @@ import com.ctxh.volunteer.module.student.dto.response.StudentResponseDto;
 import com.ctxh.volunteer.module.student.entity.Student;
 import com.ctxh.volunteer.module.student.enums.Gender;
 import com.ctxh.volunteer.module.student.repository.StudentRepository;
+import com.ctxh.volunteer.module.student.service.StudentQrCodec;
+import com.ctxh.volunteer.module.auth.service.AuthService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -31,8 +28,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -41,6 +41,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -57,16 +58,16 @@ class StudentServiceImplTest {
     private UserRepository userRepository;
 
     @Mock
-    private EnrollmentRepository enrollmentRepository;
+    private CertificateRepository certificateRepository;
 
     @Mock
-    private AttendanceRepository attendanceRepository;
+    private RoleRepository roleRepository;
 
     @Mock
-    private CertificateRepository certificateRepository;
+    private AuthService authService;
 
     @Mock
-    private RoleRepository roleRepository;
+    private StudentQrCodec studentQrCodec;
 
     @InjectMocks
     private StudentServiceImpl studentService;
@@ -359,54 +360,64 @@ class StudentServiceImplTest {
         verify(studentRepository).findByMssv("9999999");
     }
 
-    // ==================== PARTICIPATION HISTORY TESTS ====================
+    // ==================== GET MY QR CODE TESTS ====================
 
     @Test
-    @DisplayName("Get Participation History - Success returns history")
-    void getParticipationHistory_Success_ReturnsHistory() {
+    @DisplayName("Get My QR Code - Issues a fresh signed code without storing it")
+    void getMyQrCode_IssuesSignedCode() {
         // Arrange
-        Organization org = Organization.builder()
-                .organizationId(1L)
-                .organizationName("Test Org")
-                .build();
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("1", null));
+        when(studentRepository.findById(1L)).thenReturn(Optional.of(testStudent));
+        when(studentQrCodec.issue(eq(1L), any(LocalDateTime.class))).thenReturn("CTXH1.1.1700000000.sig");
+        when(studentQrCodec.getTtl()).thenReturn(Duration.ofHours(1));
+
+        try {
+            // Act
+            StudentResponseDto result = studentService.getMyQrCode();
+
+            // Assert
+            assertThat(result.getQrCodeData()).isEqualTo("CTXH1.1.1700000000.sig");
+            assertThat(result.getQrCodeExpiresAt()).isAfter(LocalDateTime.now().plusMinutes(59));
+            verify(studentRepository, never()).save(any());
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
 
-        Activity activity = Activity.builder()
-                .activityId(1L)
-                .title("Test Activity")
-                .organization(org)
-                .startDateTime(LocalDateTime.now())
-                .endDateTime(LocalDateTime.now().plusDays(1))
-                .build();
+    // ==================== PARTICIPATION HISTORY TESTS ====================
 
-        Enrollment enrollment = Enrollment.builder()
-                .enrollmentId(1L)
-                .student(testStudent)
-                .activity(activity)
-                .status(EnrollmentStatus.APPROVED)
-                .appliedAt(LocalDateTime.now())
-                .build();
+    private ParticipationHistoryDto historyRow(Long enrollmentId, LocalDateTime checkIn, LocalDateTime checkOut,
+                                               String certificateCode) {
+        return new ParticipationHistoryDto(enrollmentId, EnrollmentStatus.APPROVED, LocalDateTime.now(), null,
+                false, null, 1L, "Test Activity", null, null, LocalDateTime.now(), LocalDateTime.now().plusDays(1),
+                null, 1.0, 1L, "Test Org", checkIn != null ? 1L : null, checkIn, checkOut, certificateCode);
+    }
 
-        when(studentRepository.existsById(1L)).thenReturn(true);
-        when(enrollmentRepository.findByStudentId(1L)).thenReturn(List.of(enrollment));
-        when(attendanceRepository.findByStudentIdAndActivityId(1L, 1L)).thenReturn(Optional.empty());
-        when(certificateRepository.findByEnrollment_EnrollmentId(1L)).thenReturn(Optional.empty());
+    @Test
+    @DisplayName("Get Participation History - Success returns history from a single query")
+    void getParticipationHistory_Success_ReturnsHistory() {
+        // Arrange
+        when(studentRepository.findParticipationHistory(1L)).thenReturn(List.of(historyRow(1L, null, null, null)));
 
         // Act
         List<ParticipationHistoryDto> result = studentService.getParticipationHistory(1L);
 
         // Assert
         assertThat(result).hasSize(1);
-        assertThat(result.get(0).getEnrollmentId()).isEqualTo(enrollment.getEnrollmentId());
-        assertThat(result.get(0).getActivityTitle()).isEqualTo(activity.getTitle());
+        assertThat(result.get(0).getEnrollmentId()).isEqualTo(1L);
+        assertThat(result.get(0).getActivityTitle()).isEqualTo("Test Activity");
+        assertThat(result.get(0).getHasAttendance()).isFalse();
+        assertThat(result.get(0).getHasCertificate()).isFalse();
 
-        verify(studentRepository).existsById(1L);
-        verify(enrollmentRepository).findByStudentId(1L);
+        verify(studentRepository).findParticipationHistory(1L);
+        verify(studentRepository, never()).existsById(anyLong());
     }
 
     @Test
     @DisplayName("Get Participation History - Fails when student not found")
     void getParticipationHistory_ThrowsException_WhenStudentNotFound() {
         // Arrange
+        when(studentRepository.findParticipationHistory(999L)).thenReturn(List.of());
         when(studentRepository.existsById(999L)).thenReturn(false);
 
         // Act & Assert
@@ -415,46 +426,15 @@ class StudentServiceImplTest {
                 .hasFieldOrPropertyWithValue("errorCode", ErrorCode.STUDENT_NOT_FOUND);
 
         verify(studentRepository).existsById(999L);
-        verify(enrollmentRepository, never()).findByStudentId(anyLong());
     }
 
     @Test
     @DisplayName("Get Participation History - Includes attendance info when present")
     void getParticipationHistory_IncludesAttendanceInfo() {
         // Arrange
-        Organization org = Organization.builder()
-                .organizationId(1L)
-                .organizationName("Test Org")
-                .build();
-
-        Activity activity = Activity.builder()
-                .activityId(1L)
-                .title("Test Activity")
-                .organization(org)
-                .startDateTime(LocalDateTime.now())
-                .endDateTime(LocalDateTime.now().plusDays(1))
-                .build();
-
-        Enrollment enrollment = Enrollment.builder()
-                .enrollmentId(1L)
-                .student(testStudent)
-                .activity(activity)
-                .status(EnrollmentStatus.APPROVED)
-                .appliedAt(LocalDateTime.now())
-                .build();
-
-        Attendance attendance = Attendance.builder()
-                .attendanceId(1L)
-                .student(testStudent)
-                .activity(activity)
-                .checkInTime(LocalDateTime.now())
-                .checkOutTime(LocalDateTime.now().plusHours(2))
-                .build();
-
-        when(studentRepository.existsById(1L)).thenReturn(true);
-        when(enrollmentRepository.findByStudentId(1L)).thenReturn(List.of(enrollment));
-        when(attendanceRepository.findByStudentIdAndActivityId(1L, 1L)).thenReturn(Optional.of(attendance));
-        when(certificateRepository.findByEnrollment_EnrollmentId(1L)).thenReturn(Optional.empty());
+        LocalDateTime checkIn = LocalDateTime.now();
+        when(studentRepository.findParticipationHistory(1L))
+                .thenReturn(List.of(historyRow(1L, checkIn, checkIn.plusHours(2), null)));
 
         // Act
         List<ParticipationHistoryDto> result = studentService.getParticipationHistory(1L);
@@ -462,44 +442,15 @@ class StudentServiceImplTest {
         // Assert
         assertThat(result).hasSize(1);
         assertThat(result.get(0).getHasAttendance()).isTrue();
-        assertThat(result.get(0).getAttendanceDuration()).isNotNull();
+        assertThat(result.get(0).getAttendanceDuration()).isEqualTo(120L);
     }
 
     @Test
     @DisplayName("Get Participation History - Includes certificate info when present")
     void getParticipationHistory_IncludesCertificateInfo() {
         // Arrange
-        Organization org = Organization.builder()
-                .organizationId(1L)
-                .organizationName("Test Org")
-                .build();
-
-        Activity activity = Activity.builder()
-                .activityId(1L)
-                .title("Test Activity")
-                .organization(org)
-                .startDateTime(LocalDateTime.now())
-                .endDateTime(LocalDateTime.now().plusDays(1))
-                .build();
-
-        Enrollment enrollment = Enrollment.builder()
-                .enrollmentId(1L)
-                .student(testStudent)
-                .activity(activity)
-                .status(EnrollmentStatus.APPROVED)
-                .appliedAt(LocalDateTime.now())
-                .build();
-
-        Certificate certificate = Certificate.builder()
-                .certificateId(1L)
-                .certificateCode("CERT-001")
-                .enrollment(enrollment)
-                .build();
-
-        when(studentRepository.existsById(1L)).thenReturn(true);
-        when(enrollmentRepository.findByStudentId(1L)).thenReturn(List.of(enrollment));
-        when(attendanceRepository.findByStudentIdAndActivityId(1L, 1L)).thenReturn(Optional.empty());
-        when(certificateRepository.findByEnrollment_EnrollmentId(1L)).thenReturn(Optional.of(certificate));
+        when(studentRepository.findParticipationHistory(1L))
+                .thenReturn(List.of(historyRow(1L, null, null, "CERT-001")));
 
         // Act
         List<ParticipationHistoryDto> result = studentService.getParticipationHistory(1L);
@@ -510,12 +461,30 @@ class StudentServiceImplTest {
         assertThat(result.get(0).getCertificateCode()).isEqualTo("CERT-001");
     }
 
+    @Test
+    @DisplayName("Get Participation History - Keeps the latest attendance day per enrollment")
+    void getParticipationHistory_CollapsesMultiDayAttendance() {
+        // Arrange
+        LocalDateTime lastDay = LocalDateTime.now();
+        when(studentRepository.findParticipationHistory(1L)).thenReturn(List.of(
+                historyRow(2L, null, null, null),
+                historyRow(1L, lastDay, lastDay.plusHours(1), null),
+                historyRow(1L, lastDay.minusDays(1), lastDay.minusDays(1).plusHours(3), null)));
+
+        // Act
+        List<ParticipationHistoryDto> result = studentService.getParticipationHistory(1L);
+
+        // Assert
+        assertThat(result).extracting(ParticipationHistoryDto::getEnrollmentId).containsExactly(2L, 1L);
+        assertThat(result.get(1).getCheckInTime()).isEqualTo(lastDay);
+    }
+
     @Test
     @DisplayName("Get Participation History - Returns empty list when no enrollments")
     void getParticipationHistory_ReturnsEmpty_WhenNoEnrollments() {
         // Arrange
+        when(studentRepository.findParticipationHistory(1L)).thenReturn(List.of());
         when(studentRepository.existsById(1L)).thenReturn(true);
-        when(enrollmentRepository.findByStudentId(1L)).thenReturn(List.of());
 
         // Act
         List<ParticipationHistoryDto> result = studentService.getParticipationHistory(1L);
@@ -523,7 +492,6 @@ class StudentServiceImplTest {
         // Assert
         assertThat(result).isEmpty();
         verify(studentRepository).existsById(1L);
-        verify(enrollmentRepository).findByStudentId(1L);
     }
 
     // ==================== GET STUDENT CERTIFICATES TESTS ====================